@@ -58,6 +58,9 @@ final class Algo_GETSTATIC extends Algo_GETX {
             //TODO really?
             failExecution(e);
         }
+        
+        //the invocations being executed may not be summarized
+        this.ctx.methodSummaries.staticFieldAccessed(state);
 
         return state.getKlass(this.fieldClassResolved);
     }
@@ -1,14 +1,28 @@
 package jbse.algo;
 
+import static jbse.algo.UtilControlFlow.continueWith;
 import static jbse.algo.UtilControlFlow.exitFromAlgorithm;
+import static jbse.algo.UtilControlFlow.failExecution;
 import static jbse.algo.UtilControlFlow.throwVerifyError;
+import static jbse.bc.Offsets.GOTO_OFFSET;
 import static jbse.bc.Offsets.IFX_OFFSET;
+import static jbse.bc.Opcodes.OP_BIPUSH;
+import static jbse.bc.Opcodes.OP_GOTO;
+import static jbse.bc.Opcodes.OP_ICONST_0;
+import static jbse.bc.Opcodes.OP_ICONST_5;
+import static jbse.bc.Opcodes.OP_ICONST_M1;
+import static jbse.bc.Opcodes.OP_SIPUSH;
 import static jbse.common.Type.INT;
 import static jbse.common.Type.widens;
+import static jbse.common.Util.byteCatShort;
 
 import java.util.function.Supplier;
 
 import jbse.dec.DecisionProcedureAlgorithms.Outcome;
+import jbse.mem.State;
+import jbse.mem.exc.FrozenStateException;
+import jbse.mem.exc.InvalidProgramCounterException;
+import jbse.mem.exc.ThreadStackEmptyException;
 import jbse.tree.DecisionAlternative_IFX;
 import jbse.val.Calculator;
 import jbse.val.Operator;
@@ -38,6 +52,7 @@ StrategyUpdate<DecisionAlternative_IFX>> {
         this.operator = operator;
     }
 
+    private final Algo_IFX_Merged algo_IFX_Merged = new Algo_IFX_Merged();
     private Primitive comparison; //produced by cooker
     private boolean doJump; //produced by updater
 
@@ -84,8 +99,100 @@ StrategyUpdate<DecisionAlternative_IFX>> {
                 throwVerifyError(state, this.ctx.getCalculator());
                 exitFromAlgorithm();
             }
+            
+            //possibly merges the branches, rather than deciding over them
+            if (this.ctx.getStateMerging() && this.comparison.isSymbolic()) {
+                possiblyMerge(state);
+            }
         };
     }
+    
+    /**
+     * Merges the branches of this bytecode when they
+     * form the diamond
+     * <pre>
+     *     if* L1
+     *     (push int constant c0)
+     *     goto L2
+     * L1: (push int constant c1)
+     * L2: ...
+     * </pre>
+     * by continuing with an {@link Algo_IFX_Merged} that pushes 
+     * {@code c0 + (c1 - c0) * (int) comparison} and jumps to 
+     * {@code L2}. This is the code emitted for conditional 
+     * expressions and materialized boolean expressions. If the
+     * branches do not form the diamond it does nothing.
+     * 
+     * @param state the current {@link State}.
+     * @throws InterruptException if the branches are merged.
+     * @throws FrozenStateException if {@code state} is frozen.
+     * @throws ThreadStackEmptyException if {@code state} has an
+     *         empty stack.
+     */
+    private void possiblyMerge(State state) 
+    throws InterruptException, ThreadStackEmptyException, FrozenStateException {
+        final Calculator calc = this.ctx.getCalculator();
+        final Primitive valueToPush;
+        final int joinOffset;
+        try {
+            //the fall-through branch pushes a constant and jumps forward
+            final Integer valueFallThrough = pushedIntConstant(state, IFX_OFFSET);
+            if (valueFallThrough == null) {
+                return;
+            }
+            final int gotoOffset = IFX_OFFSET + pushLength(state.getInstruction(IFX_OFFSET));
+            if (state.getInstruction(gotoOffset) != OP_GOTO) {
+                return;
+            }
+            joinOffset = gotoOffset + byteCatShort(state.getInstruction(gotoOffset + 1), state.getInstruction(gotoOffset + 2));
+
+            //the jump branch immediately follows, pushes a 
+            //constant and falls through to the join point
+            final int jumpOffset = this.data.jumpOffset();
+            if (jumpOffset != gotoOffset + GOTO_OFFSET) {
+                return;
+            }
+            final Integer valueJump = pushedIntConstant(state, jumpOffset);
+            if (valueJump == null || jumpOffset + pushLength(state.getInstruction(jumpOffset)) != joinOffset) {
+                return;
+            }
+
+            //calculates the merged value
+            if (valueFallThrough.intValue() == valueJump.intValue()) {
+                valueToPush = calc.valInt(valueFallThrough.intValue());
+            } else {
+                final Primitive comparisonInt = calc.push(this.comparison).widen(INT).pop();
+                valueToPush = calc.push(comparisonInt).mul(calc.valInt(valueJump.intValue() - valueFallThrough.intValue())).add(calc.valInt(valueFallThrough.intValue())).pop();
+            }
+        } catch (InvalidProgramCounterException e) {
+            //not a diamond
+            return;
+        } catch (InvalidOperandException | InvalidTypeException e) {
+            //this should never happen
+            failExecution(e);
+            return; //to keep the compiler happy
+        }
+        this.algo_IFX_Merged.setMerge(this.compareWithZero ? 1 : 2, valueToPush, joinOffset);
+        continueWith(this.algo_IFX_Merged);
+    }
+    
+    private static Integer pushedIntConstant(State state, int offset) 
+    throws InvalidProgramCounterException, ThreadStackEmptyException, FrozenStateException {
+        final byte opcode = state.getInstruction(offset);
+        if (opcode >= OP_ICONST_M1 && opcode <= OP_ICONST_5) {
+            return Integer.valueOf(opcode - OP_ICONST_0);
+        } else if (opcode == OP_BIPUSH) {
+            return Integer.valueOf(state.getInstruction(offset + 1));
+        } else if (opcode == OP_SIPUSH) {
+            return Integer.valueOf(byteCatShort(state.getInstruction(offset + 1), state.getInstruction(offset + 2)));
+        } else {
+            return null;
+        }
+    }
+    
+    private static int pushLength(byte opcode) {
+        return (opcode == OP_BIPUSH ? 2 : opcode == OP_SIPUSH ? 3 : 1);
+    }
 
     @Override
     protected Class<DecisionAlternative_IFX> classDecisionAlternative() {
@@ -0,0 +1,92 @@
+package jbse.algo;
+
+import java.util.function.Supplier;
+
+import jbse.dec.DecisionProcedureAlgorithms;
+import jbse.tree.DecisionAlternative_NONE;
+import jbse.val.Primitive;
+
+/**
+ * {@link Algorithm} completing the semantics of an if* bytecode
+ * (if[eq/ge/gt/le/lt/ne], if_icmp[eq/ge/gt/le/lt/ne]) whose branches
+ * have been merged by {@link Algo_IFX}. It pops the operands of the
+ * comparison, pushes the merged value and jumps to the join point
+ * of the branches, without deciding over the comparison.
+ */
+final class Algo_IFX_Merged extends Algorithm<
+BytecodeData_0,
+DecisionAlternative_NONE,
+StrategyDecide<DecisionAlternative_NONE>,
+StrategyRefine<DecisionAlternative_NONE>,
+StrategyUpdate<DecisionAlternative_NONE>> {
+
+    private int numOperands; //set by setMerge
+    private Primitive valueToPush; //set by setMerge
+    private int joinOffset; //set by setMerge
+
+    /**
+     * Sets the merge to be performed.
+     *
+     * @param numOperands an {@code int}, the number of operands
+     *        of the if* bytecode.
+     * @param valueToPush the {@link Primitive} to be pushed on the
+     *        operand stack, merging the values pushed by the branches.
+     * @param joinOffset an {@code int}, the offset of the join point
+     *        of the branches from the if* bytecode.
+     */
+    void setMerge(int numOperands, Primitive valueToPush, int joinOffset) {
+        this.numOperands = numOperands;
+        this.valueToPush = valueToPush;
+        this.joinOffset = joinOffset;
+    }
+
+    @Override
+    protected Supplier<Integer> numOperands() {
+        return () -> this.numOperands;
+    }
+
+    @Override
+    protected Supplier<BytecodeData_0> bytecodeData() {
+        return BytecodeData_0::get;
+    }
+
+    @Override
+    protected BytecodeCooker bytecodeCooker() {
+        return (state) -> { };
+    }
+
+    @Override
+    protected Class<DecisionAlternative_NONE> classDecisionAlternative() {
+        return DecisionAlternative_NONE.class;
+    }
+
+    @Override
+    protected StrategyDecide<DecisionAlternative_NONE> decider() {
+        return (state, result) -> {
+            result.add(DecisionAlternative_NONE.instance());
+            return DecisionProcedureAlgorithms.Outcome.FF;
+        };
+    }
+
+    @Override
+    protected StrategyRefine<DecisionAlternative_NONE> refiner() {
+        return (state, alt) -> { };
+    }
+
+    @Override
+    protected StrategyUpdate<DecisionAlternative_NONE> updater() {
+        return (state, alt) -> {
+            state.pushOperand(this.valueToPush);
+        };
+    }
+
+    @Override
+    protected Supplier<Boolean> isProgramCounterUpdateAnOffset() {
+        return () -> true;
+    }
+
+    @Override
+    protected Supplier<Integer> programCounterUpdate() {
+        return () -> this.joinOffset;
+    }
+}
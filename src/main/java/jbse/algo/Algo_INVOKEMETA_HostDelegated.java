@@ -0,0 +1,68 @@
+package jbse.algo;
+
+import static jbse.algo.Algo_INVOKEMETA_Metacircular.canInvokeMetacircularly;
+import static jbse.algo.UtilControlFlow.continueWith;
+import static jbse.algo.UtilControlFlow.continueWithBaseLevelImpl;
+import static jbse.common.Type.parametersNumber;
+import static jbse.common.Type.splitReturnValueDescriptor;
+
+import java.util.function.Supplier;
+
+import jbse.mem.State;
+import jbse.mem.exc.FrozenStateException;
+import jbse.tree.DecisionAlternative_NONE;
+import jbse.val.Simplex;
+
+/**
+ * {@link Algo_INVOKEMETA} implementing the effect of
+ * a call to a pure method by delegating it to the host
+ * JVM when possible. More precisely:
+ * <ul>
+ * <li>If the method's parameters are all constant (i.e., either
+ *     {@link Simplex} or references to constant {@link String}s),
+ *     and the method returns {@code void}, a primitive or a
+ *     {@link String}, then it continues with
+ *     {@link Algo_INVOKEMETA_Metacircular}, that executes
+ *     the method in a single step by reflection. If the host
+ *     JVM's implementation of the method throws an exception,
+ *     it continues with the execution of the method's bytecode,
+ *     that throws the exception in the state;</li>
+ * <li>Otherwise, it continues with the execution of the method's
+ *     bytecode.</li>
+ * </ul>
+ * Differently from {@link Algo_INVOKEMETA_Uninterpreted}, this
+ * algorithm never introduces function application terms, so it
+ * does not change the semantics of the program, provided the
+ * delegated method is pure and the host JVM's implementation
+ * agrees with the one in the classpath.
+ */
+public final class Algo_INVOKEMETA_HostDelegated extends Algo_INVOKEMETA_Nonbranching {
+    private final Algo_INVOKEMETA_Metacircular algo_INVOKEMETA_Metacircular = new Algo_INVOKEMETA_Metacircular(true);
+
+    @Override
+    protected final Supplier<Integer> numOperands() {
+        return () -> {
+            return parametersNumber(this.data.signature().getDescriptor(), this.isStatic);
+        };
+    }
+
+    @Override
+    protected void cookMore(State state) throws InterruptException, FrozenStateException {
+        if (canDelegate(state)) {
+            this.algo_INVOKEMETA_Metacircular.setFeatures(this.isInterface, this.isSpecial, this.isStatic, this.isOverriddenMethodNative, this.methodSignatureImplementation);
+            continueWith(this.algo_INVOKEMETA_Metacircular);
+        } else {
+            continueWithBaseLevelImpl(state, this.isInterface, this.isSpecial, this.isStatic);
+        }
+    }
+
+    private boolean canDelegate(State state) throws FrozenStateException {
+        final String returnType = splitReturnValueDescriptor(this.methodSignatureImplementation.getDescriptor());
+        return canInvokeMetacircularly(state, this.data.operands(), returnType);
+    }
+
+    @Override
+    protected StrategyUpdate<DecisionAlternative_NONE> updater() {
+        return null; //will never be invoked
+    }
+}
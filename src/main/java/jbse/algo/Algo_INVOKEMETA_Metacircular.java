@@ -104,11 +104,41 @@ DecisionAlternative_XLOAD_GETX,
 StrategyDecide<DecisionAlternative_XLOAD_GETX>,
 StrategyRefine<DecisionAlternative_XLOAD_GETX>,
 StrategyUpdate<DecisionAlternative_XLOAD_GETX>> {
+    /**
+     * Whether, when the host JVM's implementation of the
+     * invoked method throws an exception, the execution 
+     * must continue with the bytecode of the method, rather
+     * than fail.
+     */
+    private final boolean fallBackOnHostException;
+    
     private boolean isVoid; //set by cookMore
     private Value valToLoad; //set by cookMore
     private boolean someReferencePartiallyResolved; //set by decider
     private ArrayList<ReferenceSymbolic> partiallyResolvedReferences; //set by decider
 
+    /**
+     * Constructor. The execution fails when the host JVM's 
+     * implementation of the invoked method throws an exception.
+     */
+    public Algo_INVOKEMETA_Metacircular() {
+        this(false);
+    }
+    
+    /**
+     * Constructor.
+     * 
+     * @param fallBackOnHostException a {@code boolean}; if 
+     *        {@code true}, when the host JVM's implementation 
+     *        of the invoked method throws an exception the 
+     *        execution continues with the bytecode of the method, 
+     *        otherwise it fails. The fallback is correct only if
+     *        the method is pure.
+     */
+    Algo_INVOKEMETA_Metacircular(boolean fallBackOnHostException) {
+        this.fallBackOnHostException = fallBackOnHostException;
+    }
+
     @Override
     protected final Supplier<Integer> numOperands() {
         return () -> {
@@ -125,33 +155,26 @@ StrategyUpdate<DecisionAlternative_XLOAD_GETX>> {
         		continueWithBaseLevelImpl(state, this.isInterface, this.isSpecial, this.isStatic);
         	}            
         	
-            //checks whether the parameters are all constant
-        	final Value[] args = this.data.operands();
-            boolean allConstant = true;
-            for (int i = 0; i < args.length; ++i) {
-                if ((args[i] instanceof Primitive) && !(args[i] instanceof Simplex)) {
-                    allConstant = false;
-                    break;
-                }
-                if (args[i] instanceof Reference) {
-                    if (valueString(state, (Reference) args[i]) == null) {
-                        allConstant = false;
-                        break;
-                    }
-                }
-            }
-
             //determines the return value or whether it must perform
             //a metacircular method invocation
+            final Value[] args = this.data.operands();
             final String returnType = splitReturnValueDescriptor(this.methodSignatureImplementation.getDescriptor());
             this.isVoid = isVoid(returnType);
-            if (allConstant && (this.isVoid || isPrimitive(returnType) || JAVA_STRING.equals(className(returnType)))) {
+            if (canInvokeMetacircularly(state, args, returnType)) {
                 //delegates to metacircular invocation
                 try {
-                    this.valToLoad = invokeMetacircularly(state, this.data.operands());
+                    this.valToLoad = invokeMetacircularly(state, args);
                 } catch (HeapMemoryExhaustedException e) {
                     throwNew(state, this.ctx.getCalculator(), OUT_OF_MEMORY_ERROR);
                     exitFromAlgorithm();
+                } catch (InvocationTargetException e) {
+                    if (this.fallBackOnHostException) {
+                        //the bytecode of the method will throw 
+                        //the exception in the state
+                        continueWithBaseLevelImpl(state, this.isInterface, this.isSpecial, this.isStatic);
+                    } else {
+                        throw new CannotAccessImplementationReflectively(e);
+                    }
                 }
             } else if (this.isVoid) {
                 //does nothing 
@@ -171,8 +194,39 @@ StrategyUpdate<DecisionAlternative_XLOAD_GETX>> {
         };
     }
 
+    /**
+     * Checks whether a method invocation can be performed 
+     * metacircularly, i.e., whether its arguments can be
+     * reified and its return value can be reflected back.
+     * 
+     * @param state a {@link State}.
+     * @param args a {@link Value}{@code []}, the arguments
+     *        of the invocation.
+     * @param returnType a {@link String}, the type of the
+     *        return value of the invoked method.
+     * @return {@code true} iff all the {@code args} are
+     *         {@link Simplex}es or references to constant 
+     *         {@link String}s, and {@code returnType} is 
+     *         {@code void}, primitive or {@link String}.
+     * @throws FrozenStateException if {@code state} is frozen.
+     */
+    static boolean canInvokeMetacircularly(State state, Value[] args, String returnType) throws FrozenStateException {
+        if (!isVoid(returnType) && !isPrimitive(returnType) && !JAVA_STRING.equals(className(returnType))) {
+            return false;
+        }
+        for (int i = 0; i < args.length; ++i) {
+            if (args[i] instanceof Primitive && !(args[i] instanceof Simplex)) {
+                return false;
+            }
+            if (args[i] instanceof Reference && valueString(state, (Reference) args[i]) == null) {
+                return false;
+            }
+        }
+        return true;
+    }
+
     private Value invokeMetacircularly(State state, Value[] args) 
-    throws CannotInvokeNativeException, HeapMemoryExhaustedException, InvalidInputException {
+    throws CannotInvokeNativeException, HeapMemoryExhaustedException, InvalidInputException, InvocationTargetException {
         try {
             //reflects the arguments
             final String[] argsType = splitParametersDescriptors(this.methodSignatureImplementation.getDescriptor());
@@ -223,7 +277,7 @@ StrategyUpdate<DecisionAlternative_XLOAD_GETX>> {
             }
         } catch (ClassNotFoundException | SecurityException | 
                  NoSuchMethodException | IllegalArgumentException | 
-                 IllegalAccessException | InvocationTargetException e) {
+                 IllegalAccessException e) {
             throw new CannotAccessImplementationReflectively(e);
         }
     }
@@ -33,6 +33,7 @@ import jbse.mem.exc.HeapMemoryExhaustedException;
 import jbse.mem.exc.InvalidProgramCounterException;
 import jbse.mem.exc.InvalidSlotException;
 import jbse.tree.DecisionAlternative_NONE;
+import jbse.val.Simplex;
 import jbse.val.exc.InvalidTypeException;
 
 /**
@@ -60,6 +61,8 @@ final class Algo_INVOKEX_Completion extends Algo_INVOKEX_Abstract {
     }
 
     private int pcOffsetReturn; //set by methods
+    private MethodSummaries.Key summaryKey; //set by cooker
+    private Simplex summary; //set by cooker
     
     public void setProgramCounterOffset(int pcOffset) {
         this.pcOffsetReturn = pcOffset;
@@ -153,6 +156,10 @@ final class Algo_INVOKEX_Completion extends Algo_INVOKEX_Abstract {
                 //this should never happen
                 failExecution(e);
             }
+            
+            //looks for a summary of the invocation
+            this.summaryKey = this.ctx.methodSummaries.key(this.methodImplSignature, this.data.operands());
+            this.summary = (this.summaryKey == null ? null : this.ctx.methodSummaries.lookup(this.summaryKey));
         };
     }
 
@@ -177,8 +184,16 @@ final class Algo_INVOKEX_Completion extends Algo_INVOKEX_Abstract {
     @Override
     protected StrategyUpdate<DecisionAlternative_NONE> updater() {
         return (state, alt) -> {
+            if (this.summary != null) {
+                //applies the summary instead of executing the method
+                state.pushOperand(this.summary);
+                return;
+            }
             try {
                 state.pushFrame(this.ctx.getCalculator(), this.methodImplClass, this.methodImplSignature, false, this.pcOffsetReturn, this.data.operands());
+                if (this.summaryKey != null) {
+                    this.ctx.methodSummaries.invocationStarted(state, this.summaryKey);
+                }
             } catch (InvalidProgramCounterException | InvalidSlotException | InvalidTypeException e) {
                 //TODO is it ok?
                 throwVerifyError(state, this.ctx.getCalculator());
@@ -196,6 +211,6 @@ final class Algo_INVOKEX_Completion extends Algo_INVOKEX_Abstract {
 
     @Override
     protected Supplier<Integer> programCounterUpdate() {
-        return () -> 0; //nothing to add to the program counter of the pushed frame
+        return () -> (this.summary == null ? 0 : this.pcOffsetReturn); //if a frame was pushed, nothing to add to its program counter
     }
 }
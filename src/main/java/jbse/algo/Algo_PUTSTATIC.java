@@ -68,6 +68,9 @@ final class Algo_PUTSTATIC extends Algo_PUTX {
     @Override
     protected Objekt destination(State state) 
     throws InterruptException, FrozenStateException {
+        //the invocations being executed may not be summarized
+        this.ctx.methodSummaries.staticFieldAccessed(state);
+
         return state.getKlass(this.fieldClassResolved);
     }
 }
@@ -47,6 +47,7 @@ import jbse.mem.exc.ThreadStackEmptyException;
 import jbse.tree.DecisionAlternative_NONE;
 import jbse.val.Primitive;
 import jbse.val.Reference;
+import jbse.val.ReferenceSymbolic;
 import jbse.val.Value;
 import jbse.val.exc.InvalidTypeException;
 
@@ -139,7 +140,11 @@ StrategyUpdate<DecisionAlternative_NONE>> {
                         final ClassFile destinationTypeClass = state.getClassHierarchy().resolveClass(currentClass, className(destinationType), state.bypassStandardLoading());
                         final HeapObjekt valueObject = state.getObject(refToPut);
                         final ClassFile valueObjectType; 
-                        if (valueObject == null) { 
+                        if (refToPut instanceof ReferenceSymbolic && !state.resolved((ReferenceSymbolic) refToPut)) {
+                            //it is stored without resolution in lazier resolution mode, and 
+                            //has no object yet: all its resolutions are subclasses of its static type
+                            valueObjectType = state.getClassHierarchy().resolveClass(currentClass, className(((ReferenceSymbolic) refToPut).getStaticType()), state.bypassStandardLoading());
+                        } else if (valueObject == null) { 
                         	//it is a KlassPseudoReference originated by Unsafe.staticFieldBase
                         	valueObjectType = state.getClassHierarchy().clone().getClassFileClassArray(CLASSLOADER_BOOT, JAVA_OBJECT); //surely loaded
                         } else {
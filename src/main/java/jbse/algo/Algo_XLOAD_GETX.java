@@ -8,27 +8,45 @@ import static jbse.bc.Signatures.ILLEGAL_ACCESS_ERROR;
 import static jbse.bc.Signatures.INCOMPATIBLE_CLASS_CHANGE_ERROR;
 import static jbse.bc.Signatures.NO_CLASS_DEFINITION_FOUND_ERROR;
 import static jbse.bc.Signatures.OUT_OF_MEMORY_ERROR;
+import static jbse.bc.Opcodes.OP_ASTORE;
+import static jbse.bc.Opcodes.OP_ASTORE_0;
+import static jbse.bc.Opcodes.OP_ASTORE_1;
+import static jbse.bc.Opcodes.OP_ASTORE_2;
+import static jbse.bc.Opcodes.OP_ASTORE_3;
+import static jbse.bc.Opcodes.OP_PUTFIELD;
 import static jbse.bc.Signatures.UNSUPPORTED_CLASS_VERSION_ERROR;
+import static jbse.common.Type.className;
+import static jbse.common.Util.byteCat;
 
 import jbse.algo.exc.SymbolicValueNotAllowedException;
+import jbse.bc.ClassFile;
+import jbse.bc.ClassHierarchy;
 import jbse.bc.exc.BadClassFileVersionException;
 import jbse.bc.exc.ClassFileIllFormedException;
 import jbse.bc.exc.ClassFileNotAccessibleException;
 import jbse.bc.exc.ClassFileNotFoundException;
 import jbse.bc.exc.IncompatibleClassFileException;
+import jbse.bc.exc.InvalidIndexException;
+import jbse.bc.exc.PleaseLoadClassException;
 import jbse.bc.exc.RenameUnsupportedException;
 import jbse.bc.exc.WrongClassNameException;
 import jbse.common.exc.ClasspathException;
 import jbse.common.exc.InvalidInputException;
 import jbse.dec.DecisionProcedureAlgorithms.Outcome;
+import jbse.mem.HeapObjekt;
 import jbse.mem.State;
 import jbse.mem.exc.ContradictionException;
+import jbse.mem.exc.FrozenStateException;
 import jbse.mem.exc.HeapMemoryExhaustedException;
+import jbse.mem.exc.InvalidNumberOfOperandsException;
+import jbse.mem.exc.InvalidProgramCounterException;
+import jbse.mem.exc.ThreadStackEmptyException;
 import jbse.tree.DecisionAlternative_XLOAD_GETX;
 import jbse.tree.DecisionAlternative_XLOAD_GETX_Aliases;
 import jbse.tree.DecisionAlternative_XLOAD_GETX_Null;
 import jbse.tree.DecisionAlternative_XLOAD_GETX_Expands;
 import jbse.tree.DecisionAlternative_XLOAD_GETX_Resolved;
+import jbse.val.Reference;
 import jbse.val.ReferenceSymbolic;
 import jbse.val.Value;
 import jbse.val.exc.InvalidTypeException;
@@ -40,6 +58,10 @@ import jbse.val.exc.InvalidTypeException;
  * It decides over the value loaded to the operand stack in the cases 
  * (aload[_0/1/2/3], aload, get[field/static]) 
  * it is an uninitialized symbolic reference ("lazy initialization").
+ * If the lazier resolution is enabled and the loaded value is 
+ * just stored in a local variable, or in a field of a symbolic
+ * object, by the next bytecode, the resolution is postponed 
+ * until the value is loaded again. 
  * 
  * @author Pietro Braione
  */
@@ -61,6 +83,12 @@ StrategyUpdate<DecisionAlternative_XLOAD_GETX>> {
     @Override
     protected final StrategyDecide<DecisionAlternative_XLOAD_GETX> decider() {
         return (state, result) -> {
+            //possibly postpones the resolution
+            if (this.ctx.getLazierResolution() && resolutionIsPostponable(state)) {
+                result.add(new DecisionAlternative_XLOAD_GETX_Resolved(this.valToLoad));
+                return Outcome.FFF;
+            }
+            
             Outcome o = null; //to keep the compiler happy
             try {
                 o = this.ctx.decisionProcedure.resolve_XLOAD_GETX(this.valToLoad, result);
@@ -105,6 +133,76 @@ StrategyUpdate<DecisionAlternative_XLOAD_GETX>> {
         };
     }
 
+    /**
+     * Checks whether the resolution of the value to load can be 
+     * postponed, i.e., whether the value to load is an unresolved
+     * symbolic reference and the next bytecode just stores it in 
+     * a local variable, or in a field of a symbolic object. 
+     * In such case the value will be resolved when it is loaded
+     * again from the local variable or from the field: this way
+     * no branch is created for the loads that just copy the 
+     * reference. The local variables and the fields of the symbolic
+     * objects already hold unresolved symbolic references, thus  
+     * storing one there is safe for all the algorithms that read 
+     * them. The value is not stored in a field if the field's type 
+     * check might fail, as this depends on the resolution of the 
+     * value.
+     * 
+     * @param state the current {@link State}.
+     * @return {@code true} iff the resolution can be postponed.
+     */
+    private boolean resolutionIsPostponable(State state) {
+        if (!(this.valToLoad instanceof ReferenceSymbolic) || state.resolved((ReferenceSymbolic) this.valToLoad)) {
+            return false;
+        }
+        try {
+            final int nextDisplacement = this.programCounterUpdate.get();
+            final byte nextOpcode = state.getInstruction(nextDisplacement);
+            if (nextOpcode == OP_ASTORE || (nextOpcode >= OP_ASTORE_0 && nextOpcode <= OP_ASTORE_3)) {
+                return true;
+            }
+            if (nextOpcode != OP_PUTFIELD) {
+                return false;
+            }
+            
+            //the object whose field is put is just below 
+            //the operands of this bytecode, and it must
+            //be symbolic
+            final Value[] operands = state.getCurrentFrame().operands(numOperands().get() + 1);
+            if (!(operands[0] instanceof Reference) || state.isNull((Reference) operands[0])) {
+                return false;
+            }
+            final HeapObjekt destinationObject = state.getObject((Reference) operands[0]);
+            if (destinationObject == null || !destinationObject.isSymbolic()) {
+                return false;
+            }
+            
+            //every resolution of the value is assignment 
+            //compatible with its static type, that must be
+            //assignment compatible with the type of the field
+            final ClassFile currentClass = state.getCurrentClass();
+            final int fieldRefIndex = byteCat(state.getInstruction(nextDisplacement + 1), state.getInstruction(nextDisplacement + 2));
+            final String fieldType = currentClass.getFieldSignature(fieldRefIndex).getDescriptor();
+            final String valueType = ((ReferenceSymbolic) this.valToLoad).getStaticType();
+            final ClassHierarchy hier = state.getClassHierarchy();
+            final ClassFile fieldTypeClass = hier.resolveClass(currentClass, className(fieldType), state.bypassStandardLoading());
+            final ClassFile valueTypeClass = hier.resolveClass(currentClass, className(valueType), state.bypassStandardLoading());
+            return hier.isAssignmentCompatible(valueTypeClass, fieldTypeClass);
+        } catch (ThreadStackEmptyException | FrozenStateException e) {
+            //this should never happen
+            failExecution(e);
+            return false; //to keep the compiler happy
+        } catch (InvalidProgramCounterException | InvalidNumberOfOperandsException | InvalidIndexException | 
+                 InvalidInputException | ClassFileNotFoundException | ClassFileIllFormedException | 
+                 BadClassFileVersionException | RenameUnsupportedException | WrongClassNameException | 
+                 IncompatibleClassFileException | ClassFileNotAccessibleException | PleaseLoadClassException e) {
+            //the next bytecode is not a well-formed store, 
+            //or its type check cannot be done here: lets the 
+            //value be resolved, and the bytecode deal with it
+            return false;
+        }
+    }
+
     @Override
     protected final StrategyRefine_XLOAD_GETX refiner() {
         return new StrategyRefine_XLOAD_GETX() {
@@ -190,6 +190,7 @@ StrategyUpdate<DecisionAlternative_NONE>> {
     @Override
     protected StrategyUpdate<DecisionAlternative_NONE> updater() {
         return (state, alt) -> {
+            this.ctx.methodSummaries.returning(state, this.valueToReturn);
             state.popCurrentFrame();
             if (state.getStackSize() == 0) {
             	if (state.phase() == Phase.POST_INITIAL) {
@@ -136,6 +136,7 @@ UP extends StrategyUpdate<R>> implements Action {
     private final DE decider; //just caches
     private final RE refiner; //just caches
     private UP updater; //just caches
+    private SortedSet<R> decisionResults; //just caches
     protected final Supplier<Integer> programCounterUpdate; //just caches
     protected final Supplier<Boolean> isProgramCounterUpdateAnOffset; //just caches
 
@@ -146,6 +147,7 @@ UP extends StrategyUpdate<R>> implements Action {
         this.decider = decider();
         this.refiner = refiner();
         this.updater = null; //to be initialized lazily (at construction time no ExecutionContext is available)
+        this.decisionResults = null; //to be initialized lazily (at construction time no ExecutionContext is available)
         this.programCounterUpdate = programCounterUpdate();
         this.isProgramCounterUpdateAnOffset = isProgramCounterUpdateAnOffset();
     }
@@ -245,8 +247,17 @@ UP extends StrategyUpdate<R>> implements Action {
             failExecution(e);
         }
 
+        //initializes lazily this.decisionResults, or empties it
+        //(it is reused across steps, so decision-free bytecodes 
+        //do not allocate a new set at every execution)
+        if (this.decisionResults == null) {
+            this.decisionResults = this.ctx.mkDecisionResultSet(classDecisionAlternative());
+        } else {
+            this.decisionResults.clear();
+        }
+        final SortedSet<R> decisionResults = this.decisionResults;
+
         //decides the satisfiability of the different alternatives
-        final SortedSet<R> decisionResults = this.ctx.mkDecisionResultSet(classDecisionAlternative());
         final Outcome outcome;
         try {
         	outcome = this.decider.decide(state, decisionResults);
@@ -264,7 +275,7 @@ UP extends StrategyUpdate<R>> implements Action {
         //generates the next states
         final boolean shouldRefine = outcome.shouldRefine();
         final boolean branchingDecision = outcome.branchingDecision();
-        final boolean branchAdded = possiblyAddBranchPoint(decisionResults);
+        final boolean branchAdded = possiblyAddBranchPoint(state, decisionResults);
         for (R result : decisionResults) {
             final State stateCurrent = (tot > 1 ? state.lazyClone() : state);
 
@@ -332,12 +343,13 @@ UP extends StrategyUpdate<R>> implements Action {
         }
     }
 
-    private boolean possiblyAddBranchPoint(Collection<R> decisionResults) {
+    private boolean possiblyAddBranchPoint(State state, Collection<R> decisionResults) {
         final boolean moreThanOneResult = (decisionResults.size() > 1);
         final DecisionAlternative d = decisionResults.iterator().next();
         final boolean trivial = d.trivial();
         final boolean concrete = d.concrete();
         final boolean noDecision = d.noDecision();
-        return this.ctx.stateTree.possiblyAddBranchPoint(moreThanOneResult, trivial, concrete, noDecision);
+        final int scopeDepth = state.getPathCondition().size(); //all the states in the branch will be refinements of state
+        return this.ctx.stateTree.possiblyAddBranchPoint(moreThanOneResult, trivial, concrete, noDecision, scopeDepth);
     }
 }
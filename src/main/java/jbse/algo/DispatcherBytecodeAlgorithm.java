@@ -16,6 +16,8 @@ import static jbse.val.Operator.LE;
 import static jbse.val.Operator.LT;
 import static jbse.val.Operator.NE;
 
+import java.util.Arrays;
+
 import jbse.bc.Dispatcher;
 import jbse.common.exc.UnexpectedInternalException;
 
@@ -151,6 +153,13 @@ public class DispatcherBytecodeAlgorithm extends Dispatcher<Byte, Algorithm<?, ?
     private final Algo_XUSHR          algo_XUSHR           = new Algo_XUSHR();
     private final Algo_XXOR           algo_XXOR            = new Algo_XXOR();
 
+    /** 
+     * Caches the {@link Algorithm}s selected for the bytecodes, 
+     * indexed by opcode (all the registered strategies always 
+     * return the same {@link Algorithm} for a given opcode). 
+     */
+    private final Algorithm<?, ?, ?, ?, ?>[] selected = new Algorithm<?, ?, ?, ?, ?>[256];
+
     public DispatcherBytecodeAlgorithm() {
         //implemented bytecodes (sometimes with limited support)
         setCase(OP_NOP,             () -> this.algo_NOP);
@@ -364,6 +373,18 @@ public class DispatcherBytecodeAlgorithm extends Dispatcher<Byte, Algorithm<?, ?
         setDefault(() -> this.algo_NOTALLOWED);
     }
 
+    @Override
+    public Dispatcher<Byte, Algorithm<?, ?, ?, ?, ?>> setCase(Byte key, DispatchStrategy<? extends Algorithm<?, ?, ?, ?, ?>> s) {
+        Arrays.fill(this.selected, null);
+        return super.setCase(key, s);
+    }
+
+    @Override
+    public Dispatcher<Byte, Algorithm<?, ?, ?, ?, ?>> setDefault(DispatchStrategy<? extends Algorithm<?, ?, ?, ?, ?>> s) {
+        Arrays.fill(this.selected, null);
+        return super.setDefault(s);
+    }
+
     public Action_START selectStart() {
         return this.action_START;
     }
@@ -374,9 +395,15 @@ public class DispatcherBytecodeAlgorithm extends Dispatcher<Byte, Algorithm<?, ?
 
     @Override
     public Algorithm<?, ?, ?, ?, ?> select(Byte bytecode) {
+        final int index = bytecode.byteValue() & 0xFF;
+        final Algorithm<?, ?, ?, ?, ?> cached = this.selected[index];
+        if (cached != null) {
+            return cached;
+        }
         final Algorithm<?, ?, ?, ?, ?> retVal;
         try {
             retVal = super.select(bytecode);
+            this.selected[index] = retVal;
         } catch (RuntimeException e) {
             throw e;
         } catch (Exception e) {
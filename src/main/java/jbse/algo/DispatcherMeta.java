@@ -205,6 +205,17 @@ class DispatcherMeta extends Dispatcher<Signature, Algo_INVOKEMETA<?, ?, ?, ?>>
         loadMetaDelegate(methodSignatureResolved, metaDelegate);
     }
 
+    /**
+     * Loads an {@link Algorithm} to manage the invocation of a pure method
+     * that may be delegated to the host JVM.
+     * 
+     * @param methodSignatureResolved the {@link Signature} of a <em>resolved</em> method.
+     */
+    void loadAlgoHostDelegated(Signature methodSignatureResolved) {
+        final Algo_INVOKEMETA_HostDelegated metaDelegate = new Algo_INVOKEMETA_HostDelegated();
+        loadMetaDelegate(methodSignatureResolved, metaDelegate);
+    }
+
     private void loadMetaDelegate(Signature methodSignatureResolved, final Algo_INVOKEMETA<?, ?, ?, ?> metaDelegate) {
         setCase(methodSignatureResolved, () -> metaDelegate);
     }
@@ -681,6 +681,15 @@ public final class ExecutionContext {
      */
     public final DispatcherMeta dispatcherMeta = new DispatcherMeta();
 
+    /** Whether the branches of the if* bytecodes must be merged when possible. */
+    private boolean stateMerging = false;
+
+    /** Whether the resolution of the symbolic references must be postponed when possible. */
+    private boolean lazierResolution = false;
+
+    /** The summaries of the invocations of pure methods. */
+    final MethodSummaries methodSummaries = new MethodSummaries();
+
     /** Maps method signatures to their base-level overrides. */
     public final HashMap<Signature, Signature> baseOverrides = new HashMap<>();
     
@@ -1218,6 +1227,70 @@ public final class ExecutionContext {
         this.dispatcherMeta.loadAlgoUninterpreted(methodSignature);
     }
 
+    /**
+     * Sets whether the branches of the if* bytecodes must be merged, 
+     * when possible, rather than forking the state.
+     * 
+     * @param stateMerging a {@code boolean}.
+     */
+    public void setStateMerging(boolean stateMerging) {
+        this.stateMerging = stateMerging;
+    }
+
+    /**
+     * Returns whether the branches of the if* bytecodes must be merged, 
+     * when possible, rather than forking the state.
+     * 
+     * @return a {@code boolean}.
+     */
+    public boolean getStateMerging() {
+        return this.stateMerging;
+    }
+
+    /**
+     * Sets whether the resolution of the symbolic references must 
+     * be postponed, when possible, until they are loaded by a 
+     * bytecode that does not just store them.
+     * 
+     * @param lazierResolution a {@code boolean}.
+     */
+    public void setLazierResolution(boolean lazierResolution) {
+        this.lazierResolution = lazierResolution;
+    }
+
+    /**
+     * Returns whether the resolution of the symbolic references must 
+     * be postponed, when possible, until they are loaded by a 
+     * bytecode that does not just store them.
+     * 
+     * @return a {@code boolean}.
+     */
+    public boolean getLazierResolution() {
+        return this.lazierResolution;
+    }
+
+    /**
+     * Allows to summarize the invocations of a pure method, 
+     * whose results will be computed once for each combination
+     * of concrete arguments, and then reused.
+     * 
+     * @param methodSignature the {@link Signature} of a method. 
+     */
+    public void addSummarized(Signature methodSignature) { 
+        this.methodSummaries.addSummarized(methodSignature);
+    }
+
+    /**
+     * Allows to customize the behavior of the invocations of a pure 
+     * method by executing them on the host JVM (in a single step)
+     * whenever all their parameters are constant.
+     * 
+     * @param methodSignature the {@link Signature} of a method. 
+     */
+    public void addHostDelegated(Signature methodSignature) { 
+        this.dispatcherMeta.loadAlgoHostDelegated(methodSignature);
+    }
+
     /**
      * Allows to customize the behavior of the invocations of a 
      * set of methods by treating all their invocations as returning 
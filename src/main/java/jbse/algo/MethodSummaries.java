@@ -0,0 +1,202 @@
+package jbse.algo;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.WeakHashMap;
+
+import jbse.bc.Signature;
+import jbse.mem.Frame;
+import jbse.mem.State;
+import jbse.mem.exc.FrozenStateException;
+import jbse.mem.exc.ThreadStackEmptyException;
+import jbse.val.Simplex;
+import jbse.val.Value;
+
+/**
+ * Stores the summaries of the invocations of pure methods
+ * with concrete arguments. A summary maps the signature of
+ * a method and the (concrete) values of its arguments to
+ * the (concrete) value it returns. It is recorded the first
+ * time an invocation completes without adding clauses to the
+ * path condition and without reading or writing static fields, 
+ * i.e., when its result does not depend on any assumption on 
+ * the symbolic state, and it may reach no other object than 
+ * those it creates (the arguments are not references). It is
+ * then reused by all the subsequent invocations with the same 
+ * arguments on all the paths, that push the result in a single
+ * step instead of re-executing the method.
+ */
+final class MethodSummaries {
+    /**
+     * The key of a summary, a method {@link Signature}
+     * plus its concrete arguments.
+     */
+    static final class Key {
+        private final Signature methodSignature;
+        private final Value[] args;
+        private final int hashCode;
+
+        private Key(Signature methodSignature, Value[] args) {
+            this.methodSignature = methodSignature;
+            this.args = args;
+            this.hashCode = 31 * methodSignature.hashCode() + Arrays.hashCode(args);
+        }
+
+        @Override
+        public int hashCode() {
+            return this.hashCode;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (obj == null || getClass() != obj.getClass()) {
+                return false;
+            }
+            final Key other = (Key) obj;
+            return this.methodSignature.equals(other.methodSignature) && Arrays.equals(this.args, other.args);
+        }
+    }
+
+    /** An invocation that is being executed. */
+    private static final class Pending {
+        private final Key key;
+        private final int pathConditionSize;
+        private boolean accessesStaticFields = false;
+
+        private Pending(Key key, int pathConditionSize) {
+            this.key = key;
+            this.pathConditionSize = pathConditionSize;
+        }
+    }
+
+    /** The signatures of the methods that may be summarized. */
+    private final HashSet<Signature> summarized = new HashSet<>();
+
+    /** The recorded summaries. */
+    private final HashMap<Key, Simplex> summaries = new HashMap<>();
+
+    /**
+     * The invocations being executed, associated to the
+     * invocation tokens of the frames of the invoked methods 
+     * (see {@link Frame#getInvocationToken()}). The tokens
+     * are weakly referenced, so the invocations that never 
+     * return are forgotten.
+     */
+    private final WeakHashMap<Object, Pending> pending = new WeakHashMap<>();
+
+    /**
+     * Allows a method to be summarized.
+     *
+     * @param methodSignature the {@link Signature} of a pure
+     *        method.
+     */
+    void addSummarized(Signature methodSignature) {
+        this.summarized.add(methodSignature);
+    }
+
+    /**
+     * Builds the key of an invocation.
+     *
+     * @param methodSignature the {@link Signature} of the
+     *        invoked method implementation.
+     * @param args a {@link Value}{@code []}, the arguments
+     *        of the invocation.
+     * @return the {@link Key} of the invocation, or {@code null}
+     *         if {@code methodSignature} may not be summarized,
+     *         or if some of {@code args} is not a {@link Simplex}.
+     */
+    Key key(Signature methodSignature, Value[] args) {
+        if (!this.summarized.contains(methodSignature)) {
+            return null;
+        }
+        for (Value arg : args) {
+            if (!(arg instanceof Simplex)) {
+                return null;
+            }
+        }
+        return new Key(methodSignature, args.clone());
+    }
+
+    /**
+     * Looks for a summary.
+     *
+     * @param key a {@link Key}.
+     * @return the {@link Simplex} returned by the invocation
+     *         with key {@code key}, or {@code null} if no such
+     *         invocation was summarized yet.
+     */
+    Simplex lookup(Key key) {
+        return this.summaries.get(key);
+    }
+
+    /**
+     * Records that an invocation started.
+     *
+     * @param state the {@link State} where the invocation
+     *        started. Its current frame must be the one
+     *        pushed by the invocation.
+     * @param key the {@link Key} of the invocation.
+     * @throws ThreadStackEmptyException if {@code state}
+     *         has an empty stack.
+     * @throws FrozenStateException if {@code state} is frozen.
+     */
+    void invocationStarted(State state, Key key) 
+    throws ThreadStackEmptyException, FrozenStateException {
+        final Object invocationToken = new Object();
+        state.getCurrentFrame().setInvocationToken(invocationToken);
+        this.pending.put(invocationToken, new Pending(key, state.getPathCondition().size()));
+    }
+
+    /**
+     * Records that a static field is being read or
+     * written, so none of the invocations being executed 
+     * may be summarized.
+     *
+     * @param state the {@link State} where the static
+     *        field is accessed.
+     * @throws FrozenStateException if {@code state} is frozen.
+     */
+    void staticFieldAccessed(State state) throws FrozenStateException {
+        if (this.pending.isEmpty()) {
+            return;
+        }
+        for (Frame f : state.getStack()) {
+            final Object invocationToken = f.getInvocationToken();
+            final Pending p = (invocationToken == null ? null : this.pending.get(invocationToken));
+            if (p != null) {
+                p.accessesStaticFields = true;
+            }
+        }
+    }
+
+    /**
+     * Records that a method is returning, possibly 
+     * storing a summary.
+     *
+     * @param state the {@link State} where the method
+     *        is returning. Its current frame must be 
+     *        the one that is going to be popped.
+     * @param returnValue the {@link Value} returned.
+     * @throws ThreadStackEmptyException if {@code state}
+     *         has an empty stack.
+     * @throws FrozenStateException if {@code state} is frozen.
+     */
+    void returning(State state, Value returnValue) 
+    throws ThreadStackEmptyException, FrozenStateException {
+        if (this.pending.isEmpty()) {
+            return;
+        }
+        final Object invocationToken = state.getCurrentFrame().getInvocationToken();
+        if (invocationToken == null) {
+            return;
+        }
+        final Pending p = this.pending.remove(invocationToken);
+        if (p != null && !p.accessesStaticFields && p.pathConditionSize == state.getPathCondition().size() && returnValue instanceof Simplex) {
+            this.summaries.put(p.key, (Simplex) returnValue);
+        }
+    }
+}
@@ -3,6 +3,7 @@ package jbse.algo.meta;
 import static jbse.algo.UtilControlFlow.continueWithBaseLevelImpl;
 import static jbse.algo.UtilControlFlow.exitFromAlgorithm;
 import static jbse.algo.UtilControlFlow.throwVerifyError;
+import static jbse.bc.Signatures.JAVA_STRING_HASH;
 import static jbse.bc.Signatures.JAVA_STRING_VALUE;
 
 import java.util.function.Supplier;
@@ -21,6 +22,7 @@ import jbse.val.Primitive;
 import jbse.val.Reference;
 import jbse.val.ReferenceConcrete;
 import jbse.val.ReferenceSymbolic;
+import jbse.val.Simplex;
 
 /**
  * Meta-level implementation of {@link java.lang.String#hashCode()}.
@@ -35,17 +37,31 @@ public final class Algo_JAVA_STRING_HASHCODE extends Algo_INVOKEMETA_Nonbranchin
 
     private Primitive hash; //set by cookMore
 
+    private Objekt thisObjectToUpdate; //set by cookMore, null if the hash code must not be cached
+
     @Override
     protected void cookMore(State state) 
     throws ThreadStackEmptyException, InterruptException, 
     ClasspathException, FrozenStateException {
+        this.thisObjectToUpdate = null;
         try {
             final Reference thisReference = (Reference) this.data.operand(0);
             final Objekt thisObject = state.getObject(thisReference);
             final Reference arrayOfCharsReference = (Reference) thisObject.getFieldValue(JAVA_STRING_VALUE);
             final boolean isSimple = ((arrayOfCharsReference instanceof ReferenceConcrete) || state.resolved((ReferenceSymbolic) arrayOfCharsReference)) && 
                                      ((Array) state.getObject(arrayOfCharsReference)).isSimple();
-            if (isSimple) {
+            final Primitive hashCached = (Primitive) thisObject.getFieldValue(JAVA_STRING_HASH);
+            if (isSimple && hashCached instanceof Simplex) {
+                //calculates the hash code at the meta-level, as 
+                //String.hashCode does, and caches it
+                if (((Integer) ((Simplex) hashCached).getActualValue()).intValue() == 0) {
+                    final String value = ((Array) state.getObject(arrayOfCharsReference)).valueString();
+                    this.hash = this.ctx.getCalculator().valInt(value.hashCode());
+                    this.thisObjectToUpdate = (value.length() == 0 ? null : thisObject);
+                } else {
+                    this.hash = hashCached;
+                }
+            } else if (isSimple) {
                 //executes the String.hashCode implementation
                 continueWithBaseLevelImpl(state, this.isInterface, this.isSpecial, this.isStatic); 
             } else {
@@ -64,6 +80,9 @@ public final class Algo_JAVA_STRING_HASHCODE extends Algo_INVOKEMETA_Nonbranchin
     @Override
     protected StrategyUpdate<DecisionAlternative_NONE> updater() {
         return (state, alt) -> {
+            if (this.thisObjectToUpdate != null) {
+                this.thisObjectToUpdate.setFieldValue(JAVA_STRING_HASH, this.hash);
+            }
             state.pushOperand(this.hash);
         };
     }
@@ -8,6 +8,7 @@ import static jbse.bc.Offsets.INVOKESPECIALSTATICVIRTUAL_OFFSET;
 import static jbse.bc.Signatures.ARRAY_INDEX_OUT_OF_BOUNDS_EXCEPTION;
 import static jbse.bc.Signatures.ARRAY_STORE_EXCEPTION;
 import static jbse.bc.Signatures.NULL_POINTER_EXCEPTION;
+import static jbse.common.Type.INT;
 
 import java.util.Iterator;
 import java.util.function.Supplier;
@@ -29,6 +30,7 @@ import jbse.val.Calculator;
 import jbse.val.Null;
 import jbse.val.Primitive;
 import jbse.val.Reference;
+import jbse.val.Simplex;
 import jbse.val.exc.InvalidOperandException;
 import jbse.val.exc.InvalidTypeException;
 
@@ -92,6 +94,18 @@ StrategyUpdate<DecisionAlternative_XASTORE>> {
                 exitFromAlgorithm();
             }
 
+            if (isConcreteInt(this.srcPos) && isConcreteInt(this.destPos) && isConcreteInt(this.length) && 
+                isConcreteInt(srcArray.getLength()) && isConcreteInt(destArray.getLength())) {
+                //all concrete: checks the range without building expressions
+                final long srcPosLong = intValue(this.srcPos);
+                final long destPosLong = intValue(this.destPos);
+                final long lengthLong = intValue(this.length);
+                this.inRange = calc.valBoolean(srcPosLong >= 0 && destPosLong >= 0 && lengthLong >= 0 &&
+                                               srcPosLong + lengthLong <= intValue(srcArray.getLength()) &&
+                                               destPosLong + lengthLong <= intValue(destArray.getLength()));
+                return;
+            }
+
             final Primitive zero = calc.valInt(0);
             try {
                 this.inRange = calc.push(this.srcPos).ge(zero)
@@ -107,6 +121,14 @@ StrategyUpdate<DecisionAlternative_XASTORE>> {
         };
     } 
 
+    private static boolean isConcreteInt(Primitive p) {
+        return p instanceof Simplex && p.getType() == INT;
+    }
+
+    private static int intValue(Primitive p) {
+        return ((Integer) ((Simplex) p).getActualValue()).intValue();
+    }
+
     @Override
     protected Class<DecisionAlternative_XASTORE> classDecisionAlternative() {
         return DecisionAlternative_XASTORE.class;
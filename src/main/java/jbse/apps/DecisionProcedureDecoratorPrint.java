@@ -7,6 +7,7 @@ import static jbse.apps.Util.formatExpression;
 import java.io.PrintStream;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.List;
 
 import jbse.bc.ClassFile;
 import jbse.common.exc.InvalidInputException;
@@ -85,6 +86,15 @@ public final class DecisionProcedureDecoratorPrint extends DecisionProcedureDeco
         IO.println(this.out, ".");
     }
 
+    @Override
+    public void setAssumptions(Collection<Clause> newAssumptions, int common) 
+    throws InvalidInputException, DecisionException, ContradictionException {
+        super.setAssumptions(newAssumptions, common);
+        IO.print(this.out, ":: Set: ");
+        IO.println(this.out, formatClauses(newAssumptions));
+        IO.println(this.out, ".");
+    }
+
     @Override
     public boolean isSat(Expression exp) 
     throws InvalidInputException, DecisionException {
@@ -95,6 +105,20 @@ public final class DecisionProcedureDecoratorPrint extends DecisionProcedureDeco
         return retVal;
     }
 
+    @Override
+    public boolean[] isSat(List<Expression> expressions) 
+    throws InvalidInputException, DecisionException {
+        final boolean[] retVal = super.isSat(expressions);
+        int i = 0;
+        for (Expression exp : expressions) {
+            IO.print(this.out, ":: Decided: ");
+            IO.print(this.out, formatClauses(getAssumptions())); 
+            IO.println(this.out, TURNSTILE + formatExpression(exp) + ". Result: " + Boolean.toString(retVal[i]));
+            ++i;
+        }
+        return retVal;
+    }
+
     @Override
     public boolean isSatNull(ReferenceSymbolic r) 
     throws InvalidInputException, DecisionException {
@@ -1,5 +1,6 @@
 package jbse.apps;
 
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.List;
 import java.util.Map;
@@ -85,6 +86,15 @@ public final class DecisionProcedureDecoratorStats extends DecisionProcedureDeco
         System.err.println("SETASSUMPTIONS\t\t\t" + elapsed);
     }
 
+    @Override
+    public void setAssumptions(Collection<Clause> newAssumptions, int common) 
+    throws InvalidInputException, DecisionException, ContradictionException {
+        startTimer();
+        super.setAssumptions(newAssumptions, common);
+        final long elapsed = elapsed();
+        System.err.println("SETASSUMPTIONS\t\t\t" + elapsed);
+    }
+
     @Override
     public List<Clause> getAssumptions() 
     throws DecisionException {
@@ -105,6 +115,16 @@ public final class DecisionProcedureDecoratorStats extends DecisionProcedureDeco
         return result;
     }
 
+    @Override
+    public boolean[] isSat(List<Expression> expressions) 
+    throws InvalidInputException, DecisionException {
+        startTimer();
+        final boolean[] result = super.isSat(expressions);
+        final long elapsed = elapsed();
+        System.err.println("ISSAT\t" + expressions + "\t" + Arrays.toString(result) + "\t" + elapsed);
+        return result;
+    }
+
     @Override
     public boolean isSatAliases(ReferenceSymbolic r, long heapPos, Objekt o)
     throws InvalidInputException, DecisionException {
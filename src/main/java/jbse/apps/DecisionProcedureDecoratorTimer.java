@@ -86,6 +86,14 @@ public class DecisionProcedureDecoratorTimer extends DecisionProcedureDecorator
         stopTimer();
     }
 
+    @Override
+    public void setAssumptions(Collection<Clause> newAssumptions, int common) 
+    throws InvalidInputException, DecisionException, ContradictionException {
+        startTimer();
+        super.setAssumptions(newAssumptions, common);
+        stopTimer();
+    }
+
     @Override
     public List<Clause> getAssumptions() 
     throws DecisionException {
@@ -104,6 +112,15 @@ public class DecisionProcedureDecoratorTimer extends DecisionProcedureDecorator
         return result;
     }
 
+    @Override
+    public boolean[] isSat(List<Expression> expressions) 
+    throws InvalidInputException, DecisionException {
+        startTimer();
+        final boolean[] result = super.isSat(expressions);
+        stopTimer();
+        return result;
+    }
+
     @Override
     public boolean isSatNull(ReferenceSymbolic r) 
     throws InvalidInputException, DecisionException {
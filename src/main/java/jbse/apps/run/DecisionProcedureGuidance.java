@@ -177,6 +177,18 @@ public abstract class DecisionProcedureGuidance extends DecisionProcedureAlgorit
     public final void setAssumptions(Collection<Clause> newAssumptions) 
     throws InvalidInputException, DecisionException, ContradictionException {
         super.setAssumptions(newAssumptions);
+        markExpansionsAsSeen(newAssumptions);
+    }
+    
+    @Override
+    public final void setAssumptions(Collection<Clause> newAssumptions, int common) 
+    throws InvalidInputException, DecisionException, ContradictionException {
+        super.setAssumptions(newAssumptions, common);
+        markExpansionsAsSeen(newAssumptions);
+    }
+    
+    private void markExpansionsAsSeen(Collection<Clause> newAssumptions) 
+    throws DecisionException, ContradictionException {
         if (this.guiding) {
             clearSeen();
             for (Clause c : newAssumptions) {
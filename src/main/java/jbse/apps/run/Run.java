@@ -2,11 +2,23 @@ package jbse.apps.run;
 
 import java.io.File;
 import java.io.FileNotFoundException;
+import java.io.IOException;
 import java.io.PrintStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.Date;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.stream.Stream;
 
 import jbse.JBSE;
 import jbse.algo.exc.CannotInvokeNativeException;
@@ -40,6 +52,8 @@ import jbse.dec.DecisionProcedure;
 import jbse.dec.DecisionProcedureAlgorithms;
 import jbse.dec.DecisionProcedureAlwSat;
 import jbse.dec.DecisionProcedureClassInit;
+import jbse.dec.DecisionProcedureDecoratorCache;
+import jbse.dec.DecisionProcedureDecoratorCounterexampleCache;
 import jbse.dec.DecisionProcedureEquality;
 import jbse.dec.DecisionProcedureLICS;
 import jbse.dec.DecisionProcedureSignAnalysis;
@@ -122,6 +136,12 @@ public final class Run {
     /** The {@link Timer} for the decision procedure. */
     private Timer timer = null;
 
+    /** The cache of the decision procedure, if any. */
+    private DecisionProcedureDecoratorCache cache = null;
+
+    /** The counterexample cache of the decision procedure, if any. */
+    private DecisionProcedureDecoratorCounterexampleCache counterexampleCache = null;
+
     /** The {@link DecisionProcedureGuidance}, whenever this method is chosen for stepping the {@link Engine}. */
     private DecisionProcedureGuidance guidance = null;
 
@@ -163,6 +183,34 @@ public final class Run {
 
     /** The number of states traversed during the pre-initial phase. */
     private long preInitialStateCount = 0;
+    
+    /** 
+     * The maximum number of initial states kept in 
+     * {@link #INITIAL_STATES}.
+     */
+    private static final int INITIAL_STATES_MAX_SIZE = 8;
+    
+    /** 
+     * The initial states reached by the previous runs in this
+     * JVM, associated to the key of the configuration that
+     * produced them (see {@link #initialStateKey()}). Only the
+     * {@link #INITIAL_STATES_MAX_SIZE} most recently used are
+     * kept. They are not persisted, thus they are not reused
+     * across different JVM processes.
+     */
+    @SuppressWarnings("serial")
+    private static final Map<String, State> INITIAL_STATES = Collections.synchronizedMap(new LinkedHashMap<String, State>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, State> eldest) {
+            return size() > INITIAL_STATES_MAX_SIZE;
+        }
+    });
+    
+    /** 
+     * The key of the configuration of this run in {@link #INITIAL_STATES}, 
+     * or {@code null} if the initial state must not be reused.
+     */
+    private String initialStateKey = null;
 
     /**
      * Constructor.
@@ -254,6 +302,9 @@ public final class Run {
         	Run.this.atPreInitialPhase = false;
         	Run.this.timestampPreInitialPhaseEnd = System.currentTimeMillis();
         	Run.this.preInitialStateCount = getEngine().getAnalyzedStates();
+        	if (Run.this.initialStateKey != null) {
+        	    INITIAL_STATES.putIfAbsent(Run.this.initialStateKey, getEngine().getInitialState());
+        	}
         	return super.atInitial();
         }
         
@@ -705,7 +756,19 @@ public final class Run {
             createDecisionProcedure(calc);
             runnerParameters.setDecisionProcedure(this.decisionProcedure);
             final RunnerBuilder rb = new RunnerBuilder();
-            this.runner = rb.build(this.parameters.getRunnerParameters());
+            final State initialState = findInitialState();
+            if (initialState == null) {
+                this.runner = rb.build(runnerParameters);
+            } else {
+                //starts from the initial state of a previous run, 
+                //skipping the pre-initial phase
+                if (this.parameters.getShowInfo()) {
+                    log(MSG_REUSE_INITIAL_STATE);
+                }
+                final RunnerParameters runnerParametersReused = runnerParameters.clone();
+                runnerParametersReused.setStartingState(initialState);
+                this.runner = rb.build(runnerParametersReused);
+            }
             this.engine = rb.getEngine();
             if (this.engine == null) {
                 return 1;
@@ -752,6 +815,183 @@ public final class Run {
         return 0;
     }
 
+    /**
+     * Finds the initial state reached by a previous run 
+     * in this JVM with the same configuration of this run.
+     * 
+     * @return the initial {@link State}, or {@code null} if
+     *         the initial state must not be reused, or no
+     *         previous run has the same configuration of this 
+     *         run.
+     */
+    private State findInitialState() {
+        if (!this.parameters.getReuseInitialState() || this.parameters.getStartingState() != null) {
+            return null;
+        }
+        try {
+            this.initialStateKey = initialStateKey();
+        } catch (IOException e) {
+            //the initial state will not be reused
+            return null;
+        }
+        final State retVal = INITIAL_STATES.get(this.initialStateKey);
+        return (retVal == null ? null : retVal.clone());
+    }
+    
+    /**
+     * Returns the key of the configuration of this run,
+     * i.e., of all the parameters that may affect the
+     * initial state: the classpath (including the JRE) and
+     * the version of its contents, the method to 
+     * execute, the parameters of the engine and the 
+     * parameters of the decision procedure.
+     * 
+     * @return a {@link String}.
+     * @throws IOException if the classpath cannot be 
+     *         determined.
+     */
+    String initialStateKey() throws IOException {
+        final StringBuilder retVal = new StringBuilder();
+        for (Path p : this.parameters.getClasspath().classPath()) {
+            retVal.append(p.toAbsolutePath());
+            appendVersionKey(retVal, p);
+            retVal.append(File.pathSeparatorChar);
+        }
+        appendKey(retVal, this.parameters.getMethodSignature());
+        
+        //engine
+        appendKey(retVal, this.parameters.getBypassStandardLoading());
+        appendKey(retVal, this.parameters.getMakePreInitClassesSymbolic());
+        appendKey(retVal, this.parameters.getUseHashMapModel());
+        appendKey(retVal, this.parameters.getMaxSimpleArrayLength());
+        appendKey(retVal, this.parameters.getMaxHeapSize());
+        appendKey(retVal, this.parameters.getStateIdentificationMode());
+        appendKey(retVal, this.parameters.getBreadthMode());
+        appendKey(retVal, this.parameters.getStateMerging());
+        appendKey(retVal, this.parameters.getLazierResolution());
+        final TreeMap<String, TreeSet<String>> expansionBackdoor = new TreeMap<>();
+        for (Map.Entry<String, Set<String>> e : this.parameters.getExpansionBackdoor().entrySet()) {
+            expansionBackdoor.put(e.getKey(), new TreeSet<>(e.getValue()));
+        }
+        appendKey(retVal, expansionBackdoor);
+        appendKey(retVal, this.parameters.getTriggerRulesRepo());
+        appendKey(retVal, this.parameters.getRunnerParameters().getEngineParameters().getClassInvariantAfterInitialization());
+        appendKey(retVal, this.parameters.getMetaOverridden());
+        appendKey(retVal, this.parameters.getUninterpreted());
+        appendKey(retVal, this.parameters.getUninterpretedPattern());
+        appendKey(retVal, this.parameters.getHostDelegated());
+        appendKey(retVal, this.parameters.getSummarized());
+        appendKey(retVal, new TreeMap<>(this.parameters.getHeapScope()));
+        appendKey(retVal, this.parameters.getDepthScope());
+        appendKey(retVal, this.parameters.getCountScope());
+        
+        //decision procedure
+        appendKey(retVal, this.parameters.getDecisionProcedureType());
+        appendKey(retVal, this.parameters.getExternalDecisionProcedurePath());
+        appendKey(retVal, this.parameters.getClassInitRulesRepo());
+        appendKey(retVal, this.parameters.getUseLICS());
+        appendKey(retVal, this.parameters.getLICSRulesRepo());
+        appendKey(retVal, this.parameters.getDoSignAnalysis());
+        appendKey(retVal, this.parameters.getDoEqualityAnalysis());
+        appendKey(retVal, this.parameters.getUseConservativeRepOks());
+        appendKey(retVal, new TreeMap<>(this.parameters.getConservativeRepOks()));
+        for (Class<? extends RewriterCalculatorRewriting> rewriterClass : this.parameters.getRewriters()) {
+            appendKey(retVal, rewriterClass.getName());
+        }
+        return retVal.toString();
+    }
+    
+    /**
+     * Appends the version of the contents of a classpath 
+     * entry to the key of the configuration of this run,
+     * so the initial state is not reused after the entry
+     * is rebuilt. The version of a jar file is its last 
+     * modified time and its size, the version of a directory 
+     * is the number of the files in it, their total size, 
+     * and their latest modified time.
+     * 
+     * @param key the {@link StringBuilder} of the key.
+     * @param entry a {@link Path}, a classpath entry.
+     * @throws IOException if the entry cannot be read.
+     */
+    private static void appendVersionKey(StringBuilder key, Path entry) throws IOException {
+        if (Files.isRegularFile(entry)) {
+            key.append('@');
+            key.append(Files.getLastModifiedTime(entry).toMillis());
+            key.append('#');
+            key.append(Files.size(entry));
+        } else if (Files.isDirectory(entry)) {
+            long count = 0, size = 0, lastModified = 0;
+            try (Stream<Path> files = Files.walk(entry)) {
+                final Iterator<Path> it = files.filter(Files::isRegularFile).iterator();
+                while (it.hasNext()) {
+                    final Path file = it.next();
+                    ++count;
+                    size += Files.size(file);
+                    lastModified = Math.max(lastModified, Files.getLastModifiedTime(file).toMillis());
+                }
+            } catch (UncheckedIOException e) {
+                throw e.getCause();
+            }
+            key.append('@');
+            key.append(lastModified);
+            key.append('#');
+            key.append(size);
+            key.append('#');
+            key.append(count);
+        }
+    }
+
+    /**
+     * Appends a parameter to the key of the configuration 
+     * of this run.
+     * 
+     * @param key the {@link StringBuilder} of the key.
+     * @param parameter an {@link Object}, the parameter; if it
+     *        is a {@link List} of {@link String}{@code []}s 
+     *        (e.g., of method signatures) its elements are 
+     *        appended one by one. 
+     */
+    private static void appendKey(StringBuilder key, Object parameter) {
+        key.append(' ');
+        if (parameter instanceof List<?>) {
+            key.append('[');
+            for (Object element : (List<?>) parameter) {
+                key.append(element instanceof String[] ? Arrays.toString((String[]) element) : String.valueOf(element));
+                key.append(',');
+            }
+            key.append(']');
+        } else {
+            key.append(parameter);
+        }
+    }
+
+    /**
+     * Returns the namespace of the decision procedure cache
+     * of this run, i.e., all the parameters that may affect
+     * the answers of the decision procedure other than the
+     * queries: the classpath, the method to execute and 
+     * the solver.
+     * 
+     * @return a {@link String}.
+     * @throws IOException if the classpath cannot be 
+     *         determined.
+     */
+    private String decisionProcedureCacheNamespace() throws IOException {
+        final StringBuilder retVal = new StringBuilder();
+        for (Path p : this.parameters.getClasspath().classPath()) {
+            retVal.append(p.toAbsolutePath());
+            retVal.append(File.pathSeparatorChar);
+        }
+        retVal.append(' ');
+        retVal.append(this.parameters.getMethodSignature());
+        retVal.append(' ');
+        retVal.append(this.parameters.getDecisionProcedureType());
+        retVal.append(' ');
+        retVal.append(this.parameters.getExternalDecisionProcedurePath());
+        return retVal.toString();
+    }
+
     private void setStreams() {
         // sets the output and error streams
         // first are to standard
@@ -916,7 +1156,9 @@ public final class Run {
     				z3CommandLine.add(switchChar + "smt2");
     				z3CommandLine.add(switchChar + "in");
     				z3CommandLine.add(switchChar + "t:10");
-    				core = new DecisionProcedureSMTLIB2_AUFNIRA(core, z3CommandLine);
+    				final DecisionProcedureSMTLIB2_AUFNIRA external = new DecisionProcedureSMTLIB2_AUFNIRA(core, z3CommandLine, this.parameters.getExternalDecisionProcedureInstances());
+    				external.setSlicing(this.parameters.getExternalDecisionProcedureSlicing());
+    				core = external;
     				coreNumeric = (needHeapCheck ? new DecisionProcedureSMTLIB2_AUFNIRA(coreNumeric, z3CommandLine) : null);
     			} else if (type == DecisionProcedureType.CVC4) {
     				final ArrayList<String> cvc4CommandLine = new ArrayList<>();
@@ -926,7 +1168,9 @@ public final class Run {
     				cvc4CommandLine.add("--no-interactive");
     				cvc4CommandLine.add("--incremental");
     				cvc4CommandLine.add("--tlimit-per=10000");
-    				core = new DecisionProcedureSMTLIB2_AUFNIRA(core, cvc4CommandLine);
+    				final DecisionProcedureSMTLIB2_AUFNIRA external = new DecisionProcedureSMTLIB2_AUFNIRA(core, cvc4CommandLine, this.parameters.getExternalDecisionProcedureInstances());
+    				external.setSlicing(this.parameters.getExternalDecisionProcedureSlicing());
+    				core = external;
     				coreNumeric = (needHeapCheck ? new DecisionProcedureSMTLIB2_AUFNIRA(coreNumeric, cvc4CommandLine) : null);
     			} else {
     				core.close();
@@ -951,6 +1195,26 @@ public final class Run {
     			coreNumeric = (needHeapCheck ? new DecisionProcedureEquality(coreNumeric) : null);
     		}
 
+    		//further wraps core with counterexample cache, if required
+    		if (this.parameters.getDecisionProcedureCounterexampleCacheSize() > 0) {
+    			final DecisionProcedureDecoratorCounterexampleCache cCore = 
+    			new DecisionProcedureDecoratorCounterexampleCache(core, this.parameters.getDecisionProcedureCounterexampleCacheSize());
+    			this.counterexampleCache = cCore;
+    			core = cCore;
+    		}
+
+    		//further wraps core with cache, if required
+    		if (this.parameters.getDecisionProcedureCacheSize() > 0) {
+    			try {
+    				final DecisionProcedureDecoratorCache cCore = 
+    				new DecisionProcedureDecoratorCache(core, this.parameters.getDecisionProcedureCacheSize(), this.parameters.getDecisionProcedureCachePath(), decisionProcedureCacheNamespace());
+    				this.cache = cCore;
+    				core = cCore;
+    			} catch (DecisionException | IOException e) {
+    				throw new CannotBuildDecisionProcedureException(e);
+    			}
+    		}
+
     		//sets the decision procedure for checkers
     		if (needHeapCheck) {
     			this.decisionProcedureConcretization = new DecisionProcedureAlgorithms(coreNumeric);
@@ -1114,6 +1378,15 @@ public final class Run {
             (this.timer == null ? 
              "." :
              ", " + MSG_END_DECISION + Util.formatTime(elapsedTimeDecisionProcedure) + " (" + Util.formatTimePercent(elapsedTimeDecisionProcedure, elapsedTime) + " of total)."));
+        if (this.cache != null) {
+            log(MSG_END_DECISION_CACHE_HITS + this.cache.getHits() + ", " +
+                MSG_END_DECISION_CACHE_MISSES + this.cache.getMisses() + ".");
+        }
+        if (this.counterexampleCache != null) {
+            log(MSG_END_DECISION_COUNTEREXAMPLE_CACHE_MODEL_HITS + this.counterexampleCache.getModelHits() + ", " +
+                MSG_END_DECISION_COUNTEREXAMPLE_CACHE_UNSAT_HITS + this.counterexampleCache.getUnsatHits() + ", " +
+                MSG_END_DECISION_CACHE_MISSES + this.counterexampleCache.getMisses() + ".");
+        }
     }
 
     /**
@@ -1180,6 +1453,9 @@ public final class Run {
     /** Message: trying to initialize guidance. */
     private static final String MSG_TRY_GUIDANCE = "Initializing guidance by driver method ";
 
+    /** Message: reuse of the initial state of a previous run. */
+    private static final String MSG_REUSE_INITIAL_STATE = "Reusing the initial state of a previous run with same configuration, skipping the pre-initial phase.";
+
     /** Message: start of symbolic execution. */
     private static final String MSG_START = "Starting symbolic execution of method ";
 
@@ -1212,6 +1488,10 @@ public final class Run {
 
     /** Message: elapsed time in the decision procedure. */
     private static final String MSG_END_DECISION = "Elapsed time in decision procedure: ";
+    private static final String MSG_END_DECISION_CACHE_HITS = "Decision procedure cache hits: ";
+    private static final String MSG_END_DECISION_CACHE_MISSES = "misses: ";
+    private static final String MSG_END_DECISION_COUNTEREXAMPLE_CACHE_MODEL_HITS = "Decision procedure counterexample cache hits by model: ";
+    private static final String MSG_END_DECISION_COUNTEREXAMPLE_CACHE_UNSAT_HITS = "by unsat set: ";
 
     /** Message: average speed. */
     private static final String MSG_END_SPEED = "Average speed: ";
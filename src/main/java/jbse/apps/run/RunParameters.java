@@ -29,6 +29,7 @@ import jbse.jvm.EngineParameters;
 import jbse.jvm.ExecutionObserver;
 import jbse.jvm.RunnerParameters;
 import jbse.jvm.EngineParameters.BreadthMode;
+import jbse.jvm.EngineParameters.SearchStrategy;
 import jbse.jvm.EngineParameters.StateIdentificationMode;
 import jbse.mem.State;
 import jbse.rewr.CalculatorRewriting;
@@ -316,6 +317,42 @@ public final class RunParameters implements Cloneable {
     
     /** The {@link Path} where the executable of the external decision procedure is. */
     private Path externalDecisionProcedurePath = null;
+    
+    /** The number of processes of the external decision procedure. */
+    private int externalDecisionProcedureInstances = 1;
+    
+    /** 
+     * Whether the queries to the external decision procedure
+     * are sliced by symbol independence. 
+     */
+    private boolean externalDecisionProcedureSlicing = false;
+    
+    /** 
+     * The maximum number of answers of the decision procedure
+     * cache, or {@code 0} if the decision procedure answers
+     * must not be cached.
+     */
+    private int decisionProcedureCacheSize = 0;
+    
+    /** 
+     * The maximum number of models, and of unsat sets, of 
+     * the decision procedure counterexample cache, or {@code 0} 
+     * if the counterexample cache must not be used.
+     */
+    private int decisionProcedureCounterexampleCacheSize = 0;
+    
+    /** 
+     * The {@link Path} of the file where the decision procedure
+     * cache is saved, or {@code null} if it must not be saved. 
+     */
+    private Path decisionProcedureCachePath = null;
+    
+    /** 
+     * Whether the initial state reached by a previous run 
+     * in the same JVM with the same configuration must be 
+     * reused, skipping the pre-initial phase. 
+     */
+    private boolean reuseInitialState = false;
 
     /** 
      * Whether the engine should use its sign analysis 
@@ -510,6 +547,61 @@ public final class RunParameters implements Cloneable {
         return this.runnerParameters.getBreadthMode();
     }
 
+    /**
+     * Sets the search strategy, i.e., how the pending 
+     * state where the execution backtracks is chosen.
+     * 
+     * @param searchStrategy a {@link SearchStrategy}.
+     * @throws NullPointerException if {@code searchStrategy == null}.
+     */
+    public void setSearchStrategy(SearchStrategy searchStrategy) {
+        this.runnerParameters.setSearchStrategy(searchStrategy);
+    }
+    
+    /**
+     * Gets the search strategy.
+     * 
+     * @return the {@link SearchStrategy} set by the
+     *         last call to {@link #setSearchStrategy(SearchStrategy)}.
+     */
+    public SearchStrategy getSearchStrategy() {
+        return this.runnerParameters.getSearchStrategy();
+    }
+
+    /**
+     * Sets a limited number of pending states handled by the
+     * search strategy. When the limit is reached the further 
+     * pending states are handled depth-first until they are
+     * exhausted.
+     * 
+     * @param maxPendingStates a positive {@code int}, the maximum 
+     *        number of pending states handled by the search strategy.
+     */
+    public void setMaxPendingStates(int maxPendingStates) {
+        this.runnerParameters.setMaxPendingStates(maxPendingStates);
+    }
+
+    /**
+     * Sets an unlimited number of pending states handled by the 
+     * search strategy; this is the default behaviour.
+     * 
+     * @see {@link #setMaxPendingStates(int)}
+     */
+    public void setMaxPendingStatesUnlimited() {
+        this.runnerParameters.setMaxPendingStatesUnlimited();
+    }
+
+    /**
+     * Gets the maximum number of pending states handled 
+     * by the search strategy.
+     * 
+     * @return an {@code int}, the maximum number of pending 
+     *         states, or {@code 0} if unlimited.
+     */
+    public int getMaxPendingStates() {
+        return this.runnerParameters.getMaxPendingStates();
+    }
+
     /** 
      * Adds an {@link ExecutionObserver} performing additional
      * actions when a field changes its value.
@@ -1086,6 +1178,128 @@ public final class RunParameters implements Cloneable {
     	return this.runnerParameters.getUninterpretedPattern();
     }
 
+    /**
+     * Specifies that the invocations of a pure method must be executed
+     * on the host JVM, rather than symbolically, whenever all its parameters
+     * are constant (primitive values or constant {@link String}s), and 
+     * its return type is {@code void}, primitive or {@link String}. 
+     * Otherwise the method is executed symbolically, as usual.
+     * 
+     * @param methodClassName the name of the class containing the method.
+     * @param methodDescriptor the descriptor of the method.
+     * @param methodName the name of the method.
+     * @throws NullPointerException if any of the above parameters is {@code null}.
+     */
+    public void addHostDelegated(String methodClassName, String methodDescriptor, String methodName) {
+        this.runnerParameters.addHostDelegated(methodClassName, methodDescriptor, methodName);
+    }
+
+    /**
+     * Clears the methods set with {@link #addHostDelegated(String, String, String) addHostDelegated} 
+     * that must be delegated to the host JVM.
+     */
+    public void clearHostDelegated() {
+    	this.runnerParameters.clearHostDelegated();
+    }
+
+    /**
+     * Returns the methods that must be delegated 
+     * to the host JVM.
+     * 
+     * @return A {@link List}{@code <}{@link String}{@code []>}, 
+     *         where each array is a triple (method class name, 
+     *         method parameters, method name).
+     */
+    public List<String[]> getHostDelegated() {
+    	return this.runnerParameters.getHostDelegated();
+    }
+
+    /**
+     * Specifies that the invocations of a pure method may be summarized.
+     * The first time the method returns a concrete value when invoked with 
+     * some concrete arguments, without making any assumption on the 
+     * symbolic state, the result is recorded, and all the subsequent invocations 
+     * with the same arguments, on all the paths, will push the recorded 
+     * result instead of executing the method.
+     * 
+     * @param methodClassName the name of the class containing the method.
+     * @param methodDescriptor the descriptor of the method.
+     * @param methodName the name of the method.
+     * @throws NullPointerException if any of the above parameters is {@code null}.
+     */
+    public void addSummarized(String methodClassName, String methodDescriptor, String methodName) {
+        this.runnerParameters.addSummarized(methodClassName, methodDescriptor, methodName);
+    }
+
+    /**
+     * Clears the methods set with {@link #addSummarized(String, String, String) addSummarized} 
+     * that may be summarized.
+     */
+    public void clearSummarized() {
+    	this.runnerParameters.clearSummarized();
+    }
+
+    /**
+     * Returns the methods that may be summarized.
+     * 
+     * @return A {@link List}{@code <}{@link String}{@code []>}, 
+     *         where each array is a triple (method class name, 
+     *         method parameters, method name).
+     */
+    public List<String[]> getSummarized() {
+    	return this.runnerParameters.getSummarized();
+    }
+
+    /**
+     * Sets whether the branches of the if* bytecodes must be merged,
+     * when possible, rather than forking the state. Only the
+     * branches that just push an integer constant before joining
+     * (as in the code for conditional expressions and materialized
+     * boolean expressions) are merged, into a single state where the
+     * pushed value is an expression of the branch condition.
+     * By default it is set to {@code false}.
+     * 
+     * @param stateMerging a {@code boolean}.
+     */
+    public void setStateMerging(boolean stateMerging) {
+        this.runnerParameters.setStateMerging(stateMerging);
+    }
+
+    /**
+     * Gets whether the branches of the if* bytecodes must be merged,
+     * when possible, rather than forking the state.
+     * 
+     * @return a {@code boolean}.
+     */
+    public boolean getStateMerging() {
+        return this.runnerParameters.getStateMerging();
+    }
+
+    /**
+     * Sets whether the resolution of the symbolic references must 
+     * be lazier, i.e., postponed when possible. When a symbolic reference 
+     * is loaded from a local variable or a field just to be stored in 
+     * a local variable or in a field of a symbolic object, its resolution 
+     * by null, aliasing or expansion is postponed until it is loaded 
+     * again, rather than forking the state at the first load.
+     * By default it is set to {@code false}.
+     * 
+     * @param lazierResolution a {@code boolean}.
+     */
+    public void setLazierResolution(boolean lazierResolution) {
+        this.runnerParameters.setLazierResolution(lazierResolution);
+    }
+
+    /**
+     * Gets whether the resolution of the symbolic references must 
+     * be lazier, i.e., postponed when possible.
+     * 
+     * @return a {@code boolean}.
+     */
+    public boolean getLazierResolution() {
+        return this.runnerParameters.getLazierResolution();
+    }
+
     /**
      * Sets the signature of the method which must be symbolically executed, 
      * and cancels the effect of any previous call to {@link #setStartingState(State)}.
@@ -1200,6 +1414,35 @@ public final class RunParameters implements Cloneable {
     public boolean getUseHashMapModel() {
     	return this.runnerParameters.getUseHashMapModel();
     }
+    
+    /**
+     * Sets whether the initial state must be reused across runs. 
+     * If set, the initial state reached at the end of the 
+     * pre-initial phase (i.e., after the bootstrap of the JRE 
+     * and the initialization of the classes of the method to 
+     * execute) is kept in memory, and every subsequent run in 
+     * the same JVM with the same classpath, method signature, 
+     * engine and decision procedure parameters starts from a 
+     * copy of it, skipping the pre-initial phase. Only the 
+     * initial states of the most recently used configurations 
+     * are kept. It has no effect if
+     * a starting state is set with {@link #setStartingState(State)}.
+     * 
+     * @param reuseInitialState a {@code boolean}.
+     */
+    public void setReuseInitialState(boolean reuseInitialState) {
+        this.reuseInitialState = reuseInitialState;
+    }
+    
+    /**
+     * Returns whether the initial state must be reused 
+     * across runs.
+     * 
+     * @return a {@code boolean}, by default {@code false}.
+     */
+    public boolean getReuseInitialState() {
+        return this.reuseInitialState;
+    }
 
     /**
      * Sets a timeout for execution.
@@ -1507,6 +1750,136 @@ public final class RunParameters implements Cloneable {
         return this.externalDecisionProcedurePath;
     }
 
+    /**
+     * Sets the number of processes of the external 
+     * decision procedure. With more than one process, 
+     * the independent satisfiability checks of a 
+     * decision (e.g., the cases of a switch) are 
+     * performed concurrently. 
+     * 
+     * @param externalDecisionProcedureInstances a positive {@code int}.
+     * @throws IllegalArgumentException if {@code externalDecisionProcedureInstances <= 0}.
+     */
+    public void setExternalDecisionProcedureInstances(int externalDecisionProcedureInstances) { 
+        if (externalDecisionProcedureInstances <= 0) {
+            throw new IllegalArgumentException();
+        }
+        this.externalDecisionProcedureInstances = externalDecisionProcedureInstances; 
+    }
+
+    /**
+     * Gets the number of processes of the external 
+     * decision procedure.
+     * 
+     * @return a positive {@code int}, by default {@code 1}.
+     */
+    public int getExternalDecisionProcedureInstances() {
+        return this.externalDecisionProcedureInstances;
+    }
+
+    /**
+     * Sets whether the queries to the external decision
+     * procedure must be sliced. When slicing, each query
+     * is checked against the assumed clauses that (transitively)
+     * share some symbol with it, rather than against the
+     * whole path condition. 
+     * 
+     * @param externalDecisionProcedureSlicing a {@code boolean}.
+     */
+    public void setExternalDecisionProcedureSlicing(boolean externalDecisionProcedureSlicing) { 
+        this.externalDecisionProcedureSlicing = externalDecisionProcedureSlicing; 
+    }
+
+    /**
+     * Gets whether the queries to the external decision
+     * procedure must be sliced.
+     * 
+     * @return a {@code boolean}, by default {@code false}.
+     */
+    public boolean getExternalDecisionProcedureSlicing() {
+        return this.externalDecisionProcedureSlicing;
+    }
+
+    /**
+     * Sets the maximum number of answers that the 
+     * decision procedure cache stores.
+     * 
+     * @param decisionProcedureCacheSize an {@code int}. If it is
+     *        positive the answers of the decision procedure are 
+     *        cached, otherwise they are not.
+     */
+    public void setDecisionProcedureCacheSize(int decisionProcedureCacheSize) { 
+        this.decisionProcedureCacheSize = Math.max(0, decisionProcedureCacheSize); 
+    }
+
+    /**
+     * Gets the maximum number of answers that the 
+     * decision procedure cache stores.
+     * 
+     * @return a nonnegative {@code int}, {@code 0}
+     *         (default) if the answers of the decision
+     *         procedure are not cached.
+     */
+    public int getDecisionProcedureCacheSize() {
+        return this.decisionProcedureCacheSize;
+    }
+
+    /**
+     * Sets the file where the decision procedure cache
+     * is saved at the end of the execution, and from which
+     * it is loaded at the start of the execution. The file
+     * is loaded only if it was saved by a run with the same
+     * classpath, target method and decision procedure.
+     * 
+     * @param decisionProcedureCachePath a {@link Path}.
+     * @throws NullPointerException if {@code decisionProcedureCachePath == null}.
+     */
+    public void setDecisionProcedureCachePath(Path decisionProcedureCachePath) { 
+        if (decisionProcedureCachePath == null) {
+            throw new NullPointerException();
+        }
+        this.decisionProcedureCachePath = decisionProcedureCachePath; 
+    }
+
+    /**
+     * Gets the file where the decision procedure cache
+     * is saved.
+     * 
+     * @return a {@link Path}, or {@code null} if the
+     *         decision procedure cache is not saved.
+     */
+    public Path getDecisionProcedureCachePath() {
+        return this.decisionProcedureCachePath;
+    }
+
+    /**
+     * Sets the maximum number of models, and of unsat
+     * sets, that the decision procedure counterexample 
+     * cache stores.
+     * 
+     * @param decisionProcedureCounterexampleCacheSize an {@code int}. 
+     *        If it is positive the queries to the decision procedure 
+     *        are answered, when possible, by means of the models and 
+     *        of the unsat sets of clauses it produced for previous 
+     *        queries, otherwise they are not.
+     */
+    public void setDecisionProcedureCounterexampleCacheSize(int decisionProcedureCounterexampleCacheSize) { 
+        this.decisionProcedureCounterexampleCacheSize = Math.max(0, decisionProcedureCounterexampleCacheSize); 
+    }
+
+    /**
+     * Gets the maximum number of models, and of unsat
+     * sets, that the decision procedure counterexample 
+     * cache stores.
+     * 
+     * @return a nonnegative {@code int}, {@code 0}
+     *         (default) if the counterexample cache 
+     *         is not used.
+     */
+    public int getDecisionProcedureCounterexampleCacheSize() {
+        return this.decisionProcedureCounterexampleCacheSize;
+    }
+
     /**
      * Adds a creation strategy to the strategies 
      * for creating the {@link DecisionProcedure}.
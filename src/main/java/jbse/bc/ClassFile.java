@@ -819,6 +819,25 @@ public abstract class ClassFile implements Comparable<ClassFile> {
     public abstract int getCodeLength(Signature methodSignature) 
     throws MethodNotFoundException, MethodCodeNotFoundException;
 
+    /**
+     * Returns the maximum depth of the operand stack of a method.
+     * 
+     * @param methodSignature a {@link Signature}.
+     * @return a {@code int} representing the maximum depth of
+     *         the operand stack of the method with signature 
+     *         {@code methodSignature}, in the case such method exists 
+     *         in the class and has code.
+     *         If {@code methodSignature}'s name is signature polymorphic in this 
+     *         class the method must succeed for all the polymorphic variants of the
+     *         signature and return the same result as for the 
+     *         {@code (Object...)Object} declared variant.
+     * @throws MethodNotFoundException iff the method does not exist in the class.
+     * @throws MethodCodeNotFoundException iff the method has not the 
+     *         Code attribute.
+     */
+    public abstract int getCodeMaxStack(Signature methodSignature) 
+    throws MethodNotFoundException, MethodCodeNotFoundException;
+
     /**
      * Creates a default local variable table from a method's signature.
      * 
@@ -219,6 +219,12 @@ public final class ClassFileArray extends ClassFile {
         throw new MethodNotFoundException(methodSignature.toString());
     }
 
+    @Override
+    public int getCodeMaxStack(Signature methodSignature)
+    throws MethodNotFoundException, MethodCodeNotFoundException {
+        throw new MethodNotFoundException(methodSignature.toString());
+    }
+
     @Override
     public ExceptionTable getExceptionTable(Signature methodSignature)
     throws MethodNotFoundException, MethodCodeNotFoundException {
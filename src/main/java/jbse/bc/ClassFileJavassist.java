@@ -26,6 +26,8 @@ import java.io.ByteArrayOutputStream;
 import java.io.DataInputStream;
 import java.io.DataOutputStream;
 import java.io.IOException;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.SoftReference;
 import java.lang.reflect.Field;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
@@ -34,6 +36,7 @@ import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Stream;
 
 import javassist.Modifier;
@@ -79,8 +82,9 @@ import jbse.val.Reference;
 public class ClassFileJavassist extends ClassFile {
     private final boolean isAnonymousUnregistered;
     private final int definingClassLoader;
-    private final javassist.bytecode.ClassFile cf;
-    private final ConstPool cp;
+    private javassist.bytecode.ClassFile cf; //nonfinal because of classfile renaming
+    private ConstPool cp; //nonfinal because of classfile renaming
+    private boolean cfShared; //true iff cf is in PARSED, and thus must not be modified
     private final ClassFile superClass;
     private final ClassFile[] superInterfaces;
     private final Object[] cpPatches;
@@ -122,7 +126,8 @@ public class ClassFileJavassist extends ClassFile {
             }
             
             //reads the bytecode
-            this.cf = new javassist.bytecode.ClassFile(new DataInputStream(new ByteArrayInputStream(bytecode)));
+            this.cf = parseShared(bytecode);
+            this.cfShared = true;
             
             //checks superClass and superInterfaces
             checkSuper(this.cf, superClass, superInterfaces);
@@ -189,6 +194,7 @@ public class ClassFileJavassist extends ClassFile {
             
             //reads and patches the bytecode
             this.cf = new javassist.bytecode.ClassFile(new DataInputStream(new ByteArrayInputStream(bytecode)));
+            this.cfShared = false;
             checkCpPatches(this.cf.getConstPool(), cpPatches);
             patch(this.cf.getConstPool(), cpPatches);
             
@@ -216,6 +222,109 @@ public class ClassFileJavassist extends ClassFile {
         }
     }
 
+    /**
+     * The parsed bytecodes of the nonanonymous classes, shared 
+     * by all the {@link ClassFileJavassist}s with same bytecode,
+     * so every class file is parsed at most once per JVM (unless 
+     * the memory is low). The shared parsed bytecodes must not 
+     * be modified.
+     */
+    private static final ConcurrentHashMap<Bytecode, ParsedReference> PARSED = new ConcurrentHashMap<>();
+    
+    /**
+     * The queue of the references in {@link #PARSED} that were
+     * cleared by the garbage collector, and whose entries must
+     * thus be removed.
+     */
+    private static final ReferenceQueue<javassist.bytecode.ClassFile> PARSED_CLEARED = new ReferenceQueue<>();
+    
+    /**
+     * A bytecode, compared by content.
+     */
+    private static final class Bytecode {
+        private final byte[] bytecode;
+        private final int hashCode;
+        
+        Bytecode(byte[] bytecode) {
+            this.bytecode = bytecode;
+            this.hashCode = Arrays.hashCode(bytecode);
+        }
+        
+        @Override
+        public int hashCode() {
+            return this.hashCode;
+        }
+        
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (obj == null || getClass() != obj.getClass()) {
+                return false;
+            }
+            final Bytecode other = (Bytecode) obj;
+            return this.hashCode == other.hashCode && Arrays.equals(this.bytecode, other.bytecode);
+        }
+    }
+    
+    /**
+     * A soft reference to a parsed bytecode that 
+     * remembers its key in {@link #PARSED}.
+     */
+    private static final class ParsedReference extends SoftReference<javassist.bytecode.ClassFile> {
+        private final Bytecode key;
+        
+        ParsedReference(Bytecode key, javassist.bytecode.ClassFile parsed) {
+            super(parsed, PARSED_CLEARED);
+            this.key = key;
+        }
+    }
+    
+    /**
+     * Parses a bytecode, or returns the result of a previous
+     * parsing of the same bytecode.
+     * 
+     * @param bytecode a {@code byte[]}, the bytecode of a class.
+     * @return the parsed {@code bytecode}. It must not be modified.
+     * @throws IOException if {@code bytecode} is ill-formed.
+     */
+    static javassist.bytecode.ClassFile parseShared(byte[] bytecode) throws IOException {
+        purgeParsed();
+        final ParsedReference cached = PARSED.get(new Bytecode(bytecode));
+        javassist.bytecode.ClassFile retVal = (cached == null ? null : cached.get());
+        if (retVal == null) {
+            retVal = new javassist.bytecode.ClassFile(new DataInputStream(new ByteArrayInputStream(bytecode)));
+            
+            //the key is a copy, so the caller may later modify bytecode
+            final Bytecode key = new Bytecode(bytecode.clone());
+            PARSED.put(key, new ParsedReference(key, retVal));
+        }
+        return retVal;
+    }
+    
+    /**
+     * Removes from {@link #PARSED} the entries whose 
+     * parsed bytecode was garbage collected.
+     */
+    private static void purgeParsed() {
+        ParsedReference cleared;
+        while ((cleared = (ParsedReference) PARSED_CLEARED.poll()) != null) {
+            PARSED.remove(cleared.key, cleared);
+        }
+    }
+    
+    /**
+     * Returns the number of the parsed bytecodes that
+     * are shared.
+     * 
+     * @return an {@code int}.
+     */
+    static int numParsedShared() {
+        purgeParsed();
+        return PARSED.size();
+    }
+    
     private static void checkSuper(javassist.bytecode.ClassFile thisClassfile, ClassFile superClass, ClassFile[] superInterfaces) 
     throws InvalidInputException {
         if (superClass != null && !superClass.getClassName().equals(internalClassName(thisClassfile.getSuperclass()))) {
@@ -376,6 +485,19 @@ public class ClassFileJavassist extends ClassFile {
     
     @Override
     public void rename(String classNameNew) throws RenameUnsupportedException {
+        if (this.cfShared) {
+            //makes a private copy of the parsed bytecode, to modify it
+            try {
+                final ByteArrayOutputStream baosShared = new ByteArrayOutputStream();
+                this.cf.write(new DataOutputStream(baosShared));
+                this.cf = new javassist.bytecode.ClassFile(new DataInputStream(new ByteArrayInputStream(baosShared.toByteArray())));
+            } catch (IOException e) {
+                //this should never happen
+                throw new UnexpectedInternalException(e);
+            }
+            this.cp = this.cf.getConstPool();
+            this.cfShared = false;
+        }
     	final HashMap<String, String> renames = new HashMap<>();
     	renames.put(this.className, classNameNew);
         final InnerClassesAttribute ica = 
@@ -1221,6 +1343,11 @@ public class ClassFileJavassist extends ClassFile {
     public int getCodeLength(Signature methodSignature) throws MethodNotFoundException, MethodCodeNotFoundException {
         return getMethodCodeAttribute(methodSignature).getCodeLength();
     }
+    
+    @Override
+    public int getCodeMaxStack(Signature methodSignature) throws MethodNotFoundException, MethodCodeNotFoundException {
+        return getMethodCodeAttribute(methodSignature).getMaxStack();
+    }
 
     @Override
     public boolean hasFieldDeclaration(Signature fieldSignature) {
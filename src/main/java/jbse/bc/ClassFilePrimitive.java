@@ -541,4 +541,10 @@ abstract class ClassFilePrimitive extends ClassFile {
     throws MethodNotFoundException {
         throw new MethodNotFoundException(methodSignature.toString());
     }
+
+    @Override
+    public int getCodeMaxStack(Signature methodSignature)
+    throws MethodNotFoundException {
+        throw new MethodNotFoundException(methodSignature.toString());
+    }
 }
@@ -510,4 +510,10 @@ public class ClassFileSnippetNoWrap extends ClassFile {
     throws MethodNotFoundException, MethodCodeNotFoundException {
         throw new MethodNotFoundException(methodSignature.toString());
     }
+
+    @Override
+    public int getCodeMaxStack(Signature methodSignature) 
+    throws MethodNotFoundException, MethodCodeNotFoundException {
+        throw new MethodNotFoundException(methodSignature.toString());
+    }
 }
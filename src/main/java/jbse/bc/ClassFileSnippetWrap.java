@@ -523,4 +523,10 @@ public class ClassFileSnippetWrap extends ClassFile {
     throws MethodNotFoundException, MethodCodeNotFoundException {
     	return this.component.getCodeLength(methodSignature);
     }
+
+    @Override
+    public int getCodeMaxStack(Signature methodSignature) 
+    throws MethodNotFoundException, MethodCodeNotFoundException {
+    	return this.component.getCodeMaxStack(methodSignature);
+    }
 }
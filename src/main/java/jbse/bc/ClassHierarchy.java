@@ -23,13 +23,10 @@ import static jbse.common.Type.toPrimitiveOrVoidCanonicalName;
 import static jbse.common.Type.toPrimitiveOrVoidInternalName;
 import static jbse.common.Type.TYPEEND;
 
-import java.io.ByteArrayOutputStream;
 import java.io.IOException;
-import java.io.InputStream;
 import java.net.URISyntaxException;
 import java.net.URL;
 import java.net.URLClassLoader;
-import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.ArrayList;
@@ -38,8 +35,6 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
-import java.util.jar.JarEntry;
-import java.util.jar.JarFile;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
@@ -59,7 +54,6 @@ import jbse.bc.exc.MethodNotFoundException;
 import jbse.bc.exc.PleaseLoadClassException;
 import jbse.bc.exc.RenameUnsupportedException;
 import jbse.bc.exc.WrongClassNameException;
-import jbse.common.Util;
 import jbse.common.exc.InvalidInputException;
 import jbse.common.exc.UnexpectedInternalException;
 
@@ -96,6 +90,12 @@ public final class ClassHierarchy implements Cloneable {
      */
     private final ArrayList<Path> implementationClassPath;
     
+    /** 
+     * The {@link ClasspathIndex}es of the implementation, bootstrap, 
+     * extension and user classpaths. They may be shared by clones.
+     */
+    private final ClasspathIndex implementationClassPathIndex, bootClassPathIndex, extClassPathIndex, userClassPathIndex;
+    
     /** The {@link ClassFileFactory} used to create {@link ClassFile}s. */
     private final ClassFileFactory f;
     
@@ -163,6 +163,10 @@ public final class ClassHierarchy implements Cloneable {
 				throw new UnexpectedInternalException(e);
 			}
         }
+        this.implementationClassPathIndex = new ClasspathIndex(this.implementationClassPath);
+        this.bootClassPathIndex = new ClasspathIndex(this.cp.bootClassPath());
+        this.extClassPathIndex = new ClasspathIndex(this.cp.extClassPath());
+        this.userClassPathIndex = new ClasspathIndex(this.cp.userClassPath());
         try {
             this.f = factoryClass.newInstance();
         } catch (InstantiationException | IllegalAccessException e) {
@@ -871,7 +875,7 @@ public final class ClassHierarchy implements Cloneable {
      * @param initatingLoader an {@code int}; It must be either {@link ClassLoaders#CLASSLOADER_BOOT}, 
      *        or {@link ClassLoaders#CLASSLOADER_EXT}, or {@link ClassLoaders#CLASSLOADER_APP}.
      * @return a {@link FindBytecodeResult} or {@code null} if there is no class for {@code classSignature}
-     *         in {@code paths}.
+     *         in the classpath.
      */
     private FindBytecodeResult findBytecode(String className, int initiatingLoader) {
     	final String sourceContainer = classNameContainer(className);
@@ -883,40 +887,16 @@ public final class ClassHierarchy implements Cloneable {
     	} else {
     		targetClassName = className;
     	}
-        final Iterable<Path> paths = (toSubstitute ? this.implementationClassPath :
-                                      initiatingLoader == CLASSLOADER_BOOT ? this.cp.bootClassPath() :
-                                      initiatingLoader == CLASSLOADER_EXT ? this.cp.extClassPath() :
-                                      this.cp.userClassPath());
-        for (Path path : paths) {
-            try {
-                if (Files.isDirectory(path)) {
-                    final Path pathOfClass = path.resolve(targetClassName + ".class");
-                    return new FindBytecodeResult(Files.readAllBytes(pathOfClass), path);
-                } else if (Util.isJarFile(path)) {
-                    try (final JarFile f = new JarFile(path.toFile())) {
-                        final JarEntry e = f.getJarEntry(targetClassName + ".class");
-                        if (e == null) {
-                            continue;
-                        }
-                        return new FindBytecodeResult(jarEntryBytes(f, e), path);
-                    }
-                } //else do nothing
-            } catch (IOException e) {
-                continue;
-            }
+        final ClasspathIndex index = (toSubstitute ? this.implementationClassPathIndex :
+                                      initiatingLoader == CLASSLOADER_BOOT ? this.bootClassPathIndex :
+                                      initiatingLoader == CLASSLOADER_EXT ? this.extClassPathIndex :
+                                      this.userClassPathIndex);
+        try {
+            final ClasspathIndex.Bytecode bytecode = index.bytecode(targetClassName);
+            return (bytecode == null ? null : new FindBytecodeResult(bytecode.bytecode, bytecode.container));
+        } catch (IOException e) {
+            return null;
         }
-        return null;
-    }
-    
-    private static byte[] jarEntryBytes(JarFile f, JarEntry e) throws IOException {
-        final InputStream inStr = f.getInputStream(e);
-        final ByteArrayOutputStream outStr = new ByteArrayOutputStream();
-        final byte[] buf = new byte[2048];
-        int nbytes;
-        while ((nbytes = inStr.read(buf)) != -1) {
-            outStr.write(buf, 0, nbytes);
-        }
-        return outStr.toByteArray();
     }
     
     /**
@@ -2116,7 +2096,7 @@ public final class ClassHierarchy implements Cloneable {
             throw new InternalError(e);
         }
         
-        //cp, expansionBackdoor and allFieldsOf may be shared;
+        //cp, the classpath indices, expansionBackdoor and allFieldsOf may be shared;
         //in a future, expansionBackdoor may possibly be cloned
         
         o.cfs = o.cfs.clone();
@@ -0,0 +1,281 @@
+package jbse.bc;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.jar.JarEntry;
+import java.util.jar.JarFile;
+
+import jbse.common.Util;
+
+/**
+ * Index of the class files in a classpath. The first time 
+ * a class is looked up, the index builds a map associating 
+ * the names of all the classes in the jar files of the 
+ * classpath to the (first) jar file and jar entry where they
+ * are stored, and afterwards looks the classes up in it. 
+ * Directories are not indexed, and are probed at every
+ * lookup. 
+ * Every jar file is opened, and its class files are indexed 
+ * by name, only once per JVM, and then it is kept open and 
+ * shared by all the {@link ClasspathIndex}es (thus, by all 
+ * the runs) that load classes from it. A jar file is opened 
+ * (and indexed) again by the {@link ClasspathIndex}es that 
+ * are created after its modification time or size changes. 
+ * The jar files are kept open until {@link #close()} is 
+ * invoked.
+ */
+public final class ClasspathIndex {
+    /**
+     * An opened jar file, with the modification time
+     * and size the jar had when it was opened, and
+     * its class entries indexed by class name.
+     */
+    private static final class OpenedJarFile {
+        final FileTime lastModifiedTime;
+        final long size;
+        final JarFile jarFile;
+        final Map<String, JarEntry> classEntries;
+
+        OpenedJarFile(FileTime lastModifiedTime, long size, JarFile jarFile) {
+            this.lastModifiedTime = lastModifiedTime;
+            this.size = size;
+            this.jarFile = jarFile;
+            final HashMap<String, JarEntry> classEntries = new HashMap<>();
+            for (Enumeration<JarEntry> entries = jarFile.entries(); entries.hasMoreElements(); ) {
+                final JarEntry entry = entries.nextElement();
+                final String name = entry.getName();
+                if (!entry.isDirectory() && name.endsWith(".class")) {
+                    classEntries.put(name.substring(0, name.length() - ".class".length()), entry);
+                }
+            }
+            this.classEntries = Collections.unmodifiableMap(classEntries);
+        }
+
+        boolean isCurrent(BasicFileAttributes attributes) {
+            return this.lastModifiedTime.equals(attributes.lastModifiedTime()) && this.size == attributes.size();
+        }
+    }
+
+    /**
+     * Where the class file for a class name is stored 
+     * in a jar file of the classpath.
+     */
+    private static final class JarClass {
+        final int position;
+        final Path container;
+        final OpenedJarFile jar;
+        final JarEntry entry;
+
+        JarClass(int position, Path container, OpenedJarFile jar, JarEntry entry) {
+            this.position = position;
+            this.container = container;
+            this.jar = jar;
+            this.entry = entry;
+        }
+    }
+
+    /**
+     * The bytecode of a class file, with the classpath
+     * entry it was read from.
+     */
+    static final class Bytecode {
+        final byte[] bytecode;
+        final Path container;
+
+        Bytecode(byte[] bytecode, Path container) {
+            this.bytecode = bytecode;
+            this.container = container;
+        }
+    }
+
+    /** The opened jar files, associated to their (absolute) paths. */
+    private static final ConcurrentHashMap<Path, OpenedJarFile> JAR_FILES = new ConcurrentHashMap<>();
+
+    /** 
+     * The jar files that were replaced in {@link #JAR_FILES} 
+     * because they changed after being opened. They are not
+     * closed until {@link #close()} is invoked, because some 
+     * {@link ClasspathIndex} may be still reading them. 
+     */
+    private static final ConcurrentLinkedQueue<OpenedJarFile> REPLACED_JAR_FILES = new ConcurrentLinkedQueue<>();
+
+    /** The entries of the classpath, in order. */
+    private final ArrayList<Path> paths = new ArrayList<>();
+
+    /** 
+     * Associates the names of the classes in the jar files
+     * of the classpath to where they are found. Lazily built.
+     */
+    private volatile HashMap<String, JarClass> jarClasses = null;
+
+    /**
+     * Constructor. It does not access the filesystem.
+     * 
+     * @param paths an {@link Iterable}{@code <}{@link Path}{@code >},
+     *        the entries (jar files or directories) of a classpath
+     *        in lookup order. 
+     */
+    ClasspathIndex(Iterable<Path> paths) {
+        for (Path path : paths) {
+            this.paths.add(path);
+        }
+    }
+
+    /**
+     * Returns the bytecode of a class file stored in
+     * the classpath.
+     *
+     * @param className a {@link String}, the name of the class.
+     * @return a {@link Bytecode} with the bytecode of the first class 
+     *         file for {@code className} in the classpath, and the 
+     *         jar file or directory where it was found, or {@code null}
+     *         if the classpath contains no such class file.
+     * @throws IOException if some I/O error occurs while reading
+     *         the class file from a jar file.
+     */
+    Bytecode bytecode(String className) throws IOException {
+        final JarClass jarClass = jarClasses().get(className);
+        
+        //the class file in a directory preceding the jar file wins
+        final int limit = (jarClass == null ? this.paths.size() : jarClass.position);
+        final String fileName = className + ".class";
+        for (int i = 0; i < limit; ++i) {
+            final Path container = this.paths.get(i);
+            if (Files.isDirectory(container)) {
+                try {
+                    return new Bytecode(Files.readAllBytes(container.resolve(fileName)), container);
+                } catch (NoSuchFileException e) {
+                    continue;
+                } catch (IOException e) {
+                    //skips the unreadable directory
+                    continue;
+                }
+            }
+        }
+        if (jarClass == null) {
+            return null;
+        }
+        return new Bytecode(jarEntryBytes(jarClass.jar.jarFile, jarClass.entry), jarClass.container);
+    }
+
+    private HashMap<String, JarClass> jarClasses() {
+        HashMap<String, JarClass> retVal = this.jarClasses;
+        if (retVal == null) {
+            synchronized (this) {
+                retVal = this.jarClasses;
+                if (retVal == null) {
+                    retVal = new HashMap<>();
+                    for (int i = 0; i < this.paths.size(); ++i) {
+                        final Path container = this.paths.get(i);
+                        if (Util.isJarFile(container)) {
+                            final OpenedJarFile jar;
+                            try {
+                                jar = openedJarFile(container);
+                            } catch (IOException e) {
+                                continue;
+                            }
+                            for (Map.Entry<String, JarEntry> entry : jar.classEntries.entrySet()) {
+                                retVal.putIfAbsent(entry.getKey(), new JarClass(i, container, jar, entry.getValue()));
+                            }
+                        }
+                    }
+                    this.jarClasses = retVal;
+                }
+            }
+        }
+        return retVal;
+    }
+
+    private static OpenedJarFile openedJarFile(Path jar) throws IOException {
+        final Path key = jar.toAbsolutePath();
+        final BasicFileAttributes attributes = Files.readAttributes(key, BasicFileAttributes.class);
+        while (true) {
+            final OpenedJarFile cached = JAR_FILES.get(key);
+            if (cached != null && cached.isCurrent(attributes)) {
+                return cached;
+            }
+            final OpenedJarFile f = new OpenedJarFile(attributes.lastModifiedTime(), attributes.size(), new JarFile(key.toFile()));
+            final boolean won = (cached == null ? JAR_FILES.putIfAbsent(key, f) == null : JAR_FILES.replace(key, cached, f));
+            if (won) {
+                if (cached != null) {
+                    //the jar file changed since it was opened, but
+                    //the indices built before may still read it
+                    REPLACED_JAR_FILES.add(cached);
+                }
+                return f;
+            }
+            //another thread won the race
+            f.jarFile.close();
+        }
+    }
+
+    /**
+     * Closes all the jar files opened so far. The 
+     * {@link ClasspathIndex}es created afterwards will 
+     * open them again. It must not be invoked while some 
+     * {@link ClasspathIndex} is in use.
+     * 
+     * @throws IOException if some I/O error occurs while 
+     *         closing a jar file. In this case the jar 
+     *         files not yet closed stay open.
+     */
+    public static void close() throws IOException {
+        for (Path key : JAR_FILES.keySet()) {
+            final OpenedJarFile f = JAR_FILES.remove(key);
+            if (f != null) {
+                f.jarFile.close();
+            }
+        }
+        OpenedJarFile f;
+        while ((f = REPLACED_JAR_FILES.poll()) != null) {
+            f.jarFile.close();
+        }
+    }
+
+    private static byte[] jarEntryBytes(JarFile f, JarEntry e) throws IOException {
+        final long size = e.getSize();
+        try (final InputStream inStr = f.getInputStream(e)) {
+            if (size < 0 || size > Integer.MAX_VALUE) {
+                //unknown size: reads in chunks
+                final ByteArrayOutputStream outStr = new ByteArrayOutputStream();
+                final byte[] buf = new byte[2048];
+                int nbytes;
+                while ((nbytes = inStr.read(buf)) != -1) {
+                    outStr.write(buf, 0, nbytes);
+                }
+                return outStr.toByteArray();
+            }
+            //known size: reads directly into the result
+            final byte[] retVal = new byte[(int) size];
+            int nbytesTotal = 0;
+            while (nbytesTotal < retVal.length) {
+                final int nbytes = inStr.read(retVal, nbytesTotal, retVal.length - nbytesTotal);
+                if (nbytes == -1) {
+                    throw new IOException("Jar entry " + e.getName() + " in " + f.getName() + " is shorter than declared.");
+                }
+                nbytesTotal += nbytes;
+            }
+            return retVal;
+        }
+    }
+
+    /**
+     * Do not instantiate it!
+     */
+    private ClasspathIndex() {
+        //intentionally empty
+    }
+}
@@ -78,12 +78,7 @@ public abstract class Dispatcher<Q, R> {
      *         default one has been previously set.
      */
     public R select(Q key) throws Exception {
-        final DispatchStrategy<? extends R> d;
-        if (this.dispatchTable.containsKey(key)) {
-            d = this.dispatchTable.get(key);
-        } else {
-            d = this.dispatchNonexistent;
-        }
+        final DispatchStrategy<? extends R> d = this.dispatchTable.getOrDefault(key, this.dispatchNonexistent);
         return d.doIt();
     }
 }
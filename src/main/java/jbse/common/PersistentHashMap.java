@@ -0,0 +1,235 @@
+package jbse.common;
+
+/**
+ * An immutable, persistent hash map. Updating a {@link PersistentHashMap}
+ * yields a new {@link PersistentHashMap} that shares most of its structure
+ * with the updated one, so copying a {@link PersistentHashMap} is just
+ * copying a reference, and updating it costs O(log n) time and space.
+ * It is implemented as a hash array mapped trie. It does not admit
+ * {@code null} keys or values.
+ *
+ * @param <K> the type of the keys.
+ * @param <V> the type of the values.
+ */
+public final class PersistentHashMap<K, V> {
+    private static final int BITS = 5;
+    private static final int MASK = (1 << BITS) - 1;
+
+    @SuppressWarnings("rawtypes")
+    private static final PersistentHashMap EMPTY = new PersistentHashMap<>(new Node(0, new Object[0]), 0);
+
+    /** A key-value pair. */
+    private static final class Entry {
+        final int hash;
+        final Object key;
+        final Object value;
+
+        Entry(int hash, Object key, Object value) {
+            this.hash = hash;
+            this.key = key;
+            this.value = value;
+        }
+    }
+
+    /** A set of entries whose keys have same hash. */
+    private static final class Collision {
+        final int hash;
+        final Entry[] entries;
+
+        Collision(int hash, Entry[] entries) {
+            this.hash = hash;
+            this.entries = entries;
+        }
+    }
+
+    /**
+     * A trie node. Each slot is either an {@link Entry},
+     * a {@link Collision} or a {@link Node}.
+     */
+    private static final class Node {
+        final int bitmap;
+        final Object[] slots;
+
+        Node(int bitmap, Object[] slots) {
+            this.bitmap = bitmap;
+            this.slots = slots;
+        }
+    }
+
+    /** The root of the trie. */
+    private final Node root;
+
+    /** The number of entries. */
+    private final int size;
+
+    private PersistentHashMap(Node root, int size) {
+        this.root = root;
+        this.size = size;
+    }
+
+    /**
+     * Returns the empty map.
+     *
+     * @param <K> the type of the keys.
+     * @param <V> the type of the values.
+     * @return an empty {@link PersistentHashMap}.
+     */
+    @SuppressWarnings("unchecked")
+    public static <K, V> PersistentHashMap<K, V> empty() {
+        return (PersistentHashMap<K, V>) EMPTY;
+    }
+
+    /**
+     * Returns the number of entries of this map.
+     *
+     * @return an {@code int}.
+     */
+    public int size() {
+        return this.size;
+    }
+
+    /**
+     * Checks whether this map is empty.
+     *
+     * @return {@code true} iff {@link #size()}{@code == 0}.
+     */
+    public boolean isEmpty() {
+        return this.size == 0;
+    }
+
+    /**
+     * Checks whether this map has an entry for a key.
+     *
+     * @param key an {@link Object}.
+     * @return {@code true} iff this map has an entry for {@code key}.
+     * @throws NullPointerException if {@code key == null}.
+     */
+    public boolean containsKey(Object key) {
+        return get(key) != null;
+    }
+
+    /**
+     * Gets the value associated to a key.
+     *
+     * @param key an {@link Object}.
+     * @return the value associated to {@code key}, or {@code null}
+     *         if this map has no entry for {@code key}.
+     * @throws NullPointerException if {@code key == null}.
+     */
+    @SuppressWarnings("unchecked")
+    public V get(Object key) {
+        final int hash = key.hashCode();
+        Node node = this.root;
+        for (int shift = 0; ; shift += BITS) {
+            final int bit = 1 << ((hash >>> shift) & MASK);
+            if ((node.bitmap & bit) == 0) {
+                return null;
+            }
+            final Object slot = node.slots[Integer.bitCount(node.bitmap & (bit - 1))];
+            if (slot instanceof Node) {
+                node = (Node) slot;
+            } else if (slot instanceof Entry) {
+                final Entry e = (Entry) slot;
+                return (e.hash == hash && e.key.equals(key) ? (V) e.value : null);
+            } else { //slot instanceof Collision
+                final Collision c = (Collision) slot;
+                if (c.hash == hash) {
+                    for (Entry e : c.entries) {
+                        if (e.key.equals(key)) {
+                            return (V) e.value;
+                        }
+                    }
+                }
+                return null;
+            }
+        }
+    }
+
+    /**
+     * Associates a value to a key.
+     *
+     * @param key a {@code K}. It must not be {@code null}.
+     * @param value a {@code V}. It must not be {@code null}.
+     * @return a {@link PersistentHashMap} with same entries as {@code this},
+     *         except that {@code key} is associated to {@code value}.
+     * @throws NullPointerException if {@code key == null || value == null}.
+     */
+    public PersistentHashMap<K, V> put(K key, V value) {
+        if (value == null) {
+            throw new NullPointerException();
+        }
+        final Entry entry = new Entry(key.hashCode(), key, value);
+        final boolean[] added = new boolean[1];
+        final Node newRoot = put(this.root, 0, entry, added);
+        return new PersistentHashMap<>(newRoot, this.size + (added[0] ? 1 : 0));
+    }
+
+    private static Node put(Node node, int shift, Entry entry, boolean[] added) {
+        final int bit = 1 << ((entry.hash >>> shift) & MASK);
+        final int pos = Integer.bitCount(node.bitmap & (bit - 1));
+        if ((node.bitmap & bit) == 0) {
+            //free slot: inserts the entry
+            final Object[] slots = new Object[node.slots.length + 1];
+            System.arraycopy(node.slots, 0, slots, 0, pos);
+            slots[pos] = entry;
+            System.arraycopy(node.slots, pos, slots, pos + 1, node.slots.length - pos);
+            added[0] = true;
+            return new Node(node.bitmap | bit, slots);
+        }
+
+        final Object slot = node.slots[pos];
+        final Object newSlot;
+        if (slot instanceof Node) {
+            newSlot = put((Node) slot, shift + BITS, entry, added);
+        } else if (slot instanceof Entry) {
+            final Entry e = (Entry) slot;
+            if (e.hash == entry.hash && e.key.equals(entry.key)) {
+                newSlot = entry;
+            } else if (e.hash == entry.hash) {
+                newSlot = new Collision(e.hash, new Entry[] { e, entry });
+                added[0] = true;
+            } else {
+                newSlot = merge(slot, e.hash, entry, entry.hash, shift + BITS);
+                added[0] = true;
+            }
+        } else { //slot instanceof Collision
+            final Collision c = (Collision) slot;
+            if (c.hash == entry.hash) {
+                int i;
+                for (i = 0; i < c.entries.length; ++i) {
+                    if (c.entries[i].key.equals(entry.key)) {
+                        break;
+                    }
+                }
+                final Entry[] entries = (i < c.entries.length ? c.entries.clone() : new Entry[c.entries.length + 1]);
+                if (i == c.entries.length) {
+                    System.arraycopy(c.entries, 0, entries, 0, c.entries.length);
+                    added[0] = true;
+                }
+                entries[i] = entry;
+                newSlot = new Collision(c.hash, entries);
+            } else {
+                newSlot = merge(slot, c.hash, entry, entry.hash, shift + BITS);
+                added[0] = true;
+            }
+        }
+        final Object[] slots = node.slots.clone();
+        slots[pos] = newSlot;
+        return new Node(node.bitmap, slots);
+    }
+
+    /**
+     * Builds a node containing two slots with different hashes.
+     */
+    private static Node merge(Object slot1, int hash1, Object slot2, int hash2, int shift) {
+        final int index1 = (hash1 >>> shift) & MASK;
+        final int index2 = (hash2 >>> shift) & MASK;
+        if (index1 == index2) {
+            return new Node(1 << index1, new Object[] { merge(slot1, hash1, slot2, hash2, shift + BITS) });
+        } else if (index1 < index2) {
+            return new Node((1 << index1) | (1 << index2), new Object[] { slot1, slot2 });
+        } else {
+            return new Node((1 << index1) | (1 << index2), new Object[] { slot2, slot1 });
+        }
+    }
+}
@@ -0,0 +1,209 @@
+package jbse.common;
+
+import java.util.AbstractList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.RandomAccess;
+
+/**
+ * An immutable, persistent vector. Updating a {@link PersistentVector}
+ * yields a new {@link PersistentVector} that shares most of its structure
+ * with the updated one, so copying a {@link PersistentVector} is just
+ * copying a reference, and updating it costs O(log n) time and space.
+ * It is implemented as a 32-ary trie indexed by the bits of the
+ * element positions.
+ *
+ * @param <E> the type of the elements.
+ */
+public final class PersistentVector<E> implements Iterable<E> {
+    private static final int BITS = 5;
+    private static final int WIDTH = 1 << BITS;
+    private static final int MASK = WIDTH - 1;
+
+    @SuppressWarnings("rawtypes")
+    private static final PersistentVector EMPTY = new PersistentVector<>(0, 0, new Object[WIDTH]);
+
+    /** The number of elements. */
+    private final int size;
+
+    /** The number of index bits below the root level. */
+    private final int shift;
+
+    /** The root of the trie. */
+    private final Object[] root;
+
+    private PersistentVector(int size, int shift, Object[] root) {
+        this.size = size;
+        this.shift = shift;
+        this.root = root;
+    }
+
+    /**
+     * Returns the empty vector.
+     *
+     * @param <E> the type of the elements.
+     * @return an empty {@link PersistentVector}.
+     */
+    @SuppressWarnings("unchecked")
+    public static <E> PersistentVector<E> empty() {
+        return (PersistentVector<E>) EMPTY;
+    }
+
+    /**
+     * Returns the number of elements of this vector.
+     *
+     * @return an {@code int}, the number of elements.
+     */
+    public int size() {
+        return this.size;
+    }
+
+    /**
+     * Checks whether this vector is empty.
+     *
+     * @return {@code true} iff {@link #size()}{@code == 0}.
+     */
+    public boolean isEmpty() {
+        return this.size == 0;
+    }
+
+    /**
+     * Gets an element of this vector.
+     *
+     * @param index an {@code int}.
+     * @return the element at position {@code index}, possibly
+     *         {@code null} if no element was set at {@code index}.
+     * @throws IndexOutOfBoundsException if {@code index < 0 || index >= }{@link #size()}.
+     */
+    @SuppressWarnings("unchecked")
+    public E get(int index) {
+        if (index < 0 || index >= this.size) {
+            throw new IndexOutOfBoundsException("Index " + index + " out of bounds for persistent vector with size " + this.size + ".");
+        }
+        Object[] node = this.root;
+        for (int level = this.shift; level > 0; level -= BITS) {
+            node = (Object[]) node[(index >>> level) & MASK];
+            if (node == null) {
+                return null;
+            }
+        }
+        return (E) node[index & MASK];
+    }
+
+    /**
+     * Appends an element to this vector.
+     *
+     * @param element the element to append.
+     * @return a {@link PersistentVector} with same elements
+     *         as {@code this} followed by {@code element}.
+     */
+    public PersistentVector<E> add(E element) {
+        return set(this.size, element);
+    }
+
+    /**
+     * Sets an element of this vector.
+     *
+     * @param index a nonnegative {@code int}. If it is
+     *        {@code index >= }{@link #size()} the vector
+     *        is enlarged up to size {@code index + 1}, and
+     *        the newly added positions other than {@code index}
+     *        are set to {@code null}.
+     * @param element the element to set.
+     * @return a {@link PersistentVector} with same elements
+     *         as {@code this} except for {@code element} at
+     *         position {@code index}.
+     * @throws IndexOutOfBoundsException if {@code index < 0}.
+     */
+    public PersistentVector<E> set(int index, E element) {
+        if (index < 0) {
+            throw new IndexOutOfBoundsException("Index " + index + " out of bounds for persistent vector.");
+        }
+        Object[] newRoot = this.root;
+        int newShift = this.shift;
+        while (newShift < Integer.SIZE - BITS && (index >>> newShift) > MASK) {
+            //enlarges the trie by adding one level on top
+            final Object[] r = new Object[WIDTH];
+            r[0] = newRoot;
+            newRoot = r;
+            newShift += BITS;
+        }
+        newRoot = setIn(newRoot, newShift, index, element);
+        return new PersistentVector<>(Math.max(this.size, index + 1), newShift, newRoot);
+    }
+
+    private static Object[] setIn(Object[] node, int level, int index, Object element) {
+        final Object[] retVal = (node == null ? new Object[WIDTH] : node.clone());
+        final int i = (index >>> level) & MASK;
+        if (level == 0) {
+            retVal[i] = element;
+        } else {
+            retVal[i] = setIn((Object[]) retVal[i], level - BITS, index, element);
+        }
+        return retVal;
+    }
+
+    /**
+     * Returns a read-only {@link List} view of this vector.
+     * Since this vector is immutable, the view never
+     * changes.
+     *
+     * @return a {@link List}{@code <E>}.
+     */
+    public List<E> asList() {
+        return new ListView();
+    }
+
+    private final class ListView extends AbstractList<E> implements RandomAccess {
+        @Override
+        public E get(int index) {
+            return PersistentVector.this.get(index);
+        }
+
+        @Override
+        public int size() {
+            return PersistentVector.this.size;
+        }
+
+        @Override
+        public Iterator<E> iterator() {
+            return PersistentVector.this.iterator();
+        }
+    }
+
+    @Override
+    public Iterator<E> iterator() {
+        return new Iterator<E>() {
+            private int next = 0;
+            private Object[] leaf = null;
+
+            @Override
+            public boolean hasNext() {
+                return this.next < PersistentVector.this.size;
+            }
+
+            @SuppressWarnings("unchecked")
+            @Override
+            public E next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                if (this.leaf == null || (this.next & MASK) == 0) {
+                    this.leaf = leafFor(this.next);
+                }
+                final E retVal = (this.leaf == null ? null : (E) this.leaf[this.next & MASK]);
+                ++this.next;
+                return retVal;
+            }
+        };
+    }
+
+    private Object[] leafFor(int index) {
+        Object[] node = this.root;
+        for (int level = this.shift; level > 0 && node != null; level -= BITS) {
+            node = (Object[]) node[(index >>> level) & MASK];
+        }
+        return node;
+    }
+}
@@ -0,0 +1,178 @@
+package jbse.dec;
+
+import jbse.bc.ClassFile;
+import jbse.common.exc.UnexpectedInternalException;
+import jbse.mem.Clause;
+import jbse.mem.ClauseAssume;
+import jbse.mem.ClauseAssumeAliases;
+import jbse.mem.ClauseAssumeClassInitialized;
+import jbse.mem.ClauseAssumeClassNotInitialized;
+import jbse.mem.ClauseAssumeExpands;
+import jbse.mem.ClauseAssumeNull;
+import jbse.mem.ClauseVisitor;
+import jbse.mem.Objekt;
+import jbse.val.Any;
+import jbse.val.Expression;
+import jbse.val.NarrowingConversion;
+import jbse.val.Primitive;
+import jbse.val.PrimitiveSymbolicApply;
+import jbse.val.PrimitiveSymbolicAtomic;
+import jbse.val.PrimitiveVisitor;
+import jbse.val.ReferenceSymbolic;
+import jbse.val.Simplex;
+import jbse.val.Term;
+import jbse.val.Value;
+import jbse.val.WideningConversion;
+
+/**
+ * Canonical forms of the queries and of the clauses, used by 
+ * the caching decorators to recognize the same query on different
+ * paths. The symbols are named with their origin strings, 
+ * annotated with their types, so two symbols with the same
+ * origin but different types have different canonical forms.
+ */
+final class CanonicalForms {
+    /**
+     * Returns the canonical form of a {@link Primitive}, i.e., 
+     * its origin string with the types of its subterms.
+     * 
+     * @param p a {@link Primitive}.
+     * @return a {@link String}.
+     */
+    static String canonicalPrimitive(Primitive p) {
+        final StringBuilder retVal = new StringBuilder();
+        final PrimitiveVisitor v = new PrimitiveVisitor() {
+            @Override
+            public void visitAny(Any x) {
+                retVal.append(x.toString());
+            }
+
+            @Override
+            public void visitExpression(Expression e) throws Exception {
+                retVal.append('(');
+                if (!e.isUnary()) {
+                    e.getFirstOperand().accept(this);
+                    retVal.append(' ');
+                }
+                retVal.append(e.getOperator()).append(' ');
+                e.getSecondOperand().accept(this);
+                retVal.append(')');
+            }
+
+            @Override
+            public void visitPrimitiveSymbolicApply(PrimitiveSymbolicApply x) throws Exception {
+                retVal.append(x.getOperator()).append('(');
+                boolean first = true;
+                for (Value arg : x.getArgs()) {
+                    if (!first) {
+                        retVal.append(',');
+                    }
+                    if (arg instanceof Primitive) {
+                        ((Primitive) arg).accept(this);
+                    } else {
+                        retVal.append(arg instanceof ReferenceSymbolic ? canonicalReference((ReferenceSymbolic) arg) : arg.toString());
+                    }
+                    first = false;
+                }
+                retVal.append(')').append(':').append(x.getType());
+            }
+
+            @Override
+            public void visitPrimitiveSymbolicAtomic(PrimitiveSymbolicAtomic s) {
+                retVal.append(s.asOriginString()).append(':').append(s.getType());
+            }
+
+            @Override
+            public void visitSimplex(Simplex x) {
+                retVal.append(x.toString()).append(':').append(x.getType());
+            }
+
+            @Override
+            public void visitTerm(Term x) {
+                retVal.append(x.toString()).append(':').append(x.getType());
+            }
+
+            @Override
+            public void visitNarrowingConversion(NarrowingConversion x) throws Exception {
+                retVal.append("NARROW-").append(x.getType()).append('(');
+                x.getArg().accept(this);
+                retVal.append(')');
+            }
+
+            @Override
+            public void visitWideningConversion(WideningConversion x) throws Exception {
+                retVal.append("WIDEN-").append(x.getType()).append('(');
+                x.getArg().accept(this);
+                retVal.append(')');
+            }
+        };
+        try {
+            p.accept(v);
+        } catch (Exception e) {
+            //this should never happen
+            throw new UnexpectedInternalException(e);
+        }
+        return retVal.toString();
+    }
+
+    static String canonicalReference(ReferenceSymbolic r) {
+        return r.asOriginString() + ":" + r.getStaticType();
+    }
+
+    static String canonicalObject(long heapPos, Objekt o) {
+        return (o.getOrigin() == null ? Long.toString(heapPos) : o.getOrigin().asOriginString());
+    }
+
+    static String canonicalClass(ClassFile classFile) {
+        return classFile.getClassName() + "@" + classFile.getDefiningClassLoader();
+    }
+
+    static String canonicalClause(Clause c) {
+        final StringBuilder retVal = new StringBuilder();
+        final ClauseVisitor v = new ClauseVisitor() {
+            @Override
+            public void visitClauseAssume(ClauseAssume c) {
+                retVal.append("A ").append(canonicalPrimitive(c.getCondition()));
+            }
+
+            @Override
+            public void visitClauseAssumeAliases(ClauseAssumeAliases c) {
+                retVal.append("L ").append(canonicalReference(c.getReference())).append(' ').append(canonicalObject(c.getHeapPosition(), c.getObjekt()));
+            }
+
+            @Override
+            public void visitClauseAssumeExpands(ClauseAssumeExpands c) {
+                retVal.append("E ").append(canonicalReference(c.getReference())).append(' ').append(canonicalClass(c.getObjekt().getType()));
+            }
+
+            @Override
+            public void visitClauseAssumeNull(ClauseAssumeNull c) {
+                retVal.append("N ").append(canonicalReference(c.getReference()));
+            }
+
+            @Override
+            public void visitClauseAssumeClassInitialized(ClauseAssumeClassInitialized c) {
+                retVal.append("I ").append(canonicalClass(c.getClassFile()));
+            }
+
+            @Override
+            public void visitClauseAssumeClassNotInitialized(ClauseAssumeClassNotInitialized c) {
+                retVal.append("U ").append(canonicalClass(c.getClassFile()));
+            }
+        };
+        try {
+            c.accept(v);
+        } catch (Exception e) {
+            //this should never happen
+            throw new UnexpectedInternalException(e);
+        }
+        return retVal.toString();
+    }
+
+    /**
+     * Do not instantiate it!
+     */
+    private CanonicalForms() {
+        //intentionally empty
+    }
+}
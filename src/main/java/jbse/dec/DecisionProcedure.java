@@ -169,6 +169,35 @@ public interface DecisionProcedure extends AutoCloseable {
         addAssumptions(newAssumptions);
     }
 
+    /**
+     * Changes the current assumptions, knowing that the new
+     * assumptions and the current ones have a common prefix. 
+     * This allows to synchronize the decision procedure without 
+     * comparing the new and the current assumptions. The default
+     * implementation ignores {@code common} and invokes
+     * {@link #setAssumptions(Collection) setAssumptions}{@code (newAssumptions)}.
+     * 
+     * @param newAssumptions a {@link Collection}{@code <}{@link Clause}{@code >}, the
+     *        new assumptions that must replace the current ones, where the first 
+     *        {@link Clause} is the first pushed. It must not be 
+     *        {@code null}, nor have {@code null}s among its elements.
+     * @param common a nonnegative {@code int}, a number of initial clauses that  
+     *        {@code newAssumptions} and the current assumptions surely 
+     *        have in common. It must not be greater than the number of 
+     *        clauses in {@code newAssumptions} or in the current 
+     *        assumptions.
+     * @throws InvalidInputException when one of the parameters is incorrect.
+     * @throws DecisionException upon failure.
+     * @throws ContradictionException when some assumption in {@code assumptionsToAdd}
+     *         contradicts the current assumption (after a call to 
+     *         {@link #goFastAndImprecise()} the latter check 
+     *         <emph>might not</emph> be performed).
+     */
+    default void setAssumptions(Collection<Clause> newAssumptions, int common) 
+    throws InvalidInputException, DecisionException, ContradictionException {
+        setAssumptions(newAssumptions);
+    }
+
     /**
      * Gets the current assumptions.
      * 
@@ -191,6 +220,38 @@ public interface DecisionProcedure extends AutoCloseable {
     boolean isSat(Expression expression) 
     throws InvalidInputException, DecisionException;
 
+    /**
+     * Determines the satisfiability of each of a list of 
+     * {@link Expression}s under the current assumption. The 
+     * expressions are checked independently of each other, 
+     * therefore a decision procedure may check them concurrently.
+     * The default implementation invokes {@link #isSat(Expression)}
+     * on each of them.
+     * 
+     * @param expressions a {@link List}{@code <}{@link Expression}{@code >}. 
+     *        It must not be {@code null}, and its elements must be
+     *        boolean {@link Expression}s, not {@code null}.
+     * @return a {@code boolean[]} with same length as {@code expressions}, 
+     *         whose {@code i}-th element is {@code true} iff the 
+     *         {@code i}-th element of {@code expressions} is 
+     *         satisfiable under the current assumptions.
+     * @throws InvalidInputException when one of the parameters is incorrect.
+     * @throws DecisionException upon failure.
+     */
+    default boolean[] isSat(List<Expression> expressions) 
+    throws InvalidInputException, DecisionException {
+        if (expressions == null) {
+            throw new InvalidInputException("isSat invoked with a null parameter.");
+        }
+        final boolean[] retVal = new boolean[expressions.size()];
+        int i = 0;
+        for (Expression expression : expressions) {
+            retVal[i] = isSat(expression);
+            ++i;
+        }
+        return retVal;
+    }
+
     /**
      * Determines the satisfiability of a resolution by null under the
      * current assumptions.
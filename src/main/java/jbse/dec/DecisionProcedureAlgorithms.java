@@ -48,6 +48,7 @@ import jbse.dec.SolverEquationGenericTypes.Var;
 import jbse.dec.exc.DecisionException;
 import jbse.mem.Array;
 import jbse.mem.Clause;
+import jbse.mem.ClauseAssume;
 import jbse.mem.Objekt;
 import jbse.mem.State;
 import jbse.mem.SwitchTable;
@@ -500,16 +501,31 @@ public class DecisionProcedureAlgorithms extends DecisionProcedureDecorator {
     throws DecisionException {
         try {
             final boolean isAny = isAny(selector);
-            boolean noEntryIsSat = true; //allows to skip the last sat check
-            for (int i : tab) {
-                final Expression exp = (isAny ? null : (Expression) this.calc.push(selector).eq(this.calc.valInt(i)).pop());
-                if (isAny || isSat(exp)) { 
+            if (isAny) {
+                for (int i : tab) {
                     result.add(DecisionAlternative_XSWITCH.toNonconcrete(i));
-                    noEntryIsSat = false;
                 }
-            }
-            if (isAny || noEntryIsSat || isSat(tab.getDefaultClause(this.calc, selector))) { 
                 result.add(DecisionAlternative_XSWITCH.toNonconcreteDefault());
+            } else {
+                //the entries are independent, so they are 
+                //decided together
+                final ArrayList<Integer> entries = new ArrayList<>();
+                final ArrayList<Expression> exps = new ArrayList<>();
+                for (int i : tab) {
+                    entries.add(i);
+                    exps.add((Expression) this.calc.push(selector).eq(this.calc.valInt(i)).pop());
+                }
+                final boolean[] sat = isSat(exps);
+                boolean noEntryIsSat = true; //allows to skip the last sat check
+                for (int k = 0; k < entries.size(); ++k) {
+                    if (sat[k]) { 
+                        result.add(DecisionAlternative_XSWITCH.toNonconcrete(entries.get(k)));
+                        noEntryIsSat = false;
+                    }
+                }
+                if (noEntryIsSat || isSat(tab.getDefaultClause(this.calc, selector))) { 
+                    result.add(DecisionAlternative_XSWITCH.toNonconcreteDefault());
+                }
             }
             final boolean shouldRefine = (!isAny && (result.size() > 1));
             return Outcome.val(shouldRefine, true);
@@ -1537,8 +1553,28 @@ public class DecisionProcedureAlgorithms extends DecisionProcedureDecorator {
 
         final TreeMap<Long, Objekt> retVal = new TreeMap<>();
 
-        //scans the path condition for compatible objects
+        //if the current state is in sync with the assumptions, 
+        //uses its index of the assumed objects by class, that 
+        //skips the objects that are not type compatible
         final List<Clause> pathCondition = getAssumptions();
+        final State currentState = (this.currentStateSupplier == null ? null : this.currentStateSupplier.get());
+        if (currentState != null && isInSync(currentState.getPathCondition(), pathCondition)) {
+            try {
+                currentState.forAllInitialObjectsSubclassOf(refClass, (object, heapPosition) -> {
+                    //if it is epoch compatible, adds the object
+                    //to the result
+                    if (isAliasCompatibleEpochAndRoot(object, ref)) {
+                        retVal.put(heapPosition, object);
+                    }
+                });
+            } catch (InvalidInputException e) {
+                //this should never happen (checked before)
+                throw new UnexpectedInternalException(e);
+            }
+            return retVal;
+        }
+
+        //otherwise, scans the path condition for compatible objects
         forAllInitialObjects(pathCondition, (object, heapPosition) -> {
             //if it is type and epoch compatible, adds the object
             //to the result
@@ -1554,6 +1590,37 @@ public class DecisionProcedureAlgorithms extends DecisionProcedureDecorator {
         return retVal;
     }
 
+    /**
+     * Checks whether a path condition is the one the current 
+     * assumptions were made from, and so whether it has the 
+     * same initial objects. Same as the engine does for the 
+     * scopes, it compares the identity of the last clauses, 
+     * since the clauses are shared by the cloned states. 
+     * The trailing {@link ClauseAssume}s are skipped, 
+     * because the decision procedures replace them with 
+     * their simplified versions, and they assume no object.
+     * 
+     * @param pathCondition a {@link List}{@code <}{@link Clause}{@code >}.
+     * @param assumptions a {@link List}{@code <}{@link Clause}{@code >}.
+     * @return {@code true} iff {@code pathCondition} and {@code assumptions}
+     *         have same size and the same last clause that is not a 
+     *         {@link ClauseAssume}.
+     */
+    private static boolean isInSync(List<Clause> pathCondition, List<Clause> assumptions) {
+        if (pathCondition.size() != assumptions.size()) {
+            return false;
+        }
+        for (int i = assumptions.size() - 1; i >= 0; --i) {
+            final Clause clausePathCondition = pathCondition.get(i);
+            final Clause clauseAssumptions = assumptions.get(i);
+            if (clausePathCondition instanceof ClauseAssume && clauseAssumptions instanceof ClauseAssume) {
+                continue;
+            }
+            return (clausePathCondition == clauseAssumptions);
+        }
+        return true;
+    }
+
     /**
      * Checks whether an {@link Objekt} can be used 
      * to resolve of a symbolic reference by aliasing.
@@ -1572,11 +1639,28 @@ public class DecisionProcedureAlgorithms extends DecisionProcedureDecorator {
      */
     private boolean isAliasCompatible(Objekt o, ReferenceSymbolic ref, ClassFile refClass) throws InvalidInputException {
         final boolean isTypeCompatible = o.getType().isSubclass(refClass);
+        return (isTypeCompatible && isAliasCompatibleEpochAndRoot(o, ref)); 
+    }
+
+    /**
+     * Checks whether an {@link Objekt}, that is known to be 
+     * type compatible with a symbolic reference, can be used 
+     * to resolve it by aliasing.
+     * 
+     * @param o an {@link Objekt}.
+     * @param ref a {@link ReferenceSymbolic} to be resolved.
+     * @return {@code true} iff the creation epoch of 
+     *         {@code o} comes before that of the symbolic reference, 
+     *         and, if {@code ref} is a member of a 
+     *         {@link ReferenceSymbolicApply}, {@code o} has as
+     *         origin the same {@link ReferenceSymbolicApply}.
+     */
+    private static boolean isAliasCompatibleEpochAndRoot(Objekt o, ReferenceSymbolic ref) {
         final HistoryPoint oEpoch = o.historyPoint();
         final HistoryPoint refEpoch = ref.historyPoint();
         final boolean isEpochCompatible = oEpoch.weaklyBefore(refEpoch);
         final boolean isRootCompatible = !(ref.root() instanceof ReferenceSymbolicApply) || o.getOrigin().root().equals(ref.root());
-        return (isTypeCompatible && isEpochCompatible && isRootCompatible); 
+        return (isEpochCompatible && isRootCompatible); 
     }
 
     /**
@@ -1,10 +1,12 @@
 package jbse.dec;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 
 import jbse.bc.ClassFile;
+import jbse.common.exc.InvalidInputException;
 import jbse.mem.Clause;
 import jbse.mem.Objekt;
 import jbse.val.Calculator;
@@ -47,6 +49,25 @@ public class DecisionProcedureAlwSat implements DecisionProcedure {
         this.cstack.clear();
     }
 
+    @Override
+    public void setAssumptions(Collection<Clause> newAssumptions, int common) 
+    throws InvalidInputException {
+        if (newAssumptions == null) {
+            throw new InvalidInputException("setAssumptions invoked with a null parameter.");
+        }
+        if (common < 0 || common > newAssumptions.size() || common > this.cstack.size()) {
+            throw new InvalidInputException("setAssumptions invoked with an invalid common prefix length " + common + ".");
+        }
+        this.cstack.subList(common, this.cstack.size()).clear();
+        int i = 0;
+        for (Clause c : newAssumptions) {
+            if (i >= common) {
+                this.cstack.add(c);
+            }
+            ++i;
+        }
+    }
+
     @Override
     public boolean isSat(Expression exp) {
         return true;
@@ -2,6 +2,7 @@ package jbse.dec;
 
 import static jbse.val.Rewriter.applyRewriters;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Iterator;
 import java.util.List;
@@ -357,6 +358,29 @@ public abstract class DecisionProcedureChainOfResponsibility implements Decision
         }
     }
 
+    @Override
+    public final void setAssumptions(Collection<Clause> newAssumptions, int common) 
+    throws InvalidInputException, DecisionException, ContradictionException {
+        if (newAssumptions == null) {
+            throw new InvalidInputException("setAssumptions invoked with a null parameter.");
+        }
+        if (common < 0 || common > newAssumptions.size()) {
+            throw new InvalidInputException("setAssumptions invoked with an invalid common prefix length " + common + ".");
+        }
+        if (canPopAssumptions()) {
+            final int toPop = numAssumptionsLocal() - common;
+            if (toPop < 0) {
+                throw new InvalidInputException("setAssumptions invoked with a common prefix length " + common + " greater than the number of current assumptions.");
+            }
+            setAssumptionsLocalConservatively(newAssumptions, toPop, newAssumptions.size() - common);
+        } else {
+            setAssumptionsLocalDestructively(newAssumptions);
+        }
+        if (hasNext()) {
+            this.next.setAssumptions(newAssumptions, common);
+        }
+    }
+
     private static int numCommonAssumptions(Collection<Clause> oldAssumptions, Collection<Clause> newAssumptions) {
         final Iterator<Clause> iterOld = oldAssumptions.iterator();
         final Iterator<Clause> iterNew = newAssumptions.iterator();
@@ -388,8 +412,8 @@ public abstract class DecisionProcedureChainOfResponsibility implements Decision
     setAssumptionsLocalConservatively(Collection<Clause> newAssumptions, int toPop, int toPush)
     throws DecisionException, ContradictionException {
         //pops
-        for (int i = 1; i <= toPop; ++i) {
-            popAssumptionLocal();
+        if (toPop > 0) {
+            popAssumptionsLocal(toPop);
         }
 
         //pushes
@@ -451,6 +475,44 @@ public abstract class DecisionProcedureChainOfResponsibility implements Decision
         throw new DecisionException();
     }
 
+    /**
+     * May be overridden by subclasses that implement {@link #popAssumptionLocal()}
+     * and can locally pop many clauses at once faster than by popping them one 
+     * at a time. The default implementation invokes {@link #popAssumptionLocal()}
+     * {@code n} times.
+     * 
+     * @param n a positive {@code int}, the number of clauses to pop. It must
+     *        not be greater than the number of current local assumptions.
+     * @throws DecisionException if the subclass does not offer
+     *         this feature.
+     */
+    protected void popAssumptionsLocal(int n) throws DecisionException {
+        //default implementation
+        for (int i = 1; i <= n; ++i) {
+            popAssumptionLocal();
+        }
+    }
+
+    /**
+     * Must be overridden by subclasses that implement {@link #popAssumptionLocal()}
+     * and can count their local assumptions faster than by getting them. 
+     * The default implementation counts the clauses returned by 
+     * {@link #getAssumptionsLocal()}, or by {@link #getAssumptions()} 
+     * if the former is not implemented.
+     * 
+     * @return the number of current local assumptions.
+     * @throws DecisionException upon failure.
+     */
+    protected int numAssumptionsLocal() throws DecisionException {
+        //default implementation
+        try {
+            return getAssumptionsLocal().size();
+        } catch (DecisionException e) {
+            //sorry, no locally stored assumptions
+            return getAssumptions().size(); //queries the successor (best effort)
+        }
+    }
+
     @Override
     public final List<Clause> getAssumptions() throws DecisionException {
         //the farthest element in the chain has
@@ -540,6 +602,113 @@ public abstract class DecisionProcedureChainOfResponsibility implements Decision
         }
     }
 
+    @Override
+    public final boolean[] isSat(List<Expression> expressions) 
+    throws InvalidInputException, DecisionException {
+        if (expressions == null) {
+            throw new InvalidInputException("isSat invoked with a null parameter.");
+        }
+        final boolean[] retVal = new boolean[expressions.size()];
+        
+        //simplifies the expressions, and decides 
+        //those that simplify to a Simplex
+        final ArrayList<Integer> toDecide = new ArrayList<>();
+        final ArrayList<Expression> exps = new ArrayList<>();
+        final ArrayList<Expression> expsSimpl = new ArrayList<>();
+        int i = 0;
+        for (Expression expression : expressions) {
+            if (expression == null) {
+                throw new InvalidInputException("isSat invoked with a null expression.");
+            }
+            if (expression.getType() != Type.BOOLEAN) {
+                throw new DecisionException("isSat expression has type " + expression.getType());
+            }
+            final Primitive expSimpl = simplifyLocal(expression);
+            if (expSimpl instanceof Simplex) {
+                retVal[i] = ((Simplex) expSimpl).surelyTrue();
+            } else { // (expSimpl instanceof Expression)
+                toDecide.add(i);
+                exps.add(expression);
+                expsSimpl.add((Expression) expSimpl);
+            }
+            ++i;
+        }
+        if (toDecide.isEmpty()) {
+            return retVal;
+        }
+        
+        //decides the others locally
+        final boolean[] localDecidesSat = isSatLocal(exps, expsSimpl);
+        final ArrayList<Integer> toDelegate = new ArrayList<>();
+        final ArrayList<Expression> expsToDelegate = new ArrayList<>();
+        for (int j = 0; j < localDecidesSat.length; ++j) {
+            final int pos = toDecide.get(j);
+            retVal[pos] = localDecidesSat[j];
+            if (localDecidesSat[j]) {
+                toDelegate.add(pos);
+                expsToDelegate.add(exps.get(j));
+            }
+        }
+        
+        //tries the delegate on the locally satisfiable
+        //ones, that could have a more restrictive answer
+        if (hasNext() && !toDelegate.isEmpty()) {
+            final boolean[] nextDecidesSat = delegateIsSat(expsToDelegate);
+            for (int j = 0; j < nextDecidesSat.length; ++j) {
+                retVal[toDelegate.get(j)] = nextDecidesSat[j];
+            }
+        }
+        return retVal;
+    }
+
+    /**
+     * May be overridden by subclasses to implement 
+     * {@link #isSat(List)}, e.g., to decide the expressions
+     * concurrently. The default implementation invokes
+     * {@link #isSatLocal(Expression, Expression)} on each 
+     * expression.
+     *  
+     * @param exps a {@link List}{@code <}{@link Expression}{@code >}, 
+     *        the expressions to decide, not locally simplified. 
+     * @param expsSimpl a {@link List}{@code <}{@link Expression}{@code >}, 
+     *        the elements of {@code exps} after local simplification.
+     * @return a {@code boolean[]} with same length as {@code exps}, 
+     *         whose {@code i}-th element is the result of 
+     *         {@link #isSatLocal(Expression, Expression) isSatLocal}
+     *         on the {@code i}-th elements of {@code exps} and 
+     *         {@code expsSimpl}.
+     * @throws DecisionException upon failure.
+     */
+    protected boolean[] isSatLocal(List<Expression> exps, List<Expression> expsSimpl) 
+    throws DecisionException {
+        final boolean[] retVal = new boolean[exps.size()];
+        for (int i = 0; i < retVal.length; ++i) {
+            retVal[i] = isSatLocal(exps.get(i), expsSimpl.get(i));
+        }
+        return retVal;
+    }
+
+    /**
+     * Queries the next decision procedure in the chain for 
+     * satisfiability of a list of {@link Expression}s.
+     *  
+     * @param exps see {@link #isSat(List) isSat}.
+     * @return the result of invoking 
+     *         {@link DecisionProcedure#isSat(List) isSat}{@code (exps)}
+     *         on the next decision procedure in the chain.
+     * @throws DecisionException if the successor
+     *         throws it.
+     */
+    private boolean[] delegateIsSat(List<Expression> exps) 
+    throws DecisionException {
+        try {
+            return this.next.isSat(exps);
+        } catch (InvalidInputException e) {
+            //this should never happen
+            throw new UnexpectedInternalException(e);
+        }
+    }
+
     @Override
     public final boolean isSatNull(ReferenceSymbolic r) 
     throws InvalidInputException, DecisionException {
@@ -82,6 +82,12 @@ public class DecisionProcedureDecorator implements DecisionProcedure {
         this.component.setAssumptions(newAssumptions);
     }
     
+    @Override
+    public void setAssumptions(Collection<Clause> newAssumptions, int common) 
+    throws InvalidInputException, DecisionException, ContradictionException {
+        this.component.setAssumptions(newAssumptions, common);
+    }
+    
     @Override
     public List<Clause> getAssumptions() 
     throws DecisionException {
@@ -94,6 +100,12 @@ public class DecisionProcedureDecorator implements DecisionProcedure {
         return this.component.isSat(exp);
     }
 
+    @Override
+    public boolean[] isSat(List<Expression> expressions) 
+    throws InvalidInputException, DecisionException {
+        return this.component.isSat(expressions);
+    }
+
     @Override
     public boolean isSatNull(ReferenceSymbolic r) 
     throws InvalidInputException, DecisionException {
@@ -0,0 +1,195 @@
+package jbse.dec;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+import jbse.common.exc.InvalidInputException;
+import jbse.dec.exc.DecisionException;
+import jbse.mem.Clause;
+import jbse.mem.exc.ContradictionException;
+
+/**
+ * A {@link DecisionProcedureDecorator} that keeps track of the
+ * current assumption of its component, and notifies its subclasses
+ * of every clause that is pushed on, or popped from, it. When an 
+ * operation on the assumption of the component fails, the tracked
+ * assumption may differ from the one of the component until it is
+ * cleared or set again, and subclasses must not rely on it.
+ */
+abstract class DecisionProcedureDecoratorAssumptionTracking extends DecisionProcedureDecorator {
+    /** The current assumption. */
+    private final ArrayList<Clause> clauses = new ArrayList<>();
+
+    /** An unmodifiable view of {@link #clauses}. */
+    private final List<Clause> clausesView = Collections.unmodifiableList(this.clauses);
+
+    /**
+     * Whether {@link #clauses} is the same as the
+     * assumption of the component; it may be not
+     * after the component fails.
+     */
+    private boolean inSynch = true;
+
+    protected DecisionProcedureDecoratorAssumptionTracking(DecisionProcedure component)
+    throws InvalidInputException {
+        super(component);
+    }
+
+    /**
+     * Returns the current assumption.
+     * 
+     * @return an unmodifiable {@link List}{@code <}{@link Clause}{@code >}.
+     */
+    protected final List<Clause> assumption() {
+        return this.clausesView;
+    }
+
+    /**
+     * Checks whether the current assumption is the
+     * same as the assumption of the component.
+     * 
+     * @return {@code false} iff some operation on the 
+     *         assumption of the component failed, and 
+     *         the assumption was not cleared or set 
+     *         afterwards.
+     */
+    protected final boolean isInSynch() {
+        return this.inSynch;
+    }
+
+    /**
+     * Invoked after a clause is pushed on the 
+     * current assumption.
+     * 
+     * @param c the pushed {@link Clause}.
+     */
+    protected abstract void pushed(Clause c);
+
+    /**
+     * Invoked after a clause is popped from the 
+     * current assumption.
+     * 
+     * @param c the popped {@link Clause}.
+     */
+    protected abstract void popped(Clause c);
+
+    @Override
+    public final void pushAssumption(Clause c)
+    throws InvalidInputException, DecisionException, ContradictionException {
+        try {
+            super.pushAssumption(c);
+        } catch (InvalidInputException | DecisionException | ContradictionException | RuntimeException e) {
+            this.inSynch = false;
+            throw e;
+        }
+        push(c);
+    }
+
+    @Override
+    public final void clearAssumptions() throws DecisionException {
+        try {
+            super.clearAssumptions();
+        } catch (DecisionException | RuntimeException e) {
+            this.inSynch = false;
+            throw e;
+        }
+        truncate(0);
+        this.inSynch = true;
+    }
+
+    @Override
+    public final void addAssumptions(Iterable<Clause> assumptionsToAdd)
+    throws InvalidInputException, DecisionException, ContradictionException {
+        try {
+            super.addAssumptions(assumptionsToAdd);
+        } catch (InvalidInputException | DecisionException | ContradictionException | RuntimeException e) {
+            this.inSynch = false;
+            throw e;
+        }
+        for (Clause c : assumptionsToAdd) {
+            push(c);
+        }
+    }
+
+    @Override
+    public final void addAssumptions(Clause... assumptionsToAdd)
+    throws InvalidInputException, DecisionException, ContradictionException {
+        try {
+            super.addAssumptions(assumptionsToAdd);
+        } catch (InvalidInputException | DecisionException | ContradictionException | RuntimeException e) {
+            this.inSynch = false;
+            throw e;
+        }
+        for (Clause c : assumptionsToAdd) {
+            push(c);
+        }
+    }
+
+    @Override
+    public final void setAssumptions(Collection<Clause> newAssumptions)
+    throws InvalidInputException, DecisionException, ContradictionException {
+        try {
+            super.setAssumptions(newAssumptions);
+        } catch (InvalidInputException | DecisionException | ContradictionException | RuntimeException e) {
+            this.inSynch = false;
+            throw e;
+        }
+        synch(newAssumptions, commonPrefix(newAssumptions));
+    }
+
+    @Override
+    public final void setAssumptions(Collection<Clause> newAssumptions, int common)
+    throws InvalidInputException, DecisionException, ContradictionException {
+        try {
+            super.setAssumptions(newAssumptions, common);
+        } catch (InvalidInputException | DecisionException | ContradictionException | RuntimeException e) {
+            this.inSynch = false;
+            throw e;
+        }
+        synch(newAssumptions, Math.min(common, commonPrefix(newAssumptions)));
+    }
+
+    private void push(Clause c) {
+        this.clauses.add(c);
+        pushed(c);
+    }
+
+    private void truncate(int size) {
+        while (this.clauses.size() > size) {
+            popped(this.clauses.remove(this.clauses.size() - 1));
+        }
+    }
+
+    /**
+     * Returns the length of the longest prefix
+     * of some assumptions that is made of the same
+     * clauses as the current assumption.
+     *
+     * @param newAssumptions a {@link Collection}{@code <}{@link Clause}{@code >}.
+     * @return an {@code int}.
+     */
+    private int commonPrefix(Collection<Clause> newAssumptions) {
+        int retVal = 0;
+        for (Clause c : newAssumptions) {
+            if (retVal >= this.clauses.size() || this.clauses.get(retVal) != c) {
+                break;
+            }
+            ++retVal;
+        }
+        return retVal;
+    }
+
+    private void synch(Collection<Clause> newAssumptions, int common) {
+        truncate(common);
+        int i = 0;
+        for (Clause c : newAssumptions) {
+            if (i >= common) {
+                push(c);
+            }
+            ++i;
+        }
+        this.inSynch = true;
+    }
+}
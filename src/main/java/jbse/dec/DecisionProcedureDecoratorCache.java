@@ -0,0 +1,467 @@
+package jbse.dec;
+
+import static jbse.dec.CanonicalForms.canonicalClass;
+import static jbse.dec.CanonicalForms.canonicalClause;
+import static jbse.dec.CanonicalForms.canonicalObject;
+import static jbse.dec.CanonicalForms.canonicalPrimitive;
+import static jbse.dec.CanonicalForms.canonicalReference;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import jbse.bc.ClassFile;
+import jbse.common.exc.InvalidInputException;
+import jbse.common.exc.UnexpectedInternalException;
+import jbse.dec.exc.DecisionException;
+import jbse.mem.Clause;
+import jbse.mem.Objekt;
+import jbse.val.Expression;
+import jbse.val.PrimitiveSymbolic;
+import jbse.val.ReferenceSymbolic;
+import jbse.val.Simplex;
+
+/**
+ * A {@link DecisionProcedureDecorator} that caches the answers
+ * of its component. A query is identified by the current
+ * assumptions and the queried clause, both canonicalized by
+ * naming the symbols with their origin strings, so the same
+ * query is recognized on different paths that share their
+ * assumptions. The origin strings are annotated with the types
+ * of the symbols. The cache has a bounded size, evicts the least
+ * recently used answers, memoizes the models obtained
+ * by {@link #getModel()}, and can be saved to a file upon
+ * {@link #close()} and reloaded in a later run (models excepted).
+ * The file is tagged with a namespace, that must identify
+ * everything else the answers depend on (e.g., the target
+ * method and the solver), and a file with a different namespace
+ * is not loaded. It must decorate a decision procedure whose 
+ * answers only depend on the current assumptions.
+ */
+public final class DecisionProcedureDecoratorCache extends DecisionProcedureDecoratorAssumptionTracking {
+    /**
+     * A {@link LinkedHashMap} that evicts its least
+     * recently accessed entries when it exceeds a
+     * given capacity.
+     */
+    private static final class LruMap<K, V> extends LinkedHashMap<K, V> {
+        private static final long serialVersionUID = -1488592839282738170L;
+
+        private final int capacity;
+
+        LruMap(int capacity) {
+            super(16, 0.75f, true);
+            this.capacity = capacity;
+        }
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<K, V> eldest) {
+            return size() > this.capacity;
+        }
+    }
+
+    /**
+     * A query to the component.
+     */
+    @FunctionalInterface
+    private interface Query {
+        boolean ask() throws InvalidInputException, DecisionException;
+    }
+
+    /** The identifier of the empty assumption. */
+    private static final long EMPTY = 0L;
+    
+    /** The version of the format of the cache file. */
+    private static final int FILE_VERSION = 2;
+
+    /** The file where the cache is saved, or {@code null}. */
+    private final Path cacheFile;
+
+    /** The header line of {@link #cacheFile}. */
+    private final String cacheFileHeader;
+
+    /**
+     * Interns the assumptions: Maps the identifier of an
+     * assumption, followed by the canonical form of a clause,
+     * to the identifier of the assumption obtained by pushing
+     * the clause.
+     */
+    private final LruMap<String, Long> assumptionIds;
+
+    /**
+     * Maps the identifier of an assumption, followed by
+     * the canonical form of a query, to its answer.
+     */
+    private final LruMap<String, Boolean> answers;
+
+    /**
+     * Maps the identifier of an assumption, followed by
+     * the canonical form of a query, to its model.
+     */
+    private final LruMap<String, Map<PrimitiveSymbolic, Simplex>> models;
+
+    /** The last assumption identifier generated. */
+    private long lastAssumptionId = EMPTY;
+
+    /**
+     * The identifiers of the prefixes of the current
+     * assumption; its {@code i}-th element identifies
+     * the first {@code i + 1} clauses.
+     */
+    private final ArrayList<Long> ids = new ArrayList<>();
+
+    /** The key of the last query, or {@code null}. */
+    private String lastKey = null;
+
+    /**
+     * The last query if it was not asked to the
+     * component, {@code null} otherwise.
+     */
+    private Query lastQueryNotAsked = null;
+
+    /** The number of queries answered by the cache. */
+    private long hits = 0L;
+
+    /** The number of queries answered by the component. */
+    private long misses = 0L;
+
+    /**
+     * Constructor.
+     *
+     * @param component the {@link DecisionProcedure} to decorate.
+     * @param capacity a positive {@code int}, the maximum number
+     *        of answers that the cache stores.
+     * @param cacheFile a {@link Path} to the file where the cache is
+     *        saved upon {@link #close()}, or {@code null} if the cache
+     *        must not be saved. If the file exists and has namespace 
+     *        {@code namespace} the cache is initialized with its content.
+     * @param namespace a {@link String} identifying everything the answers 
+     *        of {@code component} depend on, other than the assumptions and
+     *        the queries (e.g., the target method, the classpath and the 
+     *        solver). It is ignored if {@code cacheFile == null}.
+     * @throws InvalidInputException if {@code component == null || capacity <= 0}, 
+     *         or if {@code cacheFile != null && namespace == null}.
+     * @throws DecisionException if reading {@code cacheFile} fails.
+     */
+    public DecisionProcedureDecoratorCache(DecisionProcedure component, int capacity, Path cacheFile, String namespace)
+    throws InvalidInputException, DecisionException {
+        super(component);
+        if (capacity <= 0) {
+            throw new InvalidInputException("Attempted to create a decision procedure cache with nonpositive capacity " + capacity + ".");
+        }
+        if (cacheFile != null && namespace == null) {
+            throw new InvalidInputException("Attempted to create a decision procedure cache with a cache file and a null namespace.");
+        }
+        this.cacheFile = cacheFile;
+        this.cacheFileHeader = (cacheFile == null ? null : "H " + FILE_VERSION + " " + namespace.replace('\n', ' ').replace('\r', ' '));
+        this.assumptionIds = new LruMap<>(capacity);
+        this.answers = new LruMap<>(capacity);
+        this.models = new LruMap<>(capacity);
+        if (cacheFile != null && Files.exists(cacheFile)) {
+            load();
+        }
+    }
+
+    /**
+     * Returns the number of queries answered by the cache.
+     *
+     * @return a {@code long}.
+     */
+    public long getHits() {
+        return this.hits;
+    }
+
+    /**
+     * Returns the number of queries answered by the
+     * decorated decision procedure.
+     *
+     * @return a {@code long}.
+     */
+    public long getMisses() {
+        return this.misses;
+    }
+
+    @Override
+    public boolean isSat(Expression exp)
+    throws InvalidInputException, DecisionException {
+        if (exp == null) {
+            throw new InvalidInputException("isSat invoked with a null parameter.");
+        }
+        return query("S " + canonicalPrimitive(exp), () -> super.isSat(exp));
+    }
+
+    @Override
+    public boolean[] isSat(List<Expression> expressions)
+    throws InvalidInputException, DecisionException {
+        if (expressions == null) {
+            throw new InvalidInputException("isSat invoked with a null parameter.");
+        }
+        this.lastKey = null;
+        this.lastQueryNotAsked = null;
+        if (!isInSynch()) {
+            this.misses += expressions.size();
+            return super.isSat(expressions);
+        }
+
+        //answers the expressions in the cache
+        final boolean[] retVal = new boolean[expressions.size()];
+        final ArrayList<Integer> missing = new ArrayList<>();
+        final ArrayList<Expression> expsMissing = new ArrayList<>();
+        final ArrayList<String> keysMissing = new ArrayList<>();
+        int i = 0;
+        for (Expression exp : expressions) {
+            if (exp == null) {
+                throw new InvalidInputException("isSat invoked with a null expression.");
+            }
+            final String key = key("S " + canonicalPrimitive(exp));
+            final Boolean answer = this.answers.get(key);
+            if (answer == null) {
+                missing.add(i);
+                expsMissing.add(exp);
+                keysMissing.add(key);
+            } else {
+                ++this.hits;
+                retVal[i] = answer.booleanValue();
+            }
+            ++i;
+        }
+
+        //asks the component for the others
+        if (!missing.isEmpty()) {
+            this.misses += missing.size();
+            final boolean[] answersMissing = super.isSat(expsMissing);
+            for (int j = 0; j < answersMissing.length; ++j) {
+                retVal[missing.get(j)] = answersMissing[j];
+                this.answers.put(keysMissing.get(j), answersMissing[j]);
+            }
+        }
+        return retVal;
+    }
+
+    @Override
+    public boolean isSatNull(ReferenceSymbolic r)
+    throws InvalidInputException, DecisionException {
+        if (r == null) {
+            throw new InvalidInputException("isSatNull invoked with a null parameter.");
+        }
+        return query("N " + canonicalReference(r), () -> super.isSatNull(r));
+    }
+
+    @Override
+    public boolean isSatAliases(ReferenceSymbolic r, long heapPos, Objekt o)
+    throws InvalidInputException, DecisionException {
+        if (r == null || o == null) {
+            throw new InvalidInputException("isSatAliases invoked with a null parameter.");
+        }
+        return query("L " + canonicalReference(r) + " " + canonicalObject(heapPos, o), () -> super.isSatAliases(r, heapPos, o));
+    }
+
+    @Override
+    public boolean isSatExpands(ReferenceSymbolic r, ClassFile classFile)
+    throws InvalidInputException, DecisionException {
+        if (r == null || classFile == null) {
+            throw new InvalidInputException("isSatExpands invoked with a null parameter.");
+        }
+        return query("E " + canonicalReference(r) + " " + canonicalClass(classFile), () -> super.isSatExpands(r, classFile));
+    }
+
+    @Override
+    public boolean isSatInitialized(ClassFile classFile)
+    throws InvalidInputException, DecisionException {
+        if (classFile == null) {
+            throw new InvalidInputException("isSatInitialized invoked with a null parameter.");
+        }
+        return query("I " + canonicalClass(classFile), () -> super.isSatInitialized(classFile));
+    }
+
+    @Override
+    public boolean isSatNotInitialized(ClassFile classFile)
+    throws InvalidInputException, DecisionException {
+        if (classFile == null) {
+            throw new InvalidInputException("isSatNotInitialized invoked with a null parameter.");
+        }
+        return query("U " + canonicalClass(classFile), () -> super.isSatNotInitialized(classFile));
+    }
+
+    @Override
+    public Map<PrimitiveSymbolic, Simplex> getModel() throws DecisionException {
+        if (this.lastKey != null) {
+            final Map<PrimitiveSymbolic, Simplex> model = this.models.get(this.lastKey);
+            if (model != null) {
+                return new HashMap<>(model);
+            }
+        }
+        if (this.lastQueryNotAsked != null) {
+            //the component must check the query
+            //to produce a model for it
+            try {
+                this.lastQueryNotAsked.ask();
+            } catch (InvalidInputException e) {
+                //this should never happen
+                throw new UnexpectedInternalException(e);
+            }
+            this.lastQueryNotAsked = null;
+        }
+        final Map<PrimitiveSymbolic, Simplex> retVal = super.getModel();
+        if (this.lastKey != null) {
+            this.models.put(this.lastKey, new HashMap<>(retVal));
+        }
+        return retVal;
+    }
+
+    @Override
+    public void close() throws DecisionException {
+        try {
+            if (this.cacheFile != null) {
+                save();
+            }
+        } finally {
+            super.close();
+        }
+    }
+
+    /**
+     * Answers a query, possibly by means of the cache.
+     *
+     * @param canonicalQuery a {@link String}, the canonical
+     *        form of the query.
+     * @param query the {@link Query} to the component.
+     * @return the answer to {@code query}.
+     * @throws InvalidInputException if {@code query} throws it.
+     * @throws DecisionException if {@code query} throws it.
+     */
+    private boolean query(String canonicalQuery, Query query)
+    throws InvalidInputException, DecisionException {
+        if (!isInSynch()) {
+            this.lastKey = null;
+            this.lastQueryNotAsked = null;
+            ++this.misses;
+            return query.ask();
+        }
+        final String key = key(canonicalQuery);
+        this.lastKey = key;
+        final Boolean answer = this.answers.get(key);
+        if (answer == null) {
+            ++this.misses;
+            this.lastQueryNotAsked = null;
+            final boolean retVal = query.ask();
+            this.answers.put(key, retVal);
+            return retVal;
+        } else {
+            ++this.hits;
+            this.lastQueryNotAsked = query;
+            return answer.booleanValue();
+        }
+    }
+
+    private String key(String canonicalQuery) {
+        return currentId() + " " + canonicalQuery;
+    }
+
+    private long currentId() {
+        return (this.ids.isEmpty() ? EMPTY : this.ids.get(this.ids.size() - 1));
+    }
+
+    @Override
+    protected void pushed(Clause c) {
+        this.ids.add(intern(currentId(), canonicalClause(c)));
+    }
+
+    @Override
+    protected void popped(Clause c) {
+        this.ids.remove(this.ids.size() - 1);
+    }
+
+    /**
+     * Returns the identifier of an assumption.
+     *
+     * @param id a {@code long}, the identifier of an assumption.
+     * @param canonicalClause a {@link String}, the canonical form of a clause.
+     * @return a {@code long}, the identifier of the assumption obtained
+     *         by pushing the clause on the assumption identified by {@code id}.
+     *         Identifiers are never reused.
+     */
+    private long intern(long id, String canonicalClause) {
+        final String key = id + " " + canonicalClause;
+        final Long retVal = this.assumptionIds.get(key);
+        if (retVal == null) {
+            ++this.lastAssumptionId;
+            this.assumptionIds.put(key, this.lastAssumptionId);
+            return this.lastAssumptionId;
+        }
+        return retVal.longValue();
+    }
+
+    //the cache file has a header line "H <version> <namespace>",
+    //a line for each interned assumption,
+    //"P <id> <id of the assumption without last clause> <last clause>",
+    //in increasing id order, and a line for each answer,
+    //"Q <id of the assumption> <answer> <query>"
+
+    private void load() throws DecisionException {
+        final HashMap<Long, Long> fileIdToId = new HashMap<>();
+        fileIdToId.put(EMPTY, EMPTY);
+        try (final BufferedReader r = Files.newBufferedReader(this.cacheFile, StandardCharsets.UTF_8)) {
+            if (!this.cacheFileHeader.equals(r.readLine())) {
+                return; //cache of another version, target or solver
+            }
+            String line;
+            while ((line = r.readLine()) != null) {
+                final String[] fields = line.split(" ", 4);
+                if (fields.length < 4) {
+                    continue; //malformed line
+                }
+                final long fileId = Long.parseLong(fields[1]);
+                if ("P".equals(fields[0])) {
+                    final Long parent = fileIdToId.get(Long.parseLong(fields[2]));
+                    if (parent != null) {
+                        fileIdToId.put(fileId, intern(parent, fields[3]));
+                    }
+                } else if ("Q".equals(fields[0])) {
+                    final Long id = fileIdToId.get(fileId);
+                    if (id != null) {
+                        this.answers.put(id + " " + fields[3], Boolean.valueOf(fields[2]));
+                    }
+                }
+            }
+        } catch (IOException | NumberFormatException e) {
+            throw new DecisionException(e);
+        }
+    }
+
+    private void save() throws DecisionException {
+        final TreeMap<Long, String> assumptionLines = new TreeMap<>();
+        for (Map.Entry<String, Long> e : this.assumptionIds.entrySet()) {
+            assumptionLines.put(e.getValue(), "P " + e.getValue() + " " + e.getKey());
+        }
+        try (final BufferedWriter w = Files.newBufferedWriter(this.cacheFile, StandardCharsets.UTF_8)) {
+            w.write(this.cacheFileHeader);
+            w.newLine();
+            for (String line : assumptionLines.values()) {
+                if (line.indexOf('\n') < 0) {
+                    w.write(line);
+                    w.newLine();
+                }
+            }
+            for (Map.Entry<String, Boolean> e : this.answers.entrySet()) {
+                final String key = e.getKey();
+                final int sep = key.indexOf(' ');
+                if (key.indexOf('\n') < 0) {
+                    w.write("Q " + key.substring(0, sep) + " " + e.getValue() + " " + key.substring(sep + 1));
+                    w.newLine();
+                }
+            }
+        } catch (IOException e) {
+            throw new DecisionException(e);
+        }
+    }
+}
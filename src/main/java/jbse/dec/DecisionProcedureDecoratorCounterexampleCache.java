@@ -0,0 +1,614 @@
+package jbse.dec;
+
+import static jbse.dec.CanonicalForms.canonicalPrimitive;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.BinaryOperator;
+
+import jbse.common.Type;
+import jbse.common.exc.InvalidInputException;
+import jbse.dec.exc.DecisionException;
+import jbse.mem.Clause;
+import jbse.mem.ClauseAssume;
+import jbse.val.Any;
+import jbse.val.Calculator;
+import jbse.val.Expression;
+import jbse.val.NarrowingConversion;
+import jbse.val.Operator;
+import jbse.val.Primitive;
+import jbse.val.PrimitiveSymbolic;
+import jbse.val.PrimitiveSymbolicApply;
+import jbse.val.PrimitiveSymbolicAtomic;
+import jbse.val.PrimitiveVisitor;
+import jbse.val.Simplex;
+import jbse.val.Term;
+import jbse.val.WideningConversion;
+
+/**
+ * A {@link DecisionProcedureDecorator} that answers the
+ * satisfiability queries on {@link Expression}s by means of
+ * the counterexamples (models) and of the unsatisfiable sets
+ * of clauses that its component produced for previous queries.
+ * It stores the models returned by {@link #getModel()}, and
+ * answers sat a query that some stored model satisfies, together
+ * with all the current assumed {@link ClauseAssume}s. It also
+ * stores, for each query answered unsat by the component, the
+ * set of the assumed {@link ClauseAssume}s that share (transitively)
+ * some symbol with the query, and answers unsat a query when
+ * the current assumption is a superset of a stored set for the
+ * same query. It must decorate a decision procedure whose
+ * answers to the satisfiability queries on {@link Expression}s
+ * only depend on the assumed {@link ClauseAssume}s, that are
+ * assumed to be satisfiable. Since the solvers work with
+ * mathematical integers and reals, a model is trusted only if
+ * evaluating the predicates with Java semantics gives the 
+ * same results as evaluating them with mathematical semantics,
+ * e.g., if no arithmetic operation overflows.
+ */
+public final class DecisionProcedureDecoratorCounterexampleCache extends DecisionProcedureDecoratorAssumptionTracking {
+    /**
+     * A stored model, with the number of clauses
+     * of the current assumption it is known to
+     * satisfy.
+     */
+    private static final class CachedModel {
+        final Map<PrimitiveSymbolic, Simplex> model;
+
+        /**
+         * The model satisfies the first {@code satisfied}
+         * clauses of the current assumption.
+         */
+        int satisfied = 0;
+
+        /**
+         * Whether the model falsifies the clause at position
+         * {@code satisfied} of the current assumption.
+         */
+        boolean falsified = false;
+
+        CachedModel(Map<PrimitiveSymbolic, Simplex> model) {
+            this.model = model;
+        }
+    }
+
+    /**
+     * Raised when a predicate cannot be evaluated 
+     * in a model with mathematical semantics.
+     */
+    private static final class ImpreciseEvaluationException extends Exception {
+        private static final long serialVersionUID = 4379652125016883310L;
+    }
+
+    /** The maximum number of stored models and of stored unsat sets. */
+    private final int capacity;
+
+    /** The stored models, most recently used first. */
+    private final LinkedList<CachedModel> models = new LinkedList<>();
+
+    /**
+     * Maps the canonical form of a query to the
+     * unsat sets of canonical clauses stored for it,
+     * least recently used first.
+     */
+    private final LinkedHashMap<String, ArrayList<Set<String>>> unsatSets = new LinkedHashMap<>(16, 0.75f, true);
+
+    /** The number of stored unsat sets. */
+    private int numUnsatSets = 0;
+
+    /** The canonical forms of the clauses in the current assumption. */
+    private final HashMap<String, Integer> canonicalClauses = new HashMap<>();
+
+    /** Slices the current assumption to build the unsat sets. */
+    private final IndependenceSlicer slicer = new IndependenceSlicer();
+
+    /** Whether the component goes fast and imprecise. */
+    private boolean fast = false;
+
+    /**
+     * The model that answered the last query, or
+     * {@code null} if the last query was not answered
+     * by a stored model.
+     */
+    private Map<PrimitiveSymbolic, Simplex> lastModel = null;
+
+    /** The number of queries answered by a stored model. */
+    private long modelHits = 0L;
+
+    /** The number of queries answered by a stored unsat set. */
+    private long unsatHits = 0L;
+
+    /** The number of queries answered by the component. */
+    private long misses = 0L;
+
+    /**
+     * Constructor.
+     *
+     * @param component the {@link DecisionProcedure} to decorate.
+     * @param capacity a positive {@code int}, the maximum number
+     *        of models, and of unsat sets, that the cache stores.
+     * @throws InvalidInputException if {@code component == null || capacity <= 0}.
+     */
+    public DecisionProcedureDecoratorCounterexampleCache(DecisionProcedure component, int capacity)
+    throws InvalidInputException {
+        super(component);
+        if (capacity <= 0) {
+            throw new InvalidInputException("Attempted to create a counterexample cache with nonpositive capacity " + capacity + ".");
+        }
+        this.capacity = capacity;
+    }
+
+    /**
+     * Returns the number of queries answered by
+     * a stored model.
+     *
+     * @return a {@code long}.
+     */
+    public long getModelHits() {
+        return this.modelHits;
+    }
+
+    /**
+     * Returns the number of queries answered by
+     * a stored unsat set.
+     *
+     * @return a {@code long}.
+     */
+    public long getUnsatHits() {
+        return this.unsatHits;
+    }
+
+    /**
+     * Returns the number of queries answered by the
+     * decorated decision procedure.
+     *
+     * @return a {@code long}.
+     */
+    public long getMisses() {
+        return this.misses;
+    }
+
+    @Override
+    public void goFastAndImprecise() {
+        super.goFastAndImprecise();
+        this.fast = true;
+    }
+
+    @Override
+    public void stopFastAndImprecise() {
+        super.stopFastAndImprecise();
+        this.fast = false;
+    }
+
+    @Override
+    public boolean isSat(Expression exp)
+    throws InvalidInputException, DecisionException {
+        if (exp == null) {
+            throw new InvalidInputException("isSat invoked with a null parameter.");
+        }
+        this.lastModel = null;
+        if (!isInSynch()) {
+            ++this.misses;
+            return super.isSat(exp);
+        }
+        final String canonicalExp = canonicalPrimitive(exp);
+        if (knownUnsat(canonicalExp)) {
+            ++this.unsatHits;
+            return false;
+        }
+        final Map<PrimitiveSymbolic, Simplex> model = findModel(exp);
+        if (model != null) {
+            ++this.modelHits;
+            this.lastModel = model;
+            return true;
+        }
+        ++this.misses;
+        final boolean retVal = super.isSat(exp);
+        if (!retVal) {
+            storeUnsat(exp, canonicalExp);
+        }
+        return retVal;
+    }
+
+    @Override
+    public boolean[] isSat(List<Expression> expressions)
+    throws InvalidInputException, DecisionException {
+        if (expressions == null) {
+            throw new InvalidInputException("isSat invoked with a null parameter.");
+        }
+        this.lastModel = null;
+        if (!isInSynch()) {
+            this.misses += expressions.size();
+            return super.isSat(expressions);
+        }
+
+        //answers the expressions by means of the cache
+        final boolean[] retVal = new boolean[expressions.size()];
+        final ArrayList<Integer> missing = new ArrayList<>();
+        final ArrayList<Expression> expsMissing = new ArrayList<>();
+        final ArrayList<String> canonicalExpsMissing = new ArrayList<>();
+        int i = 0;
+        for (Expression exp : expressions) {
+            if (exp == null) {
+                throw new InvalidInputException("isSat invoked with a null expression.");
+            }
+            final String canonicalExp = canonicalPrimitive(exp);
+            if (knownUnsat(canonicalExp)) {
+                ++this.unsatHits;
+                retVal[i] = false;
+            } else if (findModel(exp) != null) {
+                ++this.modelHits;
+                retVal[i] = true;
+            } else {
+                missing.add(i);
+                expsMissing.add(exp);
+                canonicalExpsMissing.add(canonicalExp);
+            }
+            ++i;
+        }
+
+        //asks the component for the others
+        if (!missing.isEmpty()) {
+            this.misses += missing.size();
+            final boolean[] answersMissing = super.isSat(expsMissing);
+            for (int j = 0; j < answersMissing.length; ++j) {
+                retVal[missing.get(j)] = answersMissing[j];
+                if (!answersMissing[j]) {
+                    storeUnsat(expsMissing.get(j), canonicalExpsMissing.get(j));
+                }
+            }
+        }
+        return retVal;
+    }
+
+    @Override
+    public Map<PrimitiveSymbolic, Simplex> getModel() throws DecisionException {
+        if (this.lastModel != null) {
+            return new HashMap<>(this.lastModel);
+        }
+        final Map<PrimitiveSymbolic, Simplex> retVal = super.getModel();
+        if (isInSynch() && retVal != null) {
+            storeModel(new HashMap<>(retVal));
+        }
+        return retVal;
+    }
+
+    /**
+     * Checks whether a query is answered unsat by
+     * some stored unsat set.
+     *
+     * @param canonicalExp a {@link String}, the canonical
+     *        form of the query.
+     * @return {@code true} iff the current assumption
+     *         includes some unsat set stored for
+     *         {@code canonicalExp}.
+     */
+    private boolean knownUnsat(String canonicalExp) {
+        final ArrayList<Set<String>> sets = this.unsatSets.get(canonicalExp);
+        if (sets == null) {
+            return false;
+        }
+        for (Set<String> set : sets) {
+            if (this.canonicalClauses.keySet().containsAll(set)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void storeUnsat(Expression exp, String canonicalExp) {
+        if (this.fast) {
+            return; //the assumption might be unsatisfiable
+        }
+        final HashSet<String> set = new HashSet<>();
+        final ArrayList<Expression> exps = new ArrayList<>();
+        exps.add(exp);
+        for (Clause c : this.slicer.slice(exps)) {
+            set.add(canonicalPrimitive(((ClauseAssume) c).getCondition()));
+        }
+        ArrayList<Set<String>> sets = this.unsatSets.get(canonicalExp);
+        if (sets == null) {
+            sets = new ArrayList<>();
+            this.unsatSets.put(canonicalExp, sets);
+        }
+        sets.add(set);
+        ++this.numUnsatSets;
+
+        //evicts the least recently used sets
+        final Iterator<ArrayList<Set<String>>> it = this.unsatSets.values().iterator();
+        while (this.numUnsatSets > this.capacity && it.hasNext()) {
+            final ArrayList<Set<String>> evicted = it.next();
+            if (evicted == sets) {
+                //the last query is the one that must survive
+                evicted.remove(0);
+                --this.numUnsatSets;
+            } else {
+                this.numUnsatSets -= evicted.size();
+                it.remove();
+            }
+        }
+    }
+
+    /**
+     * Finds a stored model that satisfies the current
+     * assumption and a query.
+     *
+     * @param exp an {@link Expression}, the query.
+     * @return a stored model satisfying the current
+     *         assumption and {@code exp}, or {@code null}
+     *         if no such model exists.
+     */
+    private Map<PrimitiveSymbolic, Simplex> findModel(Expression exp) {
+        for (Iterator<CachedModel> it = this.models.iterator(); it.hasNext(); ) {
+            final CachedModel m = it.next();
+            if (satisfiesAssumption(m) && satisfies(m.model, exp)) {
+                //moves m to the front
+                it.remove();
+                this.models.addFirst(m);
+                return m.model;
+            }
+        }
+        return null;
+    }
+
+    private void storeModel(Map<PrimitiveSymbolic, Simplex> model) {
+        final CachedModel m = new CachedModel(model);
+        this.models.addFirst(m);
+        if (this.models.size() > this.capacity) {
+            this.models.removeLast();
+        }
+    }
+
+    /**
+     * Checks whether a model satisfies the current
+     * assumption, by evaluating the clauses that it
+     * is not yet known to satisfy.
+     *
+     * @param m a {@link CachedModel}.
+     * @return {@code true} iff {@code m} satisfies all
+     *         the {@link ClauseAssume}s in the current
+     *         assumption.
+     */
+    private boolean satisfiesAssumption(CachedModel m) {
+        final List<Clause> clauses = assumption();
+        while (!m.falsified && m.satisfied < clauses.size()) {
+            final Clause c = clauses.get(m.satisfied);
+            if (!(c instanceof ClauseAssume) || satisfies(m.model, ((ClauseAssume) c).getCondition())) {
+                ++m.satisfied;
+            } else {
+                m.falsified = true;
+            }
+        }
+        return !m.falsified;
+    }
+
+    /**
+     * Checks whether a model satisfies a predicate.
+     *
+     * @param model a {@link Map}{@code <}{@link PrimitiveSymbolic}{@code , }{@link Simplex}{@code >}.
+     * @param p a {@link Primitive} with boolean type.
+     * @return {@code true} iff {@code p} evaluates to
+     *         true after replacing its symbols with their
+     *         values in {@code model}, and the evaluation
+     *         does not depend on the differences between
+     *         Java and mathematical semantics.
+     */
+    private boolean satisfies(Map<PrimitiveSymbolic, Simplex> model, Primitive p) {
+        final Evaluator v = new Evaluator(model);
+        try {
+            p.accept(v);
+        } catch (RuntimeException e) {
+            throw e;
+        } catch (Exception e) {
+            //the predicate cannot be evaluated
+            //(e.g., a division by zero), or its
+            //value might differ from the one with
+            //mathematical semantics (e.g., overflow)
+            return false;
+        }
+        return (v.result instanceof Simplex && v.result.surelyTrue());
+    }
+
+    /**
+     * Evaluates a {@link Primitive} by replacing its symbols
+     * with their values in a model. Throws an
+     * {@link ImpreciseEvaluationException} if it 
+     * meets an operation whose Java result might differ
+     * from its result with mathematical semantics.
+     */
+    private final class Evaluator implements PrimitiveVisitor {
+        private final Map<PrimitiveSymbolic, Simplex> model;
+        private final Calculator calc = getCalculator();
+        Primitive result;
+
+        Evaluator(Map<PrimitiveSymbolic, Simplex> model) {
+            this.model = model;
+        }
+
+        @Override
+        public void visitAny(Any x) {
+            this.result = x;
+        }
+
+        @Override
+        public void visitExpression(Expression e) throws Exception {
+            final Operator operator = e.getOperator();
+            if (e.isUnary()) {
+                e.getOperand().accept(this);
+                final Primitive operand = this.result;
+                this.result = this.calc.push(operand).applyUnary(operator).pop();
+                if (operator == Operator.NEG) {
+                    checkExact((a, b) -> a.negate(), operand, operand);
+                } else if (operator != Operator.NOT) {
+                    throw new ImpreciseEvaluationException();
+                }
+            } else {
+                e.getFirstOperand().accept(this);
+                final Primitive first = this.result;
+                e.getSecondOperand().accept(this);
+                final Primitive second = this.result;
+                this.result = this.calc.push(first).applyBinary(operator, second).pop();
+                if (operator == Operator.ADD) {
+                    checkExact(BigDecimal::add, first, second);
+                } else if (operator == Operator.SUB) {
+                    checkExact(BigDecimal::subtract, first, second);
+                } else if (operator == Operator.MUL) {
+                    checkExact(BigDecimal::multiply, first, second);
+                } else if (!operator.returnsBoolean()) {
+                    //division, remainder, shifts and bitwise operations 
+                    //have no exact mathematical counterpart in the solver
+                    throw new ImpreciseEvaluationException();
+                }
+            }
+        }
+
+        /**
+         * Checks that the result of an arithmetic operation 
+         * is the same as with mathematical semantics.
+         * 
+         * @param op a {@link BinaryOperator}{@code <}{@link BigDecimal}{@code >}, 
+         *        the operation with mathematical semantics.
+         * @param first the first operand of the operation.
+         * @param second the second operand of the operation 
+         *        (ignored by unary operations).
+         * @throws ImpreciseEvaluationException if the operation
+         *         is not on integral values, or overflows.
+         */
+        private void checkExact(BinaryOperator<BigDecimal> op, Primitive first, Primitive second) 
+        throws ImpreciseEvaluationException {
+            if (!(first instanceof Simplex && second instanceof Simplex && this.result instanceof Simplex)) {
+                //the model does not assign some symbol
+                throw new ImpreciseEvaluationException();
+            }
+            if (!Type.isPrimitiveIntegral(this.result.getType())) {
+                //floating point arithmetic rounds
+                throw new ImpreciseEvaluationException();
+            }
+            final BigDecimal exact = op.apply(toBigDecimal((Simplex) first), toBigDecimal((Simplex) second));
+            if (exact.compareTo(toBigDecimal((Simplex) this.result)) != 0) {
+                throw new ImpreciseEvaluationException();
+            }
+        }
+
+        /**
+         * Checks that a conversion preserves the converted value.
+         * 
+         * @param arg the argument of the conversion.
+         * @throws ImpreciseEvaluationException if the conversion 
+         *         changes the value of {@code arg}.
+         */
+        private void checkExactConversion(Primitive arg) throws ImpreciseEvaluationException {
+            if (!(arg instanceof Simplex && this.result instanceof Simplex)) {
+                //the model does not assign some symbol
+                throw new ImpreciseEvaluationException();
+            }
+            if (toBigDecimal((Simplex) arg).compareTo(toBigDecimal((Simplex) this.result)) != 0) {
+                throw new ImpreciseEvaluationException();
+            }
+        }
+
+        @Override
+        public void visitPrimitiveSymbolicApply(PrimitiveSymbolicApply x) throws Exception {
+            final Simplex value = this.model.get(x);
+            if (value == null) {
+                //the functions are computed by Java with
+                //floating point approximations
+                throw new ImpreciseEvaluationException();
+            }
+            this.result = value;
+        }
+
+        @Override
+        public void visitPrimitiveSymbolicAtomic(PrimitiveSymbolicAtomic s) {
+            final Simplex value = this.model.get(s);
+            this.result = (value == null ? s : value);
+        }
+
+        @Override
+        public void visitSimplex(Simplex x) {
+            this.result = x;
+        }
+
+        @Override
+        public void visitTerm(Term x) {
+            this.result = x;
+        }
+
+        @Override
+        public void visitNarrowingConversion(NarrowingConversion x) throws Exception {
+            x.getArg().accept(this);
+            final Primitive arg = this.result;
+            this.result = this.calc.push(arg).narrow(x.getType()).pop();
+            checkExactConversion(arg);
+        }
+
+        @Override
+        public void visitWideningConversion(WideningConversion x) throws Exception {
+            x.getArg().accept(this);
+            final Primitive arg = this.result;
+            this.result = this.calc.push(arg).widen(x.getType()).pop();
+            checkExactConversion(arg);
+        }
+    }
+
+    /**
+     * Converts a {@link Simplex} to a {@link BigDecimal}
+     * with the same mathematical value.
+     * 
+     * @param x a {@link Simplex}.
+     * @return a {@link BigDecimal}; booleans are converted
+     *         to 0 or 1, as the solver does.
+     * @throws ImpreciseEvaluationException if {@code x} is 
+     *         not finite.
+     */
+    private static BigDecimal toBigDecimal(Simplex x) throws ImpreciseEvaluationException {
+        final Object value = x.getActualValue();
+        if (value instanceof Boolean) {
+            return (((Boolean) value).booleanValue() ? BigDecimal.ONE : BigDecimal.ZERO);
+        } else if (value instanceof Character) {
+            return BigDecimal.valueOf(((Character) value).charValue());
+        } else if (value instanceof Float || value instanceof Double) {
+            final double d = ((Number) value).doubleValue();
+            if (Double.isNaN(d) || Double.isInfinite(d)) {
+                throw new ImpreciseEvaluationException();
+            }
+            return new BigDecimal(d);
+        } else {
+            return BigDecimal.valueOf(((Number) value).longValue());
+        }
+    }
+
+    @Override
+    protected void pushed(Clause c) {
+        this.slicer.push(c);
+        if (c instanceof ClauseAssume) {
+            this.canonicalClauses.merge(canonicalPrimitive(((ClauseAssume) c).getCondition()), 1, Integer::sum);
+        }
+    }
+
+    @Override
+    protected void popped(Clause c) {
+        this.slicer.pop();
+        if (c instanceof ClauseAssume) {
+            final String canonical = canonicalPrimitive(((ClauseAssume) c).getCondition());
+            if (this.canonicalClauses.merge(canonical, -1, Integer::sum) == 0) {
+                this.canonicalClauses.remove(canonical);
+            }
+        }
+        final int size = assumption().size();
+        for (CachedModel m : this.models) {
+            if (m.satisfied >= size) {
+                m.satisfied = size;
+                m.falsified = false;
+            }
+        }
+    }
+}
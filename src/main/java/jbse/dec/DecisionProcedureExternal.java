@@ -2,6 +2,9 @@ package jbse.dec;
 
 import java.io.IOException;
 import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 import java.util.Map;
 
 import jbse.bc.ClassFile;
@@ -19,6 +22,7 @@ import jbse.mem.Objekt;
 import jbse.mem.exc.ContradictionException;
 import jbse.val.Calculator;
 import jbse.val.Expression;
+import jbse.val.Primitive;
 import jbse.val.PrimitiveSymbolic;
 import jbse.val.ReferenceSymbolic;
 import jbse.val.Rewriter;
@@ -57,6 +61,18 @@ public abstract class DecisionProcedureExternal extends DecisionProcedureChainOf
     /** true iff the external decision procedure has not yet received the current assumption. */
     private boolean notInSynch = false;
 
+    /** 
+     * Indexes {@link #clauses} by symbol when the queries must be sliced, 
+     * {@code null} otherwise. 
+     */
+    private IndependenceSlicer slicer = null;
+
+    /** 
+     * When the queries are sliced, the clauses currently pushed 
+     * to the external decision procedure, in push order. 
+     */
+    private final ArrayList<Clause> sent = new ArrayList<>();
+
     protected DecisionProcedureExternal(DecisionProcedure next, Rewriter... rewriters) 
     throws InvalidInputException {
         super(next, rewriters);
@@ -88,6 +104,73 @@ public abstract class DecisionProcedureExternal extends DecisionProcedureChainOf
         }
     }
 
+    /**
+     * Sets whether the queries must be sliced. When slicing, the 
+     * external decision procedure receives, for each query, only the 
+     * assumed clauses that transitively share some symbol with 
+     * the query, rather than the whole current assumption. The pushes
+     * of clauses are deferred until a query needs them, and clauses 
+     * that are not needed any more are popped only when they are 
+     * not a prefix of the slice of a later query.
+     * 
+     * @param slicing {@code true} iff the queries must be sliced.
+     */
+    public final void setSlicing(boolean slicing) {
+        if (slicing == (this.slicer != null)) {
+            return;
+        }
+        if (slicing) {
+            this.slicer = new IndependenceSlicer();
+            final Iterable<Clause> i = () -> this.clauses.descendingIterator();
+            for (Clause c : i) {
+                this.slicer.push(c);
+            }
+        } else {
+            this.slicer = null;
+        }
+        this.sent.clear();
+        this.notInSynch = true;
+    }
+
+    /**
+     * Synchs the external decision procedure with a slice 
+     * of the current assumption, by popping the sent clauses 
+     * after the longest common prefix with the slice and 
+     * pushing the rest of the slice. 
+     * 
+     * @param slice a {@link List}{@code <}{@link Clause}{@code >}, 
+     *        a subsequence of the current assumption.
+     * @throws DecisionException
+     * @throws ContradictionException 
+     */
+    private void synchTo(List<Clause> slice) throws DecisionException, ContradictionException {
+        try {
+            if (this.notInSynch) {
+                this.extIf.clear();
+                this.sent.clear();
+                this.notInSynch = false;
+            }
+            int common = 0;
+            while (common < this.sent.size() && common < slice.size() && this.sent.get(common) == slice.get(common)) {
+                ++common;
+            }
+            final int toPop = this.sent.size() - common;
+            if (toPop > 0) {
+                this.extIf.popAssumptions(toPop);
+                this.sent.subList(common, this.sent.size()).clear();
+            }
+            for (Clause c : slice.subList(common, slice.size())) {
+                super.pushAssumptionLocal(c); //redispatches
+                this.sent.add(c);
+            }
+        } catch (ExternalProtocolInterfaceException | IOException e) {
+            throw new DecisionException(e);
+        } catch (ContradictionException e) {
+            this.notInSynch = true;
+            throw e;
+        }
+    }
+
     @Override
     protected final void goFastAndImpreciseLocal() {
         this.fast = true;
@@ -102,7 +185,9 @@ public abstract class DecisionProcedureExternal extends DecisionProcedureChainOf
     protected final void pushAssumptionLocal(Clause cSimpl) 
     throws DecisionException, ContradictionException {
         this.clauses.push(cSimpl);
-        if (this.fast) {
+        if (this.slicer != null) {
+            this.slicer.push(cSimpl); //the push is deferred to the next query
+        } else if (this.fast) {
             this.notInSynch = true;
         } else if (this.extIf.isWorking()) {
         	if (this.notInSynch) {
@@ -184,7 +269,9 @@ public abstract class DecisionProcedureExternal extends DecisionProcedureChainOf
     protected final void clearAssumptionsLocal() 
     throws DecisionException {
         this.clauses.clear();
-        if (this.fast) {
+        if (this.slicer != null) {
+            this.slicer.clear(); //the sent clauses are popped at the next query
+        } else if (this.fast) {
             this.notInSynch = true;
         } else {
             try {
@@ -205,7 +292,9 @@ public abstract class DecisionProcedureExternal extends DecisionProcedureChainOf
     protected final void popAssumptionLocal() 
     throws DecisionException {
         this.clauses.pop();
-        if (this.fast) {
+        if (this.slicer != null) {
+            this.slicer.pop(); //the sent clauses are popped at the next query
+        } else if (this.fast || this.notInSynch) {
             this.notInSynch = true;
         } else {
             try {
@@ -220,12 +309,44 @@ public abstract class DecisionProcedureExternal extends DecisionProcedureChainOf
         }
     }
 
+    @Override
+    protected final void popAssumptionsLocal(int n) 
+    throws DecisionException {
+        for (int i = 1; i <= n; ++i) {
+            this.clauses.pop();
+        }
+        if (this.slicer != null) {
+            for (int i = 1; i <= n; ++i) {
+                this.slicer.pop(); //the sent clauses are popped at the next query
+            }
+        } else if (this.fast || this.notInSynch) {
+            this.notInSynch = true;
+        } else {
+            try {
+                if (this.extIf.isWorking()) {
+                    this.extIf.popAssumptions(n);
+                } else {
+                    throw new DecisionException(NOT_WORKING);					
+                }
+            } catch (ExternalProtocolInterfaceException | IOException e) {
+                throw new DecisionException(e);
+            }
+        }
+    }
+
+    @Override
+    protected final int numAssumptionsLocal() {
+        return this.clauses.size();
+    }
+
     @Override
     protected final boolean isSatLocal(Expression exp, Expression expSimpl) 
     throws DecisionException {
         try {
             if (this.extIf.isWorking()) {
-                if (this.notInSynch) {
+                if (this.slicer != null) {
+                    synchTo(this.slicer.slice(Collections.singletonList(expSimpl)));
+                } else if (this.notInSynch) {
                     resynch();
                 }
                 this.extIf.sendClauseAssume(expSimpl);
@@ -242,12 +363,35 @@ public abstract class DecisionProcedureExternal extends DecisionProcedureChainOf
         }
     }
 
+    @Override
+    protected final boolean[] isSatLocal(List<Expression> exps, List<Expression> expsSimpl) 
+    throws DecisionException {
+        try {
+            if (this.extIf.isWorking()) {
+                if (this.slicer != null) {
+                    synchTo(this.slicer.slice(expsSimpl));
+                } else if (this.notInSynch) {
+                    resynch();
+                }
+                return this.extIf.checkSat(new ArrayList<Primitive>(expsSimpl));
+            } else {
+                throw new DecisionException(NOT_WORKING);
+            }
+        } catch (ExternalProtocolInterfaceException | IOException e) {
+            throw new DecisionException(e);
+        } catch (ContradictionException e) {
+        	return new boolean[exps.size()];
+        }
+    }
+
     @Override
     protected final boolean isSatAliasesLocal(ReferenceSymbolic r, long heapPos, Objekt o) 
     throws DecisionException {
         try {
             if (this.extIf.isWorking()) {
-                if (this.notInSynch) {
+                if (this.slicer != null) {
+                    synchTo(this.slicer.all());
+                } else if (this.notInSynch) {
                     resynch();
                 }
                 this.extIf.sendClauseAssumeAliases(r, heapPos, o);
@@ -269,7 +413,9 @@ public abstract class DecisionProcedureExternal extends DecisionProcedureChainOf
     throws DecisionException {
         try {
             if (this.extIf.isWorking()) {
-                if (this.notInSynch) {
+                if (this.slicer != null) {
+                    synchTo(this.slicer.all());
+                } else if (this.notInSynch) {
                     resynch();
                 }
                 this.extIf.sendClauseAssumeExpands(r, classFile.getClassName());
@@ -291,7 +437,9 @@ public abstract class DecisionProcedureExternal extends DecisionProcedureChainOf
     throws DecisionException {
         try {
             if (this.extIf.isWorking()) {
-                if (this.notInSynch) {
+                if (this.slicer != null) {
+                    synchTo(this.slicer.all());
+                } else if (this.notInSynch) {
                     resynch();
                 }
                 this.extIf.sendClauseAssumeNull(r);
@@ -312,8 +460,12 @@ public abstract class DecisionProcedureExternal extends DecisionProcedureChainOf
     protected Map<PrimitiveSymbolic, Simplex> getModelLocal()
     throws DecisionException {
         try {
+            if (this.slicer != null) {
+                //the model must satisfy the whole current assumption
+                synchTo(this.slicer.all());
+            }
             return this.extIf.getModel();
-        } catch (ExternalProtocolInterfaceException | IOException e) {
+        } catch (ExternalProtocolInterfaceException | IOException | ContradictionException e) {
             throw new DecisionException(e);
         }
     }
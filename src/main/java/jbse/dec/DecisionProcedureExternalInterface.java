@@ -1,6 +1,7 @@
 package jbse.dec;
 
 import java.io.IOException;
+import java.util.List;
 import java.util.Map;
 
 import jbse.bc.ClassHierarchy;
@@ -151,6 +152,38 @@ public abstract class DecisionProcedureExternalInterface {
     public abstract boolean checkSat(boolean positive)
     throws ExternalProtocolInterfaceException, IOException;
 
+    /**
+     * Verifies whether the current assumption is satisfiable 
+     * when put in logical and with each of a list of predicates,
+     * taken separately. The check of a predicate is independent
+     * from the check of the others, so implementations may 
+     * perform them concurrently. The default implementation 
+     * sends, checks and retracts the predicates one at a time.
+     * 
+     * @param predicates a {@link List}{@code <}{@link Primitive}{@code >}, 
+     *        the predicates to check. 
+     * @return a {@code boolean[]} with same length as {@code predicates},
+     *         whose {@code i}-th element is what {@link #checkSat(boolean) checkSat}{@code (true)}
+     *         would return after sending the {@code i}-th predicate in 
+     *         {@code predicates}.
+     * @throws ExternalProtocolInterfaceException if this method is 
+     *         invoked when there is a current predicate.
+     * @throws IOException if communication with the external 
+     *         decision procedure fails. 
+     */
+    public boolean[] checkSat(List<Primitive> predicates)
+    throws ExternalProtocolInterfaceException, IOException {
+        final boolean[] retVal = new boolean[predicates.size()];
+        int i = 0;
+        for (Primitive predicate : predicates) {
+            sendClauseAssume(predicate);
+            retVal[i] = checkSat(true);
+            retractClause();
+            ++i;
+        }
+        return retVal;
+    }
+
     /**
      * Returns a model of the last sent clause whose satisfiability
      * was checked with {@link #checkSat(ClassHierarchy, boolean) checkSat}.
@@ -202,6 +235,26 @@ public abstract class DecisionProcedureExternalInterface {
         throw new ExternalProtocolInterfaceException("Popping assumptions is not implemented for external decision procedure interface of class " + this.getClass().getName());
     }
 
+    /**
+     * Pops the last {@code n} clauses added to the current assumption by 
+     * calls to {@link #pushAssumption(boolean)}. It can be unimplemented.
+     * The default implementation invokes {@link #popAssumption()} 
+     * {@code n} times.
+     * 
+     * @param n a positive {@code int}, the number of clauses to pop.
+     * @throws ExternalProtocolInterfaceException if this method
+     *         is invoked when there is a current predicate, 
+     *         or if the method is unimplemented.
+     * @throws IOException if communication with the external 
+     *         decision procedure fails.
+     */
+    public void popAssumptions(int n)
+    throws ExternalProtocolInterfaceException, IOException {
+        for (int i = 1; i <= n; ++i) {
+            popAssumption();
+        }
+    }
+
     /**
      * Deletes the whole assumption set.
      * 
@@ -235,6 +235,68 @@ final class DecisionProcedureExternalInterfaceSMTLIB2_AUFNIRA extends DecisionPr
         return isSat;
     }
     
+    /**
+     * Translates a predicate to a query that checks its
+     * satisfiability, without sending it to the solver. 
+     * The translation does not change the declarations
+     * of this interface, so many queries can be prepared
+     * in advance and then checked in any order with 
+     * {@link #checkSatPrepared(String)}, provided that the 
+     * current assumption is not changed meanwhile.
+     * Only the translation uses the {@link Calculator}, 
+     * thus only this method must be invoked by the thread
+     * that owns it.
+     * 
+     * @param predicate the predicate to check. It is a {@code Primitive}.
+     * @return a {@link String}, the query.
+     * @throws ExternalProtocolInterfaceException if this method
+     *         is invoked when a current predicate already exists.
+     */
+    String prepareCheckSat(Primitive predicate) 
+    throws ExternalProtocolInterfaceException {
+        if (predicate == null || predicate.getType() != Type.BOOLEAN) {
+            throw new ExternalProtocolInterfaceException("Attempted to send an invalid clause (numeric predicate).");
+        }       
+        if (this.hasCurrentClause) {
+            throw new ExternalProtocolInterfaceException("Attempted to send a clause when a current clause already exists.");
+        }
+
+        try {
+            predicate.accept(this.v);
+            final String retVal = PUSH_1 + this.v.getQueryDeclarations() + "(assert " + this.v.getQueryAssertClause() + ")\n";
+            forgetPushedDeclarations();
+            return retVal;
+        } catch (ExternalProtocolInterfaceException | RuntimeException e) {
+            throw e;
+        } catch (Exception e) {
+            //this should never happen
+            this.working = false;
+            throw new UnexpectedInternalException(e);
+        }
+    }
+
+    /**
+     * Checks a query prepared by {@link #prepareCheckSat(Primitive)}.
+     * 
+     * @param query a {@link String}, the query.
+     * @return the same as {@link #checkSat(boolean) checkSat}{@code (true)}
+     *         after sending the predicate {@code query} was prepared from.
+     * @throws ExternalProtocolInterfaceException if this method
+     *         is invoked when a current predicate already exists.
+     * @throws IOException if communication with the external 
+     *         decision procedure fails. 
+     */
+    boolean checkSatPrepared(String query) 
+    throws ExternalProtocolInterfaceException, IOException {
+        if (this.hasCurrentClause) {
+            throw new ExternalProtocolInterfaceException("Attempted to check a prepared query when a current clause already exists.");
+        }
+        sendAndCheckAnswer(query);
+        final boolean isSat = sendAndCheckAnswerChecksat();
+        sendAndCheckAnswer(POP_1);
+        return isSat;
+    }
+    
     @Override
     public Map<PrimitiveSymbolic, Simplex> getModel() 
     throws NoModelException, ExternalProtocolInterfaceException, IOException {
@@ -431,6 +493,27 @@ final class DecisionProcedureExternalInterfaceSMTLIB2_AUFNIRA extends DecisionPr
         }
     }
 
+    @Override
+    public void popAssumptions(int n) throws ExternalProtocolInterfaceException, IOException {
+        //pops with a single command, forgetting all the 
+        //popped declarations at once
+        int nToPop = 0;
+        int nSymbolsToForget = 0;
+        for (int i = 1; i <= n; ++i) {
+            final int last = this.pushedClauseIsOutsideTheory.size() - 1;
+            final boolean outsideTheory = this.pushedClauseIsOutsideTheory.remove(last);
+            if (!outsideTheory) {
+                final int lastSym = this.nSymPushed.size() - 1;
+                nSymbolsToForget += this.nSymPushed.remove(lastSym);
+                ++nToPop;
+            }
+        }
+        if (nToPop > 0) {
+            this.v.removeDeclaredSymbols(nSymbolsToForget);
+            sendAndCheckAnswer(POP_BEGIN + nToPop + POP_END);
+        }
+    }
+
     @Override
     public void clear() 
     throws ExternalProtocolInterfaceException, IOException {
@@ -795,7 +878,16 @@ final class DecisionProcedureExternalInterfaceSMTLIB2_AUFNIRA extends DecisionPr
                 throw new UnexpectedInternalException("Error while parsing expression (context expected a boolean expression but it is numeric): " + x.toString());
             }
             final Primitive arg = x.getArg();
-            arg.accept(new SMTLIB2ExpressionVisitor(this, arg.getType() == Type.BOOLEAN));
+            if (arg instanceof Expression && ((Expression) arg).getOperator().returnsBoolean()) {
+                //the arg is a SMTLIB2 Bool (e.g., the widening of a comparison
+                //produced by merging the branches of an if*): converts it to 0/1
+                arg.accept(new SMTLIB2ExpressionVisitor(this, true));
+                this.clauseStack.push("(ite " + this.clauseStack.pop() + " 1 0)");
+                return;
+            }
+            //all the other boolean values are SMTLIB2 Int (see toSMTLIB2Type),
+            //but boolean constants must be explicitly translated to 0/1
+            arg.accept(new SMTLIB2ExpressionVisitor(this, arg.getType() == Type.BOOLEAN && !(arg instanceof Simplex)));
             if (Type.isPrimitiveIntegral(x.getType()) != Type.isPrimitiveIntegral(arg.getType())) {
                 this.clauseStack.push("(to_real " + this.clauseStack.pop() + ")");
             }
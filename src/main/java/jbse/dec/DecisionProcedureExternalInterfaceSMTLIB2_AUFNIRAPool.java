@@ -0,0 +1,314 @@
+package jbse.dec;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import jbse.common.exc.UnexpectedInternalException;
+import jbse.dec.exc.ExternalProtocolInterfaceException;
+import jbse.dec.exc.NoModelException;
+import jbse.mem.Objekt;
+import jbse.val.Calculator;
+import jbse.val.Primitive;
+import jbse.val.PrimitiveSymbolic;
+import jbse.val.ReferenceSymbolic;
+import jbse.val.Simplex;
+
+/**
+ * {@link DecisionProcedureExternalInterface} to a pool of generic
+ * SMTLIB 2 solver processes that support the AUFNIRA logic.
+ * Each process has its own incremental context, that is kept
+ * in synch with the current assumption by broadcasting all the
+ * assumption changes to all the processes. A single satisfiability
+ * check is done by one process only, while the independent checks
+ * of a {@link #checkSat(List)} invocation are split among all the
+ * processes and performed concurrently.
+ */
+final class DecisionProcedureExternalInterfaceSMTLIB2_AUFNIRAPool extends DecisionProcedureExternalInterface {
+    /** The solvers in the pool. */
+    private final DecisionProcedureExternalInterfaceSMTLIB2_AUFNIRA[] solvers;
+
+    /** The threads that talk to the solvers other than the first one. */
+    private final ExecutorService executor;
+
+    /**
+     * An operation on a solver in the pool.
+     */
+    @FunctionalInterface
+    private interface SolverTask<R> {
+        R run(DecisionProcedureExternalInterfaceSMTLIB2_AUFNIRA solver)
+        throws ExternalProtocolInterfaceException, IOException;
+    }
+
+    /**
+     * An operation on the {@code k}-th solver in the pool.
+     */
+    @FunctionalInterface
+    private interface IndexedSolverTask<R> {
+        R run(DecisionProcedureExternalInterfaceSMTLIB2_AUFNIRA solver, int k)
+        throws ExternalProtocolInterfaceException, IOException;
+    }
+
+    /**
+     * Costructor.
+     *
+     * @param calc a {@link Calculator}.
+     * @param solverCommandLine a {@link List}{@code <}{@link String}{@code >}, the
+     *        command line to launch the external processes for the decision procedure.
+     * @param numSolvers a positive {@code int}, the number of processes in the pool.
+     * @throws ExternalProtocolInterfaceException if {@code numSolvers <= 0}, or if
+     *         the initialization of some solver fails.
+     * @throws IOException if communication with some solver fails.
+     */
+    public DecisionProcedureExternalInterfaceSMTLIB2_AUFNIRAPool(Calculator calc, List<String> solverCommandLine, int numSolvers)
+    throws ExternalProtocolInterfaceException, IOException {
+        if (numSolvers <= 0) {
+            throw new ExternalProtocolInterfaceException("Attempted to create a pool of solvers with size " + numSolvers + ".");
+        }
+        this.solvers = new DecisionProcedureExternalInterfaceSMTLIB2_AUFNIRA[numSolvers];
+        try {
+            for (int i = 0; i < numSolvers; ++i) {
+                this.solvers[i] = new DecisionProcedureExternalInterfaceSMTLIB2_AUFNIRA(calc, solverCommandLine);
+            }
+        } catch (ExternalProtocolInterfaceException | IOException e) {
+            for (DecisionProcedureExternalInterfaceSMTLIB2_AUFNIRA solver : this.solvers) {
+                if (solver != null) {
+                    solver.fail();
+                }
+            }
+            throw e;
+        }
+        this.executor = Executors.newFixedThreadPool(Math.max(1, numSolvers - 1), r -> {
+            final Thread t = new Thread(r, "jbse-smtlib2-pool");
+            t.setDaemon(true);
+            return t;
+        });
+    }
+
+    @Override
+    public boolean isWorking() {
+        for (DecisionProcedureExternalInterfaceSMTLIB2_AUFNIRA solver : this.solvers) {
+            if (!solver.isWorking()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    //the clauses are sent to all the solvers by the invoking thread,
+    //because translating them may use the (thread-unsafe) calculator
+
+    @Override
+    public void sendClauseAssume(Primitive predicate)
+    throws ExternalProtocolInterfaceException, IOException {
+        for (DecisionProcedureExternalInterfaceSMTLIB2_AUFNIRA solver : this.solvers) {
+            solver.sendClauseAssume(predicate);
+        }
+    }
+
+    @Override
+    public void sendClauseAssumeAliases(ReferenceSymbolic r, long heapPos, Objekt o)
+    throws ExternalProtocolInterfaceException, IOException {
+        for (DecisionProcedureExternalInterfaceSMTLIB2_AUFNIRA solver : this.solvers) {
+            solver.sendClauseAssumeAliases(r, heapPos, o);
+        }
+    }
+
+    @Override
+    public void sendClauseAssumeExpands(ReferenceSymbolic r, String className)
+    throws ExternalProtocolInterfaceException, IOException {
+        for (DecisionProcedureExternalInterfaceSMTLIB2_AUFNIRA solver : this.solvers) {
+            solver.sendClauseAssumeExpands(r, className);
+        }
+    }
+
+    @Override
+    public void sendClauseAssumeNull(ReferenceSymbolic r)
+    throws ExternalProtocolInterfaceException, IOException {
+        for (DecisionProcedureExternalInterfaceSMTLIB2_AUFNIRA solver : this.solvers) {
+            solver.sendClauseAssumeNull(r);
+        }
+    }
+
+    @Override
+    public void sendClauseAssumeClassInitialized(String className)
+    throws ExternalProtocolInterfaceException, IOException {
+        for (DecisionProcedureExternalInterfaceSMTLIB2_AUFNIRA solver : this.solvers) {
+            solver.sendClauseAssumeClassInitialized(className);
+        }
+    }
+
+    @Override
+    public void sendClauseAssumeClassNotInitialized(String className)
+    throws ExternalProtocolInterfaceException, IOException {
+        for (DecisionProcedureExternalInterfaceSMTLIB2_AUFNIRA solver : this.solvers) {
+            solver.sendClauseAssumeClassNotInitialized(className);
+        }
+    }
+
+    @Override
+    public void retractClause()
+    throws ExternalProtocolInterfaceException, IOException {
+        for (DecisionProcedureExternalInterfaceSMTLIB2_AUFNIRA solver : this.solvers) {
+            solver.retractClause();
+        }
+    }
+
+    @Override
+    public boolean checkSat(boolean positive)
+    throws ExternalProtocolInterfaceException, IOException {
+        return this.solvers[0].checkSat(positive);
+    }
+
+    @Override
+    public boolean[] checkSat(List<Primitive> predicates)
+    throws ExternalProtocolInterfaceException, IOException {
+        //prepares the queries in this thread, assigning
+        //them to the solvers in round robin
+        final int numSolvers = this.solvers.length;
+        final int numQueries = predicates.size();
+        final String[] queries = new String[numQueries];
+        for (int i = 0; i < numQueries; ++i) {
+            queries[i] = this.solvers[i % numSolvers].prepareCheckSat(predicates.get(i));
+        }
+
+        //checks them concurrently
+        final boolean[] retVal = new boolean[numQueries];
+        forAll(Math.min(numSolvers, numQueries), (solver, k) -> {
+            for (int i = k; i < numQueries; i += numSolvers) {
+                retVal[i] = solver.checkSatPrepared(queries[i]);
+            }
+            return null;
+        });
+        return retVal;
+    }
+
+    @Override
+    public Map<PrimitiveSymbolic, Simplex> getModel()
+    throws NoModelException, ExternalProtocolInterfaceException, IOException {
+        return this.solvers[0].getModel();
+    }
+
+    @Override
+    public void pushAssumption(boolean positive)
+    throws ExternalProtocolInterfaceException, IOException {
+        forAll(solver -> { solver.pushAssumption(positive); return null; });
+    }
+
+    @Override
+    public void popAssumption()
+    throws ExternalProtocolInterfaceException, IOException {
+        forAll(solver -> { solver.popAssumption(); return null; });
+    }
+
+    @Override
+    public void popAssumptions(int n)
+    throws ExternalProtocolInterfaceException, IOException {
+        forAll(solver -> { solver.popAssumptions(n); return null; });
+    }
+
+    @Override
+    public void clear()
+    throws ExternalProtocolInterfaceException, IOException {
+        forAll(solver -> { solver.clear(); return null; });
+    }
+
+    @Override
+    public void quit()
+    throws ExternalProtocolInterfaceException, IOException {
+        try {
+            forAll(solver -> { solver.quit(); return null; });
+        } finally {
+            this.executor.shutdown();
+        }
+    }
+
+    @Override
+    public void fail() {
+        for (DecisionProcedureExternalInterfaceSMTLIB2_AUFNIRA solver : this.solvers) {
+            solver.fail();
+        }
+        this.executor.shutdownNow();
+    }
+
+    /**
+     * Runs a task on all the solvers concurrently.
+     *
+     * @param task a {@link SolverTask}.
+     * @throws ExternalProtocolInterfaceException if the task throws
+     *         it on some solver.
+     * @throws IOException if the task throws it on some solver.
+     */
+    private void forAll(SolverTask<?> task)
+    throws ExternalProtocolInterfaceException, IOException {
+        forAll(this.solvers.length, (solver, k) -> task.run(solver));
+    }
+
+    /**
+     * Runs a task on the first solvers in the pool concurrently.
+     * The task for the first solver is run by the invoking thread.
+     *
+     * @param n an {@code int}, the number of solvers to run the
+     *        task on.
+     * @param task an {@link IndexedSolverTask}.
+     * @throws ExternalProtocolInterfaceException if the task throws
+     *         it on some solver.
+     * @throws IOException if the task throws it on some solver.
+     */
+    private void forAll(int n, IndexedSolverTask<?> task)
+    throws ExternalProtocolInterfaceException, IOException {
+        final ArrayList<Future<?>> futures = new ArrayList<>();
+        for (int k = 1; k < n; ++k) {
+            final int kk = k;
+            futures.add(this.executor.submit(() -> task.run(this.solvers[kk], kk)));
+        }
+        Throwable failure = null;
+        try {
+            if (n > 0) {
+                task.run(this.solvers[0], 0);
+            }
+        } catch (ExternalProtocolInterfaceException | IOException | RuntimeException e) {
+            failure = e;
+        }
+
+        //waits for all the other solvers, even in case of failure,
+        //so no solver is left in the middle of a command
+        boolean interrupted = false;
+        for (Future<?> future : futures) {
+            while (true) {
+                try {
+                    future.get();
+                    break;
+                } catch (InterruptedException e) {
+                    interrupted = true;
+                } catch (ExecutionException e) {
+                    if (failure == null) {
+                        failure = e.getCause();
+                    }
+                    break;
+                }
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+
+        if (failure instanceof ExternalProtocolInterfaceException) {
+            throw (ExternalProtocolInterfaceException) failure;
+        } else if (failure instanceof IOException) {
+            throw (IOException) failure;
+        } else if (failure instanceof RuntimeException) {
+            throw (RuntimeException) failure;
+        } else if (failure instanceof Error) {
+            throw (Error) failure;
+        } else if (failure != null) {
+            //this should never happen
+            throw new UnexpectedInternalException(failure);
+        }
+    }
+}
@@ -38,6 +38,34 @@ public final class DecisionProcedureSMTLIB2_AUFNIRA extends DecisionProcedureExt
 		}
 	}
 	
+	/**
+	 * Constructor for a decision procedure that talks to
+	 * a pool of solver processes.
+	 * 
+	 * @param next the next {@link DecisionProcedure} in the chain.
+	 * @param solverCommandLine a {@link List}{@code <}{@link String}{@code >}, 
+	 *        the command line to launch a solver process.
+	 * @param numSolvers a positive {@code int}, the number of solver
+	 *        processes. Independent satisfiability checks are 
+	 *        performed concurrently by different solver processes.
+	 * @throws InvalidInputException if {@code next == null}.
+	 * @throws DecisionException if {@code numSolvers <= 0}, or if 
+	 *         launching the solvers fails.
+	 */
+	public DecisionProcedureSMTLIB2_AUFNIRA(DecisionProcedure next, List<String> solverCommandLine, int numSolvers) 
+	throws InvalidInputException, DecisionException {
+		super(next);
+		try {
+			if (numSolvers == 1) {
+				this.extIf = new DecisionProcedureExternalInterfaceSMTLIB2_AUFNIRA(getCalculator(), solverCommandLine);
+			} else {
+				this.extIf = new DecisionProcedureExternalInterfaceSMTLIB2_AUFNIRAPool(getCalculator(), solverCommandLine, numSolvers);
+			}
+		} catch (ExternalProtocolInterfaceException | IOException e) {
+			throw new DecisionException(e);
+		}
+	}
+	
 	@Override
 	protected boolean canPopAssumptions() {
 		return true; //TODO should query the external tool for capabilities?
@@ -953,6 +953,11 @@ public final class DecisionProcedureSignAnalysis extends DecisionProcedureChainO
 		@Override
 		public void visitWideningConversion(WideningConversion x)
 		throws Exception {
+			if (x.getArg().getType() == Type.BOOLEAN) {
+				//booleans are widened to 0 or 1 (e.g., by merging the branches of an if*)
+				this.result = SignPredicate.GE;
+				return;
+			}
 			x.getArg().accept(this); //same sign as argument
 		}
 
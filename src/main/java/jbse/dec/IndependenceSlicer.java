@@ -0,0 +1,208 @@
+package jbse.dec;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import jbse.common.exc.UnexpectedInternalException;
+import jbse.mem.Clause;
+import jbse.mem.ClauseAssume;
+import jbse.val.Any;
+import jbse.val.Expression;
+import jbse.val.NarrowingConversion;
+import jbse.val.Primitive;
+import jbse.val.PrimitiveSymbolicApply;
+import jbse.val.PrimitiveSymbolicAtomic;
+import jbse.val.PrimitiveVisitor;
+import jbse.val.Simplex;
+import jbse.val.Term;
+import jbse.val.Value;
+import jbse.val.WideningConversion;
+
+/**
+ * Keeps a stack of {@link Clause}s and slices it with respect
+ * to queries, by selecting the clauses that are transitively
+ * dependent on the query through shared symbols. Only the
+ * {@link ClauseAssume}s are considered, since the other clauses
+ * constrain references and never share symbols with the
+ * numeric queries.
+ */
+final class IndependenceSlicer {
+    /** The clauses, in push order. */
+    private final ArrayList<Clause> clauses = new ArrayList<>();
+
+    /** The symbols of the clauses, in push order. */
+    private final ArrayList<Set<Primitive>> symbols = new ArrayList<>();
+
+    /**
+     * Maps each symbol to the (increasing) positions
+     * in {@link #clauses} of the clauses where it occurs.
+     */
+    private final HashMap<Primitive, ArrayList<Integer>> occurrences = new HashMap<>();
+
+    /**
+     * Pushes a clause.
+     *
+     * @param c a {@link Clause}.
+     */
+    void push(Clause c) {
+        final int pos = this.clauses.size();
+        final Set<Primitive> cSymbols = (c instanceof ClauseAssume ? symbolsOf(((ClauseAssume) c).getCondition()) : Collections.emptySet());
+        this.clauses.add(c);
+        this.symbols.add(cSymbols);
+        for (Primitive s : cSymbols) {
+            ArrayList<Integer> occ = this.occurrences.get(s);
+            if (occ == null) {
+                occ = new ArrayList<>();
+                this.occurrences.put(s, occ);
+            }
+            occ.add(pos);
+        }
+    }
+
+    /**
+     * Pops the last pushed clause.
+     *
+     * @return the popped {@link Clause}.
+     */
+    Clause pop() {
+        final int pos = this.clauses.size() - 1;
+        for (Primitive s : this.symbols.get(pos)) {
+            final ArrayList<Integer> occ = this.occurrences.get(s);
+            occ.remove(occ.size() - 1); //it is pos
+            if (occ.isEmpty()) {
+                this.occurrences.remove(s);
+            }
+        }
+        this.symbols.remove(pos);
+        return this.clauses.remove(pos);
+    }
+
+    /**
+     * Removes all the clauses.
+     */
+    void clear() {
+        this.clauses.clear();
+        this.symbols.clear();
+        this.occurrences.clear();
+    }
+
+    /**
+     * Returns all the clauses.
+     *
+     * @return a {@link List}{@code <}{@link Clause}{@code >}
+     *         with all the pushed clauses, in push order.
+     */
+    List<Clause> all() {
+        return Collections.unmodifiableList(this.clauses);
+    }
+
+    /**
+     * Slices the clauses with respect to some queries.
+     *
+     * @param queries a {@link List}{@code <}{@link Primitive}{@code >}.
+     * @return a {@link List}{@code <}{@link Clause}{@code >} with the
+     *         clauses that share symbols with some query, or with
+     *         another clause in the result, in push order.
+     */
+    List<Clause> slice(List<? extends Primitive> queries) {
+        final HashSet<Primitive> seen = new HashSet<>();
+        for (Primitive query : queries) {
+            seen.addAll(symbolsOf(query));
+        }
+        final ArrayDeque<Primitive> toVisit = new ArrayDeque<>(seen);
+        final boolean[] inSlice = new boolean[this.clauses.size()];
+        while (!toVisit.isEmpty()) {
+            final ArrayList<Integer> occ = this.occurrences.get(toVisit.pop());
+            if (occ == null) {
+                continue;
+            }
+            for (int pos : occ) {
+                if (!inSlice[pos]) {
+                    inSlice[pos] = true;
+                    for (Primitive s : this.symbols.get(pos)) {
+                        if (seen.add(s)) {
+                            toVisit.push(s);
+                        }
+                    }
+                }
+            }
+        }
+        final ArrayList<Clause> retVal = new ArrayList<>();
+        for (int pos = 0; pos < inSlice.length; ++pos) {
+            if (inSlice[pos]) {
+                retVal.add(this.clauses.get(pos));
+            }
+        }
+        return retVal;
+    }
+
+    /**
+     * Returns the symbols of a {@link Primitive}, i.e., its
+     * atomic symbols, terms and function applications
+     * (these latter together with the symbols of their
+     * arguments).
+     *
+     * @param p a {@link Primitive}.
+     * @return a {@link Set}{@code <}{@link Primitive}{@code >}.
+     */
+    private static Set<Primitive> symbolsOf(Primitive p) {
+        final HashSet<Primitive> retVal = new HashSet<>();
+        final PrimitiveVisitor v = new PrimitiveVisitor() {
+            @Override
+            public void visitAny(Any x) { }
+
+            @Override
+            public void visitExpression(Expression e) throws Exception {
+                if (!e.isUnary()) {
+                    e.getFirstOperand().accept(this);
+                }
+                e.getSecondOperand().accept(this);
+            }
+
+            @Override
+            public void visitPrimitiveSymbolicApply(PrimitiveSymbolicApply x) throws Exception {
+                retVal.add(x);
+                for (Value arg : x.getArgs()) {
+                    if (arg instanceof Primitive) {
+                        ((Primitive) arg).accept(this);
+                    }
+                }
+            }
+
+            @Override
+            public void visitPrimitiveSymbolicAtomic(PrimitiveSymbolicAtomic s) {
+                retVal.add(s);
+            }
+
+            @Override
+            public void visitSimplex(Simplex x) { }
+
+            @Override
+            public void visitTerm(Term x) {
+                retVal.add(x);
+            }
+
+            @Override
+            public void visitNarrowingConversion(NarrowingConversion x) throws Exception {
+                x.getArg().accept(this);
+            }
+
+            @Override
+            public void visitWideningConversion(WideningConversion x) throws Exception {
+                x.getArg().accept(this);
+            }
+        };
+        try {
+            p.accept(v);
+        } catch (Exception e) {
+            //this should never happen
+            throw new UnexpectedInternalException(e);
+        }
+        return retVal;
+    }
+}
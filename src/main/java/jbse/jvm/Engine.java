@@ -11,7 +11,6 @@ import static jbse.bc.Opcodes.OP_INVOKEVIRTUAL;
 import static jbse.bc.Opcodes.OP_IRETURN;
 import static jbse.bc.Opcodes.OP_RETURN;
 
-import java.util.Collection;
 import java.util.List;
 
 import jbse.algo.Algorithm;
@@ -75,6 +74,12 @@ public final class Engine implements AutoCloseable {
 
     /** The current JVM {@link State} of the symbolic execution. */
     private State currentState;
+    
+    /** 
+     * The path condition clauses that were sent to the
+     * decision procedure as its current assumptions.
+     */
+    private List<Clause> currentAssumptions;
 
     /** 
      * Whether some of the references resolved by the last
@@ -181,8 +186,8 @@ public final class Engine implements AutoCloseable {
     		}
 
     		//synchronizes the decision procedure with the current path condition
-            final Collection<Clause> currentAssumptions = this.currentState.getPathCondition();
-    		this.ctx.decisionProcedure.setAssumptions(currentAssumptions);
+            this.currentAssumptions = this.currentState.getPathCondition();
+    		this.ctx.decisionProcedure.setAssumptions(this.currentAssumptions);
     		this.currentState.resetLastPathConditionClauses();
     		
     		//if the decision procedure is a guidance decision procedure,
@@ -362,6 +367,7 @@ public final class Engine implements AutoCloseable {
         		this.ctx.decisionProcedure.addAssumptions(this.currentState.getLastPathConditionPushedClauses());
         		this.currentState.resetLastPathConditionClauses();
         	}
+        	this.currentAssumptions = this.currentState.getPathCondition();
 
         	//notifies observers of variables
         	if (this.currentState.phase() == Phase.POST_INITIAL) {
@@ -481,11 +487,18 @@ public final class Engine implements AutoCloseable {
 
         final BranchPoint bp = this.ctx.stateTree.nextBranch();
         final boolean isLast = (getNumOfStatesAtBranch(bp) == 1);
+        final int scopeDepth = this.ctx.stateTree.nextBranchScopeDepth();
 
         try {
             this.currentState = this.ctx.stateTree.nextState();
-            final Collection<Clause> currentAssumptions = this.currentState.getPathCondition();
-            this.ctx.decisionProcedure.setAssumptions(currentAssumptions);
+            final List<Clause> newAssumptions = this.currentState.getPathCondition();
+            if (sharesScope(newAssumptions, scopeDepth)) {
+                //pops to the branch scope without comparing the clauses
+                this.ctx.decisionProcedure.setAssumptions(newAssumptions, scopeDepth);
+            } else {
+                this.ctx.decisionProcedure.setAssumptions(newAssumptions);
+            }
+            this.currentAssumptions = newAssumptions;
             this.currentState.resetLastPathConditionClauses();
 
             //updates the counters for depth/count scope
@@ -510,6 +523,86 @@ public final class Engine implements AutoCloseable {
         return bp;
     }
 
+    /**
+     * Checks whether the current assumptions of the decision
+     * procedure are still those of the scope of a branch.
+     * Since path conditions are only extended, and each
+     * clause is added to exactly one path condition, two path
+     * conditions with the same clause at the same position have
+     * the same clauses up to that position.
+     * 
+     * @param newAssumptions the {@link List}{@code <}{@link Clause}{@code >}
+     *        of the path condition of a state in the branch.
+     * @param scopeDepth the scope depth of the branch.
+     * @return {@code true} iff the first {@code scopeDepth} current 
+     *         assumptions are the first {@code scopeDepth} clauses in 
+     *         {@code newAssumptions}.
+     */
+    private boolean sharesScope(List<Clause> newAssumptions, int scopeDepth) {
+        if (scopeDepth < 0 || this.currentAssumptions == null || 
+            scopeDepth > this.currentAssumptions.size() || scopeDepth > newAssumptions.size()) {
+            return false;
+        }
+        return (scopeDepth == 0 || this.currentAssumptions.get(scopeDepth - 1) == newAssumptions.get(scopeDepth - 1));
+    }
+
+    /**
+     * Removes from the pending states the one that is closest
+     * to the root of the symbolic execution tree, so it can be
+     * explored by another {@link Engine}. The depth and count
+     * of the returned state are updated as {@link #backtrack()}
+     * would do.
+     *
+     * @return a post-initial {@link State}, or {@code null} if
+     *         no pending post-initial state exists.
+     */
+    State stealPendingState() {
+        try {
+            final State retVal = this.ctx.stateTree.stealState();
+            if (retVal != null) {
+                if (retVal.branchingDecision()) {
+                    retVal.incDepth();
+                    retVal.resetCount();
+                } else {
+                    retVal.incCount();
+                }
+            }
+            return retVal;
+        } catch (FrozenStateException e) {
+            //this should never happen
+            throw new UnexpectedInternalException(e);
+        }
+    }
+
+    /**
+     * Resumes the execution from a state stolen from another
+     * {@link Engine} by means of {@link #stealPendingState()}.
+     * This {@link Engine} must have no pending states.
+     *
+     * @param s the {@link State} from which execution resumes.
+     * @throws DecisionBacktrackException iff the decision procedure fails for
+     *         any reason.
+     * @throws ContradictionException iff {@code s} has a contradictory
+     *         path condition; In this case it is
+     *         {@link #canStep() canStep}{@code () == false}.
+     */
+    void resume(State s) throws DecisionBacktrackException, ContradictionException {
+        this.currentState = s;
+        try {
+            this.currentAssumptions = this.currentState.getPathCondition();
+            this.ctx.decisionProcedure.setAssumptions(this.currentAssumptions);
+            this.currentState.resetLastPathConditionClauses();
+        } catch (DecisionException e) {
+            throw new DecisionBacktrackException(e);
+        } catch (ContradictionException e) {
+            stopCurrentPath();
+            throw e;
+        } catch (InvalidInputException e) {
+            //this should never happen
+            throw new UnexpectedInternalException(e);
+        }
+    }
+
     /**
      * Tests whether some of the references resolved by the last
      * decision procedure call were <em>partially</em>, resolved, 
@@ -11,12 +11,15 @@ import jbse.bc.Signature;
 import jbse.bc.exc.InvalidClassFileFactoryClassException;
 import jbse.common.exc.ClasspathException;
 import jbse.common.exc.InvalidInputException;
+import jbse.common.exc.UnexpectedInternalException;
 import jbse.dec.exc.DecisionException;
 import jbse.jvm.exc.CannotBuildEngineException;
 import jbse.jvm.exc.InitializationException;
 import jbse.jvm.exc.NonexistingObservedVariablesException;
 import jbse.mem.exc.ContradictionException;
 import jbse.tree.DecisionAlternativeComparators;
+import jbse.tree.StateFrontier;
+import jbse.tree.StateFrontierBounded;
 
 /**
  * A Builder for {@link Engine}.
@@ -97,6 +100,11 @@ public class EngineBuilder {
 	        //sets the meta-level directives
 	        setOverrides(ctx, parameters);
 	        setUninterpreted(ctx, parameters);
+	        setHostDelegated(ctx, parameters);
+	        setSummarized(ctx, parameters);
+	        ctx.setStateMerging(parameters.getStateMerging());
+	        ctx.setLazierResolution(parameters.getLazierResolution());
+	        setSearchStrategy(ctx, parameters);
 		
 	        //sets the observers
 	        final VariableObserverManager vom = new VariableObserverManager(parameters.getMethodSignature().getClassName());
@@ -139,6 +147,32 @@ public class EngineBuilder {
         }
     }
 
+    private static void setHostDelegated(ExecutionContext ctx, EngineParameters parameters) {
+        for (String[] rule : parameters.getHostDelegated()) {
+            ctx.addHostDelegated(new Signature(rule[0], rule[1], rule[2]));
+        }
+    }
+
+    private static void setSummarized(ExecutionContext ctx, EngineParameters parameters) {
+        for (String[] rule : parameters.getSummarized()) {
+            ctx.addSummarized(new Signature(rule[0], rule[1], rule[2]));
+        }
+    }
+
+    private static void setSearchStrategy(ExecutionContext ctx, EngineParameters parameters) {
+        final StateFrontier frontier = parameters.getSearchStrategy().toInternal();
+        try {
+            if (parameters.getMaxPendingStates() > 0) {
+                ctx.stateTree.setFrontier(new StateFrontierBounded(frontier, parameters.getMaxPendingStates()));
+            } else {
+                ctx.stateTree.setFrontier(frontier);
+            }
+        } catch (InvalidInputException e) {
+            //this should never happen
+            throw new UnexpectedInternalException(e);
+        }
+    }
+
     private static void setObservers(VariableObserverManager vom, EngineParameters parameters) {
         final List<Signature> observedFields = parameters.getObservedFields();
         final List<ExecutionObserver> observers = parameters.getObservers();
@@ -13,6 +13,7 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 import jbse.bc.Classpath;
@@ -21,6 +22,12 @@ import jbse.dec.DecisionProcedureAlgorithms;
 import jbse.mem.State;
 import jbse.mem.exc.ThreadStackEmptyException;
 import jbse.rules.TriggerRulesRepo;
+import jbse.tree.StateFrontier;
+import jbse.tree.StateFrontierBFS;
+import jbse.tree.StateFrontierCoverageGuided;
+import jbse.tree.StateFrontierDFS;
+import jbse.tree.StateFrontierIterativeDeepening;
+import jbse.tree.StateFrontierRandomPath;
 import jbse.tree.StateTree;
 import jbse.val.Calculator;
 
@@ -40,10 +47,12 @@ import jbse.val.Calculator;
  * </ul>
  * </li>
  * <li>The signatures of the methods that must be treated as uninterpreted
- * functions, or for which there is a meta-level overriding implementation;</li>
+ * functions, that must be delegated to the host JVM, or for which there is 
+ * a meta-level overriding implementation;</li>
  * <li>The signatures of the trigger instrumentation methods plus the 
  * reference resolution events that fire them;</li> 
- * <li>A {@link StateIdentificationMode} and a {@link BreadthMode};</li>
+ * <li>A {@link StateIdentificationMode}, a {@link BreadthMode} and
+ * a {@link SearchStrategy};</li>
  * <li>A set of {@link ExecutionObserver}s plus the
  * specification of the variables they observe (none by default).</li> 
  * </ul> 
@@ -146,12 +155,74 @@ public final class EngineParameters implements Cloneable {
         }
     }
 
+    /**
+     * Enumeration of the strategies for choosing the 
+     * pending state where the execution backtracks.
+     * 
+     * @author Pietro Braione
+     */
+    public static enum SearchStrategy {
+        /**
+         * Backtracks to the most recently created 
+         * pending state (depth-first search).
+         */
+        DFS(StateFrontierDFS::new),
+
+        /**
+         * Backtracks to the least recently created 
+         * pending state (breadth-first search).
+         */
+        BFS(StateFrontierBFS::new),
+
+        /**
+         * Backtracks to a random pending state, 
+         * preferring the shallow ones as a random 
+         * walk from the root of the symbolic 
+         * execution tree would do.
+         */
+        RANDOM_PATH(StateFrontierRandomPath::new),
+
+        /**
+         * Backtracks depth-first to the pending states
+         * within a depth bound, increasing the bound
+         * when no such state exists.
+         */
+        ITERATIVE_DEEPENING(StateFrontierIterativeDeepening::new),
+
+        /**
+         * Backtracks to the pending state whose 
+         * program point has been reached the least
+         * times, preferring the states that reach 
+         * unexplored code.
+         */
+        COVERAGE_GUIDED(StateFrontierCoverageGuided::new);
+
+        private final Supplier<StateFrontier> internal;
+
+        private SearchStrategy(Supplier<StateFrontier> internal) {
+            this.internal = internal;
+        }
+
+        public final StateFrontier toInternal() {
+            return this.internal.get();
+        }
+    }
+
     /** The state identification mode. */
     private StateIdentificationMode stateIdMode = StateIdentificationMode.COMPACT;
 
     /** The breadth mode. */
     private BreadthMode breadthMode = BreadthMode.MORE_THAN_ONE;
 
+    /** The search strategy. */
+    private SearchStrategy searchStrategy = SearchStrategy.DFS;
+
+    /** 
+     * The maximum number of pending states handled by
+     * the search strategy, {@code 0} for unlimited.
+     */
+    private int maxPendingStates = 0;
+
     /** 
      * The initial {@link State} of the symbolic execution, or
      * {@code null} iff an initial state for a method invocation 
@@ -230,6 +301,18 @@ public final class EngineParameters implements Cloneable {
     /** The methods to be handled as uninterpreted functions (patterns). */
     private ArrayList<String[]> uninterpretedPattern = new ArrayList<>();
 
+    /** The pure methods to be delegated to the host JVM. */
+    private ArrayList<String[]> hostDelegated = new ArrayList<>();
+
+    /** The pure methods whose invocations may be summarized. */
+    private ArrayList<String[]> summarized = new ArrayList<>();
+
+    /** Whether the branches of the if* bytecodes must be merged when possible. */
+    private boolean stateMerging = false;
+
+    /** Whether the resolution of the symbolic references must be postponed when possible. */
+    private boolean lazierResolution = false;
+
     /**  
      * The signature of the method to be executed; overridden by {@code initialState}'s 
      * current method when {@code initialState != null}.
@@ -327,6 +410,68 @@ public final class EngineParameters implements Cloneable {
         return this.breadthMode;
     }
 
+    /**
+     * Sets the search strategy, i.e., how the pending 
+     * state where the execution backtracks is chosen.
+     * By default it is {@link SearchStrategy#DFS}.
+     * 
+     * @param searchStrategy a {@link SearchStrategy}.
+     * @throws NullPointerException if {@code searchStrategy == null}.
+     */
+    public void setSearchStrategy(SearchStrategy searchStrategy) {
+        if (searchStrategy == null) {
+            throw new NullPointerException();
+        }
+        this.searchStrategy = searchStrategy;
+    }
+
+    /**
+     * Gets the search strategy.
+     * 
+     * @return the {@link SearchStrategy} set by the
+     *         last call to {@link #setSearchStrategy(SearchStrategy)}.
+     */
+    public SearchStrategy getSearchStrategy() {
+        return this.searchStrategy;
+    }
+
+    /**
+     * Sets a limited number of pending states handled by the
+     * search strategy. When the limit is reached the further 
+     * pending states are handled depth-first, and have the
+     * precedence over the ones handled by the search strategy, 
+     * until they are exhausted. This bounds the memory footprint 
+     * of the strategies that widen the symbolic execution tree, 
+     * as {@link SearchStrategy#BFS}, without dropping any state. 
+     * 
+     * @param maxPendingStates a positive {@code int}, the maximum 
+     *        number of pending states handled by the search strategy.
+     */
+    public void setMaxPendingStates(int maxPendingStates) {
+        this.maxPendingStates = maxPendingStates;
+    }
+
+    /**
+     * Sets an unlimited number of pending states handled by the 
+     * search strategy; this is the default behaviour.
+     * 
+     * @see {@link #setMaxPendingStates(int)}
+     */
+    public void setMaxPendingStatesUnlimited() {
+        this.maxPendingStates = 0;
+    }
+
+    /**
+     * Gets the maximum number of pending states handled 
+     * by the search strategy.
+     * 
+     * @return an {@code int}, the maximum number of pending 
+     *         states, or {@code 0} if unlimited.
+     */
+    public int getMaxPendingStates() {
+        return this.maxPendingStates;
+    }
+
     /** 
      * Adds an {@link ExecutionObserver} performing additional
      * actions when a field changes its value.
@@ -1013,6 +1158,134 @@ public final class EngineParameters implements Cloneable {
         return new ArrayList<>(this.uninterpretedPattern);
     }
 
+    /**
+     * Specifies that the invocations of a pure method must be executed
+     * on the host JVM, rather than symbolically, whenever all its parameters
+     * are constant (primitive values or constant {@link String}s), and 
+     * its return type is {@code void}, primitive or {@link String}. 
+     * Otherwise the method is executed symbolically, as usual.
+     * 
+     * @param methodClassName the name of the class containing the method.
+     * @param methodDescriptor the descriptor of the method.
+     * @param methodName the name of the method.
+     * @throws NullPointerException if any of the above parameters is {@code null}.
+     */
+    public void addHostDelegated(String methodClassName, String methodDescriptor, String methodName) {
+        if (methodClassName == null || methodDescriptor == null || methodName == null) {
+            throw new NullPointerException();
+        }
+        this.hostDelegated.add(new String[] { methodClassName, methodDescriptor, methodName });
+    }
+
+    /**
+     * Clears the methods set with {@link #addHostDelegated(String, String, String) addHostDelegated} 
+     * that must be delegated to the host JVM.
+     */
+    public void clearHostDelegated() {
+        this.hostDelegated.clear();
+    }
+
+    /**
+     * Returns the methods that must be delegated 
+     * to the host JVM.
+     * 
+     * @return A {@link List}{@code <}{@link String}{@code []>}, 
+     *         where each array is a triple (method class name, 
+     *         method parameters, method name).
+     */
+    public List<String[]> getHostDelegated() {
+        return new ArrayList<>(this.hostDelegated);
+    }
+
+    /**
+     * Specifies that the invocations of a pure method may be summarized.
+     * The first time the method returns a concrete value when invoked with 
+     * some concrete arguments, without making any assumption on the 
+     * symbolic state, the result is recorded, and all the subsequent invocations 
+     * with the same arguments, on all the paths, will push the recorded 
+     * result instead of executing the method.
+     * 
+     * @param methodClassName the name of the class containing the method.
+     * @param methodDescriptor the descriptor of the method.
+     * @param methodName the name of the method.
+     * @throws NullPointerException if any of the above parameters is {@code null}.
+     */
+    public void addSummarized(String methodClassName, String methodDescriptor, String methodName) {
+        if (methodClassName == null || methodDescriptor == null || methodName == null) {
+            throw new NullPointerException();
+        }
+        this.summarized.add(new String[] { methodClassName, methodDescriptor, methodName });
+    }
+
+    /**
+     * Clears the methods set with {@link #addSummarized(String, String, String) addSummarized} 
+     * that may be summarized.
+     */
+    public void clearSummarized() {
+        this.summarized.clear();
+    }
+
+    /**
+     * Returns the methods that may be summarized.
+     * 
+     * @return A {@link List}{@code <}{@link String}{@code []>}, 
+     *         where each array is a triple (method class name, 
+     *         method parameters, method name).
+     */
+    public List<String[]> getSummarized() {
+        return new ArrayList<>(this.summarized);
+    }
+
+    /**
+     * Sets whether the branches of the if* bytecodes must be merged,
+     * when possible, rather than forking the state. Only the
+     * branches that just push an integer constant before joining
+     * (as in the code for conditional expressions and materialized
+     * boolean expressions) are merged, into a single state where the
+     * pushed value is an expression of the branch condition.
+     * By default it is set to {@code false}.
+     * 
+     * @param stateMerging a {@code boolean}.
+     */
+    public void setStateMerging(boolean stateMerging) {
+        this.stateMerging = stateMerging;
+    }
+
+    /**
+     * Gets whether the branches of the if* bytecodes must be merged,
+     * when possible, rather than forking the state.
+     * 
+     * @return a {@code boolean}.
+     */
+    public boolean getStateMerging() {
+        return this.stateMerging;
+    }
+
+    /**
+     * Sets whether the resolution of the symbolic references must 
+     * be lazier, i.e., postponed when possible. When a symbolic reference 
+     * is loaded from a local variable or a field just to be stored in 
+     * a local variable or in a field of a symbolic object, its resolution 
+     * by null, aliasing or expansion is postponed until it is loaded 
+     * again, rather than forking the state at the first load.
+     * By default it is set to {@code false}.
+     * 
+     * @param lazierResolution a {@code boolean}.
+     */
+    public void setLazierResolution(boolean lazierResolution) {
+        this.lazierResolution = lazierResolution;
+    }
+
+    /**
+     * Gets whether the resolution of the symbolic references must 
+     * be lazier, i.e., postponed when possible.
+     * 
+     * @return a {@code boolean}.
+     */
+    public boolean getLazierResolution() {
+        return this.lazierResolution;
+    }
+
     /**
      * Sets the signature of the method which must be symbolically executed, 
      * and cancels the effect of any previous call to {@link #setStartingState(State)}.
@@ -1181,6 +1454,8 @@ public final class EngineParameters implements Cloneable {
         }
         o.metaOverridden = (ArrayList<String[]>) this.metaOverridden.clone();
         o.uninterpreted = (ArrayList<String[]>) this.uninterpreted.clone();
+        o.hostDelegated = (ArrayList<String[]>) this.hostDelegated.clone();
+        o.summarized = (ArrayList<String[]>) this.summarized.clone();
         return o;
     }
 }
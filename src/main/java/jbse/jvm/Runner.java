@@ -4,6 +4,7 @@ import static jbse.val.HistoryPoint.BRANCH_IDENTIFIER_SEPARATOR_COMPACT;
 import static jbse.val.HistoryPoint.BRANCH_IDENTIFIER_SEPARATOR_LONG;
 
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
 
 import jbse.algo.exc.CannotManageStateException;
 import jbse.common.exc.ClasspathException;
@@ -227,7 +228,10 @@ public class Runner {
 
         /**
          * Invoked by a {@link Runner}'s {@link Runner#run run} method whenever it is at 
-         * the end of the execution. By default does nothing.
+         * the end of the execution, i.e., when there are no more states to explore, or
+         * (in parallel runs) when another {@link Runner} stopped the exploration. It is
+         * not invoked when the {@link Runner} is stopped by another method of the 
+         * {@link Actions}. By default does nothing.
          */
         public void atEnd() { }
 
@@ -405,11 +409,24 @@ public class Runner {
     /** The timeout. */
     private long timeout;
 
-    /** Counter for the total number of analyzed paths. */
-    private long pathsTot;
+    /** 
+     * Counter for the total number of analyzed paths. It is 
+     * shared by all the {@link Runner}s of a {@link RunnerParallel}.
+     */
+    private final AtomicLong pathsTot;
+
+    /** 
+     * Counter for the number of analyzed paths stopped because of scope exhaustion.
+     * It is shared by all the {@link Runner}s of a {@link RunnerParallel}.
+     */
+    private final AtomicLong pathsOutOfScope;
 
-    /** Counter for the number of analyzed paths stopped because of scope exhaustion. */
-    private long pathsOutOfScope;
+    /** 
+     * The {@link WorkStealingFrontier} shared with the other {@link Runner}s 
+     * of a {@link RunnerParallel}, or {@code null} if this {@link Runner} 
+     * runs alone.
+     */
+    private final WorkStealingFrontier frontier;
 
     /** Stores the start time. */
     private long startTime;
@@ -442,6 +459,37 @@ public class Runner {
            Map<String, Integer> heapScope, 
            int depthScope, 
            int countScope) {
+        this(engine, actions, identifierSubregion, timeout, heapScope, depthScope, 
+             countScope, new AtomicLong(0), new AtomicLong(0), null);
+    }
+
+    /**
+     * Constructor for the {@link Runner}s of a {@link RunnerParallel}.
+     * 
+     * @param engine see {@link #Runner(Engine, Actions, String, long, Map, int, int)}.
+     * @param actions see {@link #Runner(Engine, Actions, String, long, Map, int, int)}.
+     * @param identifierSubregion see {@link #Runner(Engine, Actions, String, long, Map, int, int)}.
+     * @param timeout see {@link #Runner(Engine, Actions, String, long, Map, int, int)}.
+     * @param heapScope see {@link #Runner(Engine, Actions, String, long, Map, int, int)}.
+     * @param depthScope see {@link #Runner(Engine, Actions, String, long, Map, int, int)}.
+     * @param countScope see {@link #Runner(Engine, Actions, String, long, Map, int, int)}.
+     * @param pathsTot an {@link AtomicLong}, the counter for the total 
+     *        number of analyzed paths.
+     * @param pathsOutOfScope an {@link AtomicLong}, the counter for the 
+     *        number of analyzed paths stopped because of scope exhaustion.
+     * @param frontier the {@link WorkStealingFrontier} shared with the other 
+     *        {@link Runner}s, or {@code null}.
+     */
+    Runner(Engine engine, 
+           Actions actions, 
+           String identifierSubregion, 
+           long timeout, 
+           Map<String, Integer> heapScope, 
+           int depthScope, 
+           int countScope,
+           AtomicLong pathsTot,
+           AtomicLong pathsOutOfScope,
+           WorkStealingFrontier frontier) {
         this.engine = engine;
         this.actions = actions;
         this.actions.engine = engine;
@@ -450,8 +498,9 @@ public class Runner {
         this.heapScope = heapScope;
         this.depthScope = depthScope;
         this.countScope = countScope;
-        this.pathsOutOfScope = 0;
-        this.pathsTot = 0;
+        this.pathsOutOfScope = pathsOutOfScope;
+        this.pathsTot = pathsTot;
+        this.frontier = frontier;
     }
     
     public Engine getEngine() {
@@ -520,6 +569,10 @@ public class Runner {
             doRun();
         } finally {
             this.stopTime = System.currentTimeMillis();
+            if (this.frontier != null) {
+                //whatever the reason, the other runners must stop
+                this.frontier.close();
+            }
         }
     }
 
@@ -531,6 +584,12 @@ public class Runner {
         if (this.actions.atStart()) { return; }
         //performs the symbolic execution loop
         while (true) {
+            if (this.frontier != null && this.frontier.isClosed()) {
+                //another runner stopped the exploration
+                this.actions.atEnd();
+                return;
+            }
+            donatePendingStates();
             if (this.actions.atPathStart()) { return; }
 
             //explores the path
@@ -572,10 +631,11 @@ public class Runner {
                 if (bp != null) {
                     if (!currentStateIsInRunSubregion()) { break; }
                     if (this.actions.atBranch(bp)) { return; }
+                    donatePendingStates();
                 }
 
                 if (outOfScope()) {
-                    ++this.pathsOutOfScope; 
+                    this.pathsOutOfScope.incrementAndGet();
                     this.engine.stopCurrentPath();
                     if (outOfScopeHeap()) { 
                         if (this.actions.atScopeExhaustionHeap()) { return; }
@@ -608,16 +668,16 @@ public class Runner {
             if (currentStateIsInRunSubregion()) {
                 //in this case, the state must be stuck (it should be impossible that a state
                 //is both stuck and out of the run subregion)
-                ++this.pathsTot;
+                this.pathsTot.incrementAndGet();
                 if (this.actions.atPathEnd()) { return; }
             }
 
             //backtracks
+            boolean found = false;
             if (this.engine.canBacktrack()) {
                 if (this.actions.atBacktrackPre()) { return; }
 
                 BranchPoint bp = null;
-                boolean found = false;
                 try {
                     do {
                         bp = this.engine.backtrack();
@@ -632,17 +692,73 @@ public class Runner {
                 }
                 if (found) {
                     if (this.actions.atBacktrackPost(bp)) { return; }
-                } else {
-                    this.actions.atEnd();
-                    return;
                 }
-            } else {
+            }
+            
+            //no more pending states: possibly resumes from a state 
+            //donated by another runner
+            if (!found && this.frontier != null) {
+                try {
+                    found = resumeFromFrontier();
+                } catch (DecisionBacktrackException e) {
+                    if (this.actions.atDecisionBacktrackException(e)) { return; }
+                }
+            }
+            
+            if (!found) {
                 this.actions.atEnd();
                 return;
             }
         }
     }
 
+    /**
+     * Donates pending states to the frontier, if 
+     * some other runner is waiting for them.
+     */
+    private void donatePendingStates() {
+        if (this.frontier == null) {
+            return;
+        }
+        while (this.frontier.hungry()) {
+            final State s = this.engine.stealPendingState();
+            if (s == null) {
+                return;
+            }
+            this.frontier.offer(s);
+        }
+    }
+
+    /**
+     * Waits for a state donated by another runner
+     * and resumes the engine from it.
+     * 
+     * @return {@code true} iff the engine resumed from a 
+     *         state in the run subregion, {@code false}
+     *         iff the exploration must terminate.
+     * @throws DecisionBacktrackException as in {@link Engine#resume(State)}.
+     * @throws ContradictionException as in {@link Engine#resume(State)}.
+     */
+    private boolean resumeFromFrontier() 
+    throws DecisionBacktrackException, ContradictionException {
+        while (true) {
+            final State s;
+            try {
+                s = this.frontier.take();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return false;
+            }
+            if (s == null) {
+                return false;
+            }
+            this.engine.resume(s);
+            if (currentStateIsInRunSubregion()) {
+                return true;
+            }
+        }
+    }
+
     /**
      * Returns the start time, i.e., the time when
      * the method {@link #run()} was invoked.
@@ -672,7 +788,7 @@ public class Runner {
      * @return a {@code long}.
      */
     public long getPathsTotal() {
-        return this.pathsTot;
+        return this.pathsTot.get();
     }
 
     /**
@@ -682,7 +798,7 @@ public class Runner {
      * @return a {@code long}.
      */
     public long getPathsOutOfScope() {
-        return this.pathsOutOfScope;
+        return this.pathsOutOfScope.get();
     }
 }
 
@@ -0,0 +1,312 @@
+package jbse.jvm;
+
+import java.util.ArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import jbse.algo.exc.CannotManageStateException;
+import jbse.algo.exc.NotYetImplementedException;
+import jbse.bc.exc.InvalidClassFileFactoryClassException;
+import jbse.common.exc.ClasspathException;
+import jbse.common.exc.UnexpectedInternalException;
+import jbse.dec.DecisionProcedureAlgorithms;
+import jbse.dec.exc.DecisionException;
+import jbse.jvm.Runner.Actions;
+import jbse.jvm.exc.CannotBacktrackException;
+import jbse.jvm.exc.CannotBuildEngineException;
+import jbse.jvm.exc.EngineStuckException;
+import jbse.jvm.exc.FailureException;
+import jbse.jvm.exc.InitializationException;
+import jbse.jvm.exc.NonexistingObservedVariablesException;
+import jbse.mem.State;
+import jbse.mem.exc.ContradictionException;
+import jbse.mem.exc.ThreadStackEmptyException;
+
+/**
+ * Class implementing an algorithm for fully running a Java method
+ * by means of many {@link Runner}s running in parallel, each steering
+ * its own {@link Engine} with its own decision procedure. The first
+ * {@link Runner} starts from the root of the symbolic execution
+ * tree, and all the {@link Runner}s share their pending post-initial
+ * states through a work-stealing frontier: A {@link Runner} with no
+ * pending states resumes the execution from a state donated by
+ * another {@link Runner}. The {@link Runner}s share the path counters,
+ * but each has its own {@link Actions}: If some {@link Actions} share
+ * some data, they must synchronize its accesses. Whenever a
+ * {@link Runner} stops, all the other {@link Runner}s stop at the
+ * end of their current path.
+ */
+public final class RunnerParallel {
+    /**
+     * A factory for the decision procedures of the
+     * {@link Runner}s.
+     */
+    @FunctionalInterface
+    public interface DecisionProcedureFactory {
+        /**
+         * Makes a new decision procedure.
+         *
+         * @return a {@link DecisionProcedureAlgorithms}. It
+         *         must not share any mutable object (e.g.,
+         *         its calculator, or a solver process) with
+         *         the other decision procedures made by
+         *         this factory.
+         * @throws DecisionException if the creation of the
+         *         decision procedure fails.
+         */
+        DecisionProcedureAlgorithms make() throws DecisionException;
+    }
+
+    /**
+     * The parameters from which the {@link Runner}s
+     * other than the first one are built.
+     */
+    private final RunnerParameters parameters;
+
+    /** The number of {@link Runner}s. */
+    private final int numRunners;
+
+    /** Makes the {@link Actions} of the {@link Runner}s other than the first one. */
+    private final Supplier<Actions> actionsFactory;
+
+    /** Makes the decision procedures of the {@link Runner}s other than the first one. */
+    private final DecisionProcedureFactory decisionProcedureFactory;
+
+    /** The first {@link Runner}, starting from the root. */
+    private final Runner runnerRoot;
+
+    /** The {@link WorkStealingFrontier} shared by all the {@link Runner}s. */
+    private final WorkStealingFrontier frontier;
+
+    /** Counter for the total number of analyzed paths, shared by all the {@link Runner}s. */
+    private final AtomicLong pathsTot;
+
+    /** Counter for the number of out-of-scope paths, shared by all the {@link Runner}s. */
+    private final AtomicLong pathsOutOfScope;
+
+    /** Stores the start time. */
+    private long startTime;
+
+    /** Stores the stop time. */
+    private long stopTime;
+
+    /**
+     * Constructor. Used by the builder.
+     *
+     * @param parameters the {@link RunnerParameters} to build the
+     *        {@link Runner}s other than the root one.
+     * @param numRunners an {@code int}, the number of {@link Runner}s.
+     * @param actionsFactory a {@link Supplier}{@code <}{@link Actions}{@code >}.
+     * @param decisionProcedureFactory a {@link DecisionProcedureFactory}.
+     * @param engineRoot the {@link Engine} of the root {@link Runner}.
+     * @param actionsRoot the {@link Actions} of the root {@link Runner}.
+     */
+    RunnerParallel(RunnerParameters parameters, int numRunners, Supplier<Actions> actionsFactory,
+                   DecisionProcedureFactory decisionProcedureFactory, Engine engineRoot, Actions actionsRoot) {
+        this.parameters = parameters;
+        this.numRunners = numRunners;
+        this.actionsFactory = actionsFactory;
+        this.decisionProcedureFactory = decisionProcedureFactory;
+        this.frontier = new WorkStealingFrontier(numRunners);
+        this.pathsTot = new AtomicLong(0);
+        this.pathsOutOfScope = new AtomicLong(0);
+        this.runnerRoot = makeRunner(engineRoot, actionsRoot, parameters.getTimeout());
+    }
+
+    private Runner makeRunner(Engine engine, Actions actions, long timeout) {
+        return new Runner(engine, actions, this.parameters.getIdentifierSubregion(),
+                          timeout, this.parameters.getHeapScope(), this.parameters.getDepthScope(),
+                          this.parameters.getCountScope(), this.pathsTot, this.pathsOutOfScope, this.frontier);
+    }
+
+    /**
+     * Returns the {@link Engine} of the {@link Runner} that
+     * starts from the root of the symbolic execution tree.
+     * The {@link Engine}s of the other {@link Runner}s are
+     * closed by this {@link RunnerParallel} when they end.
+     *
+     * @return an {@link Engine}.
+     */
+    public Engine getEngine() {
+        return this.runnerRoot.getEngine();
+    }
+
+    /**
+     * Runs the method.
+     *
+     * @throws CannotBacktrackException as in {@link Runner#run()}
+     * @throws CannotManageStateException as in {@link Runner#run()}
+     * @throws ClasspathException as in {@link Runner#run()}
+     * @throws ThreadStackEmptyException as in {@link Runner#run()}
+     * @throws ContradictionException as in {@link Runner#run()}
+     * @throws DecisionException as in {@link Runner#run()}, or if the
+     *         decision procedure of some {@link Runner} cannot be created.
+     * @throws EngineStuckException as in {@link Runner#run()}
+     * @throws FailureException as in {@link Runner#run()}
+     * @throws NonexistingObservedVariablesException as in {@link Runner#run()}
+     */
+    public void run()
+    throws CannotBacktrackException, CannotManageStateException,
+    ClasspathException, ThreadStackEmptyException,
+    ContradictionException, DecisionException, EngineStuckException,
+    FailureException, NonexistingObservedVariablesException {
+        this.startTime = System.currentTimeMillis();
+
+        final ExecutorService pool = (this.numRunners > 1 ? Executors.newFixedThreadPool(this.numRunners - 1) : null);
+        try {
+            final ArrayList<Future<Void>> results = new ArrayList<>();
+            for (int i = 1; i < this.numRunners; ++i) {
+                results.add(pool.submit(this::runStolen));
+            }
+            this.runnerRoot.run();
+            for (Future<Void> result : results) {
+                result.get();
+            }
+        } catch (ExecutionException e) {
+            rethrow(e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            this.frontier.close();
+            if (pool != null) {
+                pool.shutdown();
+            }
+            this.stopTime = System.currentTimeMillis();
+        }
+    }
+
+    /**
+     * Waits for a state donated by some other {@link Runner},
+     * and builds and runs a {@link Runner} starting from it.
+     *
+     * @return {@code null}.
+     * @throws Exception any exception raised while building
+     *         or running the {@link Runner}.
+     */
+    private Void runStolen() throws Exception {
+        try {
+            final State s = this.frontier.take();
+            if (s == null) {
+                return null;
+            }
+
+            //builds the engine
+            final RunnerParameters p = this.parameters.clone();
+            final DecisionProcedureAlgorithms dec = this.decisionProcedureFactory.make();
+            p.setDecisionProcedure(dec);
+            p.setCalculator(dec.getCalculator());
+            p.setStartingState(s);
+            final Engine engine;
+            try {
+                engine = new EngineBuilder().build(p.getEngineParameters());
+            } catch (CannotBuildEngineException | InitializationException |
+                     InvalidClassFileFactoryClassException | ClasspathException |
+                     NotYetImplementedException e) {
+                //this should never happen, since the root engine
+                //was successfully built with the same parameters
+                dec.close();
+                throw new UnexpectedInternalException(e);
+            }
+
+            //the timeout is the same for all the runners
+            final long timeout;
+            if (p.getTimeout() > 0) {
+                final long elapsed = System.currentTimeMillis() - this.startTime;
+                timeout = Math.max(1, p.getTimeout() - elapsed);
+            } else {
+                timeout = 0;
+            }
+
+            //runs
+            try {
+                makeRunner(engine, this.actionsFactory.get(), timeout).run();
+            } finally {
+                engine.close();
+            }
+            return null;
+        } catch (Throwable e) {
+            //the state is lost, so the other runners must stop
+            this.frontier.close();
+            throw e;
+        }
+    }
+
+    private static void rethrow(Throwable e)
+    throws CannotBacktrackException, CannotManageStateException,
+    ClasspathException, ThreadStackEmptyException,
+    ContradictionException, DecisionException, EngineStuckException,
+    FailureException, NonexistingObservedVariablesException {
+        if (e instanceof CannotBacktrackException) {
+            throw (CannotBacktrackException) e;
+        } else if (e instanceof CannotManageStateException) {
+            throw (CannotManageStateException) e;
+        } else if (e instanceof ClasspathException) {
+            throw (ClasspathException) e;
+        } else if (e instanceof ThreadStackEmptyException) {
+            throw (ThreadStackEmptyException) e;
+        } else if (e instanceof ContradictionException) {
+            throw (ContradictionException) e;
+        } else if (e instanceof DecisionException) {
+            throw (DecisionException) e;
+        } else if (e instanceof EngineStuckException) {
+            throw (EngineStuckException) e;
+        } else if (e instanceof FailureException) {
+            throw (FailureException) e;
+        } else if (e instanceof NonexistingObservedVariablesException) {
+            throw (NonexistingObservedVariablesException) e;
+        } else if (e instanceof RuntimeException) {
+            throw (RuntimeException) e;
+        } else if (e instanceof Error) {
+            throw (Error) e;
+        } else {
+            //this should never happen
+            throw new UnexpectedInternalException(e);
+        }
+    }
+
+    /**
+     * Returns the start time, i.e., the time when
+     * the method {@link #run()} was invoked.
+     *
+     * @return a {@code long}, {@code 0L} if this
+     * method is invoked before {@link #run()}.
+     */
+    public long getStartTime() {
+        return this.startTime;
+    }
+
+    /**
+     * Returns the stop time, i.e., the time when
+     * the method {@link #run()} returned.
+     *
+     * @return a {@code long}, {@code 0L} if this
+     * method is invoked before {@link #run()} returns.
+     */
+    public long getStopTime() {
+        return this.stopTime;
+    }
+
+    /**
+     * Returns the total number of paths explored by all
+     * the {@link Runner}s until its invocation.
+     *
+     * @return a {@code long}.
+     */
+    public long getPathsTotal() {
+        return this.pathsTot.get();
+    }
+
+    /**
+     * Returns the total number of out-of-scope paths explored
+     * by all the {@link Runner}s until its invocation.
+     *
+     * @return a {@code long}.
+     */
+    public long getPathsOutOfScope() {
+        return this.pathsOutOfScope.get();
+    }
+}
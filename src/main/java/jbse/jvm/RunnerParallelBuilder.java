@@ -0,0 +1,91 @@
+package jbse.jvm;
+
+import java.util.function.Supplier;
+
+import jbse.algo.exc.NotYetImplementedException;
+import jbse.bc.exc.InvalidClassFileFactoryClassException;
+import jbse.common.exc.ClasspathException;
+import jbse.dec.exc.DecisionException;
+import jbse.jvm.Runner.Actions;
+import jbse.jvm.RunnerParallel.DecisionProcedureFactory;
+import jbse.jvm.exc.CannotBuildEngineException;
+import jbse.jvm.exc.InitializationException;
+import jbse.jvm.exc.NonexistingObservedVariablesException;
+import jbse.mem.exc.ContradictionException;
+
+public class RunnerParallelBuilder {
+	/**
+	 * Constructor.
+	 */
+	public RunnerParallelBuilder() { }
+
+	/** Used to build the root engine. */
+	private final EngineBuilder eb = new EngineBuilder();
+
+	/** The {@link Engine} underlying the root {@link Runner}. */
+	private Engine engine;
+
+	/**
+	 * Builds a {@link RunnerParallel}.
+	 *
+	 * @param parameters the {@link RunnerParameters} to configure the {@link Runner}s.
+	 *        The root {@link Runner} uses the decision procedure and the {@link Actions}
+	 *        in {@code parameters}. Execution observers are not supported.
+	 * @param numRunners a positive {@code int}, the number of {@link Runner}s
+	 *        running in parallel.
+	 * @param actionsFactory a {@link Supplier}{@code <}{@link Actions}{@code >}
+	 *        making the {@link Actions} of the other {@link Runner}s.
+	 * @param decisionProcedureFactory a {@link DecisionProcedureFactory} making
+	 *        the decision procedures of the other {@link Runner}s.
+	 *
+	 * @return a {@link RunnerParallel}.
+	 * @throws CannotBuildEngineException whenever {@code parameters} has
+	 *         insufficient information for creating a {@link Runner}, or
+	 *         {@code numRunners <= 0}, or {@code parameters} has some execution
+	 *         observer.
+	 * @throws DecisionException in case initialization of the
+	 *         decision procedure fails for some reason.
+	 * @throws InitializationException in case the specified root method
+	 *         does not exist or cannot be symbolically executed for
+	 *         any reason (e.g., is native).
+	 * @throws InvalidClassFileFactoryClassException in case the class object
+	 *         provided to build a class file factory cannot be used
+	 *         (e.g., it has not a suitable constructor or it is not visible).
+	 * @throws NonexistingObservedVariablesException never, since observers are
+	 *         not supported.
+	 * @throws ClasspathException in case some essential standard JRE class is missing
+	 *         from the bootstrap classpath, or is ill-formed, or cannot access one of its
+	 *         superclasses/superinterfaces.
+	 * @throws NotYetImplementedException if the trigger methods for the initial root
+	 *         object expansion (when present) are not in the root class.
+	 * @throws ContradictionException  if some initialization assumption is
+	 *         contradicted.
+	 */
+	public RunnerParallel build(RunnerParameters parameters, int numRunners,
+	                            Supplier<Actions> actionsFactory, DecisionProcedureFactory decisionProcedureFactory)
+	throws CannotBuildEngineException, DecisionException, InitializationException,
+	InvalidClassFileFactoryClassException, NonexistingObservedVariablesException, ClasspathException,
+	NotYetImplementedException, ContradictionException {
+		if (numRunners <= 0) {
+			throw new CannotBuildEngineException("The number of runners must be positive (was " + numRunners + ").");
+		}
+		if (!parameters.getObservedFields().isEmpty()) {
+			throw new CannotBuildEngineException("Execution observers are not supported by parallel runners.");
+		}
+		if (actionsFactory == null || decisionProcedureFactory == null) {
+			throw new CannotBuildEngineException(new NullPointerException());
+		}
+		this.engine = this.eb.build(parameters.getEngineParameters());
+		return new RunnerParallel(parameters.clone(), numRunners, actionsFactory,
+		                          decisionProcedureFactory, this.engine, parameters.getActions());
+	}
+
+	/**
+	 * Returns the {@link Engine} underlying the root {@link Runner}.
+	 *
+	 * @return an {@link Engine}, or {@code null} if creation failed.
+	 */
+	public Engine getEngine() {
+		return this.engine;
+	}
+}
@@ -14,6 +14,7 @@ import jbse.bc.Classpath;
 import jbse.bc.Signature;
 import jbse.dec.DecisionProcedureAlgorithms;
 import jbse.jvm.EngineParameters.BreadthMode;
+import jbse.jvm.EngineParameters.SearchStrategy;
 import jbse.jvm.EngineParameters.StateIdentificationMode;
 import jbse.jvm.Runner.Actions;
 import jbse.mem.State;
@@ -151,6 +152,61 @@ public final class RunnerParameters implements Cloneable {
         return this.engineParameters.getBreadthMode();
     }
 
+    /**
+     * Sets the search strategy, i.e., how the pending 
+     * state where the execution backtracks is chosen.
+     * 
+     * @param searchStrategy a {@link SearchStrategy}.
+     * @throws NullPointerException if {@code searchStrategy == null}.
+     */
+    public void setSearchStrategy(SearchStrategy searchStrategy) {
+        this.engineParameters.setSearchStrategy(searchStrategy);
+    }
+
+    /**
+     * Gets the search strategy.
+     * 
+     * @return the {@link SearchStrategy} set by the
+     *         last call to {@link #setSearchStrategy(SearchStrategy)}.
+     */
+    public SearchStrategy getSearchStrategy() {
+        return this.engineParameters.getSearchStrategy();
+    }
+
+    /**
+     * Sets a limited number of pending states handled by the
+     * search strategy. When the limit is reached the further 
+     * pending states are handled depth-first until they are
+     * exhausted.
+     * 
+     * @param maxPendingStates a positive {@code int}, the maximum 
+     *        number of pending states handled by the search strategy.
+     */
+    public void setMaxPendingStates(int maxPendingStates) {
+        this.engineParameters.setMaxPendingStates(maxPendingStates);
+    }
+
+    /**
+     * Sets an unlimited number of pending states handled by the 
+     * search strategy; this is the default behaviour.
+     * 
+     * @see {@link #setMaxPendingStates(int)}
+     */
+    public void setMaxPendingStatesUnlimited() {
+        this.engineParameters.setMaxPendingStatesUnlimited();
+    }
+
+    /**
+     * Gets the maximum number of pending states handled 
+     * by the search strategy.
+     * 
+     * @return an {@code int}, the maximum number of pending 
+     *         states, or {@code 0} if unlimited.
+     */
+    public int getMaxPendingStates() {
+        return this.engineParameters.getMaxPendingStates();
+    }
+
     /** 
      * Adds an {@link ExecutionObserver} performing additional
      * actions when a field changes its value.
@@ -719,6 +775,128 @@ public final class RunnerParameters implements Cloneable {
     	return this.engineParameters.getUninterpretedPattern();
     }
 
+    /**
+     * Specifies that the invocations of a pure method must be executed
+     * on the host JVM, rather than symbolically, whenever all its parameters
+     * are constant (primitive values or constant {@link String}s), and 
+     * its return type is {@code void}, primitive or {@link String}. 
+     * Otherwise the method is executed symbolically, as usual.
+     * 
+     * @param methodClassName the name of the class containing the method.
+     * @param methodDescriptor the descriptor of the method.
+     * @param methodName the name of the method.
+     * @throws NullPointerException if any of the above parameters is {@code null}.
+     */
+    public void addHostDelegated(String methodClassName, String methodDescriptor, String methodName) {
+        this.engineParameters.addHostDelegated(methodClassName, methodDescriptor, methodName);
+    }
+
+    /**
+     * Clears the methods set with {@link #addHostDelegated(String, String, String) addHostDelegated} 
+     * that must be delegated to the host JVM.
+     */
+    public void clearHostDelegated() {
+        this.engineParameters.clearHostDelegated();
+    }
+
+    /**
+     * Returns the methods that must be delegated 
+     * to the host JVM.
+     * 
+     * @return A {@link List}{@code <}{@link String}{@code []>}, 
+     *         where each array is a triple (method class name, 
+     *         method parameters, method name).
+     */
+    public List<String[]> getHostDelegated() {
+    	return this.engineParameters.getHostDelegated();
+    }
+
+    /**
+     * Specifies that the invocations of a pure method may be summarized.
+     * The first time the method returns a concrete value when invoked with 
+     * some concrete arguments, without making any assumption on the 
+     * symbolic state, the result is recorded, and all the subsequent invocations 
+     * with the same arguments, on all the paths, will push the recorded 
+     * result instead of executing the method.
+     * 
+     * @param methodClassName the name of the class containing the method.
+     * @param methodDescriptor the descriptor of the method.
+     * @param methodName the name of the method.
+     * @throws NullPointerException if any of the above parameters is {@code null}.
+     */
+    public void addSummarized(String methodClassName, String methodDescriptor, String methodName) {
+        this.engineParameters.addSummarized(methodClassName, methodDescriptor, methodName);
+    }
+
+    /**
+     * Clears the methods set with {@link #addSummarized(String, String, String) addSummarized} 
+     * that may be summarized.
+     */
+    public void clearSummarized() {
+        this.engineParameters.clearSummarized();
+    }
+
+    /**
+     * Returns the methods that may be summarized.
+     * 
+     * @return A {@link List}{@code <}{@link String}{@code []>}, 
+     *         where each array is a triple (method class name, 
+     *         method parameters, method name).
+     */
+    public List<String[]> getSummarized() {
+    	return this.engineParameters.getSummarized();
+    }
+
+    /**
+     * Sets whether the branches of the if* bytecodes must be merged,
+     * when possible, rather than forking the state. Only the
+     * branches that just push an integer constant before joining
+     * (as in the code for conditional expressions and materialized
+     * boolean expressions) are merged, into a single state where the
+     * pushed value is an expression of the branch condition.
+     * By default it is set to {@code false}.
+     * 
+     * @param stateMerging a {@code boolean}.
+     */
+    public void setStateMerging(boolean stateMerging) {
+        this.engineParameters.setStateMerging(stateMerging);
+    }
+
+    /**
+     * Gets whether the branches of the if* bytecodes must be merged,
+     * when possible, rather than forking the state.
+     * 
+     * @return a {@code boolean}.
+     */
+    public boolean getStateMerging() {
+        return this.engineParameters.getStateMerging();
+    }
+
+    /**
+     * Sets whether the resolution of the symbolic references must 
+     * be lazier, i.e., postponed when possible. When a symbolic reference 
+     * is loaded from a local variable or a field just to be stored in 
+     * a local variable or in a field of a symbolic object, its resolution 
+     * by null, aliasing or expansion is postponed until it is loaded 
+     * again, rather than forking the state at the first load.
+     * By default it is set to {@code false}.
+     * 
+     * @param lazierResolution a {@code boolean}.
+     */
+    public void setLazierResolution(boolean lazierResolution) {
+        this.engineParameters.setLazierResolution(lazierResolution);
+    }
+
+    /**
+     * Gets whether the resolution of the symbolic references must 
+     * be lazier, i.e., postponed when possible.
+     * 
+     * @return a {@code boolean}.
+     */
+    public boolean getLazierResolution() {
+        return this.engineParameters.getLazierResolution();
+    }
+
     /**
      * Sets the signature of the method which must be symbolically executed, 
      * and cancels the effect of any previous call to {@link #setStartingState(State)}.
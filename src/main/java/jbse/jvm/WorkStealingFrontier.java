@@ -0,0 +1,104 @@
+package jbse.jvm;
+
+import java.util.ArrayDeque;
+
+import jbse.mem.State;
+
+/**
+ * The frontier of pending {@link State}s shared by the
+ * {@link Runner}s of a {@link RunnerParallel}. A {@link Runner}
+ * donates some of its pending states whenever some other
+ * {@link Runner} is idle, and takes a state from the frontier
+ * whenever it has no more pending states. The exploration
+ * terminates when all the {@link Runner}s are idle and the
+ * frontier is empty, or when the frontier is closed.
+ */
+final class WorkStealingFrontier {
+    /** The donated {@link State}s. */
+    private final ArrayDeque<State> states = new ArrayDeque<>();
+
+    /** The total number of {@link Runner}s sharing this frontier. */
+    private final int numRunners;
+
+    /** The number of {@link Runner}s waiting for a {@link State}. */
+    private int numIdle = 0;
+
+    /** Set when the exploration must terminate. */
+    private boolean closed = false;
+
+    /**
+     * Constructor.
+     *
+     * @param numRunners a positive {@code int}, the total
+     *        number of {@link Runner}s sharing this frontier.
+     */
+    WorkStealingFrontier(int numRunners) {
+        this.numRunners = numRunners;
+    }
+
+    /**
+     * Checks whether the frontier needs more states.
+     *
+     * @return {@code true} iff this frontier is not closed and
+     *         some {@link Runner} is waiting for a state that
+     *         is not yet available.
+     */
+    synchronized boolean hungry() {
+        return !this.closed && this.states.size() < this.numIdle;
+    }
+
+    /**
+     * Donates a {@link State} to the frontier.
+     *
+     * @param s the {@link State}. After its donation it
+     *        must not be accessed by the donor.
+     */
+    synchronized void offer(State s) {
+        this.states.addLast(s);
+        notifyAll();
+    }
+
+    /**
+     * Takes a {@link State} from the frontier, waiting until
+     * one is available.
+     *
+     * @return a {@link State}, or {@code null} if the exploration
+     *         must terminate.
+     * @throws InterruptedException if the current thread is
+     *         interrupted while waiting.
+     */
+    synchronized State take() throws InterruptedException {
+        ++this.numIdle;
+        try {
+            while (!this.closed && this.states.isEmpty()) {
+                if (this.numIdle == this.numRunners) {
+                    //nobody can donate anymore
+                    close();
+                    break;
+                }
+                wait();
+            }
+            return (this.closed ? null : this.states.removeFirst());
+        } finally {
+            --this.numIdle;
+        }
+    }
+
+    /**
+     * Closes the frontier, causing all the waiting
+     * {@link Runner}s to terminate.
+     */
+    synchronized void close() {
+        this.closed = true;
+        notifyAll();
+    }
+
+    /**
+     * Checks whether the frontier is closed.
+     *
+     * @return {@code true} iff the exploration must terminate.
+     */
+    synchronized boolean isClosed() {
+        return this.closed;
+    }
+}
@@ -1,14 +1,22 @@
 package jbse.mem;
 
 import static jbse.common.Type.ARRAYOF;
+import static jbse.common.Type.BOOLEAN;
+import static jbse.common.Type.BYTE;
+import static jbse.common.Type.CHAR;
+import static jbse.common.Type.DOUBLE;
+import static jbse.common.Type.FLOAT;
 import static jbse.common.Type.INT;
+import static jbse.common.Type.LONG;
 import static jbse.common.Type.NULLREF;
 import static jbse.common.Type.REFERENCE;
+import static jbse.common.Type.SHORT;
 import static jbse.common.Type.getArrayMemberType;
 import static jbse.common.Type.isPrimitive;
 import static jbse.common.Type.toPrimitiveOrVoidInternalName;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Iterator;
 import java.util.List;
@@ -24,6 +32,7 @@ import jbse.mem.exc.FastArrayAccessNotAllowedException;
 import jbse.val.Calculator;
 import jbse.val.Expression;
 import jbse.val.HistoryPoint;
+import jbse.val.Operator;
 import jbse.val.Primitive;
 import jbse.val.Reference;
 import jbse.val.ReferenceArrayImmaterial;
@@ -32,6 +41,7 @@ import jbse.val.Simplex;
 import jbse.val.Term;
 import jbse.val.Value;
 import jbse.val.exc.InvalidOperandException;
+import jbse.val.exc.InvalidOperatorException;
 import jbse.val.exc.InvalidTypeException;
 
 /**
@@ -62,9 +72,37 @@ public final class ArrayImpl extends HeapObjektImpl implements Array {
     /** An {@link Expression} stating that {@code indexFormal} is in range. */
     private final Expression indexInRange;
 
-    /** Describes the values stored in the array. */
+    /** 
+     * Describes the values stored in the array, or {@code null}
+     * if the array is dense (see {@link #denseConcrete}).
+     */
     private ArrayList<AccessOutcomeInImpl> entries; //TODO do not use AccessOutcome..., but define a suitable private Entry class
 
+    /** 
+     * The member type of the array when it is dense, i.e., 
+     * when {@link #entries}{@code == null}.
+     */
+    private char denseMemberType;
+
+    /**
+     * When the array is dense, i.e., it has simple representation 
+     * and its entries were not materialized yet, and its member type 
+     * is primitive, a Java array of the corresponding primitive type 
+     * ({@code char[]}, {@code int[]}...) storing the concrete values
+     * of the slots. Otherwise {@code null}.
+     */
+    private Object denseConcrete;
+
+    /**
+     * When the array is dense, either {@code null} or an array of 
+     * {@link Value}s as long as this array, storing the values of 
+     * the slots that are not stored in {@link #denseConcrete}, 
+     * i.e., the symbolic values of a primitive array (the other 
+     * slots have {@code null}), or all the values of a reference
+     * array. Otherwise {@code null}.
+     */
+    private Value[] denseOverrides;
+
     /** 
      * Indicates whether the array has a simple representation, i.e., 
      * whether it has as many entries as its length, each corresponding 
@@ -460,11 +498,27 @@ public final class ArrayImpl extends HeapObjektImpl implements Array {
         //we may hope that normalization will succeed upon array access, thus reducing 
         //the calls to the prover. Of course there is a complementary risk, i.e., that
         //having many entries results in the creation of many branches. 
-        this.entries = new ArrayList<>();
         if (getLength() instanceof Simplex) {
             final int ln = ((Integer) ((Simplex) getLength()).getActualValue()).intValue();
             if (ln <= maxSimpleArrayLength) {
                 this.simpleRep = true;
+                if (!initSymbolic) {
+                    //the array is concrete: the entries are created lazily, 
+                    //and until then the values are stored in a dense backing
+                    //store, that is way cheaper to access and to clone
+                    this.denseMemberType = getArrayMemberType(this.classFile.getClassName()).charAt(0);
+                    this.denseConcrete = makeDenseConcrete(this.denseMemberType, ln);
+                    if (this.denseConcrete == null) {
+                        this.denseOverrides = new Value[ln];
+                    }
+                    if (this.denseConcrete == null || !entryValue.equals(calc.valDefault(this.denseMemberType))) {
+                        for (int i = 0; i < ln; ++i) {
+                            denseSet(i, entryValue);
+                        }
+                    }
+                    return;
+                }
+                this.entries = new ArrayList<>();
                 for (int i = 0; i < ln; ++i) {
                     try {
                         this.entries.add(new AccessOutcomeInValueImpl((Expression) calc.push(this.indexFormal).eq(calc.valInt(i)).pop(),
@@ -479,6 +533,7 @@ public final class ArrayImpl extends HeapObjektImpl implements Array {
         }
         //otherwise, do not use simple representation
         this.simpleRep = false;
+        this.entries = new ArrayList<>();
         this.entries.add(new AccessOutcomeInValueImpl(this.indexInRange, entryValue));
     }
     
@@ -487,6 +542,218 @@ public final class ArrayImpl extends HeapObjektImpl implements Array {
     	return new ArrayWrapper(destinationHeap, destinationPosition, this);
     }
 
+    /**
+     * Creates a dense backing store for concrete values.
+     * 
+     * @param memberType a {@code char}, the member type of the array.
+     * @param length an {@code int}, the length of the array.
+     * @return a Java array with length {@code length} and member
+     *         type {@code memberType}, or {@code null} if 
+     *         {@code memberType} is not primitive.
+     */
+    private static Object makeDenseConcrete(char memberType, int length) {
+        switch (memberType) {
+        case BYTE:
+            return new byte[length];
+        case SHORT:
+            return new short[length];
+        case INT:
+            return new int[length];
+        case LONG:
+            return new long[length];
+        case FLOAT:
+            return new float[length];
+        case DOUBLE:
+            return new double[length];
+        case CHAR:
+            return new char[length];
+        case BOOLEAN:
+            return new boolean[length];
+        default:
+            return null;
+        }
+    }
+
+    /**
+     * Returns the length of this array, assuming it 
+     * has simple representation.
+     * 
+     * @return an {@code int}.
+     */
+    private int simpleLength() {
+        return ((Integer) ((Simplex) getLength()).getActualValue()).intValue();
+    }
+
+    /**
+     * Returns a value stored in this array, assuming it is dense.
+     * 
+     * @param i an {@code int}, the index of the slot. It must be
+     *        in range.
+     * @return the {@link Value} stored in slot {@code i}, 
+     *         possibly {@code null} (unknown) if this is 
+     *         a reference array.
+     */
+    private Value denseGet(int i) {
+        if (this.denseOverrides != null && this.denseOverrides[i] != null) {
+            return this.denseOverrides[i];
+        }
+        try {
+            switch (this.denseMemberType) {
+            case BYTE:
+                return Simplex.make(((byte[]) this.denseConcrete)[i]);
+            case SHORT:
+                return Simplex.make(((short[]) this.denseConcrete)[i]);
+            case INT:
+                return Simplex.make(((int[]) this.denseConcrete)[i]);
+            case LONG:
+                return Simplex.make(((long[]) this.denseConcrete)[i]);
+            case FLOAT:
+                return Simplex.make(((float[]) this.denseConcrete)[i]);
+            case DOUBLE:
+                return Simplex.make(((double[]) this.denseConcrete)[i]);
+            case CHAR:
+                return Simplex.make(((char[]) this.denseConcrete)[i]);
+            case BOOLEAN:
+                return Simplex.make(((boolean[]) this.denseConcrete)[i]);
+            default:
+                return null; //unknown value in a reference array
+            }
+        } catch (InvalidOperandException e) {
+            //this should never happen
+            throw new UnexpectedInternalException(e);
+        }
+    }
+
+    /**
+     * Checks whether a value can be stored in this 
+     * array while keeping it dense.
+     * 
+     * @param value a {@link Value}.
+     * @return {@code true} iff this array is dense and 
+     *         {@code value} can be stored by {@link #denseSet(int, Value)}.
+     */
+    private boolean denseCanStore(Value value) {
+        return this.entries == null && (value != null || this.denseConcrete == null);
+    }
+
+    /**
+     * Stores a value in this array, assuming it is dense.
+     * 
+     * @param i an {@code int}, the index of the slot. It must be
+     *        in range.
+     * @param value the {@link Value} to be stored. It must 
+     *        satisfy {@link #denseCanStore(Value)}.
+     */
+    private void denseSet(int i, Value value) {
+        if (this.denseConcrete != null && value instanceof Simplex) {
+            final Object v = ((Simplex) value).getActualValue();
+            switch (this.denseMemberType) {
+            case BYTE:
+                ((byte[]) this.denseConcrete)[i] = ((Byte) v).byteValue();
+                break;
+            case SHORT:
+                ((short[]) this.denseConcrete)[i] = ((Short) v).shortValue();
+                break;
+            case INT:
+                ((int[]) this.denseConcrete)[i] = ((Integer) v).intValue();
+                break;
+            case LONG:
+                ((long[]) this.denseConcrete)[i] = ((Long) v).longValue();
+                break;
+            case FLOAT:
+                ((float[]) this.denseConcrete)[i] = ((Float) v).floatValue();
+                break;
+            case DOUBLE:
+                ((double[]) this.denseConcrete)[i] = ((Double) v).doubleValue();
+                break;
+            case CHAR:
+                ((char[]) this.denseConcrete)[i] = ((Character) v).charValue();
+                break;
+            case BOOLEAN:
+                ((boolean[]) this.denseConcrete)[i] = ((Boolean) v).booleanValue();
+                break;
+            default:
+                //this should never happen
+                throw new UnexpectedInternalException("Dense array has unexpected member type " + this.denseMemberType + ".");
+            }
+            if (this.denseOverrides != null) {
+                this.denseOverrides[i] = null;
+            }
+        } else {
+            if (this.denseOverrides == null) {
+                this.denseOverrides = new Value[simpleLength()];
+            }
+            this.denseOverrides[i] = value;
+        }
+    }
+
+    /**
+     * Makes an entry for a slot of this array, 
+     * assuming it has simple representation.
+     * 
+     * @param i an {@code int}, the index of the slot.
+     * @param value the {@link Value} stored in slot {@code i}.
+     * @return an {@link AccessOutcomeInValueImpl} with access 
+     *         condition {@code this.indexFormal == i}.
+     */
+    private AccessOutcomeInValueImpl makeSlotEntry(int i, Value value) {
+        try {
+            return new AccessOutcomeInValueImpl(Expression.makeExpressionBinary(this.indexFormal, Operator.EQ, Simplex.make(Integer.valueOf(i))), value);
+        } catch (InvalidOperandException | InvalidOperatorException | InvalidTypeException e) {
+            //this should never happen
+            throw new UnexpectedInternalException(e);
+        }
+    }
+
+    /**
+     * Returns the entries of this array without modifying 
+     * it, so the array can be safely read when it is shared
+     * (e.g., by the {@link ArrayWrapper}s of lazily cloned
+     * heaps).
+     * 
+     * @return {@link #entries} if this array is not dense, 
+     *         otherwise a fresh list of entries built from 
+     *         the dense backing store, that must not be 
+     *         modified.
+     */
+    private ArrayList<AccessOutcomeInImpl> entriesForReading() {
+        if (this.entries != null) {
+            return this.entries;
+        }
+        final int ln = simpleLength();
+        final ArrayList<AccessOutcomeInImpl> retVal = new ArrayList<>(ln);
+        for (int i = 0; i < ln; ++i) {
+            retVal.add(makeSlotEntry(i, denseGet(i)));
+        }
+        return retVal;
+    }
+
+    /**
+     * Creates the entries of this array from its 
+     * dense backing store, if it is dense; Afterwards
+     * the array is no longer dense. Must be invoked 
+     * only before modifying this array.
+     */
+    private void possiblyMaterializeEntries() {
+        if (this.entries != null) {
+            return;
+        }
+        this.entries = entriesForReading();
+        this.denseConcrete = null;
+        this.denseOverrides = null;
+    }
+    
+    /**
+     * Checks whether this array is dense.
+     * 
+     * @return {@code true} iff this array is backed 
+     *         by its dense store, i.e., its entries 
+     *         were not materialized.
+     */
+    boolean isDense() {
+        return this.entries == null;
+    }
+
     @Override
     public Primitive getLength() {
         return (Primitive) getFieldValue(this.lengthSignature);
@@ -504,6 +771,16 @@ public final class ArrayImpl extends HeapObjektImpl implements Array {
 
     @Override
     public boolean isSimple() {
+        if (this.entries == null) {
+            if (this.denseOverrides != null) {
+                for (Value v : this.denseOverrides) {
+                    if (v == null ? this.denseConcrete == null : v.isSymbolic()) {
+                        return false;
+                    }
+                }
+            }
+            return true;
+        }
         if (hasSimpleRep()) {
             for (AccessOutcomeIn e : this.entries) {
                 if (!(e instanceof AccessOutcomeInValue) || ((AccessOutcomeInValue) e).getValue().isSymbolic()) {
@@ -544,6 +821,19 @@ public final class ArrayImpl extends HeapObjektImpl implements Array {
             throw new InvalidTypeException("Attempted array fast access with an index with type " + index.getType() + ".");
         }
         final ArrayList<AccessOutcome> retVal = new ArrayList<>();
+        if (this.entries == null) {
+            if (index instanceof Simplex) {
+                //the fastest case, access the dense store directly by index
+                final int indexInt = (Integer) ((Simplex) index).getActualValue();
+                if (indexInt >= 0 && indexInt < simpleLength()) {
+                    retVal.add(new AccessOutcomeInValueImpl(denseGet(indexInt)));
+                } else {
+                    retVal.add(new AccessOutcomeOutImpl());
+                }
+                return retVal;
+            }
+        }
+        final ArrayList<AccessOutcomeInImpl> entries = entriesForReading();
         final Primitive inRange = inRange(calc, index);
 
         //builds the answer
@@ -551,7 +841,7 @@ public final class ArrayImpl extends HeapObjektImpl implements Array {
             //the fast case, access this.values directly by index			
             if (inRange.surelyTrue()) {
                 final int indexInt = (Integer) ((Simplex) index).getActualValue();
-                final AccessOutcomeIn e = this.entries.get(indexInt);
+                final AccessOutcomeIn e = entries.get(indexInt);
                 if (e instanceof AccessOutcomeInValue) {
                     retVal.add(new AccessOutcomeInValueImpl(((AccessOutcomeInValue) e).getValue()));
                 } else { //e instanceof AccessOutcomeInInitialArray
@@ -564,7 +854,7 @@ public final class ArrayImpl extends HeapObjektImpl implements Array {
         } else {
             //scans the entries and adds all the (possibly) satisfiable 
             //inbound cases
-            for (AccessOutcomeIn e : this.entries) {
+            for (AccessOutcomeIn e : entries) {
                 final Primitive inRangeEntry = e.inRange(calc, index);
                 if (inRangeEntry.surelyTrue()) { //this may only happen when index is Simplex
                     if (e instanceof AccessOutcomeInValue) {
@@ -639,8 +929,13 @@ public final class ArrayImpl extends HeapObjektImpl implements Array {
         }
         checkSetValue(newValue);
         final int actualIndex = (Integer) index.getActualValue();
-        final int actualLength = (Integer) ((Simplex) this.getLength()).getActualValue();
+        final int actualLength = simpleLength();
         if (actualIndex >= 0 && actualIndex < actualLength) {
+            if (denseCanStore(newValue)) {
+                denseSet(actualIndex, newValue);
+                return;
+            }
+            possiblyMaterializeEntries();
             final AccessOutcomeIn e = this.entries.get(actualIndex);
             if (e instanceof AccessOutcomeInValueImpl) {
                 ((AccessOutcomeInValueImpl) e).returnedValue = newValue;
@@ -661,6 +956,7 @@ public final class ArrayImpl extends HeapObjektImpl implements Array {
             throw new InvalidTypeException("Attempted array access with an index with type " + index.getType() + ".");
         }
         checkSetValue(newValue);
+        possiblyMaterializeEntries();
         this.simpleRep = false;
 		try {
 	        final Expression formalIndexIsActualIndex = (Expression) calc.push(this.indexFormal).eq(index).pop();
@@ -674,6 +970,7 @@ public final class ArrayImpl extends HeapObjektImpl implements Array {
     
     @Override
     public Collection<? extends AccessOutcomeIn> entries() {
+    	possiblyMaterializeEntries();
     	return this.entries;
     }
     
@@ -683,6 +980,7 @@ public final class ArrayImpl extends HeapObjektImpl implements Array {
         if (calc == null || index == null) {
             throw new InvalidInputException("Attempted array access with null calc or index.");
         }
+        possiblyMaterializeEntries();
         return new Iterator<AccessOutcomeIn>() {
             //this iterator filters the relevant members in Array.this.values
             //by wrapping the default iterator to it
@@ -773,8 +1071,26 @@ public final class ArrayImpl extends HeapObjektImpl implements Array {
     	if (!this.classFile.equals(otherImpl.classFile)) {
     		throw new InvalidTypeException("tried to clone entries of a " + otherImpl.classFile + " array into a " + this.classFile + " array");
     	}
+    	if (otherImpl.entries == null && this.simpleRep && otherImpl.getLength().equals(getLength())) {
+    		//copies the dense store
+    		final int ln = simpleLength();
+    		this.entries = null;
+    		this.denseMemberType = otherImpl.denseMemberType;
+    		this.denseConcrete = makeDenseConcrete(this.denseMemberType, ln);
+    		if (this.denseConcrete != null) {
+    			System.arraycopy(otherImpl.denseConcrete, 0, this.denseConcrete, 0, ln);
+    		}
+    		this.denseOverrides = (otherImpl.denseOverrides == null ? null : otherImpl.denseOverrides.clone());
+    		return;
+    	}
+    	final ArrayList<AccessOutcomeInImpl> otherEntries = otherImpl.entriesForReading();
+    	if (this.entries == null) {
+    		this.entries = new ArrayList<>();
+    		this.denseConcrete = null;
+    		this.denseOverrides = null;
+    	}
     	this.entries.clear();
-    	for (AccessOutcomeInImpl entry : otherImpl.entries) {
+    	for (AccessOutcomeInImpl entry : otherEntries) {
     		final AccessOutcomeInImpl entryClone = entry.clone();
     		try {
     			entryClone.accessCondition = (Expression) calc.push(entryClone.accessCondition).replace(otherImpl.indexFormal, this.indexFormal).pop();
@@ -809,6 +1125,33 @@ public final class ArrayImpl extends HeapObjektImpl implements Array {
     	final String srcTypeComponent = getArrayMemberType(src.getType().getClassName());
     	final String destTypeComponent = getArrayMemberType(getType().getClassName());
     	try {
+    		if (this.entries == null && srcImpl.entries == null && this.denseMemberType == srcImpl.denseMemberType &&
+    				srcPos instanceof Simplex && destPos instanceof Simplex && 
+    				length instanceof Simplex) {
+    			//fastest operation, between dense stores
+    			final int srcPosInt = ((Integer) ((Simplex) srcPos).getActualValue()).intValue();
+    			final int destPosInt = ((Integer) ((Simplex) destPos).getActualValue()).intValue();
+    			final int lengthInt = ((Integer) ((Simplex) length).getActualValue()).intValue();
+    			if (this.denseConcrete == null && checkOk != null) {
+    				for (int ofst = 0; ofst < lengthInt; ++ofst) {
+    					checkOk.accept((Reference) srcImpl.denseOverrides[srcPosInt + ofst]);
+    				}
+    			}
+    			if (this.denseConcrete != null) {
+    				System.arraycopy(srcImpl.denseConcrete, srcPosInt, this.denseConcrete, destPosInt, lengthInt);
+    			}
+    			if (srcImpl.denseOverrides != null) {
+    				if (this.denseOverrides == null) {
+    					this.denseOverrides = new Value[simpleLength()];
+    				}
+    				System.arraycopy(srcImpl.denseOverrides, srcPosInt, this.denseOverrides, destPosInt, lengthInt);
+    			} else if (this.denseOverrides != null) {
+    				Arrays.fill(this.denseOverrides, destPosInt, destPosInt + lengthInt, null);
+    			}
+    			return EMPTY_ITERATOR;
+    		}
+    		possiblyMaterializeEntries();
+    		final ArrayList<AccessOutcomeInImpl> srcEntries = srcImpl.entriesForReading(); //after materializing this, in the case this == srcImpl
     		if (this.simpleRep && srcImpl.simpleRep && 
     				srcPos instanceof Simplex && destPos instanceof Simplex && 
     				length instanceof Simplex) {
@@ -819,7 +1162,7 @@ public final class ArrayImpl extends HeapObjektImpl implements Array {
     			final ArrayList<Integer> destPosEntries = new ArrayList<>(); //buffer to avoid concurrent modification when this == srcImpl
     			final ArrayList<AccessOutcomeInImpl> destEntries = new ArrayList<>(); //buffer to avoid concurrent modification when this == srcImpl
     			for (int ofst = 0; ofst < lengthInt; ++ofst) {
-    				final AccessOutcomeIn srcEntry = srcImpl.entries.get(srcPosInt + ofst);
+    				final AccessOutcomeIn srcEntry = srcEntries.get(srcPosInt + ofst);
     				final AccessOutcomeInImpl destEntry;
     				if (srcEntry instanceof AccessOutcomeInValue) {
     					final Value srcValue = ((AccessOutcomeInValue) srcEntry).getValue();
@@ -853,7 +1196,7 @@ public final class ArrayImpl extends HeapObjektImpl implements Array {
     			//adds new entries corresponding to the source array entries
     			final Primitive srcIndex = calc.push(this.indexFormal).sub(destPos).add(srcPos).pop();
     			final ArrayList<AccessOutcomeInImpl> destEntries = new ArrayList<>(); //buffer to avoid concurrent modification when this == srcImpl
-    			for (AccessOutcomeIn srcEntry : srcImpl.entries) {
+    			for (AccessOutcomeIn srcEntry : srcEntries) {
     				final Expression accessCondition = (Expression) calc.push(this.indexInRange).and(srcEntry.inRange(calc, srcIndex)).and(indexInDestRange).pop();
     				final AccessOutcomeInImpl destEntry;
     				if (srcEntry instanceof AccessOutcomeInValue) {
@@ -914,6 +1257,13 @@ public final class ArrayImpl extends HeapObjektImpl implements Array {
     @Override
     public List<AccessOutcomeIn> values() {
     	final ArrayList<AccessOutcomeIn> retVal = new ArrayList<>();
+    	if (this.entries == null) {
+    		final int ln = simpleLength();
+    		for (int i = 0; i < ln; ++i) {
+    			retVal.add(makeSlotEntry(i, denseGet(i)));
+    		}
+    		return retVal;
+    	}
     	for (AccessOutcomeIn entry : this.entries) {
     		retVal.add(entry.clone());
     	}
@@ -923,6 +1273,17 @@ public final class ArrayImpl extends HeapObjektImpl implements Array {
     @Override
     public String valueString() {
     	if (this.classFile.getMemberClass().getClassName().equals("char") && isSimple()) {
+    		if (this.entries == null) {
+    			final char[] chars = ((char[]) this.denseConcrete).clone();
+    			if (this.denseOverrides != null) {
+    				for (int i = 0; i < chars.length; ++i) {
+    					if (this.denseOverrides[i] != null) {
+    						chars[i] = ((Character) ((Simplex) this.denseOverrides[i]).getActualValue()).charValue();
+    					}
+    				}
+    			}
+    			return new String(chars);
+    		}
     		final StringBuilder buf = new StringBuilder();
     		for (AccessOutcomeIn e : this.entries) {
     			final Simplex value = (Simplex) ((AccessOutcomeInValue) e).getValue();
@@ -944,7 +1305,7 @@ public final class ArrayImpl extends HeapObjektImpl implements Array {
     	String str = "[Type:" + this.classFile + ", Length:" + this.getLength().toString() + ", Elements: {";
     	boolean firstEntryPassed = false;
     	final StringBuilder buf = new StringBuilder();
-    	for (AccessOutcomeIn e : this.entries) {
+    	for (AccessOutcomeIn e : (this.entries == null ? values() : this.entries)) {
     		if (firstEntryPassed) {
     			buf.append(", ");
     		} else {
@@ -960,6 +1321,18 @@ public final class ArrayImpl extends HeapObjektImpl implements Array {
     public ArrayImpl clone() {
     	final ArrayImpl o = (ArrayImpl) super.clone();
 
+    	if (this.entries == null) {
+    		if (this.denseConcrete != null) {
+    			final int ln = simpleLength();
+    			o.denseConcrete = makeDenseConcrete(this.denseMemberType, ln);
+    			System.arraycopy(this.denseConcrete, 0, o.denseConcrete, 0, ln);
+    		}
+    		if (this.denseOverrides != null) {
+    			o.denseOverrides = this.denseOverrides.clone();
+    		}
+    		return o;
+    	}
+
     	o.entries = new ArrayList<>();
     	for (AccessOutcomeInImpl e : this.entries) {
     		o.entries.add(e.clone());
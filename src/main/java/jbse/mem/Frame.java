@@ -39,6 +39,13 @@ public abstract class Frame implements Cloneable {
     /** The program counter when the frame will be again the current one. */
     private int returnProgramCounter;
     
+    /** 
+     * An object identifying the method invocation that
+     * pushed this frame, or {@code null}. It is shared 
+     * with the clones of this frame.
+     */
+    private Object invocationToken;
+    
     /**
      * Constructor.
      * 
@@ -50,6 +57,7 @@ public abstract class Frame implements Cloneable {
         this.bytecode = bytecode.clone();
         this.programCounter = 0;
         this.returnProgramCounter = UNKNOWN_PC;
+        this.invocationToken = null;
     }
 
     /**
@@ -97,6 +105,31 @@ public abstract class Frame implements Cloneable {
         this.returnProgramCounter = this.programCounter + returnProgramCounterOffset;
     }
 
+    /**
+     * Sets the object identifying the method invocation
+     * that pushed this {@link Frame}.
+     * 
+     * @param invocationToken an {@link Object}. It will
+     *        be shared with the clones of this frame, so 
+     *        it identifies the invocation across the 
+     *        (cloned) states.
+     */
+    public final void setInvocationToken(Object invocationToken) {
+        this.invocationToken = invocationToken;
+    }
+
+    /**
+     * Returns the object identifying the method invocation
+     * that pushed this {@link Frame}.
+     * 
+     * @return the {@link Object} set with the last call to
+     *         {@link #setInvocationToken(Object)}, or 
+     *         {@code null} if no object was set.
+     */
+    public final Object getInvocationToken() {
+        return this.invocationToken;
+    }
+
     private void boundCheckPCValue(int newPC) throws InvalidProgramCounterException {
         if (newPC < 0 || newPC >= this.bytecode.length) {
             throw new InvalidProgramCounterException();
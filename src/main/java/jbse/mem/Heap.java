@@ -4,46 +4,73 @@ import java.util.Map;
 import java.util.Set;
 import java.util.SortedMap;
 import java.util.TreeMap;
-import java.util.TreeSet;
+import java.util.function.LongConsumer;
 
+import jbse.common.PersistentVector;
 import jbse.common.exc.UnexpectedInternalException;
 import jbse.mem.exc.HeapMemoryExhaustedException;
 
 /**
- * Class that implements the heap in the JVM's memory.
+ * Class that implements the heap in the JVM's memory. The
+ * objects are stored in a {@link PersistentVector} indexed
+ * by heap position, so a lazy clone of a heap shares all its
+ * objects with the cloned heap in constant time.
  */
 final class Heap implements Cloneable {
+    /**
+     * An entry of the heap, associating an object
+     * to the heap generation that owns it.
+     */
+    private static final class Entry {
+        final Object owner;
+        final HeapObjekt objekt;
+
+        Entry(Object owner, HeapObjekt objekt) {
+            this.owner = owner;
+            this.objekt = objekt;
+        }
+    }
+
     private final long maxHeapSize;
-	private Heap delegate; //nonfinal to allow cloning
-    private TreeMap<Long, HeapObjekt> objects; //nonfinal to allow cloning
+
+    /**
+     * The generation of this heap. The objects in the entries
+     * with a different owner are shared with other heaps,
+     * and must be wrapped before being returned. It changes
+     * upon (lazy) cloning.
+     */
+    private Object owner; //nonfinal to allow cloning
+    private PersistentVector<Entry> objects; //nonfinal to allow cloning
+    private long size;
     private long nextIndex;
-    
+
     /**
      * Constructor.
-     * 
+     *
      * @param maxHeapSize an {@code int}, the maximum number
      *        of objects this heap can store.
      */
     Heap(long maxHeapSize) {
-    	this.delegate = null;
         this.maxHeapSize = maxHeapSize;
-        this.objects = new TreeMap<>();
+        this.owner = new Object();
+        this.objects = PersistentVector.empty();
+        this.size = 0;
         this.nextIndex = Util.POS_ROOT;
     }
 
     /**
      * Stores a new object into the heap up to the
      * maximum capacity of the heap.
-     * 
-     * @param item the {@link InstanceImpl} to be stored in 
+     *
+     * @param item the {@link InstanceImpl} to be stored in
      *        the heap.
-     * @return the position in the heap  
+     * @return the position in the heap
      *         where {@code item} is stored.
      * @throws HeapMemoryExhaustedException if the heap
      *         cannot store any more object.
      */
     long addNew(HeapObjektImpl item) throws HeapMemoryExhaustedException {
-        if (this.objects.size() >= this.maxHeapSize) {
+        if (this.size >= this.maxHeapSize) {
             throw new HeapMemoryExhaustedException();
         }
         return addNewSurely(item);
@@ -52,155 +79,156 @@ final class Heap implements Cloneable {
     /**
      * Stores a new object into the heap. This operation
      * always succeeds.
-     * 
-     * @param item the {@link InstanceImpl} to be stored in 
+     *
+     * @param item the {@link InstanceImpl} to be stored in
      *        the heap.
-     * @return the position in the heap  
+     * @return the position in the heap
      *         where {@code item} is stored.
      */
     long addNewSurely(HeapObjektImpl item) {
-        this.objects.put(this.nextIndex, item);
+        set(this.nextIndex, item);
         long retVal = this.nextIndex;
         while (existsAt(this.nextIndex)) {
-            if (this.nextIndex == Long.MAX_VALUE) {
+            if (this.nextIndex == Integer.MAX_VALUE) {
                 throw new UnexpectedInternalException("Heap space exhausted.");
             }
             ++this.nextIndex;
         }
         return retVal;
     }
-    
+
     /**
      * Checks whether there is an object at some position.
-     * 
+     *
      * @param index a {@code long}.
      * @return {@code true} iff there is an object at position {@code index}.
      */
     boolean existsAt(long index) {
-    	if (this.objects.containsKey(index)) {
-    		return (this.objects.get(index) != null);
-    	} else {
-    		return (this.delegate != null && this.delegate.existsAt(index));
-    	}
+        return (entry(index) != null);
     }
 
     /**
      * Sets an object into some heap location.
-     * 
+     *
      * @param ref a {@code long}, the location where the instance
      *        must be stored.
      * @param item the {@link HeapObjekt} to stored at {@code pos}.
      */
     void set(long pos, HeapObjekt item) {
-        this.objects.put(pos, item);
+        if (pos < 0 || pos > Integer.MAX_VALUE) {
+            throw new UnexpectedInternalException("Heap space exhausted.");
+        }
+        final boolean existed = existsAt(pos);
+        if (!existed && item != null) {
+            ++this.size;
+        } else if (existed && item == null) {
+            --this.size;
+        }
+        this.objects = this.objects.set((int) pos, (item == null ? null : new Entry(this.owner, item)));
     }
 
     /**
      * Gets an object from the heap.
-     * 
+     *
      * @param pos a {@code long}, the location where the object
      *        must be stored.
-     * @return the {@link HeapObjekt} at position {@code pos}, or 
+     * @return the {@link HeapObjekt} at position {@code pos}, or
      *         {@code null} if nothing is stored at {@code pos}.
      */
     HeapObjekt getObject(long pos) {
-    	if (existsAt(pos)) {
-    		final HeapObjekt localObjekt = this.objects.get(pos);
-    		if (localObjekt == null) {
-    			final HeapObjektImpl trueObjekt = getTheRealThing(pos);
-    			final HeapObjektWrapper<?> delegateObjekt = trueObjekt.makeWrapper(this, pos);
-    			set(pos, delegateObjekt);
-    			return delegateObjekt;
-    		} else {
-    			return localObjekt;
-    		}
-    	} else {
-    		return null;
-    	}
+        final Entry entry = entry(pos);
+        if (entry == null) {
+            return null;
+        } else if (entry.owner == this.owner) {
+            return entry.objekt;
+        } else {
+            //the object is shared with another heap: wraps it
+            final HeapObjektImpl trueObjekt = getTheRealThing(entry);
+            final HeapObjektWrapper<?> delegateObjekt = trueObjekt.makeWrapper(this, pos);
+            set(pos, delegateObjekt);
+            return delegateObjekt;
+        }
     }
-    
+
+    private Entry entry(long pos) {
+        if (pos < 0 || pos >= this.objects.size()) {
+            return null;
+        }
+        return this.objects.get((int) pos);
+    }
+
     /**
      * Gets the real {@link ObjektImpl} that is stored
-     * at some position.
-     * 
-     * @param pos a {@code long}. It must be 
-     * {@link #existsAt(long) existsObjectAt}{@code (pos) == true}.
-     * @return the {@link ObjektImpl} stored at {@code pos}, obtained
-     * by walking through the delegation chain until either an {@link ObjektImpl}
-     * or an {@link ObjektWrapper} is found (in the latter case, the wrapped
-     * object is returned).
+     * in some entry.
+     *
+     * @param entry an {@link Entry}. It must not be {@code null}.
+     * @return the {@link ObjektImpl} stored at {@code entry},
+     * that is either the object in {@code entry} if it is an
+     * {@link ObjektImpl}, or the wrapped object if it
+     * is an {@link ObjektWrapper}.
      */
-    private HeapObjektImpl getTheRealThing(long pos) {
-		final HeapObjekt localObjekt = this.objects.get(pos);
-		if (localObjekt == null) {
-			return this.delegate.getTheRealThing(pos);
-		} else if (localObjekt instanceof ObjektWrapper<?>) {
-			return ((HeapObjektWrapper<?>) localObjekt).getDelegate();
-		} else {
-			return (HeapObjektImpl) localObjekt;
-		}
-    }
-    
-    private TreeSet<Long> filledPositions() {
-    	final TreeSet<Long> retVal = new TreeSet<>();
-    	for (long pos : this.objects.keySet()) {
-    		if (this.objects.get(pos) != null) {
-    			retVal.add(pos);
-    		}
-    	}
-    	if (this.delegate != null) {
-    		retVal.addAll(this.delegate.filledPositions());
-    	}
-    	return retVal;
+    private static HeapObjektImpl getTheRealThing(Entry entry) {
+        if (entry.objekt instanceof ObjektWrapper<?>) {
+            return ((HeapObjektWrapper<?>) entry.objekt).getDelegate();
+        } else {
+            return (HeapObjektImpl) entry.objekt;
+        }
     }
-    
-    private void makeAllWrappers() {
-        for (long pos : filledPositions()) {
-            if (!this.objects.containsKey(pos)) {
-            	final HeapObjektImpl trueObjekt = getTheRealThing(pos);
-            	final HeapObjektWrapper<?> delegateObjekt = trueObjekt.makeWrapper(this, pos);
-            	this.objects.put(pos, delegateObjekt);
+
+    /**
+     * Performs an action on all the positions where
+     * an object is stored, in increasing order.
+     *
+     * @param action a {@link LongConsumer}. It may
+     *        store objects at the positions it receives.
+     */
+    private void forEachFilledPosition(LongConsumer action) {
+        long pos = 0;
+        for (Entry entry : this.objects) {
+            if (entry != null) {
+                action.accept(pos);
             }
+            ++pos;
         }
     }
 
     /**
      * Returns the objects in the heap as a {@link Map}.
-     * 
-     * @return a 
+     *
+     * @return a
      * {@link SortedMap}{@code <}{@link Long}{@code , }{@link Objekt}{@code >}
-     * mapping heap positions to the {@link Objekt}s stored 
+     * mapping heap positions to the {@link Objekt}s stored
      * at them.
      */
     SortedMap<Long, Objekt> getObjects() {
-    	makeAllWrappers();
-        return new TreeMap<>(this.objects);
-    }    
+        final TreeMap<Long, Objekt> retVal = new TreeMap<>();
+        forEachFilledPosition(pos -> retVal.put(pos, getObject(pos)));
+        return retVal;
+    }
 
     /**
      * Returns the number of objects in the heap.
-     * 
+     *
      * @return a positive {@code int}.
      */
     int getSize() {
-        return filledPositions().size();
+        return (int) this.size;
     }
-    
+
     /**
      * Deletes objects from this heap.
-     * 
+     *
      * @param exceptPos a {@link Set}{@code <}{@link Long}{@code >}.
      *        The objects at positions in {@code except}
      *        will not be deleted, all the remaining objects
      *        will.
      */
     void disposeExcept(Set<Long> exceptPos) {
-        for (long pos : filledPositions()) {
-            if (exceptPos.contains(pos)) {
-                continue;
+        forEachFilledPosition(pos -> {
+            if (!exceptPos.contains(pos)) {
+                set(pos, null);
             }
-            this.objects.put(pos, null);
-        }
+        });
     }
 
     Heap lazyClone() {
@@ -211,9 +239,11 @@ final class Heap implements Cloneable {
             throw new InternalError(e);
         }
 
-        h.delegate = this;
-        h.objects = new TreeMap<>();
-        
+        //both heaps start a new generation, so
+        //the objects they share will be wrapped
+        this.owner = new Object();
+        h.owner = new Object();
+
         return h;
     }
 
@@ -221,17 +251,14 @@ final class Heap implements Cloneable {
     public String toString() {
         final StringBuilder buf = new StringBuilder();
         buf.append("[");
-        boolean isFirst = true;
-        for (long pos : filledPositions()) {
-            if (isFirst) {
-                isFirst = false;
-            } else {
+        forEachFilledPosition(pos -> {
+            if (buf.length() > 1) {
                 buf.append(", ");
             }
             buf.append(pos);
             buf.append(":");
             buf.append(getObject(pos).toString());
-        }
+        });
         buf.append("]");
         return buf.toString();
     }
@@ -245,13 +272,17 @@ final class Heap implements Cloneable {
             throw new InternalError(e);
         }
 
-        h.delegate = null;
-        final TreeMap<Long, HeapObjekt> objectsClone = new TreeMap<>();
-        for (long pos : filledPositions()) {
-            objectsClone.put(pos, getTheRealThing(pos).clone());
+        h.owner = new Object();
+        PersistentVector<Entry> objectsClone = PersistentVector.empty();
+        int pos = 0;
+        for (Entry entry : this.objects) {
+            if (entry != null) {
+                objectsClone = objectsClone.set(pos, new Entry(h.owner, getTheRealThing(entry).clone()));
+            }
+            ++pos;
         }
         h.objects = objectsClone;
-        
+
         return h;
     }
-}
\ No newline at end of file
+}
@@ -358,6 +358,12 @@ public final class InstanceImpl_METALEVELBOX extends InstanceImpl implements Ins
 			throw new MethodNotFoundException(methodSignature.toString());
 		}
 
+		@Override
+		public int getCodeMaxStack(Signature methodSignature)
+		throws MethodNotFoundException, MethodCodeNotFoundException {
+			throw new MethodNotFoundException(methodSignature.toString());
+		}
+
 		@Override
 		public byte[] getMethodCodeBySignature(Signature methodSignature)
 		throws MethodNotFoundException, MethodCodeNotFoundException {
@@ -30,6 +30,16 @@ public final class MethodFrame extends Frame implements Cloneable {
     /** The frame's operand stack. */ 
     private OperandStack operandStack; //not final because of clone
 
+    /** 
+     * Caches the last calculated source row: the upper 32 bits
+     * are the program counter, or -1 if the source row was never 
+     * calculated, and the lower 32 bits are the source row at it. 
+     * Frames may be shared by states in different threads, thus 
+     * the program counter and the row are packed in a single 
+     * volatile value, so they are always read consistently.
+     */
+    private volatile long sourceRowMemo = -1L << 32;
+
     /**
      * Constructor.
      * 
@@ -48,7 +58,7 @@ public final class MethodFrame extends Frame implements Cloneable {
         this.methodSignature = methodSignature;
         this.lnt = classMethodImpl.getLineNumberTable(methodSignature);
         this.localVariables = new LocalVariablesArea(classMethodImpl.getLocalVariableTable(methodSignature));
-        this.operandStack = new OperandStack();
+        this.operandStack = new OperandStack(classMethodImpl.getCodeMaxStack(methodSignature));
     }
 
     @Override
@@ -58,13 +68,19 @@ public final class MethodFrame extends Frame implements Cloneable {
 
     @Override
     public int getSourceRow() {
+        final int programCounter = getProgramCounter();
+        final long memo = this.sourceRowMemo;
+        if (programCounter == (int) (memo >>> 32)) {
+            return (int) memo;
+        }
         int retVal = UNKNOWN_SOURCE_ROW;
         for (LineNumberTable.Row r : this.lnt) {
-            if (r.start > getProgramCounter()) {
+            if (r.start > programCounter) {
                 break;
             }
             retVal = r.lineNumber;
         }
+        this.sourceRowMemo = (((long) programCounter) << 32) | (retVal & 0xFFFFFFFFL);
         return retVal;
     }
     
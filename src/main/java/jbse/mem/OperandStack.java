@@ -1,6 +1,7 @@
 package jbse.mem;
 
-import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 
@@ -12,15 +13,38 @@ import jbse.val.Value;
  */
 //TODO manage stack maps and possibly raise unexpected internal error
 final class OperandStack implements Cloneable {
-    /** Not final because of clone(). */
-    private ArrayDeque<Value> valueStack;
+    /** The default initial capacity of the operand stack. */
+    private static final int DEFAULT_CAPACITY = 8;
+    
+    /** 
+     * The values in the operand stack, from the bottommost 
+     * to the topmost. Not final because of clone() and 
+     * because it is enlarged when full.
+     */
+    private Value[] valueStack;
+    
+    /** The number of values in the operand stack. */
+    private int size;
     
     /**
      * Constructor of empty operand stack.
      * 
      */
     OperandStack() {
-        this.valueStack = new ArrayDeque<Value>();
+        this(DEFAULT_CAPACITY);
+    }
+    
+    /**
+     * Constructor of empty operand stack.
+     * 
+     * @param capacity a nonnegative {@code int}, the 
+     *        expected maximum depth of the operand stack
+     *        (e.g., the {@code max_stack} of a method).
+     *        The operand stack is anyway enlarged when needed.
+     */
+    OperandStack(int capacity) {
+        this.valueStack = new Value[Math.max(1, capacity)];
+        this.size = 0;
     }
     
     /**
@@ -29,7 +53,10 @@ final class OperandStack implements Cloneable {
      *             of the operand stack.
      */
     void push(Value item) {
-        this.valueStack.push(item);
+        if (this.size == this.valueStack.length) {
+            this.valueStack = Arrays.copyOf(this.valueStack, 2 * this.valueStack.length);
+        }
+        this.valueStack[this.size++] = item;
     }
     
     /**
@@ -39,10 +66,12 @@ final class OperandStack implements Cloneable {
      * @throws InvalidNumberOfOperandsException if the operand stack is empty.
      */
     Value pop() throws InvalidNumberOfOperandsException {
-    	if (this.valueStack.isEmpty()) {
+    	if (this.size == 0) {
     		throw new InvalidNumberOfOperandsException();
     	}
-    	return this.valueStack.pop();
+    	final Value retVal = this.valueStack[--this.size];
+    	this.valueStack[this.size] = null;
+    	return retVal;
     }
 
     /**
@@ -54,12 +83,11 @@ final class OperandStack implements Cloneable {
      *         if {@code num} is negative.
      */
     void pop(int num) throws InvalidNumberOfOperandsException {
-        if (num < 0 || this.valueStack.size() < num) {
+        if (num < 0 || this.size < num) {
             throw new InvalidNumberOfOperandsException();
         }
-        for (int i = 1; i <= num; ++i) {
-            this.valueStack.pop();
-        }
+        Arrays.fill(this.valueStack, this.size - num, this.size, null);
+        this.size -= num;
     }
     
     /**
@@ -69,10 +97,10 @@ final class OperandStack implements Cloneable {
      * @throws InvalidNumberOfOperandsException if the operand stack is empty.
      */
     Value top() throws InvalidNumberOfOperandsException {
-    	if (this.valueStack.isEmpty()) {
+    	if (this.size == 0) {
     		throw new InvalidNumberOfOperandsException();
     	}
-        return(this.valueStack.peek());
+        return this.valueStack[this.size - 1];
     }
 
     /**
@@ -88,27 +116,30 @@ final class OperandStack implements Cloneable {
      *         or if {@code num} is negative. 
      */
     Value[] operands(int num) throws InvalidNumberOfOperandsException {
-        if (num < 0 || this.valueStack.size() < num) {
+        if (num < 0 || this.size < num) {
             throw new InvalidNumberOfOperandsException();
         }
-        final Value[] retVal = new Value[num];
-        int i = num - 1;
-        for (Value v : this.valueStack) {
-            if (i < 0) {
-                break;
-            }
-            retVal[i] = v;
-            --i;
-        }
-        return retVal;
+        return Arrays.copyOfRange(this.valueStack, this.size - num, this.size);
     }
     
     void clear() {
-    	this.valueStack.clear();
+        Arrays.fill(this.valueStack, 0, this.size, null);
+        this.size = 0;
     }
     
+    /**
+     * Returns the values in the operand stack.
+     * 
+     * @return a {@link Collection}{@code <}{@link Value}{@code >}
+     *         of the values in the operand stack, from the
+     *         topmost to the bottommost.
+     */
     Collection<Value> values() {
-    	return Collections.unmodifiableCollection(this.valueStack);
+        final ArrayList<Value> retVal = new ArrayList<>(this.size);
+        for (int i = this.size - 1; i >= 0; --i) {
+            retVal.add(this.valueStack[i]);
+        }
+    	return Collections.unmodifiableCollection(retVal);
     }
     
     /**
@@ -117,14 +148,11 @@ final class OperandStack implements Cloneable {
     public String toString() {
         final StringBuilder buf = new StringBuilder();
         buf.append("{");
-        boolean isFirst = true;
-        for (Value v : this.valueStack) {
-            if (isFirst) {
-                isFirst = false;
-            } else {
+        for (int i = this.size - 1; i >= 0; --i) {
+            buf.append(this.valueStack[i].toString());
+            if (i > 0) {
                 buf.append(", ");
             }
-            buf.append(v.toString());
         }
         buf.append("}");
         return buf.toString();
@@ -138,9 +166,7 @@ final class OperandStack implements Cloneable {
         } catch (CloneNotSupportedException e) {
             throw new InternalError(e);
         }        
-        o.valueStack = new ArrayDeque<Value>(this.valueStack);
+        o.valueStack = this.valueStack.clone();
         return o;
     }
 }
-
-
@@ -1,13 +1,13 @@
 package jbse.mem;
 
-import java.util.ArrayList;
 import java.util.Collection;
-import java.util.Collections;
-import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.function.BiConsumer;
 
 import jbse.bc.ClassFile;
+import jbse.common.PersistentHashMap;
+import jbse.common.PersistentVector;
 import jbse.common.exc.InvalidInputException;
 import jbse.mem.exc.ContradictionException;
 import jbse.val.Expression;
@@ -19,30 +19,49 @@ import jbse.val.Simplex;
  * A path condition. It retains all the clauses gathered at the 
  * different branch points traversed during execution as a 
  * suitable {@link Collection}{@code <}{@link Clause}{@code >}. 
+ * All its members are persistent data structures, so the path 
+ * conditions of sibling states share their common prefix, and
+ * cloning a path condition takes constant time.
  */
 final class PathCondition implements Cloneable {
-    /** {@link ArrayList} of all the {@link Clause}s forming the path condition. */
-    private ArrayList<Clause> clauses;
+    /** {@link PersistentVector} of all the {@link Clause}s forming the path condition. */
+    private PersistentVector<Clause> clauses;
 
     /** 
      * Maps symbolic references to their respective heap positions.
      * It is just a cache of information already contained in {@code clauses}.
      */
-    private HashMap<ReferenceSymbolic, Long> referenceResolutionMap;
+    private PersistentHashMap<ReferenceSymbolic, Long> referenceResolutionMap;
 
     /**
      * Maps each class with the number of assumed objects in it. 
      * It is just a cache of information already contained in {@code clauses}.
      */
-    private HashMap<String, Integer> objectCounters;
+    private PersistentHashMap<String, Integer> objectCounters;
+
+    /**
+     * Maps each class with the expansion clauses of the assumed 
+     * objects in it, in the order they were assumed. 
+     * It is just a cache of information already contained in {@code clauses}.
+     */
+    private PersistentHashMap<ClassFile, PersistentVector<ClauseAssumeExpands>> objectsByClass;
+
+    /**
+     * The keys of {@code objectsByClass}, in the order they were 
+     * first assumed. 
+     * It is just a cache of information already contained in {@code clauses}.
+     */
+    private PersistentVector<ClassFile> objectClasses;
 
     /**
      * Constructor.
      */
     PathCondition() {
-        this.clauses = new ArrayList<>();
-        this.referenceResolutionMap = new HashMap<>();
-        this.objectCounters = new HashMap<>();
+        this.clauses = PersistentVector.empty();
+        this.referenceResolutionMap = PersistentHashMap.empty();
+        this.objectCounters = PersistentHashMap.empty();
+        this.objectsByClass = PersistentHashMap.empty();
+        this.objectClasses = PersistentVector.empty();
     }
 
     /**
@@ -65,7 +84,7 @@ final class PathCondition implements Cloneable {
     	if (condition.surelyFalse()) {
     		throw new ContradictionException("Attempted to invoke " + getClass().getName() + ".addClauseAssume with a surely false condition.");
     	}
-        this.clauses.add(clause);
+        this.clauses = this.clauses.add(clause);
     }
 
     /**
@@ -95,15 +114,23 @@ final class PathCondition implements Cloneable {
         		throw new ContradictionException("Attempted to invoke " + getClass().getName() + ".addClauseAssumeExpands with an referenceSymbolic resolved to a heap position different to " + heapPosition + ".");
         	}
         }
-        this.clauses.add(clause);
-        this.referenceResolutionMap.put(referenceSymbolic, heapPosition);
+        this.clauses = this.clauses.add(clause);
+        this.referenceResolutionMap = this.referenceResolutionMap.put(referenceSymbolic, heapPosition);
 
         //increments objectCounters
-        if (!this.objectCounters.containsKey(object.getType().getClassName())) {
-            this.objectCounters.put(object.getType().getClassName(), 0);
+        final String className = object.getType().getClassName();
+        final int nobjects = getNumAssumed(className);
+        this.objectCounters = this.objectCounters.put(className, nobjects + 1);
+
+        //indexes the clause by the object's class
+        final ClassFile classFile = object.getType();
+        final PersistentVector<ClauseAssumeExpands> objectsInClass = this.objectsByClass.get(classFile);
+        if (objectsInClass == null) {
+            this.objectClasses = this.objectClasses.add(classFile);
+            this.objectsByClass = this.objectsByClass.put(classFile, PersistentVector.<ClauseAssumeExpands>empty().add(clause));
+        } else {
+            this.objectsByClass = this.objectsByClass.put(classFile, objectsInClass.add(clause));
         }
-        final int nobjects = this.objectCounters.get(object.getType().getClassName());
-        this.objectCounters.put(object.getType().getClassName(), nobjects + 1);
     }
 
     /**
@@ -133,8 +160,8 @@ final class PathCondition implements Cloneable {
         		throw new ContradictionException("Attempted to invoke " + getClass().getName() + ".addClauseAssumeAliases with an referenceSymbolic resolved to a heap position different to " + heapPosition + ".");
         	}
         }
-        this.clauses.add(clause);
-        this.referenceResolutionMap.put(referenceSymbolic, heapPosition);
+        this.clauses = this.clauses.add(clause);
+        this.referenceResolutionMap = this.referenceResolutionMap.put(referenceSymbolic, heapPosition);
     }
 
     /**
@@ -156,8 +183,8 @@ final class PathCondition implements Cloneable {
         		throw new ContradictionException("Attempted to invoke " + getClass().getName() + ".addClauseAssumeNull with a referenceSymbolic that is already resolved but not to null.");
         	}
         }
-        this.clauses.add(clause);
-        this.referenceResolutionMap.put(referenceSymbolic, Util.POS_NULL);
+        this.clauses = this.clauses.add(clause);
+        this.referenceResolutionMap = this.referenceResolutionMap.put(referenceSymbolic, Util.POS_NULL);
     }
 
     /**
@@ -171,7 +198,7 @@ final class PathCondition implements Cloneable {
      * @throws InvalidInputException if {@code classFile == null || klass == null}.
      */
     void addClauseAssumeClassInitialized(ClassFile classFile, Klass klass) throws InvalidInputException {
-        this.clauses.add(new ClauseAssumeClassInitialized(classFile, klass));
+        this.clauses = this.clauses.add(new ClauseAssumeClassInitialized(classFile, klass));
     }
 
     /**
@@ -181,7 +208,7 @@ final class PathCondition implements Cloneable {
      * @param classFile a {@link ClassFile}.
      */
     void addClauseAssumeClassNotInitialized(ClassFile classFile) {
-        this.clauses.add(new ClauseAssumeClassNotInitialized(classFile));
+        this.clauses = this.clauses.add(new ClauseAssumeClassNotInitialized(classFile));
     }
 
     /**
@@ -227,7 +254,7 @@ final class PathCondition implements Cloneable {
                 return null;
             }
             final Clause cc = i.next();
-            if (!cc.equals(c)) {
+            if (cc != c && !cc.equals(c)) { //shared prefixes have same clauses
                 return null;
             }
         }
@@ -242,10 +269,40 @@ final class PathCondition implements Cloneable {
      * assumed by this path condition.
      */
     int getNumAssumed(String className) {
-        if (this.objectCounters.containsKey(className)) {
-            return this.objectCounters.get(className);
+        final Integer retVal = this.objectCounters.get(className);
+        return (retVal == null ? 0 : retVal);
+    }
+
+    /**
+     * Invokes an action on all the objects assumed by expansion
+     * in this path condition whose class is a subclass of a given 
+     * class. It is equivalent to, but faster than, invoking 
+     * {@link Util#forAllInitialObjects(List, BiConsumer) forAllInitialObjects}
+     * on {@link #getClauses()} and filtering the objects by their
+     * type, since the subclass check is done once per assumed class 
+     * rather than once per assumed object.
+     * 
+     * @param superclass a {@link ClassFile}.
+     * @param action a {@link BiConsumer}{@code <}{@link HeapObjekt}{@code , }{@link Long}{@code >}
+     *        that is invoked for each object whose class is a subclass of
+     *        {@code superclass}. It receives in input the object as it 
+     *        was at the time of its assumption and its heap position. 
+     *        The objects of a same class are visited in the order they 
+     *        were assumed.
+     * @throws InvalidInputException if {@code superclass == null}.
+     */
+    void forAllInitialObjectsSubclassOf(ClassFile superclass, BiConsumer<HeapObjekt, Long> action) 
+    throws InvalidInputException {
+        if (superclass == null) {
+            throw new InvalidInputException("Attempted to invoke " + getClass().getName() + ".forAllInitialObjectsSubclassOf with a null superclass.");
+        }
+        for (ClassFile objectClass : this.objectClasses) {
+            if (objectClass.isSubclass(superclass)) {
+                for (ClauseAssumeExpands c : this.objectsByClass.get(objectClass)) {
+                    action.accept(c.getObjekt(), c.getHeapPosition());
+                }
+            }
         }
-        return 0;
     }
 
     /**
@@ -256,7 +313,7 @@ final class PathCondition implements Cloneable {
      * It is valid until {@code this} is modified.
      */
     List<Clause> getClauses() {
-        return Collections.unmodifiableList(this.clauses);
+        return this.clauses.asList();
     }
     
     @Override
@@ -289,10 +346,7 @@ final class PathCondition implements Cloneable {
             throw new InternalError(e);
         }
 
-        //does a deep copy
-        o.clauses = new ArrayList<>(this.clauses);
-        o.referenceResolutionMap = new HashMap<>(this.referenceResolutionMap);
-        o.objectCounters = new HashMap<>(this.objectCounters);
+        //all the members are persistent, thus they can be shared
 
         return o;
     }
@@ -30,6 +30,7 @@ import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.Set;
 import java.util.SortedMap;
+import java.util.function.BiConsumer;
 
 import jbse.bc.ClassFile;
 import jbse.bc.ClassFileFactory;
@@ -2781,7 +2782,7 @@ public final class State implements Cloneable {
                         if (!hasNext()) {
                             throw new NoSuchElementException();
                         }
-                        final Objekt retVal = State.this.heap.getObjects().get(this.next.getHeapPosition());
+                        final Objekt retVal = State.this.heap.getObject(this.next.getHeapPosition());
                         moveForward();
                         return retVal;
                     }
@@ -3533,6 +3534,25 @@ public final class State implements Cloneable {
         return this.pathCondition.getNumAssumed(className);
     }
 
+    /**
+     * Invokes an action on all the symbolic objects assumed by
+     * this state whose class is a subclass of a given class. The
+     * objects are retrieved from an index by class of the
+     * state's path condition, thus the objects that are not
+     * type compatible with the given class are not scanned.
+     *
+     * @param superclass a {@link ClassFile}.
+     * @param action a {@link BiConsumer}{@code <}{@link HeapObjekt}{@code , }{@link Long}{@code >}
+     *        that is invoked for each object whose class is a subclass of
+     *        {@code superclass}. It receives in input the object as it
+     *        was at the time of its assumption and its heap position.
+     * @throws InvalidInputException if {@code superclass == null}.
+     */
+    public void forAllInitialObjectsSubclassOf(ClassFile superclass, BiConsumer<HeapObjekt, Long> action)
+    throws InvalidInputException {
+        this.pathCondition.forAllInitialObjectsSubclassOf(superclass, action);
+    }
+
     /**
      * Refines this state based on the path condition of another state that
      * refines (i.e., comes temporally later than) this state.
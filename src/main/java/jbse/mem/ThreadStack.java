@@ -1,6 +1,7 @@
 package jbse.mem;
 
 import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.Collections;
 import java.util.List;
 
@@ -15,12 +16,20 @@ class ThreadStack implements Cloneable {
 
     /** The actual stack of {@link Frame}s. */
     private ArrayList<Frame> frameStack;
+    
+    /** 
+     * The positions in {@link #frameStack} of the {@link Frame}s 
+     * that are shared with other {@link ThreadStack}s after cloning, 
+     * and must be copied before being modified.
+     */
+    private BitSet shared;
 
     /**
      * Constructor of stack.
      */
     ThreadStack() {
         this.frameStack = new ArrayList<Frame>();
+        this.shared = new BitSet();
     }
 
     /**
@@ -46,7 +55,9 @@ class ThreadStack implements Cloneable {
         if (isEmpty()) {
             throw new ThreadStackEmptyException();
         }
-        return this.frameStack.remove(this.frameStack.size() - 1);
+        final int top = this.frameStack.size() - 1;
+        this.shared.clear(top);
+        return this.frameStack.remove(top);
     }
 
     /**
@@ -63,6 +74,7 @@ class ThreadStack implements Cloneable {
      */
     void clear() {
         this.frameStack.clear();
+        this.shared.clear();
     }
 
     /**
@@ -77,7 +89,7 @@ class ThreadStack implements Cloneable {
         if (isEmpty()) {
             throw new ThreadStackEmptyException();
         }
-        return this.frameStack.get(this.frameStack.size() - 1);
+        return ownedFrame(this.frameStack.size() - 1);
     }
 
     /**
@@ -92,12 +104,31 @@ class ThreadStack implements Cloneable {
         if (isEmpty()) {
             throw new ThreadStackEmptyException();
         }
-        return this.frameStack.get(ROOT_FRAME);
+        return ownedFrame(ROOT_FRAME);
+    }
+    
+    /**
+     * Returns a frame, after copying it if it is 
+     * shared with another stack.
+     * 
+     * @param position an {@code int}, the position 
+     *        of the frame in the stack.
+     * @return the {@link Frame} at {@code position}, 
+     *         that can be safely modified.
+     */
+    private Frame ownedFrame(int position) {
+        if (this.shared.get(position)) {
+            this.frameStack.set(position, this.frameStack.get(position).clone());
+            this.shared.clear(position);
+        }
+        return this.frameStack.get(position);
     }
 
     /**
      * Returns an unmodifiable list of all the frames
-     * in the stack.
+     * in the stack. The frames in the list must not 
+     * be modified, since they might be shared with
+     * other stacks.
      * 
      * @return a {@link List}{@code <}{@link Frame}{@code >} 
      *         of the frames in the stack, in their push order.
@@ -134,11 +165,20 @@ class ThreadStack implements Cloneable {
             throw new InternalError(e);
         }
 
-        final ArrayList<Frame> frameStackClone = new ArrayList<Frame>();
-        for (int i = 0; i < this.frameStack.size(); ++i) {
-            frameStackClone.add(this.frameStack.get(i).clone());
+        //all the frames but the current one are shared
+        //until they are modified, the current one is copied 
+        //since it will be most likely modified
+        final int top = this.frameStack.size() - 1;
+        final ArrayList<Frame> frameStackClone = new ArrayList<Frame>(this.frameStack);
+        if (top >= 0) {
+            frameStackClone.set(top, this.frameStack.get(top).clone());
+            this.shared.set(0, top);
         }
         o.frameStack = frameStackClone;
+        o.shared = (BitSet) this.shared.clone();
+        if (top >= 0) {
+            o.shared.clear(top);
+        }
         return o;
     }   
 }
\ No newline at end of file
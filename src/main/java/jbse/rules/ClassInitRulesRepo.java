@@ -1,23 +1,42 @@
 package jbse.rules;
 
 import java.util.ArrayList;
-import java.util.Collections;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
 
 public final class ClassInitRulesRepo implements Cloneable {
-    private ArrayList<String> notInitializedClassPatterns = new ArrayList<>();
+    private ArrayList<Pattern> notInitializedClassPatterns = new ArrayList<>();
+
+    /** Memoizes the results of {@link #notInitializedClassesContains(String)}. */
+    private ConcurrentHashMap<String, Boolean> notInitializedClassesMemo = new ConcurrentHashMap<>();
 
     public void addNotInitializedClassPattern(String... notInitializedClassPatterns) {
-        Collections.addAll(this.notInitializedClassPatterns, notInitializedClassPatterns);
+        for (String pattern : notInitializedClassPatterns) {
+            this.notInitializedClassPatterns.add(Pattern.compile(pattern));
+        }
+        this.notInitializedClassesMemo.clear();
     }
 
-    //TODO do it better!!!
     public boolean notInitializedClassesContains(String c) {
-    	for (String pattern : this.notInitializedClassPatterns) {
-    		if (c.matches(pattern)) {
-    			return true;
+        final Boolean memoized = this.notInitializedClassesMemo.get(c);
+        if (memoized != null) {
+            return memoized.booleanValue();
+        }
+        boolean retVal = false;
+    	for (Pattern pattern : this.notInitializedClassPatterns) {
+    		if (pattern.matcher(c).matches()) {
+    			retVal = true;
+    			break;
     		}
     	}
-		return false;
+    	this.notInitializedClassesMemo.put(c, retVal);
+		return retVal;
+    }
+
+    @Override
+    public String toString() {
+        return this.notInitializedClassPatterns.stream().map(Pattern::pattern).sorted().collect(Collectors.toList()).toString();
     }
 
     @SuppressWarnings("unchecked")
@@ -30,7 +49,8 @@ public final class ClassInitRulesRepo implements Cloneable {
             throw new AssertionError(e); //will not happen
         }
 
-        o.notInitializedClassPatterns = (ArrayList<String>) this.notInitializedClassPatterns.clone();
+        o.notInitializedClassPatterns = (ArrayList<Pattern>) this.notInitializedClassPatterns.clone();
+        o.notInitializedClassesMemo = new ConcurrentHashMap<>(this.notInitializedClassesMemo);
 
         return o;
     }
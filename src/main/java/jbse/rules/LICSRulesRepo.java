@@ -316,6 +316,14 @@ public final class LICSRulesRepo implements Cloneable {
 		return false;
 	}
 
+    @Override
+    public String toString() {
+        return "expands: " + Util.rulesToString(this.rulesExpandsTo) + 
+               " aliases: " + Util.rulesToString(this.rulesAliases) + 
+               " never aliases: " + Util.rulesToString(this.rulesNeverAliases) + 
+               " not null: " + Util.rulesToString(this.rulesNotNull);
+    }
+
     @Override
 	public LICSRulesRepo clone() {
         final LICSRulesRepo o;
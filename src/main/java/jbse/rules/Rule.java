@@ -2,7 +2,9 @@ package jbse.rules;
 
 import static jbse.rules.Util.ANY;
 import static jbse.rules.Util.makeOriginPatternAbsolute;
+import static jbse.rules.Util.makeOriginPatternRelative;
 
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -11,14 +13,32 @@ import jbse.val.ReferenceSymbolic;
 /**
  * A rule predicating on the origin of a symbolic reference
  * by means of an extended regular expression language.
- * Rules are immutable.
+ * Rules are immutable, but memoize the results of matching
+ * and the patterns they make, keyed by origin, since the 
+ * same origins are matched over and over during symbolic
+ * execution.
  * 
  * @author Pietro Braione
  *
  */
 public abstract class Rule {
+	/** 
+	 * The maximum number of entries in a memo, when 
+	 * exceeded the memo is flushed.
+	 */
+	static final int MEMO_MAX_SIZE = 4096;
+	
 	protected final Pattern originPattern;
 	
+	/** Memoizes the results of {@link #matches(ReferenceSymbolic)} by origin {@link String}. */
+	private final ConcurrentHashMap<String, Boolean> matchesMemo = new ConcurrentHashMap<>();
+	
+	/** 
+	 * Memoizes the results of {@link #originPatternRelative(String, ReferenceSymbolic)}
+	 * by relative origin expression, and then by target origin {@link String}.
+	 */
+	private final ConcurrentHashMap<String, ConcurrentHashMap<String, Pattern>> originPatternsRelativeMemo = new ConcurrentHashMap<>();
+	
 	/**
 	 * Constructor.
 	 * 
@@ -39,10 +59,47 @@ public abstract class Rule {
 	 *         matches this rule.
 	 */
 	public final boolean matches(ReferenceSymbolic ref) {
-		//checks if the origin of ref origin matches the pattern
 		final String originString = ref.asOriginString();
+		final Boolean memoized = this.matchesMemo.get(originString);
+		if (memoized != null) {
+			return memoized.booleanValue();
+		}
+		
+		//checks if the origin of ref origin matches the pattern
 		final Matcher m = this.originPattern.matcher(originString);
 		final boolean retVal = m.matches();
+		memoize(this.matchesMemo, originString, retVal);
 		return retVal;
 	}
+	
+	/**
+	 * Makes a {@link Pattern} for a relative origin expression,
+	 * by {@link Util#makeOriginPatternRelative(String, ReferenceSymbolic, Pattern) 
+	 * makeOriginPatternRelative}{@code (originExpRelative, originTarget, this.originPattern)}, 
+	 * reusing the previously made {@link Pattern}s.
+	 * 
+	 * @param originExpRelative a {@link String}, the relative origin 
+	 *        expression.
+	 * @param originTarget a {@link ReferenceSymbolic}, the origin that 
+	 *        all the occurrences of {$R_ANY} and {$REF} in 
+	 *        {@code originExpRelative} refer to.
+	 * @return a {@link Pattern} for {@code originExpRelative}.
+	 */
+	protected final Pattern originPatternRelative(String originExpRelative, ReferenceSymbolic originTarget) {
+		final ConcurrentHashMap<String, Pattern> memo = this.originPatternsRelativeMemo.computeIfAbsent(originExpRelative, k -> new ConcurrentHashMap<>());
+		final String originString = originTarget.asOriginString();
+		Pattern retVal = memo.get(originString);
+		if (retVal == null) {
+			retVal = makeOriginPatternRelative(originExpRelative, originTarget, this.originPattern);
+			memoize(memo, originString, retVal);
+		}
+		return retVal;
+	}
+	
+	private static <V> void memoize(ConcurrentHashMap<String, V> memo, String key, V value) {
+		if (memo.size() >= MEMO_MAX_SIZE) {
+			memo.clear();
+		}
+		memo.put(key, value);
+	}
 }
@@ -1,7 +1,5 @@
 package jbse.rules;
 
-import static jbse.rules.Util.makeOriginPatternRelative;
-
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -56,7 +54,7 @@ public abstract class TriggerRule extends Rule {
 		}
 		
 		//makes the pattern
-		final Pattern p = makeOriginPatternRelative(this.triggerMethodParameter, originTarget, this.originPattern);
+		final Pattern p = originPatternRelative(this.triggerMethodParameter, originTarget);
 
 		//checks if the origin of o matches the pattern
 		final String originString = originObject.asOriginString();
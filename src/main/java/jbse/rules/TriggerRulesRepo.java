@@ -300,6 +300,13 @@ public final class TriggerRulesRepo implements Cloneable {
 		return retVal;
 	}
 	
+	@Override
+	public String toString() {
+		return "expands: " + Util.rulesToString(this.rulesExpandsTo) + 
+		       " aliases: " + Util.rulesToString(this.rulesAliases) + 
+		       " null: " + Util.rulesToString(this.rulesNull);
+	}
+	
 	@Override
 	public TriggerRulesRepo clone() {
         final TriggerRulesRepo o;
@@ -2,6 +2,9 @@ package jbse.rules;
 
 import static jbse.mem.Util.forAllInitialObjects;
 
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -20,6 +23,24 @@ public final class Util {
 	static final String REGEX_ALLCHARS = "{°}";
 	static final String REGEX_ENDLINE = "\\{EOL\\}"; //braces must be escaped because REGEX_ENDLINE substitution comes after brace substitution
 
+	/**
+	 * Returns a {@link String} representation of a set of rules
+	 * that does not depend on the order they were added.
+	 * 
+	 * @param rules a {@link Map} from the class names of the
+	 *        references the rules predicate on, to the rules.
+	 * @return a {@link String}.
+	 */
+	static String rulesToString(Map<String, ? extends Set<?>> rules) {
+		final TreeSet<String> sorted = new TreeSet<>();
+		for (Map.Entry<String, ? extends Set<?>> e : rules.entrySet()) {
+			for (Object rule : e.getValue()) {
+				sorted.add(e.getKey() + ": " + rule.toString());
+			}
+		}
+		return sorted.toString();
+	}
+	
 	/**
 	 * Makes a regular expression pattern from an absolute origin expression
 	 * in a rule.
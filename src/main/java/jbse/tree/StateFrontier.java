@@ -0,0 +1,92 @@
+package jbse.tree;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+import jbse.mem.State;
+
+/**
+ * The frontier of a {@link StateTree}, i.e., the {@link State}s that
+ * have been discovered but not yet analyzed, that are waiting for
+ * the symbolic execution to backtrack to them. A {@code StateFrontier}
+ * establishes the search strategy of the symbolic execution, by
+ * deciding which of its states will be emitted first.
+ */
+public interface StateFrontier extends Iterable<State> {
+    /**
+     * Adds a state to this frontier.
+     *
+     * @param s the {@link State} to be added.
+     */
+    void add(State s);
+
+    /**
+     * Checks whether this frontier is empty.
+     *
+     * @return {@code true} iff this frontier has no states.
+     */
+    boolean isEmpty();
+
+    /**
+     * Returns the state that will be emitted next,
+     * without removing it.
+     *
+     * @return the {@link State} that a subsequent call to
+     *         {@link #remove()} would return, or {@code null}
+     *         if this frontier is empty.
+     */
+    State peek();
+
+    /**
+     * Removes the next state from this frontier.
+     *
+     * @return the removed {@link State}.
+     * @throws NoSuchElementException if this frontier is empty.
+     */
+    State remove();
+
+    /**
+     * Returns the state that this frontier would emit last
+     * (if its order is not determined, the one that is closest
+     * to the root of the symbolic execution tree), without
+     * removing it.
+     *
+     * @return the {@link State} that a subsequent call to
+     *         {@link #removeLast()} would return, or {@code null}
+     *         if this frontier is empty.
+     */
+    State peekLast();
+
+    /**
+     * Removes from this frontier the state that it would
+     * emit last (if its order is not determined, the one that
+     * is closest to the root of the symbolic execution tree).
+     *
+     * @return the removed {@link State}.
+     * @throws NoSuchElementException if this frontier is empty.
+     */
+    State removeLast();
+
+    /**
+     * Notifies that a state has been emitted by the
+     * {@link StateTree}, either from this frontier
+     * or directly as the continuation of the current
+     * path. The default implementation does nothing.
+     * Subclasses that rank the states by the explored
+     * code may use it to track it.
+     *
+     * @param s the emitted {@link State}.
+     */
+    default void emitted(State s) { }
+
+    /**
+     * Returns an iterator over the states in this frontier,
+     * in the order they would be emitted if no other state
+     * were added (in an unspecified order if it is not
+     * determined).
+     *
+     * @return an {@link Iterator}{@code <}{@link State}{@code >}.
+     */
+    @Override
+    Iterator<State> iterator();
+}
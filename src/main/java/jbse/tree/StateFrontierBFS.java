@@ -0,0 +1,53 @@
+package jbse.tree;
+
+import java.util.ArrayDeque;
+import java.util.Iterator;
+
+import jbse.mem.State;
+
+/**
+ * A {@link StateFrontier} implementing a breadth-first search:
+ * The first added state is emitted first. Note that the
+ * symbolic execution always continues the current path with
+ * one of the states it creates, thus the search is breadth-first
+ * only in the choice of the state where to backtrack.
+ */
+public final class StateFrontierBFS implements StateFrontier {
+    /** The states, the first is the first added. */
+    private final ArrayDeque<State> states = new ArrayDeque<>();
+
+    @Override
+    public void add(State s) {
+        this.states.addLast(s);
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return this.states.isEmpty();
+    }
+
+    @Override
+    public State peek() {
+        return this.states.peekFirst();
+    }
+
+    @Override
+    public State remove() {
+        return this.states.removeFirst();
+    }
+
+    @Override
+    public State peekLast() {
+        return this.states.peekLast();
+    }
+
+    @Override
+    public State removeLast() {
+        return this.states.removeLast();
+    }
+
+    @Override
+    public Iterator<State> iterator() {
+        return this.states.iterator();
+    }
+}
@@ -0,0 +1,117 @@
+package jbse.tree;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+import jbse.mem.State;
+
+/**
+ * A {@link StateFrontier} implementing a best-first search
+ * according to a ranking of the states, e.g., by their estimated
+ * distance to a target program point: The next state is the
+ * least one according to a {@link Comparator}. Ties are broken
+ * in depth-first order.
+ */
+public final class StateFrontierBestFirst implements StateFrontier {
+    /** The ranking of the states. */
+    private final Comparator<State> ranking;
+
+    /** The states, in the order they were added. */
+    private final ArrayList<State> states = new ArrayList<>();
+
+    /**
+     * Constructor.
+     *
+     * @param ranking a {@link Comparator}{@code <}{@link State}{@code >};
+     *        the lesser a state, the sooner it is emitted. It must be
+     *        consistent as long as the states are in the frontier.
+     * @throws NullPointerException if {@code ranking == null}.
+     */
+    public StateFrontierBestFirst(Comparator<State> ranking) {
+        if (ranking == null) {
+            throw new NullPointerException();
+        }
+        this.ranking = ranking;
+    }
+
+    @Override
+    public void add(State s) {
+        this.states.add(s);
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return this.states.isEmpty();
+    }
+
+    @Override
+    public State peek() {
+        if (this.states.isEmpty()) {
+            return null;
+        }
+        return this.states.get(best());
+    }
+
+    @Override
+    public State remove() {
+        if (this.states.isEmpty()) {
+            throw new NoSuchElementException();
+        }
+        return this.states.remove(best());
+    }
+
+    @Override
+    public State peekLast() {
+        if (this.states.isEmpty()) {
+            return null;
+        }
+        return this.states.get(worst());
+    }
+
+    @Override
+    public State removeLast() {
+        if (this.states.isEmpty()) {
+            throw new NoSuchElementException();
+        }
+        return this.states.remove(worst());
+    }
+
+    @Override
+    public Iterator<State> iterator() {
+        final ArrayList<State> retVal = new ArrayList<>(this.states);
+        Collections.reverse(retVal); //the sort is stable, so the ties remain in depth-first order
+        retVal.sort(this.ranking);
+        return retVal.iterator();
+    }
+
+    /**
+     * Returns the index of the next state, i.e., of the last
+     * added among the least ones.
+     */
+    private int best() {
+        int retVal = this.states.size() - 1;
+        for (int i = retVal - 1; i >= 0; --i) {
+            if (this.ranking.compare(this.states.get(i), this.states.get(retVal)) < 0) {
+                retVal = i;
+            }
+        }
+        return retVal;
+    }
+
+    /**
+     * Returns the index of the state that would be emitted
+     * last, i.e., of the first added among the greatest ones.
+     */
+    private int worst() {
+        int retVal = 0;
+        for (int i = 1; i < this.states.size(); ++i) {
+            if (this.ranking.compare(this.states.get(i), this.states.get(retVal)) > 0) {
+                retVal = i;
+            }
+        }
+        return retVal;
+    }
+}
@@ -0,0 +1,118 @@
+package jbse.tree;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Iterator;
+
+import jbse.mem.State;
+
+/**
+ * A {@link StateFrontier} that bounds the number of states stored
+ * by another frontier, thus its memory footprint when it grows
+ * with the width of the symbolic execution tree (as with
+ * breadth-first search). The states added when the other frontier
+ * is full overflow into a depth-first frontier, that is emitted
+ * first: This way the exploration proceeds depth-first, without
+ * widening, until the overflow is exhausted, and then goes on with
+ * the strategy of the bounded frontier. No state is ever dropped.
+ */
+public final class StateFrontierBounded implements StateFrontier {
+    /** The bounded frontier. */
+    private final StateFrontier bounded;
+
+    /** The maximum number of states in {@link #bounded}. */
+    private final int maxStates;
+
+    /** The number of states in {@link #bounded}. */
+    private int numStates = 0;
+
+    /** The overflow states, the first is the last added. */
+    private final ArrayDeque<State> overflow = new ArrayDeque<>();
+
+    /**
+     * Constructor.
+     *
+     * @param bounded an empty {@link StateFrontier}, the one
+     *        to be bounded.
+     * @param maxStates a positive {@code int}, the maximum
+     *        number of states that will be stored in {@code bounded}.
+     * @throws NullPointerException if {@code bounded == null}.
+     * @throws IllegalArgumentException if {@code bounded} is not
+     *         empty or {@code maxStates <= 0}.
+     */
+    public StateFrontierBounded(StateFrontier bounded, int maxStates) {
+        if (bounded == null) {
+            throw new NullPointerException();
+        }
+        if (!bounded.isEmpty() || maxStates <= 0) {
+            throw new IllegalArgumentException("A bounded frontier must be initially empty and have a positive bound.");
+        }
+        this.bounded = bounded;
+        this.maxStates = maxStates;
+    }
+
+    @Override
+    public void add(State s) {
+        if (this.numStates < this.maxStates) {
+            this.bounded.add(s);
+            ++this.numStates;
+        } else {
+            this.overflow.addFirst(s);
+        }
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return this.overflow.isEmpty() && this.bounded.isEmpty();
+    }
+
+    @Override
+    public State peek() {
+        if (this.overflow.isEmpty()) {
+            return this.bounded.peek();
+        }
+        return this.overflow.peekFirst();
+    }
+
+    @Override
+    public State remove() {
+        if (this.overflow.isEmpty()) {
+            final State retVal = this.bounded.remove();
+            --this.numStates;
+            return retVal;
+        }
+        return this.overflow.removeFirst();
+    }
+
+    @Override
+    public State peekLast() {
+        if (this.bounded.isEmpty()) {
+            return this.overflow.peekLast();
+        }
+        return this.bounded.peekLast();
+    }
+
+    @Override
+    public State removeLast() {
+        if (this.bounded.isEmpty()) {
+            return this.overflow.removeLast();
+        }
+        final State retVal = this.bounded.removeLast();
+        --this.numStates;
+        return retVal;
+    }
+
+    @Override
+    public void emitted(State s) {
+        this.bounded.emitted(s);
+    }
+
+    @Override
+    public Iterator<State> iterator() {
+        final ArrayList<State> retVal = new ArrayList<>(this.overflow);
+        for (State s : this.bounded) {
+            retVal.add(s);
+        }
+        return retVal.iterator();
+    }
+}
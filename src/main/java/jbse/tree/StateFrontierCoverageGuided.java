@@ -0,0 +1,165 @@
+package jbse.tree;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+import jbse.bc.Signature;
+import jbse.mem.State;
+import jbse.mem.exc.ThreadStackEmptyException;
+
+/**
+ * A {@link StateFrontier} implementing a coverage-guided search:
+ * The next state is the one whose current program point (method
+ * and program counter) has been reached by the fewest emitted
+ * states, so the states that lead to code not explored yet are
+ * preferred. Ties are broken in depth-first order.
+ */
+public final class StateFrontierCoverageGuided implements StateFrontier {
+    /** A program point. */
+    private static final class ProgramPoint {
+        private final Signature methodSignature;
+        private final int programCounter;
+
+        private ProgramPoint(Signature methodSignature, int programCounter) {
+            this.methodSignature = methodSignature;
+            this.programCounter = programCounter;
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * this.methodSignature.hashCode() + this.programCounter;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (obj == null || getClass() != obj.getClass()) {
+                return false;
+            }
+            final ProgramPoint other = (ProgramPoint) obj;
+            return this.methodSignature.equals(other.methodSignature) && this.programCounter == other.programCounter;
+        }
+    }
+
+    /** The states, in the order they were added. */
+    private final ArrayList<State> states = new ArrayList<>();
+
+    /** The program points of {@link #states}, in the same order. */
+    private final ArrayList<ProgramPoint> programPoints = new ArrayList<>();
+
+    /** Counts how many emitted states reached each program point. */
+    private final HashMap<ProgramPoint, Integer> coverage = new HashMap<>();
+
+    @Override
+    public void add(State s) {
+        this.states.add(s);
+        this.programPoints.add(programPoint(s));
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return this.states.isEmpty();
+    }
+
+    @Override
+    public State peek() {
+        if (this.states.isEmpty()) {
+            return null;
+        }
+        return this.states.get(best());
+    }
+
+    @Override
+    public State remove() {
+        if (this.states.isEmpty()) {
+            throw new NoSuchElementException();
+        }
+        return removeAt(best());
+    }
+
+    @Override
+    public State peekLast() {
+        if (this.states.isEmpty()) {
+            return null;
+        }
+        return this.states.get(worst());
+    }
+
+    @Override
+    public State removeLast() {
+        if (this.states.isEmpty()) {
+            throw new NoSuchElementException();
+        }
+        return removeAt(worst());
+    }
+
+    @Override
+    public void emitted(State s) {
+        this.coverage.merge(programPoint(s), 1, Integer::sum);
+    }
+
+    @Override
+    public Iterator<State> iterator() {
+        final ArrayList<Integer> indices = new ArrayList<>();
+        for (int i = 0; i < this.states.size(); ++i) {
+            indices.add(i);
+        }
+        indices.sort(Comparator.comparingInt(this::coverage).thenComparing(Comparator.reverseOrder()));
+        final ArrayList<State> retVal = new ArrayList<>();
+        for (int i : indices) {
+            retVal.add(this.states.get(i));
+        }
+        return retVal.iterator();
+    }
+
+    private static ProgramPoint programPoint(State s) {
+        try {
+            return new ProgramPoint(s.getCurrentMethodSignature(), s.getCurrentProgramCounter());
+        } catch (ThreadStackEmptyException e) {
+            return null; //no program point
+        }
+    }
+
+    private int coverage(int i) {
+        return this.coverage.getOrDefault(this.programPoints.get(i), 0);
+    }
+
+    /**
+     * Returns the index of the next state, i.e., of the last
+     * added among the ones with least coverage.
+     */
+    private int best() {
+        int retVal = this.states.size() - 1;
+        for (int i = retVal - 1; i >= 0; --i) {
+            if (coverage(i) < coverage(retVal)) {
+                retVal = i;
+            }
+        }
+        return retVal;
+    }
+
+    /**
+     * Returns the index of the state that would be emitted
+     * last, i.e., of the first added among the ones with most
+     * coverage.
+     */
+    private int worst() {
+        int retVal = 0;
+        for (int i = 1; i < this.states.size(); ++i) {
+            if (coverage(i) > coverage(retVal)) {
+                retVal = i;
+            }
+        }
+        return retVal;
+    }
+
+    private State removeAt(int i) {
+        this.programPoints.remove(i);
+        return this.states.remove(i);
+    }
+}
@@ -0,0 +1,50 @@
+package jbse.tree;
+
+import java.util.ArrayDeque;
+import java.util.Iterator;
+
+import jbse.mem.State;
+
+/**
+ * A {@link StateFrontier} implementing a depth-first search:
+ * The last added state is emitted first.
+ */
+public final class StateFrontierDFS implements StateFrontier {
+    /** The states, the first is the last added. */
+    private final ArrayDeque<State> states = new ArrayDeque<>();
+
+    @Override
+    public void add(State s) {
+        this.states.addFirst(s);
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return this.states.isEmpty();
+    }
+
+    @Override
+    public State peek() {
+        return this.states.peekFirst();
+    }
+
+    @Override
+    public State remove() {
+        return this.states.removeFirst();
+    }
+
+    @Override
+    public State peekLast() {
+        return this.states.peekLast();
+    }
+
+    @Override
+    public State removeLast() {
+        return this.states.removeLast();
+    }
+
+    @Override
+    public Iterator<State> iterator() {
+        return this.states.iterator();
+    }
+}
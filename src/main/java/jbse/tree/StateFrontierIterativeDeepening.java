@@ -0,0 +1,126 @@
+package jbse.tree;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Iterator;
+
+import jbse.mem.State;
+
+/**
+ * A {@link StateFrontier} implementing a depth-bounded, iterative
+ * deepening search: The states are emitted in depth-first order,
+ * but the ones that are deeper than a bound are deferred until all
+ * the states within the bound have been emitted; At that point the
+ * bound is increased and the search continues with the deferred
+ * states that fall within the new bound.
+ */
+public final class StateFrontierIterativeDeepening implements StateFrontier {
+    /** The default increment of the depth bound. */
+    private static final int DEFAULT_DEPTH_INCREMENT = 16;
+
+    /** The increment of the depth bound. */
+    private final int depthIncrement;
+
+    /** The current depth bound. */
+    private int depthBound;
+
+    /** The states within the depth bound, the first is the last added. */
+    private final ArrayDeque<State> statesWithinBound = new ArrayDeque<>();
+
+    /** The states beyond the depth bound, the first is the last added. */
+    private final ArrayDeque<State> statesDeferred = new ArrayDeque<>();
+
+    /**
+     * Constructor. The depth bound is increased by a
+     * default amount.
+     */
+    public StateFrontierIterativeDeepening() {
+        this(DEFAULT_DEPTH_INCREMENT);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param depthIncrement a positive {@code int}, the amount
+     *        the depth bound is initially set to, and then
+     *        increased by.
+     * @throws IllegalArgumentException if {@code depthIncrement <= 0}.
+     */
+    public StateFrontierIterativeDeepening(int depthIncrement) {
+        if (depthIncrement <= 0) {
+            throw new IllegalArgumentException("The depth increment of an iterative deepening search must be positive.");
+        }
+        this.depthIncrement = depthIncrement;
+        this.depthBound = depthIncrement;
+    }
+
+    @Override
+    public void add(State s) {
+        if (s.getDepth() < this.depthBound) {
+            this.statesWithinBound.addFirst(s);
+        } else {
+            this.statesDeferred.addFirst(s);
+        }
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return this.statesWithinBound.isEmpty() && this.statesDeferred.isEmpty();
+    }
+
+    @Override
+    public State peek() {
+        possiblyDeepen();
+        return this.statesWithinBound.peekFirst();
+    }
+
+    @Override
+    public State remove() {
+        possiblyDeepen();
+        return this.statesWithinBound.removeFirst();
+    }
+
+    @Override
+    public State peekLast() {
+        if (this.statesDeferred.isEmpty()) {
+            return this.statesWithinBound.peekLast();
+        }
+        return this.statesDeferred.peekLast();
+    }
+
+    @Override
+    public State removeLast() {
+        if (this.statesDeferred.isEmpty()) {
+            return this.statesWithinBound.removeLast();
+        }
+        return this.statesDeferred.removeLast();
+    }
+
+    @Override
+    public Iterator<State> iterator() {
+        final ArrayList<State> retVal = new ArrayList<>(this.statesWithinBound);
+        retVal.addAll(this.statesDeferred);
+        return retVal.iterator();
+    }
+
+    /**
+     * Increases the depth bound until some state
+     * falls within it, if no state is within the
+     * current bound.
+     */
+    private void possiblyDeepen() {
+        while (this.statesWithinBound.isEmpty() && !this.statesDeferred.isEmpty()) {
+            this.depthBound += this.depthIncrement;
+
+            //moves the states within the new bound, preserving their order
+            final Iterator<State> it = this.statesDeferred.descendingIterator();
+            while (it.hasNext()) {
+                final State s = it.next();
+                if (s.getDepth() < this.depthBound) {
+                    it.remove();
+                    this.statesWithinBound.addFirst(s);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,144 @@
+package jbse.tree;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Random;
+
+import jbse.mem.State;
+
+/**
+ * A {@link StateFrontier} implementing a random-path search:
+ * The next state is chosen randomly, with a probability that
+ * halves at every level of depth in the symbolic execution tree,
+ * as it would be by a random walk from the root of a binary tree.
+ * This way the shallow states, whose subtrees are (likely)
+ * larger, are preferred, and the search does not get stuck
+ * in the deep subtrees generated by loops.
+ */
+public final class StateFrontierRandomPath implements StateFrontier {
+    /** The default seed of the random generator. */
+    private static final long DEFAULT_SEED = 0L;
+
+    /** The states, in the order they were added. */
+    private final ArrayList<State> states = new ArrayList<>();
+
+    /** The random generator. */
+    private final Random random;
+
+    /**
+     * The index in {@link #states} of the state that will
+     * be emitted next, or {@code -1} if not chosen yet.
+     */
+    private int next = -1;
+
+    /**
+     * Constructor. The random generator is seeded with
+     * a default seed, so different runs make the same
+     * choices.
+     */
+    public StateFrontierRandomPath() {
+        this(DEFAULT_SEED);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param seed a {@code long}, the seed of the random generator.
+     */
+    public StateFrontierRandomPath(long seed) {
+        this.random = new Random(seed);
+    }
+
+    @Override
+    public void add(State s) {
+        this.states.add(s);
+        this.next = -1;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return this.states.isEmpty();
+    }
+
+    @Override
+    public State peek() {
+        if (this.states.isEmpty()) {
+            return null;
+        }
+        return this.states.get(next());
+    }
+
+    @Override
+    public State remove() {
+        if (this.states.isEmpty()) {
+            throw new NoSuchElementException();
+        }
+        return removeAt(next());
+    }
+
+    @Override
+    public State peekLast() {
+        if (this.states.isEmpty()) {
+            return null;
+        }
+        return this.states.get(shallowest());
+    }
+
+    @Override
+    public State removeLast() {
+        if (this.states.isEmpty()) {
+            throw new NoSuchElementException();
+        }
+        return removeAt(shallowest());
+    }
+
+    @Override
+    public Iterator<State> iterator() {
+        return this.states.iterator();
+    }
+
+    private int next() {
+        if (this.next < 0) {
+            final int minDepth = this.states.get(shallowest()).getDepth();
+            double totalWeight = 0.0d;
+            for (State s : this.states) {
+                totalWeight += weight(s, minDepth);
+            }
+            double r = this.random.nextDouble() * totalWeight;
+            this.next = this.states.size() - 1;
+            for (int i = 0; i < this.states.size(); ++i) {
+                r -= weight(this.states.get(i), minDepth);
+                if (r < 0) {
+                    this.next = i;
+                    break;
+                }
+            }
+        }
+        return this.next;
+    }
+
+    private static double weight(State s, int minDepth) {
+        return Math.scalb(1.0d, minDepth - s.getDepth());
+    }
+
+    private int shallowest() {
+        int retVal = 0;
+        for (int i = 1; i < this.states.size(); ++i) {
+            if (this.states.get(i).getDepth() < this.states.get(retVal).getDepth()) {
+                retVal = i;
+            }
+        }
+        return retVal;
+    }
+
+    private State removeAt(int i) {
+        //moves the last state in place of the removed one
+        final int last = this.states.size() - 1;
+        final State retVal = this.states.get(i);
+        this.states.set(i, this.states.get(last));
+        this.states.remove(last);
+        this.next = -1;
+        return retVal;
+    }
+}
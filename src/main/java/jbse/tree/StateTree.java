@@ -1,6 +1,8 @@
 package jbse.tree;
 
-import java.util.LinkedList;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
 
 import jbse.common.exc.InvalidInputException;
 import jbse.common.exc.UnexpectedInternalException;
@@ -12,7 +14,13 @@ import jbse.val.HistoryPoint;
 /**
  * Class storing the {@link State}s in the symbolic execution
  * tree which have been discovered but not yet analyzed. It stores
- * only the states at branch points.
+ * only the states at branch points. The order the states are
+ * emitted, thus the search strategy of the symbolic execution,
+ * is established by a {@link StateFrontier}, by default a 
+ * {@link StateFrontierDFS}: When a branch is created, the
+ * symbolic execution continues with the last state added to it,
+ * and the other ones are stored in the frontier until
+ * the symbolic execution backtracks.
  * 
  * @author Pietro Braione
  * @author unknown
@@ -119,14 +127,28 @@ public class StateTree {
          * Used for COMPACT branch identification.
          */
         int emittedStates;
+        
+        /**
+         * The number of path condition clauses that all the
+         * states in the branch have in common, or {@code -1}
+         * if unknown. Used to synchronize the decision procedure
+         * upon backtrack.
+         */
+        final int scopeDepth;
 
         /** 
          * Constructor for branch identification.
+         * 
+         * @param scopeDepth an {@code int}, the number 
+         *        of path condition clauses common to all
+         *        the states in the branch ({@code -1} 
+         *        if unknown).
          */
-        BranchInfo() {
+        BranchInfo(int scopeDepth) {
             this.branch = new BranchPoint();
             this.totalStates = 0;
             this.emittedStates = 0;
+            this.scopeDepth = scopeDepth;
         }
     }
 
@@ -139,11 +161,30 @@ public class StateTree {
     /** Breadth mode, after switching to post-initial phase. */
     private final BreadthMode breadthModePostInitial;
 
-    /** Buffer of the inserted {@link State}s. */
-    private final LinkedList<State> stateBuffer = new LinkedList<State>();
+    /** The frontier of the pending {@link State}s. */
+    private StateFrontier frontier = new StateFrontierDFS();
+
+    /** 
+     * The {@link State}s inserted in the last created branch, 
+     * that have not been passed to {@link #frontier} yet.
+     */
+    private final ArrayList<State> stateBufferNew = new ArrayList<>();
+
+    /** The {@link BranchInfo}s of the branches with pending states. */
+    private final HashMap<BranchPoint, BranchInfo> branches = new HashMap<>();
+
+    /** Associates the pending {@link State}s to their {@link BranchInfo}s. */
+    private final IdentityHashMap<State, BranchInfo> stateBranches = new IdentityHashMap<>();
 
-    /** Buffer of the inserted {@link BranchInfo}s. */
-    private final LinkedList<BranchInfo> branchList = new LinkedList<BranchInfo>();
+    /** The {@link BranchInfo} of the last created branch. */
+    private BranchInfo branchLast = null;
+
+    /** 
+     * Flag indicating whether the last created branch will be
+     * the next one, i.e., whether {@link #nextState()} has not
+     * been invoked since its creation.
+     */
+    private boolean branchLastIsNext = false;
 
     /** 
      * Flag indicating whether the tree level has been increased 
@@ -177,6 +218,24 @@ public class StateTree {
         this.breadthMode = this.breadthModePostInitial;
     }
 
+    /**
+     * Sets the frontier of this tree, establishing the 
+     * order the states are emitted. The tree must be empty.
+     * 
+     * @param frontier an empty {@link StateFrontier}.
+     * @throws InvalidInputException if {@code frontier == null}, 
+     *         or {@code frontier} or the tree are not empty.
+     */
+    public void setFrontier(StateFrontier frontier) throws InvalidInputException {
+        if (frontier == null || !frontier.isEmpty()) {
+            throw new InvalidInputException("Invoked " + StateTree.class.getName() + ".setFrontier() with a null or nonempty frontier.");
+        }
+        if (hasStates()) {
+            throw new InvalidInputException("Invoked " + StateTree.class.getName() + ".setFrontier() on a nonempty tree.");
+        }
+        this.frontier = frontier;
+    }
+
     /**
      * Returns the branch identification mode.
      * 
@@ -209,7 +268,7 @@ public class StateTree {
             throw new InvalidInputException("Invoked " + StateTree.class.getName() + ".addStateStart() on a nonempty tree.");
         }
         this.userProvidedStartState = userProvidedStartState;
-        addBranchPoint();
+        addBranchPoint(-1);
         add(s);
     }
     
@@ -228,7 +287,7 @@ public class StateTree {
     	    }
     	    s.resetDepth();
     	    s.resetCount();
-    	    addBranchPoint();
+    	    addBranchPoint(-1);
     	    add(s);
     	} else { //(phase == Phase.PRE_INITIAL || phase == Phase.POST_INITIAL)
     	    throw new InvalidInputException("Invoked " + StateTree.class.getName() + ".addStateInitial() with argument a pre- or post-initial state.");
@@ -273,7 +332,7 @@ public class StateTree {
      *              to emit.
      */
     public boolean hasStates() {
-        return !this.stateBuffer.isEmpty();
+        return !this.stateBufferNew.isEmpty() || !this.frontier.isEmpty();
     }
     
     /**
@@ -285,12 +344,8 @@ public class StateTree {
      *         that must be emitted yet.
      */
     public int getNumOfStatesAtBranch(BranchPoint bp) {
-    	for (BranchInfo info : this.branchList) {
-    		if (info.branch == bp) {
-    			return info.totalStates - info.emittedStates;
-    		}
-    	}
-    	return 0;
+    	final BranchInfo info = this.branches.get(bp);
+    	return (info == null ? 0 : info.totalStates - info.emittedStates);
     }
 
     /**
@@ -306,20 +361,26 @@ public class StateTree {
     	if (index < 0 || index >= getNumOfStatesAtBranch(bp)) {
     		throw new InvalidInputException("Tried to get state at branch " + bp + " with index " + index + " (total number of states at branch is " + getNumOfStatesAtBranch(bp) + ").");
     	}
+    	final BranchInfo info = this.branches.get(bp);
     	int position = 0;
-    	boolean found = false;
-    	for (BranchInfo info : this.branchList) {
-    		if (info.branch == bp) {
-    			found = true;
-    			break;
-    		}
-    		position += info.totalStates - info.emittedStates;
+    	for (int i = this.stateBufferNew.size() - 1; i >= 0; --i) {
+    	    final State s = this.stateBufferNew.get(i);
+    	    if (this.stateBranches.get(s) == info) {
+    	        if (position == index) {
+    	            return s;
+    	        }
+    	        ++position;
+    	    }
     	}
-    	if (found) {
-    		return this.stateBuffer.get(position + index);
-    	} else {
-    		throw new InvalidInputException("Tried to get state at branch " + bp + " but no state seems to exist at branch.");
+    	for (State s : this.frontier) {
+    	    if (this.stateBranches.get(s) == info) {
+    	        if (position == index) {
+    	            return s;
+    	        }
+    	        ++position;
+    	    }
     	}
+    	throw new InvalidInputException("Tried to get state at branch " + bp + " but no state seems to exist at branch.");
     }
 
     /**
@@ -330,11 +391,21 @@ public class StateTree {
      * @throws NoSuchElementException if {@link #hasStates()} {@code == false}.
      */
     public State nextState() throws FrozenStateException {
-        final State s = this.stateBuffer.removeFirst();
-        final BranchInfo b = this.branchList.getFirst();
+        final State s;
+        if (this.stateBufferNew.isEmpty()) {
+            s = this.frontier.remove();
+        } else {
+            //continues with the last state of the new branch
+            //and passes the other ones to the frontier
+            s = this.stateBufferNew.remove(this.stateBufferNew.size() - 1);
+            flushStateBufferNew();
+        }
+        this.branchLastIsNext = false;
+        this.frontier.emitted(s);
+        final BranchInfo b = this.stateBranches.remove(s);
         ++b.emittedStates;
         if (b.emittedStates == b.totalStates) {
-            this.branchList.removeFirst();
+            this.branches.remove(b.branch);
         }
         
         if (!this.userProvidedStartState && this.stateIdMode == StateIdentificationMode.COMPACT && s.phase() == Phase.POST_INITIAL) {
@@ -343,9 +414,50 @@ public class StateTree {
         this.userProvidedStartState = false;
 
         return s;
-    }    
-    
-    
+    }
+
+    /**
+     * Removes from the store the state that {@link #nextState()}
+     * would emit last (with the default frontier, the pending state 
+     * that is closest to the root of the symbolic execution tree), 
+     * and emits it. Used to share pending states with other engines. 
+     * Only post-initial states can be removed this way.
+     *
+     * @return the {@link State} removed from the store, or {@code null}
+     *         if the store is empty or its last state is not post-initial.
+     * @throws FrozenStateException if the returned {@link State} is frozen.
+     */
+    public State stealState() throws FrozenStateException {
+        final State s;
+        if (!this.frontier.isEmpty()) {
+            if (this.frontier.peekLast().phase() != Phase.POST_INITIAL) {
+                return null;
+            }
+            s = this.frontier.removeLast();
+        } else if (!this.stateBufferNew.isEmpty()) {
+            //the first state of the new branch is the one that would be emitted last
+            if (this.stateBufferNew.get(0).phase() != Phase.POST_INITIAL) {
+                return null;
+            }
+            s = this.stateBufferNew.remove(0);
+        } else {
+            return null;
+        }
+        final BranchInfo b = this.stateBranches.remove(s);
+
+        //the state takes the last identifier of its branch, 
+        //that no other state of the branch will take
+        if (this.stateIdMode == StateIdentificationMode.COMPACT) {
+            s.addBranchToHistoryPoint(String.valueOf(b.totalStates));
+        } //else, the history point was already set by addState
+        --b.totalStates;
+        if (b.emittedStates == b.totalStates) {
+            this.branches.remove(b.branch);
+        }
+
+        return s;
+    }
+
     /**
      * Possibly increases by one the level of the tree. 
      * Note that increasing the level without adding a 
@@ -363,6 +475,30 @@ public class StateTree {
      *         the tree level.
      */
     public boolean possiblyAddBranchPoint(boolean moreThanOne, boolean trivial, boolean concrete, boolean noDecision) {
+        return possiblyAddBranchPoint(moreThanOne, trivial, concrete, noDecision, -1);
+    }
+
+    /**
+     * Possibly increases by one the level of the tree. 
+     * Note that increasing the level without adding a 
+     * {@code State} will crash the engine.
+     * 
+     * @param moreThanOne {@code true} iff the 
+     *        created branch will have more than one state. 
+     * @param trivial iff the branch originates from a 
+     *        trivial decision.
+     * @param concrete iff the branch originates from a 
+     *        concrete decision.
+     * @param noDecision iff the branch originates from a
+     *        bytecode that takes no decision.
+     * @param scopeDepth an {@code int}, the number of path 
+     *        condition clauses that all the states in the 
+     *        created branch will have in common, or {@code -1} 
+     *        if unknown.
+     * @return {@code true} iff the method has increased
+     *         the tree level.
+     */
+    public boolean possiblyAddBranchPoint(boolean moreThanOne, boolean trivial, boolean concrete, boolean noDecision, int scopeDepth) {
         boolean retVal = moreThanOne;
         switch (this.breadthMode) {
         case MORE_THAN_ONE:
@@ -381,7 +517,7 @@ public class StateTree {
         }
 
         if (retVal) {
-            addBranchPoint();
+            addBranchPoint(scopeDepth);
         }
 
         return retVal;
@@ -391,9 +527,16 @@ public class StateTree {
      * Increases by one the level of the tree. Note that 
      * increasing the level without adding a {@code State}
      * will crash the engine.
+     * 
+     * @param scopeDepth an {@code int}, the number of path 
+     *        condition clauses common to all the states in the 
+     *        branch ({@code -1} if unknown).
      */
-    private void addBranchPoint() {
-        this.branchList.addFirst(new BranchInfo());
+    private void addBranchPoint(int scopeDepth) {
+        flushStateBufferNew();
+        this.branchLast = new BranchInfo(scopeDepth);
+        this.branches.put(this.branchLast.branch, this.branchLast);
+        this.branchLastIsNext = true;
         this.createdBranch = true;
     }
 
@@ -423,21 +566,56 @@ public class StateTree {
      *         exist.  
      */
     public BranchPoint nextBranch() {
-        if (this.branchList.isEmpty()) {
+        final BranchInfo b = nextBranchInfo();
+        return (b == null ? null : b.branch);
+    }    
+
+    /**
+     * Returns the scope depth of the next branch, i.e., the
+     * number of path condition clauses that the state returned 
+     * by a call to {@link #nextState} has surely in common with 
+     * all the states that were emitted before from the same 
+     * branch (and with their successors).
+     * 
+     * @return a nonnegative {@code int}, or {@code -1} in 
+     *         the case such state does not exist or its 
+     *         scope depth is unknown.
+     */
+    public int nextBranchScopeDepth() {
+        final BranchInfo b = nextBranchInfo();
+        return (b == null ? -1 : b.scopeDepth);
+    }
+
+    private BranchInfo nextBranchInfo() {
+        if (this.branchLastIsNext || !this.stateBufferNew.isEmpty()) {
+            return this.branchLast;
+        } else if (this.frontier.isEmpty()) {
             return null;
         } else {
-            return this.branchList.getFirst().branch;
+            return this.stateBranches.get(this.frontier.peek());
         }
-    }    
+    }
 
     /**
-     * Adds a state to the buffer and increases the 
-     * total count of states in the branch.
+     * Adds a state to the last created branch and increases 
+     * the total count of states in the branch.
      * 
      * @param s the {@link State} to be added.
      */
     private void add(State s) {
-        this.stateBuffer.addFirst(s);
-        ++(this.branchList.getFirst().totalStates);
+        this.stateBufferNew.add(s);
+        this.stateBranches.put(s, this.branchLast);
+        ++this.branchLast.totalStates;
+    }
+
+    /**
+     * Passes the states in the new branch buffer 
+     * to the frontier, in the order they were added.
+     */
+    private void flushStateBufferNew() {
+        for (State s : this.stateBufferNew) {
+            this.frontier.add(s);
+        }
+        this.stateBufferNew.clear();
     }
 }
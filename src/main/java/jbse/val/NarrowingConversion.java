@@ -16,8 +16,8 @@ import jbse.val.exc.InvalidTypeException;
  */
 public final class NarrowingConversion extends PrimitiveSymbolicComputed {
     private final Primitive arg;
-    private final String toString;
-    private final String asOriginString;
+    private String toString = null; //lazily calculated
+    private String asOriginString = null; //lazily calculated
     private final int hashCode;
 
     private NarrowingConversion(char type, Primitive arg) 
@@ -34,12 +34,6 @@ public final class NarrowingConversion extends PrimitiveSymbolicComputed {
 
         this.arg = arg;
 
-        //calculates toString
-        this.toString = "NARROW-"+ getType() + "(" + arg.toString() + ")";
-
-        //calculates asOriginString
-        this.asOriginString = "NARROW-"+ getType() + "(" + (arg.isSymbolic() ? ((Symbolic) arg).asOriginString(): arg.toString()) + ")";
-
         //calculates hashCode
         final int prime = 311;
         int result = 1;
@@ -75,6 +69,9 @@ public final class NarrowingConversion extends PrimitiveSymbolicComputed {
 
 	@Override
 	public String asOriginString() {
+		if (this.asOriginString == null) {
+			this.asOriginString = "NARROW-"+ getType() + "(" + (this.arg.isSymbolic() ? ((Symbolic) this.arg).asOriginString(): this.arg.toString()) + ")";
+		}
 		return this.asOriginString;
 	}
 
@@ -98,6 +95,9 @@ public final class NarrowingConversion extends PrimitiveSymbolicComputed {
 
     @Override
     public String toString() {
+        if (this.toString == null) {
+            this.toString = "NARROW-"+ getType() + "(" + this.arg.toString() + ")";
+        }
         return this.toString;
     }
 
@@ -118,6 +118,9 @@ public final class NarrowingConversion extends PrimitiveSymbolicComputed {
             return false;
         }
         final NarrowingConversion other = (NarrowingConversion) obj;
+        if (this.hashCode != other.hashCode) {
+            return false;
+        }
         if (this.getType() != other.getType()) {
         	return false;
         }
@@ -17,8 +17,8 @@ import jbse.val.exc.InvalidTypeException;
  */
 public final class WideningConversion extends PrimitiveSymbolicComputed {
     private final Primitive arg;
-    private final String toString;
-    private final String asOriginString;
+    private String toString = null; //lazily calculated
+    private String asOriginString = null; //lazily calculated
     private final int hashCode;
 
     private WideningConversion(char type, Primitive arg) 
@@ -35,12 +35,6 @@ public final class WideningConversion extends PrimitiveSymbolicComputed {
         
         this.arg = arg;
 
-        //calculates toString
-        this.toString = "WIDEN-"+ getType() + "(" + arg.toString() + ")";
-
-        //calculates asOriginString
-        this.asOriginString = "WIDEN-"+ getType() + "(" + (arg.isSymbolic() ? ((Symbolic) arg).asOriginString(): arg.toString()) + ")";;
-
         //calculates hashCode
         final int prime = 281;
         int result = 1;
@@ -76,6 +70,9 @@ public final class WideningConversion extends PrimitiveSymbolicComputed {
     
 	@Override
 	public String asOriginString() {
+		if (this.asOriginString == null) {
+			this.asOriginString = "WIDEN-"+ getType() + "(" + (this.arg.isSymbolic() ? ((Symbolic) this.arg).asOriginString(): this.arg.toString()) + ")";
+		}
 		return this.asOriginString;
 	}
 
@@ -99,6 +96,9 @@ public final class WideningConversion extends PrimitiveSymbolicComputed {
 
     @Override
     public String toString() {
+        if (this.toString == null) {
+            this.toString = "WIDEN-"+ getType() + "(" + this.arg.toString() + ")";
+        }
         return this.toString;
     }
 
@@ -119,6 +119,9 @@ public final class WideningConversion extends PrimitiveSymbolicComputed {
             return false;
         }
         final WideningConversion other = (WideningConversion) obj;
+        if (this.hashCode != other.hashCode) {
+            return false;
+        }
         if (this.getType() != other.getType()) {
         	return false;
         }
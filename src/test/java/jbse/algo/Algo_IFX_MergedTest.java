@@ -0,0 +1,47 @@
+package jbse.algo;
+
+import static jbse.jvm.RunnerTestUtil.makeCalculator;
+import static jbse.jvm.RunnerTestUtil.makeDecisionProcedure;
+import static jbse.jvm.RunnerTestUtil.makeParameters;
+import static jbse.jvm.RunnerTestUtil.runReturns;
+import static org.junit.Assert.assertEquals;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Test;
+
+import jbse.dec.DecisionProcedureAlgorithms;
+import jbse.dec.DecisionProcedureAlwSat;
+import jbse.dec.DecisionProcedureEquality;
+import jbse.dec.DecisionProcedureSignAnalysis;
+import jbse.jvm.RunnerParameters;
+
+public class Algo_IFX_MergedTest {
+    /**
+     * Runs {@code Merged.diamond} and returns the 
+     * values it returns on its paths.
+     */
+    private static List<Object> run(boolean stateMerging) throws Exception {
+        final DecisionProcedureAlgorithms dec = 
+            makeDecisionProcedure(
+              new DecisionProcedureEquality(
+                new DecisionProcedureSignAnalysis(
+                  new DecisionProcedureAlwSat(makeCalculator()))));
+        final RunnerParameters p = makeParameters(dec, "jbse/algo/testdata/Merged", "(I)I", "diamond");
+        p.setStateMerging(stateMerging);
+        return runReturns(p);
+    }
+
+    @Test
+    public void testNotMerged() throws Exception {
+        assertEquals(Arrays.asList(1, 1), run(false));
+    }
+
+    @Test
+    public void testMergedDecidedBySignAnalysis() throws Exception {
+        //the merged value 2 + 3 * (int) (x <= 0) is positive, 
+        //so the path returning -1 is pruned
+        assertEquals(Arrays.asList(1), run(true));
+    }
+}
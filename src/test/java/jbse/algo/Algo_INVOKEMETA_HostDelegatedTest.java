@@ -0,0 +1,37 @@
+package jbse.algo;
+
+import static jbse.jvm.RunnerTestUtil.makeParameters;
+import static jbse.jvm.RunnerTestUtil.runReturns;
+import static org.junit.Assert.assertEquals;
+
+import java.util.Arrays;
+import java.util.Set;
+import java.util.TreeSet;
+
+import org.junit.Test;
+
+import jbse.jvm.RunnerParameters;
+
+public class Algo_INVOKEMETA_HostDelegatedTest {
+    /**
+     * Runs {@code HostDelegated.parse} and returns the 
+     * values it returns on its paths.
+     */
+    private static Set<Object> run(boolean delegate) throws Exception {
+        final RunnerParameters p = makeParameters("jbse/algo/testdata/HostDelegated", "(I)I", "parse");
+        if (delegate) {
+            p.addHostDelegated("java/lang/Integer", "(Ljava/lang/String;)I", "parseInt");
+        }
+        return new TreeSet<>(runReturns(p));
+    }
+
+    @Test
+    public void testHostExceptionThrownInState() throws Exception {
+        assertEquals(new TreeSet<>(Arrays.asList(12, -1)), run(true));
+    }
+
+    @Test
+    public void testSameResultsAsBytecode() throws Exception {
+        assertEquals(run(false), run(true));
+    }
+}
@@ -0,0 +1,121 @@
+package jbse.algo;
+
+import static jbse.jvm.RunnerTestUtil.makeParameters;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.Test;
+
+import javassist.ClassPool;
+import javassist.CtClass;
+import javassist.CtField;
+import javassist.CtMethod;
+import javassist.Modifier;
+import javassist.bytecode.Bytecode;
+import javassist.bytecode.Opcode;
+import jbse.jvm.Runner.Actions;
+import jbse.jvm.RunnerParameters;
+import jbse.jvm.RunnerTestUtil;
+import jbse.mem.State;
+import jbse.val.Simplex;
+
+public class Algo_XLOAD_GETX_LazierTest {
+    /**
+     * Runs a method and returns how each of its paths
+     * ends, sorted.
+     */
+    private static List<String> run(String className, String descriptor, String methodName, boolean lazierResolution, String... userClasspath) throws Exception {
+        final RunnerParameters p = makeParameters(className, descriptor, methodName);
+        p.addUserClasspath(userClasspath);
+        p.setLazierResolution(lazierResolution);
+        final List<String> retVal = new ArrayList<>();
+        p.setActions(new Actions() {
+            @Override
+            public boolean atPathEnd() {
+                try {
+                    final State state = getEngine().getCurrentState();
+                    if (state.getStuckException() == null) {
+                        retVal.add("return " + ((Simplex) state.getStuckReturn()).getActualValue());
+                    } else {
+                        retVal.add("throw " + state.getObject(state.getStuckException()).getType().getClassName());
+                    }
+                } catch (Exception e) {
+                    throw new RuntimeException(e);
+                }
+                return super.atPathEnd();
+            }
+        });
+        RunnerTestUtil.run(p);
+        Collections.sort(retVal);
+        return retVal;
+    }
+    
+    private static List<String> runLazier(String methodName, boolean lazierResolution) throws Exception {
+        return run("jbse/algo/testdata/Lazier", "(Ljbse/algo/testdata/Lazier;)I", methodName, lazierResolution);
+    }
+
+    @Test
+    public void testCopyToLocalPostponed() throws Exception {
+        final List<String> eager = runLazier("copyToLocal", false);
+        assertTrue(eager.size() > 1);
+        assertEquals(Collections.singletonList("return 0"), runLazier("copyToLocal", true));
+    }
+
+    @Test
+    public void testCopyToLocalAndUseSameAsEager() throws Exception {
+        assertEquals(runLazier("copyToLocalAndUse", false), runLazier("copyToLocalAndUse", true));
+    }
+
+    @Test
+    public void testCopyToFieldOfSymbolicPostponed() throws Exception {
+        final List<String> eager = runLazier("copyToField", false);
+        assertTrue(eager.size() > 1);
+        assertEquals(Collections.singletonList("return 0"), runLazier("copyToField", true));
+    }
+
+    @Test
+    public void testCopyToFieldOfSymbolicAndUseSameAsEager() throws Exception {
+        assertEquals(runLazier("copyToFieldAndUse", false), runLazier("copyToFieldAndUse", true));
+    }
+
+    @Test
+    public void testCopyToFieldOfConcreteNotPostponed() throws Exception {
+        //the fields of the concrete objects never 
+        //hold unresolved references
+        final List<String> eager = runLazier("copyToConcrete", false);
+        assertTrue(eager.size() > 1);
+        assertEquals(eager, runLazier("copyToConcrete", true));
+    }
+
+    @Test
+    public void testCopyToFieldOfNarrowerTypeChecked() throws Exception {
+        //javac never emits this, it casts before storing:
+        //a class whose method stores its java.lang.Object 
+        //parameter into a java.lang.String field
+        final Path classpath = Files.createTempDirectory("jbse");
+        final ClassPool pool = new ClassPool(true);
+        final CtClass cc = pool.makeClass("jbse.algo.testdata.LazierNarrowing");
+        cc.addField(new CtField(pool.get("java.lang.String"), "s", cc));
+        final CtMethod m = new CtMethod(CtClass.intType, "store", new CtClass[] { pool.get("java.lang.Object") }, cc);
+        m.setModifiers(Modifier.PUBLIC);
+        final Bytecode code = new Bytecode(cc.getClassFile().getConstPool(), 2, 2);
+        code.addAload(0);
+        code.addAload(1);
+        code.addPutfield(cc, "s", "Ljava/lang/String;");
+        code.addIconst(0);
+        code.addOpcode(Opcode.IRETURN);
+        m.getMethodInfo().setCodeAttribute(code.toCodeAttribute());
+        cc.addMethod(m);
+        cc.writeFile(classpath.toString());
+        
+        final List<String> eager = run("jbse/algo/testdata/LazierNarrowing", "(Ljava/lang/Object;)I", "store", false, classpath.toString());
+        assertTrue(eager.contains("throw java/lang/VerifyError"));
+        assertEquals(eager, run("jbse/algo/testdata/LazierNarrowing", "(Ljava/lang/Object;)I", "store", true, classpath.toString()));
+    }
+}
@@ -0,0 +1,54 @@
+package jbse.algo;
+
+import static jbse.bc.Opcodes.*;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Before;
+import org.junit.Test;
+
+public class DispatcherBytecodeAlgorithmTest {
+    /** An opcode that the JVM specification leaves unassigned. */
+    private static final byte OP_UNASSIGNED = (byte) 0xcb;
+
+    private DispatcherBytecodeAlgorithm dispatcher;
+
+    @Before
+    public void setUp() {
+        this.dispatcher = new DispatcherBytecodeAlgorithm();
+    }
+
+    @Test
+    public void testSelect() {
+        assertTrue(this.dispatcher.select(OP_NOP) instanceof Algo_NOP);
+        assertSame(this.dispatcher.select(OP_NOP), this.dispatcher.select(OP_NOP));
+        assertSame(this.dispatcher.select(OP_IADD), this.dispatcher.select(OP_LADD));
+        assertNotSame(this.dispatcher.select(OP_IADD), this.dispatcher.select(OP_NOP));
+    }
+
+    @Test
+    public void testSelectNegativeOpcodes() {
+        //opcodes above 0x7f are negative bytes
+        assertTrue(this.dispatcher.select(OP_UNASSIGNED) instanceof Algo_NOTALLOWED);
+        assertNotSame(this.dispatcher.select(OP_GOTO_W), this.dispatcher.select(OP_UNASSIGNED));
+        assertNotSame(this.dispatcher.select(OP_GOTO_W), this.dispatcher.select(OP_GOTO));
+        assertSame(this.dispatcher.select(OP_GOTO_W), this.dispatcher.select(OP_GOTO_W));
+    }
+
+    @Test
+    public void testSetCaseAfterSelect() {
+        final Algorithm<?, ?, ?, ?, ?> algoIadd = this.dispatcher.select(OP_IADD);
+        this.dispatcher.select(OP_NOP);
+        this.dispatcher.setCase(OP_NOP, () -> algoIadd);
+        assertSame(algoIadd, this.dispatcher.select(OP_NOP));
+    }
+
+    @Test
+    public void testSetDefaultAfterSelect() {
+        final Algorithm<?, ?, ?, ?, ?> algoNop = this.dispatcher.select(OP_NOP);
+        this.dispatcher.select(OP_UNASSIGNED);
+        this.dispatcher.setDefault(() -> algoNop);
+        assertSame(algoNop, this.dispatcher.select(OP_UNASSIGNED));
+    }
+}
@@ -0,0 +1,120 @@
+package jbse.algo;
+
+import static jbse.bc.ClassLoaders.CLASSLOADER_APP;
+import static jbse.jvm.RunnerTestUtil.JBSE_LIB_PATH;
+import static jbse.jvm.RunnerTestUtil.makeDecisionProcedure;
+import static jbse.jvm.RunnerTestUtil.makeParameters;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Set;
+import java.util.TreeSet;
+
+import org.junit.Test;
+
+import jbse.bc.ClassFile;
+import jbse.bc.ClassFileFactoryJavassist;
+import jbse.bc.Classpath;
+import jbse.bc.Signature;
+import jbse.dec.DecisionProcedureAlgorithms;
+import jbse.jvm.Runner.Actions;
+import jbse.jvm.RunnerParameters;
+import jbse.jvm.RunnerTestUtil;
+import jbse.mem.State;
+import jbse.rewr.CalculatorRewriting;
+import jbse.rules.TriggerRulesRepo;
+import jbse.tree.DecisionAlternativeComparators;
+import jbse.val.Calculator;
+import jbse.val.Simplex;
+import jbse.val.Value;
+
+public class MethodSummariesTest {
+    private static final String CLASS = "jbse/algo/testdata/Summarized";
+    
+    private Calculator calc;
+    private MethodSummaries summaries;
+    private Set<Object> results;
+    
+    /**
+     * Runs {@code Summarized.run} with {@code Summarized.branching}, 
+     * {@code Summarized.readsStatic} and {@code Summarized.writesStatic}
+     * summarized, and keeps the values it returns on its paths 
+     * and the summaries.
+     */
+    private void run() throws Exception {
+        final RunnerParameters p = makeParameters(CLASS, "(I)I", "run");
+        this.calc = p.getCalculator();
+        p.addSummarized(CLASS, "(I)I", "branching");
+        p.addSummarized(CLASS, "(I)I", "readsStatic");
+        p.addSummarized(CLASS, "(I)I", "writesStatic");
+        this.results = new TreeSet<>();
+        p.setActions(new Actions() {
+            @Override
+            public boolean atPathEnd() {
+                MethodSummariesTest.this.results.add(((Simplex) getEngine().getCurrentState().getStuckReturn()).getActualValue());
+                return super.atPathEnd();
+            }
+        });
+        this.summaries = RunnerTestUtil.run(p).getExecutionContext().methodSummaries;
+    }
+    
+    private Simplex summary(String methodName) {
+        final Signature methodSignature = new Signature(CLASS, "(I)I", methodName);
+        return this.summaries.lookup(this.summaries.key(methodSignature, new Value[] { this.calc.valInt(3) }));
+    }
+
+    @Test
+    public void testResults() throws Exception {
+        run();
+        assertEquals(new TreeSet<>(Arrays.asList(31, -3)), this.results);
+    }
+
+    @Test
+    public void testBranchingMethodSummarized() throws Exception {
+        run();
+        final Simplex summary = summary("branching");
+        assertNotNull(summary);
+        assertEquals(4, summary.getActualValue());
+    }
+
+    @Test
+    public void testStaticReadingMethodNotSummarized() throws Exception {
+        run();
+        assertNull(summary("readsStatic"));
+    }
+
+    @Test
+    public void testStaticWritingMethodNotSummarized() throws Exception {
+        run();
+        assertNull(summary("writesStatic"));
+    }
+
+    @Test
+    public void testInvocationReturningInClonedState() throws Exception {
+        final ArrayList<Path> userPaths = new ArrayList<>();
+        userPaths.add(Paths.get("src/test/resources/jbse/bc/testdata"));
+        final Classpath cp = new Classpath(Paths.get(JBSE_LIB_PATH), Paths.get(System.getProperty("java.home", "")), Collections.emptyList(), userPaths);
+        final DecisionProcedureAlgorithms dec = makeDecisionProcedure();
+        this.calc = dec.getCalculator();
+        final Signature methodSignature = new Signature("hier/A", "()V", "a");
+        final ExecutionContext ctx = new ExecutionContext(null, true, 20, 20, true, cp, ClassFileFactoryJavassist.class, Collections.emptyMap(), Collections.emptyMap(), (CalculatorRewriting) this.calc, new DecisionAlternativeComparators(), methodSignature, dec, null, null, new TriggerRulesRepo(), new ArrayList<String>());
+        final State state = ctx.createStateVirginPreInitial();
+        final ClassFile cf_A = state.getClassHierarchy().loadCreateClass(CLASSLOADER_APP, "hier/A", true);
+        state.pushFrameSymbolic(cf_A, methodSignature);
+        this.summaries = ctx.methodSummaries;
+        this.summaries.addSummarized(methodSignature);
+        final MethodSummaries.Key key = this.summaries.key(methodSignature, new Value[0]);
+        this.summaries.invocationStarted(state, key);
+        
+        //the invocation returns in a clone, whose frames are copies
+        final State stateClone = state.clone();
+        this.summaries.returning(stateClone, this.calc.valInt(4));
+        assertEquals(4, this.summaries.lookup(key).getActualValue());
+    }
+}
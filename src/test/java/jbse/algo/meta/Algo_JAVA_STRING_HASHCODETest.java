@@ -0,0 +1,86 @@
+package jbse.algo.meta;
+
+import static jbse.bc.Signatures.JAVA_STRING;
+import static jbse.bc.Signatures.JAVA_STRING_HASH;
+import static jbse.bc.Signatures.JAVA_STRING_VALUE;
+import static jbse.jvm.RunnerTestUtil.makeParameters;
+import static jbse.jvm.RunnerTestUtil.run;
+import static org.junit.Assert.assertEquals;
+
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.Test;
+
+import jbse.algo.meta.testdata.Strings;
+import jbse.jvm.Runner.Actions;
+import jbse.jvm.RunnerParameters;
+import jbse.mem.Array;
+import jbse.mem.Objekt;
+import jbse.mem.State;
+import jbse.val.Reference;
+import jbse.val.Simplex;
+
+public class Algo_JAVA_STRING_HASHCODETest {
+    /**
+     * Returns the values of the hash fields of the 
+     * strings in a state, whose values are in 
+     * {@code Strings.VALUES}.
+     */
+    private static Map<String, Set<Object>> cachedHashes(State state) throws Exception {
+        final Set<String> values = new HashSet<>();
+        for (char[] value : Strings.VALUES) {
+            values.add(new String(value));
+        }
+        final Map<String, Set<Object>> retVal = new HashMap<>();
+        for (Objekt o : state.getHeap().values()) {
+            if (o.getType() != null && JAVA_STRING.equals(o.getType().getClassName())) {
+                final String value = ((Array) state.getObject((Reference) o.getFieldValue(JAVA_STRING_VALUE))).valueString();
+                if (values.contains(value)) {
+                    retVal.computeIfAbsent(value, k -> new HashSet<>()).add(((Simplex) o.getFieldValue(JAVA_STRING_HASH)).getActualValue());
+                }
+            }
+        }
+        return retVal;
+    }
+
+    @Test
+    public void testHashCodeCachedAsJDK() throws Exception {
+        final RunnerParameters p = makeParameters("jbse/algo/meta/testdata/Strings", "()I", "hashCodes");
+        final List<Object> results = new ArrayList<>();
+        final List<Map<String, Set<Object>>> hashes = new ArrayList<>();
+        p.setActions(new Actions() {
+            @Override
+            public boolean atPathEnd() {
+                try {
+                    final State state = getEngine().getCurrentState();
+                    results.add(((Simplex) state.getStuckReturn()).getActualValue());
+                    hashes.add(cachedHashes(state));
+                } catch (Exception e) {
+                    throw new RuntimeException(e);
+                }
+                return super.atPathEnd();
+            }
+        });
+        run(p);
+        
+        //what the JDK caches in the hash field after hashCode
+        final Field hashField = String.class.getDeclaredField("hash");
+        hashField.setAccessible(true);
+        final Map<String, Set<Object>> expectedHashes = new HashMap<>();
+        for (char[] value : Strings.VALUES) {
+            final String s = new String(value);
+            s.hashCode();
+            expectedHashes.put(s, Collections.singleton(hashField.get(s)));
+        }
+
+        assertEquals(Collections.singletonList(Strings.hashCodes()), results);
+        assertEquals(Collections.singletonList(expectedHashes), hashes);
+    }
+}
@@ -0,0 +1,20 @@
+package jbse.algo.meta;
+
+import static jbse.jvm.RunnerTestUtil.makeParameters;
+import static jbse.jvm.RunnerTestUtil.runReturns;
+import static org.junit.Assert.assertEquals;
+
+import java.util.Collections;
+
+import org.junit.Test;
+
+import jbse.algo.meta.testdata.Arraycopy;
+
+public class Algo_JAVA_SYSTEM_ARRAYCOPYTest {
+    @Test
+    public void testConcreteArraycopySameAsJDK() throws Exception {
+        //a single path, returning what the JDK returns
+        assertEquals(Collections.singletonList(Arraycopy.copy()), 
+                     runReturns(makeParameters("jbse/algo/meta/testdata/Arraycopy", "()I", "copy")));
+    }
+}
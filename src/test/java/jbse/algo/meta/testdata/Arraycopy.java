@@ -0,0 +1,38 @@
+package jbse.algo.meta.testdata;
+
+public class Arraycopy {
+    public static int copy() {
+        final int[] a = { 1, 2, 3, 4 };
+        final int[] b = new int[4];
+        System.arraycopy(a, 1, b, 0, 3);
+        System.arraycopy(b, 0, b, 1, 3); //overlapping
+        final char[] c = new char[3];
+        System.arraycopy("abc".toCharArray(), 0, c, 0, 3);
+        int retVal = b[0] * 1000 + b[1] * 100 + b[2] * 10 + b[3] + c[2];
+        try {
+            System.arraycopy(a, 2, b, 0, 3);
+            retVal = -1;
+        } catch (ArrayIndexOutOfBoundsException e) {
+            //expected
+        }
+        try {
+            System.arraycopy(a, Integer.MAX_VALUE, b, 0, 2); //srcPos + length overflows
+            retVal = -2;
+        } catch (ArrayIndexOutOfBoundsException e) {
+            //expected
+        }
+        try {
+            System.arraycopy(a, 0, b, 0, -1);
+            retVal = -3;
+        } catch (ArrayIndexOutOfBoundsException e) {
+            //expected
+        }
+        try {
+            System.arraycopy(a, 0, c, 0, 1);
+            retVal = -4;
+        } catch (ArrayStoreException e) {
+            //expected
+        }
+        return retVal;
+    }
+}
@@ -0,0 +1,15 @@
+package jbse.algo.meta.testdata;
+
+public class Strings {
+    public static final char[][] VALUES = { { 'h', 'e', 'l', 'l', 'o' }, { '\0' }, { } };
+    
+    public static int hashCodes() {
+        int retVal = 0;
+        for (char[] value : VALUES) {
+            final String s = new String(value);
+            retVal = 31 * retVal + s.hashCode();
+            retVal = 31 * retVal + s.hashCode(); //the cached one
+        }
+        return retVal;
+    }
+}
@@ -0,0 +1,12 @@
+package jbse.algo.testdata;
+
+public class HostDelegated {
+    public static int parse(int x) {
+        final String s = (x > 0 ? "12" : "ab");
+        try {
+            return Integer.parseInt(s);
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package jbse.algo.testdata;
+
+public class Lazier {
+    Lazier next;
+    
+    public int copyToLocal(Lazier a) {
+        Lazier b = a;
+        return 0;
+    }
+    
+    public int copyToLocalAndUse(Lazier a) {
+        Lazier b = a;
+        return (b == null ? 0 : b == this ? 1 : 2);
+    }
+    
+    public int copyToField(Lazier a) {
+        this.next = a;
+        return 0;
+    }
+    
+    public int copyToFieldAndUse(Lazier a) {
+        this.next = a;
+        final Lazier b = this.next;
+        return (b == null ? 0 : b == this ? 1 : 2);
+    }
+    
+    public int copyToConcrete(Lazier a) {
+        final Lazier n = new Lazier();
+        n.next = a;
+        return 0;
+    }
+}
@@ -0,0 +1,11 @@
+package jbse.algo.testdata;
+
+public class Merged {
+    public static int diamond(int x) {
+        final int b = (x > 0 ? 2 : 5);
+        if (b <= 0) {
+            return -1;
+        }
+        return 1;
+    }
+}
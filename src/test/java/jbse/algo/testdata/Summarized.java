@@ -0,0 +1,33 @@
+package jbse.algo.testdata;
+
+public class Summarized {
+    private static int offset = 1;
+    private static int last = 0;
+    
+    public static int branching(int x) {
+        if (x > 0) {
+            return x + 1;
+        } else {
+            return x - 1;
+        }
+    }
+    
+    public static int readsStatic(int x) {
+        return x + offset;
+    }
+    
+    public static int writesStatic(int x) {
+        last = x;
+        return 2 * x;
+    }
+    
+    public static int run(int y) {
+        final int a = branching(3) + readsStatic(3) + writesStatic(3);
+        last = 0;
+        if (y > 0) {
+            return a + branching(3) + readsStatic(3) + writesStatic(3) + last;
+        } else {
+            return a - branching(3) - readsStatic(3) - writesStatic(3) - last;
+        }
+    }
+}
@@ -0,0 +1,117 @@
+package jbse.apps.run;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+
+import org.junit.Before;
+import org.junit.Test;
+
+public class RunTest {
+    private RunParameters p;
+
+    @Before
+    public void setUp() {
+        this.p = new RunParameters();
+        this.p.setJBSELibPath("build/classes/java/main");
+        this.p.addUserClasspath("build/classes/java/test");
+        this.p.setMethodSignature("jbse/jvm/testdata/Branches", "(IIII)I", "m");
+    }
+
+    private String key(RunParameters parameters) throws IOException {
+        return new Run(parameters).initialStateKey();
+    }
+
+    @Test
+    public void testSameParametersSameKey() throws IOException {
+        assertEquals(key(this.p), key(this.p.clone()));
+    }
+
+    @Test
+    public void testMetaOverriddenInKey() throws IOException {
+        final RunParameters q = this.p.clone();
+        q.addMetaOverridden("java/lang/Object", "()I", "hashCode", "jbse/algo/Foo");
+        assertNotEquals(key(this.p), key(q));
+    }
+
+    @Test
+    public void testUninterpretedInKey() throws IOException {
+        final RunParameters q = this.p.clone();
+        q.addUninterpreted("java/lang/Math", "(D)D", "sin");
+        assertNotEquals(key(this.p), key(q));
+    }
+
+    @Test
+    public void testHostDelegatedInKey() throws IOException {
+        final RunParameters q = this.p.clone();
+        q.addHostDelegated("java/lang/Math", "(D)D", "sin");
+        assertNotEquals(key(this.p), key(q));
+    }
+
+    @Test
+    public void testClassInitRulesInKey() throws IOException {
+        final RunParameters q = this.p.clone();
+        q.addNotInitializedClasses("jbse/jvm/testdata/.*");
+        assertNotEquals(key(this.p), key(q));
+    }
+
+    @Test
+    public void testTriggerRulesInKey() throws IOException {
+        final RunParameters q = this.p.clone();
+        q.addExpandToTrigger("java/lang/Object", "{ROOT}:a", "java/lang/String", "jbse/jvm/testdata/Branches", "(Ljava/lang/Object;)V", "t", null);
+        assertNotEquals(key(this.p), key(q));
+    }
+
+    @Test
+    public void testTriggerRulesOrderIrrelevant() throws IOException {
+        final RunParameters q = this.p.clone();
+        q.addExpandToTrigger("java/lang/Object", "{ROOT}:a", "java/lang/String", "jbse/jvm/testdata/Branches", "(Ljava/lang/Object;)V", "t", null);
+        q.addExpandToTrigger("java/lang/Object", "{ROOT}:b", "java/lang/Integer", "jbse/jvm/testdata/Branches", "(Ljava/lang/Object;)V", "t", null);
+        final RunParameters r = this.p.clone();
+        r.addExpandToTrigger("java/lang/Object", "{ROOT}:b", "java/lang/Integer", "jbse/jvm/testdata/Branches", "(Ljava/lang/Object;)V", "t", null);
+        r.addExpandToTrigger("java/lang/Object", "{ROOT}:a", "java/lang/String", "jbse/jvm/testdata/Branches", "(Ljava/lang/Object;)V", "t", null);
+        assertEquals(key(q), key(r));
+    }
+
+    @Test
+    public void testClasspathDirectoryContentsInKey() throws IOException {
+        final Path dir = Files.createTempDirectory("jbse");
+        final Path classFile = dir.resolve("A.class");
+        Files.write(classFile, new byte[] { 1, 2, 3 });
+        Files.setLastModifiedTime(classFile, FileTime.fromMillis(1000000L));
+        final RunParameters q = this.p.clone();
+        q.addUserClasspath(dir.toString());
+        final String keyBefore = key(q);
+        assertEquals(keyBefore, key(q.clone()));
+        
+        //rebuilt with same size
+        Files.write(classFile, new byte[] { 4, 5, 6 });
+        Files.setLastModifiedTime(classFile, FileTime.fromMillis(2000000L));
+        assertNotEquals(keyBefore, key(q));
+        
+        //a class added
+        final String keyRebuilt = key(q);
+        Files.write(dir.resolve("B.class"), new byte[0]);
+        Files.setLastModifiedTime(dir.resolve("B.class"), FileTime.fromMillis(1000000L));
+        assertNotEquals(keyRebuilt, key(q));
+    }
+
+    @Test
+    public void testClasspathJarContentsInKey() throws IOException {
+        final Path jar = Files.createTempFile("jbse", ".jar");
+        Files.write(jar, new byte[] { 1, 2, 3 });
+        Files.setLastModifiedTime(jar, FileTime.fromMillis(1000000L));
+        final RunParameters q = this.p.clone();
+        q.addUserClasspath(jar.toString());
+        final String keyBefore = key(q);
+        
+        //rebuilt with same time stamp but different size
+        Files.write(jar, new byte[] { 1, 2, 3, 4 });
+        Files.setLastModifiedTime(jar, FileTime.fromMillis(1000000L));
+        assertNotEquals(keyBefore, key(q));
+    }
+}
@@ -0,0 +1,48 @@
+package jbse.bc;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+import org.junit.Before;
+import org.junit.Test;
+
+public class ClassFileJavassistTest {
+    private byte[] bytecode;
+
+    @Before
+    public void setUp() throws IOException {
+        try (final InputStream in = getClass().getResourceAsStream("/jbse/jvm/testdata/Branches.class")) {
+            final ByteArrayOutputStream out = new ByteArrayOutputStream();
+            final byte[] buf = new byte[2048];
+            int nbytes;
+            while ((nbytes = in.read(buf)) != -1) {
+                out.write(buf, 0, nbytes);
+            }
+            this.bytecode = out.toByteArray();
+        }
+    }
+
+    @Test
+    public void testParsedShared() throws IOException {
+        final int before = ClassFileJavassist.numParsedShared();
+        final javassist.bytecode.ClassFile cf1 = ClassFileJavassist.parseShared(this.bytecode);
+        final javassist.bytecode.ClassFile cf2 = ClassFileJavassist.parseShared(this.bytecode.clone());
+        assertSame(cf1, cf2);
+        assertEquals("jbse.jvm.testdata.Branches", cf1.getName());
+        assertTrue(ClassFileJavassist.numParsedShared() <= before + 1);
+    }
+
+    @Test
+    public void testCallerMayModifyBytecode() throws IOException {
+        final byte[] modified = this.bytecode.clone();
+        final javassist.bytecode.ClassFile cf1 = ClassFileJavassist.parseShared(modified);
+        modified[modified.length - 1] ^= 1;
+        final javassist.bytecode.ClassFile cf2 = ClassFileJavassist.parseShared(this.bytecode);
+        assertSame(cf1, cf2);
+    }
+}
@@ -0,0 +1,113 @@
+package jbse.bc;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.util.Arrays;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class ClasspathIndexTest {
+    private Path jar;
+    private Path otherJar;
+    private Path dir;
+
+    @Before
+    public void setUp() throws IOException {
+        this.jar = Files.createTempFile("jbseindex", ".jar");
+        this.otherJar = Files.createTempFile("jbseindex", ".jar");
+        this.dir = Files.createTempDirectory("jbseindex");
+    }
+
+    @After
+    public void tearDown() throws IOException {
+        ClasspathIndex.close();
+        Files.deleteIfExists(this.jar);
+        Files.deleteIfExists(this.otherJar);
+        Files.deleteIfExists(this.dir.resolve("A.class"));
+        Files.deleteIfExists(this.dir);
+    }
+
+    private static void writeJar(Path jar, String className, byte[] content) throws IOException {
+        try (final OutputStream out = Files.newOutputStream(jar); 
+             final JarOutputStream jarOut = new JarOutputStream(out)) {
+            jarOut.putNextEntry(new JarEntry(className + ".class"));
+            jarOut.write(content);
+            jarOut.closeEntry();
+        }
+    }
+    
+    private static byte[] bytecode(ClasspathIndex index, String className) throws IOException {
+        final ClasspathIndex.Bytecode b = index.bytecode(className);
+        return (b == null ? null : b.bytecode);
+    }
+
+    @Test
+    public void testJar() throws IOException {
+        writeJar(this.jar, "A", new byte[] { 1, 2, 3 });
+        final ClasspathIndex index = new ClasspathIndex(Arrays.asList(this.jar));
+        assertArrayEquals(new byte[] { 1, 2, 3 }, bytecode(index, "A"));
+        assertArrayEquals(new byte[] { 1, 2, 3 }, bytecode(index, "A"));
+        assertEquals(this.jar, index.bytecode("A").container);
+        assertNull(index.bytecode("B"));
+    }
+
+    @Test
+    public void testOrder() throws IOException {
+        writeJar(this.jar, "A", new byte[] { 1, 2, 3 });
+        writeJar(this.otherJar, "A", new byte[] { 4, 5, 6 });
+        Files.write(this.dir.resolve("A.class"), new byte[] { 7, 8, 9 });
+        assertArrayEquals(new byte[] { 1, 2, 3 }, bytecode(new ClasspathIndex(Arrays.asList(this.jar, this.otherJar, this.dir)), "A"));
+        assertArrayEquals(new byte[] { 4, 5, 6 }, bytecode(new ClasspathIndex(Arrays.asList(this.otherJar, this.dir, this.jar)), "A"));
+        assertArrayEquals(new byte[] { 7, 8, 9 }, bytecode(new ClasspathIndex(Arrays.asList(this.dir, this.jar, this.otherJar)), "A"));
+        assertEquals(this.dir, new ClasspathIndex(Arrays.asList(this.dir, this.jar)).bytecode("A").container);
+    }
+
+    @Test
+    public void testJarChanged() throws IOException {
+        writeJar(this.jar, "A", new byte[] { 1, 2, 3 });
+        final FileTime t = Files.getLastModifiedTime(this.jar);
+        final ClasspathIndex before = new ClasspathIndex(Arrays.asList(this.jar));
+        assertArrayEquals(new byte[] { 1, 2, 3 }, bytecode(before, "A"));
+        
+        //rewrites the jar elsewhere and moves it, so the 
+        //jar file opened by before stays readable
+        final Path changed = Files.createTempFile("jbseindex", ".jar");
+        writeJar(changed, "B", new byte[] { 4, 5, 6, 7 });
+        Files.move(changed, this.jar, StandardCopyOption.REPLACE_EXISTING);
+        Files.setLastModifiedTime(this.jar, FileTime.fromMillis(t.toMillis() + 2000));
+        final ClasspathIndex after = new ClasspathIndex(Arrays.asList(this.jar));
+        assertNull(after.bytecode("A"));
+        assertArrayEquals(new byte[] { 4, 5, 6, 7 }, bytecode(after, "B"));
+        
+        //the replaced jar file is not closed while before may use it
+        assertArrayEquals(new byte[] { 1, 2, 3 }, bytecode(before, "A"));
+    }
+
+    @Test
+    public void testClose() throws IOException {
+        writeJar(this.jar, "A", new byte[] { 1, 2, 3 });
+        assertArrayEquals(new byte[] { 1, 2, 3 }, bytecode(new ClasspathIndex(Arrays.asList(this.jar)), "A"));
+        ClasspathIndex.close();
+        assertArrayEquals(new byte[] { 1, 2, 3 }, bytecode(new ClasspathIndex(Arrays.asList(this.jar)), "A"));
+    }
+
+    @Test
+    public void testDirectory() throws IOException {
+        final ClasspathIndex index = new ClasspathIndex(Arrays.asList(this.dir));
+        assertNull(index.bytecode("A"));
+        Files.write(this.dir.resolve("A.class"), new byte[] { 1, 2, 3 });
+        assertArrayEquals(new byte[] { 1, 2, 3 }, bytecode(index, "A"));
+    }
+}
@@ -0,0 +1,66 @@
+package jbse.common;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+public class PersistentHashMapTest {
+	private static final class Key {
+		private final int hash;
+		private final String name;
+		
+		Key(int hash, String name) {
+			this.hash = hash;
+			this.name = name;
+		}
+		
+		@Override
+		public int hashCode() {
+			return this.hash;
+		}
+		
+		@Override
+		public boolean equals(Object o) {
+			return (o instanceof Key && ((Key) o).name.equals(this.name));
+		}
+	}
+	
+	@Test
+	public void testPut() {
+		PersistentHashMap<Integer, Integer> m = PersistentHashMap.empty();
+		for (int i = 0; i < 5000; ++i) {
+			m = m.put(i * 31, i);
+		}
+		assertEquals(5000, m.size());
+		for (int i = 0; i < 5000; ++i) {
+			assertEquals(Integer.valueOf(i), m.get(i * 31));
+		}
+		assertNull(m.get(1));
+	}
+	
+	@Test
+	public void testSharing() {
+		final PersistentHashMap<String, Integer> m1 = PersistentHashMap.<String, Integer>empty().put("a", 1);
+		final PersistentHashMap<String, Integer> m2 = m1.put("a", 2);
+		final PersistentHashMap<String, Integer> m3 = m1.put("b", 3);
+		assertEquals(Integer.valueOf(1), m1.get("a"));
+		assertEquals(Integer.valueOf(2), m2.get("a"));
+		assertEquals(1, m2.size());
+		assertTrue(m3.containsKey("b"));
+		assertFalse(m1.containsKey("b"));
+	}
+	
+	@Test
+	public void testCollisions() {
+		final PersistentHashMap<Key, String> m = PersistentHashMap.<Key, String>empty()
+		.put(new Key(7, "a"), "a").put(new Key(7, "b"), "b").put(new Key(7 + 32, "c"), "c").put(new Key(7, "a"), "aa");
+		assertEquals(3, m.size());
+		assertEquals("aa", m.get(new Key(7, "a")));
+		assertEquals("b", m.get(new Key(7, "b")));
+		assertEquals("c", m.get(new Key(7 + 32, "c")));
+		assertNull(m.get(new Key(7, "d")));
+	}
+}
@@ -0,0 +1,44 @@
+package jbse.common;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Test;
+
+public class PersistentVectorTest {
+	@Test
+	public void testAdd() {
+		PersistentVector<Integer> v = PersistentVector.empty();
+		final List<Integer> expected = new ArrayList<>();
+		for (int i = 0; i < 5000; ++i) {
+			v = v.add(i);
+			expected.add(i);
+		}
+		assertEquals(expected, v.asList());
+	}
+	
+	@Test
+	public void testSharing() {
+		PersistentVector<Integer> v1 = PersistentVector.empty();
+		for (int i = 0; i < 100; ++i) {
+			v1 = v1.add(i);
+		}
+		final PersistentVector<Integer> v2 = v1.add(100);
+		final PersistentVector<Integer> v3 = v1.add(-100);
+		assertEquals(100, v1.size());
+		assertEquals(Integer.valueOf(100), v2.get(100));
+		assertEquals(Integer.valueOf(-100), v3.get(100));
+		assertEquals(v1.asList(), v2.asList().subList(0, 100));
+	}
+	
+	@Test
+	public void testSetSparse() {
+		final PersistentVector<String> v = PersistentVector.<String>empty().set(40000, "a");
+		assertEquals(40001, v.size());
+		assertNull(v.get(39999));
+		assertEquals("a", v.get(40000));
+	}
+}
@@ -0,0 +1,97 @@
+package jbse.dec;
+
+import static jbse.bc.ClassLoaders.CLASSLOADER_APP;
+import static jbse.jvm.RunnerTestUtil.JBSE_LIB_PATH;
+import static jbse.jvm.RunnerTestUtil.TEST_CLASSPATH;
+import static jbse.jvm.RunnerTestUtil.makeDecisionProcedure;
+import static org.junit.Assert.assertEquals;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.SortedSet;
+import java.util.TreeSet;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import jbse.algo.ExecutionContext;
+import jbse.bc.ClassFile;
+import jbse.bc.ClassFileFactoryJavassist;
+import jbse.bc.Classpath;
+import jbse.bc.Signature;
+import jbse.mem.State;
+import jbse.rewr.CalculatorRewriting;
+import jbse.rules.TriggerRulesRepo;
+import jbse.tree.DecisionAlternativeComparators;
+import jbse.tree.DecisionAlternative_XLOAD_GETX;
+import jbse.tree.DecisionAlternative_XLOAD_GETX_Aliases;
+import jbse.val.ReferenceSymbolic;
+
+public class DecisionProcedureAlgorithmsTest {
+    private static final String NODE = "jbse/dec/testdata/Node";
+    
+    private CalculatorRewriting calc;
+    private DecisionProcedureAlgorithms dec;
+    private State state;
+    private ClassFile cf_Node;
+
+    @Before
+    public void setUp() throws Exception {
+        final ArrayList<Path> userPaths = new ArrayList<>();
+        userPaths.add(Paths.get(TEST_CLASSPATH));
+        final Classpath cp = new Classpath(Paths.get(JBSE_LIB_PATH), Paths.get(System.getProperty("java.home", "")), Collections.emptyList(), userPaths);
+        this.dec = makeDecisionProcedure();
+        this.calc = (CalculatorRewriting) this.dec.getCalculator();
+        final ExecutionContext ctx = new ExecutionContext(null, true, 20, 20, true, cp, ClassFileFactoryJavassist.class, Collections.emptyMap(), Collections.emptyMap(), this.calc, new DecisionAlternativeComparators(), new Signature(NODE, "()V", "m"), this.dec, null, null, new TriggerRulesRepo(), new ArrayList<String>());
+        this.state = ctx.createStateVirginPreInitial();
+        this.cf_Node = this.state.getClassHierarchy().loadCreateClass(CLASSLOADER_APP, NODE, true);
+    }
+    
+    private List<String> aliases(SortedSet<DecisionAlternative_XLOAD_GETX> result) {
+        final List<String> retVal = new ArrayList<>();
+        for (DecisionAlternative_XLOAD_GETX alt : result) {
+            if (alt instanceof DecisionAlternative_XLOAD_GETX_Aliases) {
+                retVal.add(alt.getIdentifier());
+            }
+        }
+        return retVal;
+    }
+
+    @Test
+    public void testPossibleAliasesFromAssumptionsWhenStateNotInSync() throws Exception {
+        //two states with path conditions of same size, 
+        //that expand different references
+        final State stateA = this.state.clone();
+        final ReferenceSymbolic a = (ReferenceSymbolic) stateA.createSymbolLocalVariable("L" + NODE + ";", "L" + NODE + ";", "a");
+        stateA.assumeExpands(this.calc, a, this.cf_Node);
+        final ReferenceSymbolic x = (ReferenceSymbolic) stateA.createSymbolLocalVariable("L" + NODE + ";", "L" + NODE + ";", "x");
+        final State stateB = this.state.clone();
+        final ReferenceSymbolic b = (ReferenceSymbolic) stateB.createSymbolLocalVariable("L" + NODE + ";", "L" + NODE + ";", "b");
+        stateB.assumeExpands(this.calc, b, this.cf_Node);
+        
+        //the assumptions are those of stateA, 
+        //but the current state is stateB
+        this.dec.setAssumptions(stateA.getPathCondition());
+        this.dec.setCurrentStateSupplier(() -> stateB);
+        final SortedSet<DecisionAlternative_XLOAD_GETX> result = new TreeSet<>(DecisionAlternativeComparators.defaultComparatorDecisionAlternative_XLOAD_GETX());
+        this.dec.resolve_XLOAD_GETX(x, result);
+        assertEquals(Collections.singletonList("XLOAD_GETX_Aliases:" + a.asOriginString()), aliases(result));
+    }
+
+    @Test
+    public void testPossibleAliasesFromStateInSync() throws Exception {
+        final State stateA = this.state.clone();
+        final ReferenceSymbolic a = (ReferenceSymbolic) stateA.createSymbolLocalVariable("L" + NODE + ";", "L" + NODE + ";", "a");
+        stateA.assumeExpands(this.calc, a, this.cf_Node);
+        final ReferenceSymbolic x = (ReferenceSymbolic) stateA.createSymbolLocalVariable("L" + NODE + ";", "L" + NODE + ";", "x");
+        
+        this.dec.setAssumptions(stateA.getPathCondition());
+        this.dec.setCurrentStateSupplier(() -> stateA);
+        final SortedSet<DecisionAlternative_XLOAD_GETX> result = new TreeSet<>(DecisionAlternativeComparators.defaultComparatorDecisionAlternative_XLOAD_GETX());
+        this.dec.resolve_XLOAD_GETX(x, result);
+        assertEquals(Collections.singletonList("XLOAD_GETX_Aliases:" + a.asOriginString()), aliases(result));
+    }
+}
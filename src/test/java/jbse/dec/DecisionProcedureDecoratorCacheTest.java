@@ -0,0 +1,158 @@
+package jbse.dec;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import jbse.common.Type;
+import jbse.common.exc.InvalidInputException;
+import jbse.dec.exc.DecisionException;
+import jbse.mem.ClauseAssume;
+import jbse.mem.exc.ContradictionException;
+import jbse.rewr.CalculatorRewriting;
+import jbse.rewr.RewriterExpressionOrConversionOnSimplex;
+import jbse.rewr.RewriterFunctionApplicationOnSimplex;
+import jbse.rewr.RewriterNegationElimination;
+import jbse.rewr.RewriterZeroUnit;
+import jbse.val.Expression;
+import jbse.val.exc.InvalidOperandException;
+import jbse.val.exc.InvalidTypeException;
+
+public class DecisionProcedureDecoratorCacheTest {
+    private CalculatorRewriting calc;
+    private int queries;
+    private DecisionProcedureDecoratorCache dec;
+
+    @Before
+    public void setUp() throws InvalidInputException, DecisionException {
+        this.calc = new CalculatorRewriting();
+        this.calc.addRewriter(new RewriterExpressionOrConversionOnSimplex());
+        this.calc.addRewriter(new RewriterFunctionApplicationOnSimplex());
+        this.calc.addRewriter(new RewriterZeroUnit());
+        this.calc.addRewriter(new RewriterNegationElimination());
+        this.queries = 0;
+        this.dec = new DecisionProcedureDecoratorCache(makeCounter(), 100, null, null);
+    }
+    
+    private DecisionProcedure makeCounter() throws InvalidInputException {
+        return new DecisionProcedureDecorator(new DecisionProcedureAlwSat(this.calc)) {
+            @Override
+            public boolean isSat(Expression exp) throws InvalidInputException, DecisionException {
+                ++DecisionProcedureDecoratorCacheTest.this.queries;
+                return super.isSat(exp);
+            }
+
+            @Override
+            public boolean[] isSat(List<Expression> expressions) throws InvalidInputException, DecisionException {
+                DecisionProcedureDecoratorCacheTest.this.queries += expressions.size();
+                return super.isSat(expressions);
+            }
+        };
+    }
+
+    @Test
+    public void testSameAssumption() throws InvalidInputException, InvalidTypeException, InvalidOperandException, DecisionException, ContradictionException {
+        final ClauseAssume c0 = new ClauseAssume(this.calc.pushTerm(Type.INT, "A").gt(this.calc.valInt(0)).pop());
+        final Expression e = (Expression) this.calc.pushTerm(Type.INT, "A").eq(this.calc.valInt(1)).pop();
+        this.dec.pushAssumption(c0);
+        assertTrue(this.dec.isSat(e));
+        assertTrue(this.dec.isSat(e));
+        assertEquals(1, this.queries);
+        assertEquals(1, this.dec.getHits());
+        assertEquals(1, this.dec.getMisses());
+    }
+
+    @Test
+    public void testDifferentAssumption() throws InvalidInputException, InvalidTypeException, InvalidOperandException, DecisionException, ContradictionException {
+        final ClauseAssume c0 = new ClauseAssume(this.calc.pushTerm(Type.INT, "A").gt(this.calc.valInt(0)).pop());
+        final ClauseAssume c1 = new ClauseAssume(this.calc.pushTerm(Type.INT, "B").gt(this.calc.valInt(0)).pop());
+        final Expression e = (Expression) this.calc.pushTerm(Type.INT, "A").eq(this.calc.valInt(1)).pop();
+        this.dec.setAssumptions(Arrays.asList(c0));
+        this.dec.isSat(e);
+        this.dec.setAssumptions(Arrays.asList(c0, c1));
+        this.dec.isSat(e);
+        assertEquals(2, this.queries);
+        this.dec.setAssumptions(Arrays.asList(c0), 1);
+        this.dec.isSat(e);
+        assertEquals(2, this.queries);
+        this.dec.clearAssumptions();
+        this.dec.pushAssumption(new ClauseAssume(this.calc.pushTerm(Type.INT, "A").gt(this.calc.valInt(0)).pop()));
+        this.dec.isSat(e);
+        assertEquals(2, this.queries);
+    }
+
+    @Test
+    public void testBatch() throws InvalidInputException, InvalidTypeException, InvalidOperandException, DecisionException, ContradictionException {
+        final Expression e0 = (Expression) this.calc.pushTerm(Type.INT, "A").eq(this.calc.valInt(0)).pop();
+        final Expression e1 = (Expression) this.calc.pushTerm(Type.INT, "A").eq(this.calc.valInt(1)).pop();
+        this.dec.isSat(e0);
+        final boolean[] sat = this.dec.isSat(Arrays.asList(e0, e1));
+        assertEquals(2, sat.length);
+        assertEquals(2, this.queries);
+        assertEquals(1, this.dec.getHits());
+    }
+
+    @Test
+    public void testTypedKeys() throws InvalidInputException, InvalidTypeException, InvalidOperandException, DecisionException {
+        final Expression eInt = (Expression) this.calc.pushTerm(Type.INT, "A").eq(this.calc.valInt(1)).pop();
+        final Expression eLong = (Expression) this.calc.pushTerm(Type.LONG, "A").eq(this.calc.valLong(1L)).pop();
+        this.dec.isSat(eInt);
+        this.dec.isSat(eLong);
+        assertEquals(2, this.queries);
+        assertEquals(0, this.dec.getHits());
+    }
+
+    @Test
+    public void testFileSameNamespace() throws InvalidInputException, InvalidTypeException, InvalidOperandException, DecisionException, ContradictionException, IOException {
+        final Path cacheFile = Files.createTempFile("jbsecache", ".txt");
+        try {
+            final ClauseAssume c0 = new ClauseAssume(this.calc.pushTerm(Type.INT, "A").gt(this.calc.valInt(0)).pop());
+            final Expression e = (Expression) this.calc.pushTerm(Type.INT, "A").eq(this.calc.valInt(1)).pop();
+            final DecisionProcedureDecoratorCache dec1 = new DecisionProcedureDecoratorCache(makeCounter(), 100, cacheFile, "foo");
+            dec1.pushAssumption(c0);
+            dec1.isSat(e);
+            dec1.close();
+            assertEquals(1, this.queries);
+            
+            final DecisionProcedureDecoratorCache dec2 = new DecisionProcedureDecoratorCache(makeCounter(), 100, cacheFile, "foo");
+            dec2.pushAssumption(c0);
+            dec2.isSat(e);
+            dec2.close();
+            assertEquals(1, this.queries);
+            assertEquals(1, dec2.getHits());
+        } finally {
+            Files.deleteIfExists(cacheFile);
+        }
+    }
+
+    @Test
+    public void testFileDifferentNamespace() throws InvalidInputException, InvalidTypeException, InvalidOperandException, DecisionException, ContradictionException, IOException {
+        final Path cacheFile = Files.createTempFile("jbsecache", ".txt");
+        try {
+            final ClauseAssume c0 = new ClauseAssume(this.calc.pushTerm(Type.INT, "A").gt(this.calc.valInt(0)).pop());
+            final Expression e = (Expression) this.calc.pushTerm(Type.INT, "A").eq(this.calc.valInt(1)).pop();
+            final DecisionProcedureDecoratorCache dec1 = new DecisionProcedureDecoratorCache(makeCounter(), 100, cacheFile, "foo");
+            dec1.pushAssumption(c0);
+            dec1.isSat(e);
+            dec1.close();
+            assertEquals(1, this.queries);
+            
+            final DecisionProcedureDecoratorCache dec2 = new DecisionProcedureDecoratorCache(makeCounter(), 100, cacheFile, "bar");
+            dec2.pushAssumption(c0);
+            dec2.isSat(e);
+            dec2.close();
+            assertEquals(2, this.queries);
+            assertEquals(0, dec2.getHits());
+        } finally {
+            Files.deleteIfExists(cacheFile);
+        }
+    }
+}
@@ -0,0 +1,169 @@
+package jbse.dec;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import jbse.common.Type;
+import jbse.common.exc.InvalidInputException;
+import jbse.dec.exc.DecisionException;
+import jbse.mem.ClauseAssume;
+import jbse.mem.exc.ContradictionException;
+import jbse.rewr.CalculatorRewriting;
+import jbse.rewr.RewriterExpressionOrConversionOnSimplex;
+import jbse.rewr.RewriterFunctionApplicationOnSimplex;
+import jbse.rewr.RewriterNegationElimination;
+import jbse.rewr.RewriterZeroUnit;
+import jbse.val.Expression;
+import jbse.val.HistoryPoint;
+import jbse.val.Primitive;
+import jbse.val.PrimitiveSymbolic;
+import jbse.val.PrimitiveSymbolicApply;
+import jbse.val.Simplex;
+import jbse.val.exc.InvalidOperandException;
+import jbse.val.exc.InvalidTypeException;
+
+public class DecisionProcedureDecoratorCounterexampleCacheTest {
+    private CalculatorRewriting calc;
+    private HistoryPoint hist;
+    private int queries;
+    private boolean answer;
+    private Map<PrimitiveSymbolic, Simplex> model;
+    private DecisionProcedureDecoratorCounterexampleCache dec;
+
+    @Before
+    public void setUp() throws InvalidInputException {
+        this.calc = new CalculatorRewriting();
+        this.calc.addRewriter(new RewriterExpressionOrConversionOnSimplex());
+        this.calc.addRewriter(new RewriterFunctionApplicationOnSimplex());
+        this.calc.addRewriter(new RewriterZeroUnit());
+        this.calc.addRewriter(new RewriterNegationElimination());
+        this.hist = HistoryPoint.unknown();
+        this.queries = 0;
+        this.answer = true;
+        this.model = new HashMap<>();
+        final DecisionProcedure stub = new DecisionProcedureDecorator(new DecisionProcedureAlwSat(this.calc)) {
+            @Override
+            public boolean isSat(Expression exp) {
+                ++DecisionProcedureDecoratorCounterexampleCacheTest.this.queries;
+                return DecisionProcedureDecoratorCounterexampleCacheTest.this.answer;
+            }
+
+            @Override
+            public boolean[] isSat(List<Expression> expressions) {
+                final boolean[] retVal = new boolean[expressions.size()];
+                for (int i = 0; i < retVal.length; ++i) {
+                    retVal[i] = isSat(expressions.get(i));
+                }
+                return retVal;
+            }
+
+            @Override
+            public Map<PrimitiveSymbolic, Simplex> getModel() {
+                return DecisionProcedureDecoratorCounterexampleCacheTest.this.model;
+            }
+        };
+        this.dec = new DecisionProcedureDecoratorCounterexampleCache(stub, 10);
+    }
+
+    @Test
+    public void testUnsatSuperset() throws InvalidInputException, InvalidTypeException, InvalidOperandException, DecisionException, ContradictionException {
+        final PrimitiveSymbolicApply A = new PrimitiveSymbolicApply(Type.INT, this.hist, "A");
+        final PrimitiveSymbolicApply B = new PrimitiveSymbolicApply(Type.INT, this.hist, "B");
+        final Expression e = (Expression) this.calc.push(A).lt(this.calc.valInt(0)).pop();
+        this.answer = false;
+        this.dec.pushAssumption(new ClauseAssume(this.calc.push(A).gt(this.calc.valInt(0)).pop()));
+        assertFalse(this.dec.isSat(e));
+        this.dec.pushAssumption(new ClauseAssume(this.calc.push(B).gt(this.calc.valInt(0)).pop()));
+        assertFalse(this.dec.isSat(e));
+        assertEquals(1, this.queries);
+        assertEquals(1, this.dec.getUnsatHits());
+        this.dec.clearAssumptions();
+        this.answer = true;
+        assertTrue(this.dec.isSat(e));
+        assertEquals(2, this.queries);
+    }
+
+    @Test
+    public void testUnsatTypedKeys() throws InvalidInputException, InvalidTypeException, InvalidOperandException, DecisionException {
+        final PrimitiveSymbolicApply AInt = new PrimitiveSymbolicApply(Type.INT, this.hist, "A");
+        final PrimitiveSymbolicApply BInt = new PrimitiveSymbolicApply(Type.INT, this.hist, "B");
+        final PrimitiveSymbolicApply ALong = new PrimitiveSymbolicApply(Type.LONG, this.hist, "A");
+        final PrimitiveSymbolicApply BLong = new PrimitiveSymbolicApply(Type.LONG, this.hist, "B");
+        final Expression eInt = (Expression) this.calc.push(AInt).gt(BInt).pop();
+        final Expression eLong = (Expression) this.calc.push(ALong).gt(BLong).pop();
+        this.answer = false;
+        assertFalse(this.dec.isSat(eInt));
+        this.answer = true;
+        assertTrue(this.dec.isSat(eLong));
+        assertEquals(2, this.queries);
+        assertEquals(0, this.dec.getUnsatHits());
+    }
+
+    @Test
+    public void testModel() throws InvalidInputException, InvalidTypeException, InvalidOperandException, DecisionException, ContradictionException {
+        final PrimitiveSymbolicApply A = new PrimitiveSymbolicApply(Type.INT, this.hist, "A");
+        this.model.put(A, this.calc.valInt(5));
+        this.dec.pushAssumption(new ClauseAssume(this.calc.push(A).gt(this.calc.valInt(0)).pop()));
+        assertTrue(this.dec.isSat((Expression) this.calc.push(A).gt(this.calc.valInt(1)).pop()));
+        this.dec.getModel();
+        assertTrue(this.dec.isSat((Expression) this.calc.push(A).gt(this.calc.valInt(2)).pop()));
+        assertEquals(1, this.queries);
+        assertEquals(1, this.dec.getModelHits());
+        this.dec.isSat((Expression) this.calc.push(A).gt(this.calc.valInt(10)).pop());
+        assertEquals(2, this.queries);
+        this.dec.pushAssumption(new ClauseAssume(this.calc.push(A).lt(this.calc.valInt(3)).pop()));
+        this.dec.isSat((Expression) this.calc.push(A).gt(this.calc.valInt(2)).pop());
+        assertEquals(3, this.queries);
+    }
+
+    @Test
+    public void testModelArithmetic() throws InvalidInputException, InvalidTypeException, InvalidOperandException, DecisionException, ContradictionException {
+        final PrimitiveSymbolicApply A = new PrimitiveSymbolicApply(Type.INT, this.hist, "A");
+        this.model.put(A, this.calc.valInt(5));
+        assertTrue(this.dec.isSat((Expression) this.calc.push(A).gt(this.calc.valInt(1)).pop()));
+        this.dec.getModel();
+        assertTrue(this.dec.isSat((Expression) this.calc.push(A).add(this.calc.valInt(1)).eq(this.calc.valInt(6)).pop()));
+        assertEquals(1, this.queries);
+        assertEquals(1, this.dec.getModelHits());
+    }
+
+    @Test
+    public void testModelOverflow() throws InvalidInputException, InvalidTypeException, InvalidOperandException, DecisionException, ContradictionException {
+        final PrimitiveSymbolicApply A = new PrimitiveSymbolicApply(Type.INT, this.hist, "A");
+        this.model.put(A, this.calc.valInt(Integer.MAX_VALUE));
+        assertTrue(this.dec.isSat((Expression) this.calc.push(A).gt(this.calc.valInt(0)).pop()));
+        this.dec.getModel();
+        this.dec.pushAssumption(new ClauseAssume(this.calc.push(A).gt(this.calc.valInt(0)).pop()));
+        
+        //with wraparound A + 1 < 0 holds in the model, but 
+        //with mathematical integers (as the solver) it does not
+        this.answer = false;
+        assertFalse(this.dec.isSat((Expression) this.calc.push(A).add(this.calc.valInt(1)).lt(this.calc.valInt(0)).pop()));
+        assertEquals(2, this.queries);
+        assertEquals(0, this.dec.getModelHits());
+    }
+
+    @Test
+    public void testModelMergedDiamond() throws InvalidInputException, InvalidTypeException, InvalidOperandException, DecisionException, ContradictionException {
+        final PrimitiveSymbolicApply A = new PrimitiveSymbolicApply(Type.INT, this.hist, "A");
+        this.model.put(A, this.calc.valInt(5));
+        assertTrue(this.dec.isSat((Expression) this.calc.push(A).gt(this.calc.valInt(1)).pop()));
+        this.dec.getModel();
+        
+        //1 + 3 * (int) (A > 0), the value pushed by the merged branches of an if*, is 4 in the model
+        final Primitive merged = this.calc.push(this.calc.push(A).gt(this.calc.valInt(0)).pop()).widen(Type.INT).mul(this.calc.valInt(3)).add(this.calc.valInt(1)).pop();
+        assertTrue(this.dec.isSat((Expression) this.calc.push(merged).eq(this.calc.valInt(4)).pop()));
+        assertEquals(1, this.queries);
+        assertEquals(1, this.dec.getModelHits());
+        this.dec.isSat((Expression) this.calc.push(merged).eq(this.calc.valInt(1)).pop());
+        assertEquals(2, this.queries);
+    }
+}
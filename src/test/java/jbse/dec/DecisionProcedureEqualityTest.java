@@ -26,6 +26,7 @@ import jbse.rewr.RewriterZeroUnit;
 import jbse.val.Calculator;
 import jbse.val.Expression;
 import jbse.val.HistoryPoint;
+import jbse.val.Primitive;
 import jbse.val.ReferenceSymbolic;
 import jbse.val.Term;
 import jbse.val.exc.InvalidOperandException;
@@ -201,4 +202,15 @@ public class DecisionProcedureEqualityTest {
         this.dec.pushAssumption(new ClauseAssume((Expression) this.calc.push(A).add(this.calc.pushInt(-1).mul(B).pop()).eq(this.calc.valInt(0)).pop()));
         assertFalse(this.dec.isSat((Expression) this.calc.push(A).add(this.calc.pushInt(-1).mul(B).pop()).ne(this.calc.valInt(0)).pop()));
     }	
+
+    @Test
+    public void mergedTest1() 
+    throws InvalidInputException, DecisionException, InvalidOperandException, InvalidTypeException, NoSuchElementException, ContradictionException {
+        //B == 1 + 3 * (int) (A > 0) |-/- B != 1 + 3 * (int) (A > 0) (merged branches of if*)
+    	final Term A = this.calc.valTerm(Type.INT, "A");
+    	final Term B = this.calc.valTerm(Type.INT, "B");
+    	final Primitive merged = this.calc.push(this.calc.push(A).gt(this.calc.valInt(0)).pop()).widen(Type.INT).mul(this.calc.valInt(3)).add(this.calc.valInt(1)).pop();
+        this.dec.pushAssumption(new ClauseAssume((Expression) this.calc.push(B).eq(merged).pop()));
+        assertFalse(this.dec.isSat((Expression) this.calc.push(B).ne(merged).pop()));
+    }	
 }
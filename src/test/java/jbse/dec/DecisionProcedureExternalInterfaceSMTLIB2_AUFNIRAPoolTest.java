@@ -0,0 +1,123 @@
+package jbse.dec;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assume.assumeTrue;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import jbse.common.Type;
+import jbse.common.exc.InvalidInputException;
+import jbse.dec.exc.ExternalProtocolInterfaceException;
+import jbse.rewr.CalculatorRewriting;
+import jbse.val.Primitive;
+import jbse.val.exc.InvalidOperandException;
+import jbse.val.exc.InvalidTypeException;
+
+public class DecisionProcedureExternalInterfaceSMTLIB2_AUFNIRAPoolTest {
+    /** The number of solvers in the pool. */
+    private static final int NUM_SOLVERS = 3;
+    
+    /**
+     * A fake SMTLIB2 solver: it answers success to all the commands, and
+     * to a check-sat answers sat iff the last asserted clause ends with
+     * an even constant. It logs the start of each check-sat with its 
+     * process id. Before answering its first check-sat it waits until 
+     * all the solvers in the pool have started a check-sat, which can 
+     * only happen if the solvers are queried concurrently: If this does 
+     * not happen within ten seconds it logs a timeout and goes on.
+     */
+    private static final String FAKE_SOLVER =
+        "first=1\n" +
+        "while IFS= read -r line; do\n" +
+        "  case \"$line\" in\n" +
+        "    \"(check-sat)\")\n" +
+        "      echo \"start $$\" >> \"$1\"\n" +
+        "      if [ $first -eq 1 ]; then\n" +
+        "        first=0\n" +
+        "        n=0\n" +
+        "        while [ $(grep -c '^start' \"$1\") -lt " + NUM_SOLVERS + " ]; do\n" +
+        "          n=$((n+1))\n" +
+        "          if [ $n -gt 10 ]; then echo \"timeout $$\" >> \"$1\"; break; fi\n" +
+        "          sleep 1\n" +
+        "        done\n" +
+        "      fi\n" +
+        "      case \"$last\" in\n" +
+        "        *[02468]\")\"*) echo sat ;;\n" +
+        "        *) echo unsat ;;\n" +
+        "      esac ;;\n" +
+        "    \"(exit)\") exit 0 ;;\n" +
+        "    \"(assert \"*) last=\"$line\"; echo success ;;\n" +
+        "    *) echo success ;;\n" +
+        "  esac\n" +
+        "done\n";
+
+    private CalculatorRewriting calc;
+    private Path script;
+    private Path log;
+    private DecisionProcedureExternalInterfaceSMTLIB2_AUFNIRAPool pool;
+
+    @Before
+    public void setUp() throws IOException, ExternalProtocolInterfaceException {
+        assumeTrue("The fake solver needs a POSIX shell", Files.isExecutable(Paths.get("/bin/sh")));
+        this.calc = new CalculatorRewriting();
+        this.script = Files.createTempFile("fakesolver", ".sh");
+        Files.write(this.script, FAKE_SOLVER.getBytes(StandardCharsets.US_ASCII));
+        this.log = Files.createTempFile("fakesolver", ".log");
+        this.pool = new DecisionProcedureExternalInterfaceSMTLIB2_AUFNIRAPool(this.calc, Arrays.asList("/bin/sh", this.script.toString(), this.log.toString()), NUM_SOLVERS);
+    }
+
+    @After
+    public void tearDown() throws IOException, ExternalProtocolInterfaceException {
+        if (this.pool != null) {
+            this.pool.quit();
+        }
+        if (this.script != null) {
+            Files.deleteIfExists(this.script);
+        }
+        if (this.log != null) {
+            Files.deleteIfExists(this.log);
+        }
+    }
+
+    @Test
+    public void testCheckSatConcurrent() throws InvalidInputException, InvalidOperandException, InvalidTypeException, ExternalProtocolInterfaceException, IOException {
+        final List<Primitive> predicates = new ArrayList<>();
+        for (int i = 0; i < 6; ++i) {
+            predicates.add(this.calc.pushTerm(Type.INT, "A").eq(this.calc.valInt(i)).pop());
+        }
+        final boolean[] sat = this.pool.checkSat(predicates);
+
+        //the answers are in the order of the predicates
+        assertEquals(6, sat.length);
+        for (int i = 0; i < 6; ++i) {
+            assertEquals(i % 2 == 0, sat[i]);
+        }
+
+        //every solver performed two checks, and no solver
+        //timed out waiting for the others to start a check
+        final List<String> lines = Files.readAllLines(this.log, StandardCharsets.US_ASCII);
+        assertEquals(6, lines.size());
+        final HashMap<String, Integer> checks = new HashMap<>();
+        for (String line : lines) {
+            final String[] fields = line.split(" ");
+            assertEquals("start", fields[0]);
+            checks.merge(fields[1], 1, Integer::sum);
+        }
+        assertEquals(NUM_SOLVERS, checks.size());
+        for (int n : checks.values()) {
+            assertEquals(2, n);
+        }
+    }
+}
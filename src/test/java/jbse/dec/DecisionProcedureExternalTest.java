@@ -1,9 +1,12 @@
 package jbse.dec;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
 
 import java.io.IOException;
 import java.util.ArrayDeque;
+import java.util.Arrays;
 import java.util.NoSuchElementException;
 
 import org.junit.Before;
@@ -245,4 +248,20 @@ public class DecisionProcedureExternalTest {
         assertEquals(c1, this.extIf.clauses.pop());
         assertEquals(c0, this.extIf.clauses.pop());
     }
+    
+    @Test
+    public void test3() throws NoSuchElementException, InvalidInputException, InvalidOperandException, InvalidTypeException, DecisionException, ContradictionException {
+        final ClauseAssume c0 = new ClauseAssume(this.calc.pushTerm(Type.INT, "A").eq(this.calc.valInt(0)).pop());
+        final Expression e1 = (Expression) this.calc.pushTerm(Type.INT, "A").eq(this.calc.valInt(1)).pop();
+        final Expression e2 = (Expression) this.calc.pushTerm(Type.INT, "A").eq(this.calc.valInt(2)).pop();
+        this.dec.pushAssumption(c0);
+        final boolean[] sat = this.dec.isSat(Arrays.asList(e1, e2));
+        
+        assertEquals(2, sat.length);
+        assertTrue(sat[0]);
+        assertTrue(sat[1]);
+        assertFalse(this.extIf.hasClause);
+        assertEquals(1, this.extIf.clauses.size());
+        assertEquals(c0, this.extIf.clauses.pop());
+    }
 }
@@ -447,4 +447,22 @@ public class DecisionProcedureSignAnalysisTest {
 		this.dec.pushAssumption(new ClauseAssume((Expression) this.calc.pushDouble(-1.0d).mul(f).add(this.calc.push(E).mul(F).pop()).div(this.calc.pushDouble(-1.0d).mul(E).pop()).lt(this.calc.valInt(0)).pop()));
 		assertFalse(this.dec.isSat((Expression) this.calc.push(f).sub(this.calc.push(E).mul(F).pop()).ge(this.calc.valInt(0)).pop()));
 	}
-}
\ No newline at end of file
+	
+	@Test
+	public void mergedTest1() 
+	throws InvalidInputException, DecisionException, InvalidTypeException, InvalidOperandException {
+		//true |-/- 2 + 3 * (int) (A > 0) <= 0 (merged branches of if*, that push 2 or 5)
+		final Term A = this.calc.valTerm(Type.INT, "A");
+		final Primitive merged = this.calc.push(this.calc.push(A).gt(this.calc.valInt(0)).pop()).widen(Type.INT).mul(this.calc.valInt(3)).add(this.calc.valInt(2)).pop();
+		assertFalse(this.dec.isSat((Expression) this.calc.push(merged).le(this.calc.valInt(0)).pop()));
+	}
+	
+	@Test(expected=NoDecisionException.class)
+	public void mergedTest2() 
+	throws InvalidInputException, DecisionException, InvalidTypeException, InvalidOperandException {
+		//true |-?- 2 - 3 * (int) (A > 0) <= 0 (merged branches of if*, that push 2 or -1)
+		final Term A = this.calc.valTerm(Type.INT, "A");
+		final Primitive merged = this.calc.push(this.calc.push(A).gt(this.calc.valInt(0)).pop()).widen(Type.INT).mul(this.calc.valInt(-3)).add(this.calc.valInt(2)).pop();
+		this.dec.isSat((Expression) this.calc.push(merged).le(this.calc.valInt(0)).pop());
+	}
+}
@@ -361,4 +361,40 @@ public class DecisionProcedureTest {
         //expected satisfiable
         assertTrue(this.dec.isSat((Expression) e));
     }	
+
+    @Test
+    public void testMergedDiamond1() 
+    throws InvalidInputException, DecisionException, InvalidOperandException, InvalidTypeException {
+        //true |- 1 + 3 * (int) (A > 0) == 2 (merged branches of if*, that push 1 or 4)
+        Term A = this.calc.valTerm(Type.INT, "A");
+        Primitive merged = this.calc.push(this.calc.push(A).gt(this.calc.valInt(0)).pop()).widen(Type.INT).mul(this.calc.valInt(3)).add(this.calc.valInt(1)).pop();
+        Expression e = (Expression) this.calc.push(merged).eq(this.calc.valInt(2)).pop();
+        TreeSet<DecisionAlternative_IFX> d = new TreeSet<>(this.cmp.get(DecisionAlternative_IFX.class));
+        this.dec.decide_IFX(e, d);
+
+        //expected: {F_nonconcrete}
+        assertEquals(1, d.size());
+        DecisionAlternative_IFX dai = d.first();
+        assertFalse(dai.concrete());
+        assertThat(dai, instanceOf(DecisionAlternative_IFX_False.class));
+    }
+
+    @Test
+    public void testMergedDiamond2() 
+    throws InvalidInputException, DecisionException, InvalidOperandException, InvalidTypeException, ContradictionException {
+        //A > 0 |- 1 + 3 * (int) (A > 0) == 4
+        Term A = this.calc.valTerm(Type.INT, "A");
+        Expression Agtzero = (Expression) this.calc.push(A).gt(this.calc.valInt(0)).pop();
+        Primitive merged = this.calc.push(Agtzero).widen(Type.INT).mul(this.calc.valInt(3)).add(this.calc.valInt(1)).pop();
+        Expression e = (Expression) this.calc.push(merged).eq(this.calc.valInt(4)).pop();
+        TreeSet<DecisionAlternative_IFX> d = new TreeSet<>(this.cmp.get(DecisionAlternative_IFX.class));
+        this.dec.pushAssumption(new ClauseAssume(Agtzero));
+        this.dec.decide_IFX(e, d);
+
+        //expected: {T_nonconcrete}
+        assertEquals(1, d.size());
+        DecisionAlternative_IFX dai = d.first();
+        assertFalse(dai.concrete());
+        assertThat(dai, instanceOf(DecisionAlternative_IFX_True.class));
+    }
 }
@@ -0,0 +1,62 @@
+package jbse.dec;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import jbse.common.Type;
+import jbse.common.exc.InvalidInputException;
+import jbse.mem.Clause;
+import jbse.mem.ClauseAssume;
+import jbse.rewr.CalculatorRewriting;
+import jbse.val.Primitive;
+import jbse.val.Term;
+import jbse.val.exc.InvalidOperandException;
+import jbse.val.exc.InvalidTypeException;
+
+public class IndependenceSlicerTest {
+    private CalculatorRewriting calc;
+    private IndependenceSlicer slicer;
+
+    @Before
+    public void setUp() {
+        this.calc = new CalculatorRewriting();
+        this.slicer = new IndependenceSlicer();
+    }
+
+    @Test
+    public void testTransitive() throws InvalidInputException, InvalidTypeException, InvalidOperandException {
+        final Term A = this.calc.valTerm(Type.INT, "A");
+        final Term B = this.calc.valTerm(Type.INT, "B");
+        final Term C = this.calc.valTerm(Type.INT, "C");
+        final Term D = this.calc.valTerm(Type.INT, "D");
+        final ClauseAssume c0 = new ClauseAssume(this.calc.push(A).gt(B).pop());
+        final ClauseAssume c1 = new ClauseAssume(this.calc.push(C).gt(this.calc.valInt(0)).pop());
+        final ClauseAssume c2 = new ClauseAssume(this.calc.push(B).lt(D).pop());
+        this.slicer.push(c0);
+        this.slicer.push(c1);
+        this.slicer.push(c2);
+        final Primitive query = this.calc.push(D).eq(this.calc.valInt(1)).pop();
+        assertEquals(Arrays.<Clause>asList(c0, c2), this.slicer.slice(Collections.singletonList(query)));
+    }
+
+    @Test
+    public void testPop() throws InvalidInputException, InvalidTypeException, InvalidOperandException {
+        final Term A = this.calc.valTerm(Type.INT, "A");
+        final Term B = this.calc.valTerm(Type.INT, "B");
+        final ClauseAssume c0 = new ClauseAssume(this.calc.push(A).gt(this.calc.valInt(0)).pop());
+        final ClauseAssume c1 = new ClauseAssume(this.calc.push(A).lt(B).pop());
+        this.slicer.push(c0);
+        this.slicer.push(c1);
+        this.slicer.pop();
+        final Primitive query = this.calc.push(B).eq(this.calc.valInt(1)).pop();
+        final List<Clause> slice = this.slicer.slice(Collections.singletonList(query));
+        assertEquals(0, slice.size());
+        assertEquals(1, this.slicer.all().size());
+    }
+}
@@ -0,0 +1,5 @@
+package jbse.dec.testdata;
+
+public class Node {
+    Node next;
+}
@@ -0,0 +1,98 @@
+package jbse.jvm;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+
+import jbse.dec.exc.DecisionException;
+import jbse.jvm.Runner.Actions;
+
+public class RunnerParallelTest {
+    private static final int NUM_LEAVES = 32;
+    
+    private static RunnerParameters makeParameters() throws DecisionException {
+        return RunnerTestUtil.makeParameters("jbse/jvm/testdata/Branches", "(IIII)I", "m");
+    }
+    
+    /**
+     * {@link Actions} recording the branch identifiers 
+     * of the leaves and counting the invocations of
+     * {@link #atEnd()}.
+     */
+    private static final class ActionsLeaves extends Actions {
+        private final Set<String> leaves;
+        private final AtomicInteger ends;
+        private final long stopAfter;
+        private long paths = 0;
+        
+        ActionsLeaves(Set<String> leaves, AtomicInteger ends, long stopAfter) {
+            this.leaves = leaves;
+            this.ends = ends;
+            this.stopAfter = stopAfter;
+        }
+        
+        @Override
+        public boolean atPathEnd() {
+            this.leaves.add(getEngine().getCurrentState().getBranchIdentifier());
+            ++this.paths;
+            return (this.stopAfter > 0 && this.paths >= this.stopAfter);
+        }
+        
+        @Override
+        public void atEnd() {
+            this.ends.incrementAndGet();
+        }
+    }
+    
+    private static Set<String> runSequential(AtomicInteger ends, long stopAfter) throws Exception {
+        final Set<String> leaves = new TreeSet<>();
+        final RunnerParameters p = makeParameters();
+        p.setActions(new ActionsLeaves(leaves, ends, stopAfter));
+        RunnerTestUtil.run(p);
+        return leaves;
+    }
+
+    @Test
+    public void testSequentialAtEnd() throws Exception {
+        final AtomicInteger ends = new AtomicInteger(0);
+        final Set<String> leaves = runSequential(ends, 0);
+        assertEquals(NUM_LEAVES, leaves.size());
+        assertEquals(1, ends.get());
+    }
+    
+    @Test
+    public void testSequentialStoppedByActionNoAtEnd() throws Exception {
+        final AtomicInteger ends = new AtomicInteger(0);
+        final Set<String> leaves = runSequential(ends, 3);
+        assertEquals(3, leaves.size());
+        assertEquals(0, ends.get());
+    }
+    
+    @Test
+    public void testParallelSameLeavesAsSequential() throws Exception {
+        final Set<String> leavesSequential = runSequential(new AtomicInteger(0), 0);
+        
+        final int numRunners = 4;
+        final Set<String> leavesParallel = new ConcurrentSkipListSet<>();
+        final AtomicInteger ends = new AtomicInteger(0);
+        final RunnerParameters p = makeParameters();
+        p.setActions(new ActionsLeaves(leavesParallel, ends, 0));
+        final RunnerParallelBuilder rb = new RunnerParallelBuilder();
+        final RunnerParallel runner = rb.build(p, numRunners, () -> new ActionsLeaves(leavesParallel, ends, 0), RunnerTestUtil::makeDecisionProcedure);
+        try {
+            runner.run();
+        } finally {
+            rb.getEngine().close();
+        }
+        
+        assertEquals(leavesSequential, new TreeSet<>(leavesParallel));
+        assertEquals(NUM_LEAVES, runner.getPathsTotal());
+        assertTrue(ends.get() >= 1 && ends.get() <= numRunners);
+    }
+}
@@ -0,0 +1,163 @@
+package jbse.jvm;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import jbse.common.exc.InvalidInputException;
+import jbse.dec.DecisionProcedure;
+import jbse.dec.DecisionProcedureAlgorithms;
+import jbse.dec.DecisionProcedureAlwSat;
+import jbse.dec.DecisionProcedureClassInit;
+import jbse.dec.exc.DecisionException;
+import jbse.jvm.Runner.Actions;
+import jbse.rewr.CalculatorRewriting;
+import jbse.rewr.RewriterExpressionOrConversionOnSimplex;
+import jbse.rewr.RewriterFunctionApplicationOnSimplex;
+import jbse.rewr.RewriterNegationElimination;
+import jbse.rewr.RewriterZeroUnit;
+import jbse.rules.ClassInitRulesRepo;
+import jbse.val.Simplex;
+
+/**
+ * Utilities for the tests that symbolically execute
+ * a method of the test classes with a {@link Runner}.
+ */
+public final class RunnerTestUtil {
+    /** The path of the JBSE classes, as built by gradle. */
+    public static final String JBSE_LIB_PATH = "build/classes/java/main";
+
+    /** The path of the test classes, as built by gradle. */
+    public static final String TEST_CLASSPATH = "build/classes/java/test";
+
+    /**
+     * Makes a calculator with the rewriters
+     * the engine needs.
+     *
+     * @return a {@link CalculatorRewriting}.
+     */
+    public static CalculatorRewriting makeCalculator() {
+        final CalculatorRewriting retVal = new CalculatorRewriting();
+        retVal.addRewriter(new RewriterExpressionOrConversionOnSimplex()); //indispensable
+        retVal.addRewriter(new RewriterFunctionApplicationOnSimplex()); //indispensable
+        retVal.addRewriter(new RewriterZeroUnit()); //indispensable
+        retVal.addRewriter(new RewriterNegationElimination()); //indispensable?
+        return retVal;
+    }
+
+    /**
+     * Makes a decision procedure that answers sat to
+     * all the queries on primitive values.
+     *
+     * @return a {@link DecisionProcedureAlgorithms}.
+     * @throws DecisionException if its creation fails.
+     */
+    public static DecisionProcedureAlgorithms makeDecisionProcedure() throws DecisionException {
+        return makeDecisionProcedure(new DecisionProcedureAlwSat(makeCalculator()));
+    }
+
+    /**
+     * Makes a decision procedure that decides the class
+     * initialization queries and delegates the other ones.
+     *
+     * @param component the {@link DecisionProcedure} the
+     *        other queries are delegated to.
+     * @return a {@link DecisionProcedureAlgorithms}.
+     * @throws DecisionException if its creation fails.
+     */
+    public static DecisionProcedureAlgorithms makeDecisionProcedure(DecisionProcedure component) throws DecisionException {
+        try {
+            return new DecisionProcedureAlgorithms(new DecisionProcedureClassInit(component, new ClassInitRulesRepo()));
+        } catch (InvalidInputException e) {
+            throw new DecisionException(e);
+        }
+    }
+
+    /**
+     * Makes the parameters for executing a method of the
+     * test classes.
+     *
+     * @param dec the {@link DecisionProcedureAlgorithms} used
+     *        by the execution.
+     * @param className the name of the class of the method.
+     * @param descriptor the descriptor of the method.
+     * @param methodName the name of the method.
+     * @return a {@link RunnerParameters}.
+     */
+    public static RunnerParameters makeParameters(DecisionProcedureAlgorithms dec, String className, String descriptor, String methodName) {
+        final RunnerParameters retVal = new RunnerParameters();
+        retVal.setDecisionProcedure(dec);
+        retVal.setCalculator(dec.getCalculator());
+        retVal.setJBSELibPath(JBSE_LIB_PATH);
+        retVal.addUserClasspath(TEST_CLASSPATH);
+        retVal.setMethodSignature(className, descriptor, methodName);
+        return retVal;
+    }
+
+    /**
+     * Makes the parameters for executing a method of the
+     * test classes with {@link #makeDecisionProcedure()}.
+     *
+     * @param className the name of the class of the method.
+     * @param descriptor the descriptor of the method.
+     * @param methodName the name of the method.
+     * @return a {@link RunnerParameters}.
+     * @throws DecisionException if the creation of the
+     *         decision procedure fails.
+     */
+    public static RunnerParameters makeParameters(String className, String descriptor, String methodName)
+    throws DecisionException {
+        return makeParameters(makeDecisionProcedure(), className, descriptor, methodName);
+    }
+
+    /**
+     * Runs a symbolic execution to its end, and
+     * then closes its engine.
+     *
+     * @param p the {@link RunnerParameters} of the execution.
+     * @return the (closed) {@link Engine} of the execution.
+     * @throws Exception if building or running the
+     *         {@link Runner} fails.
+     */
+    public static Engine run(RunnerParameters p) throws Exception {
+        final RunnerBuilder rb = new RunnerBuilder();
+        final Runner runner = rb.build(p);
+        try {
+            runner.run();
+        } finally {
+            rb.getEngine().close();
+        }
+        return rb.getEngine();
+    }
+
+    /**
+     * Runs a symbolic execution to its end, and returns
+     * the concrete values it returns on its paths. It
+     * overwrites the {@link Actions} of the parameters.
+     *
+     * @param p the {@link RunnerParameters} of the execution.
+     * @return a {@link List}{@code <}{@link Object}{@code >}, the
+     *         (boxed) values returned on the paths, in the
+     *         order the paths are explored.
+     * @throws Exception if building or running the
+     *         {@link Runner} fails.
+     */
+    public static List<Object> runReturns(RunnerParameters p) throws Exception {
+        final List<Object> retVal = new ArrayList<>();
+        p.setActions(new Actions() {
+            @Override
+            public boolean atPathEnd() {
+                retVal.add(((Simplex) getEngine().getCurrentState().getStuckReturn()).getActualValue());
+                return super.atPathEnd();
+            }
+        });
+        run(p);
+        return retVal;
+    }
+
+    /**
+     * Do not instantiate it!
+     */
+    private RunnerTestUtil() {
+        //intentionally empty
+    }
+}
@@ -0,0 +1,16 @@
+package jbse.jvm.testdata;
+
+/**
+ * Target of the symbolic executions in {@link jbse.jvm.RunnerParallelTest}.
+ */
+public class Branches {
+    public int m(int a, int b, int c, int d) {
+        int r = 0;
+        if (a > 0) { r += 1; }
+        if (b > 0) { r += 2; }
+        if (c > 0) { r += 4; }
+        if (d > 0) { r += 8; }
+        if (a > b) { r += 16; }
+        return r;
+    }
+}
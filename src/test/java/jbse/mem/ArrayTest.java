@@ -35,6 +35,7 @@ import jbse.mem.Array.AccessOutcome;
 import jbse.mem.Array.AccessOutcomeInValue;
 import jbse.mem.Array.AccessOutcomeOut;
 import jbse.mem.exc.FastArrayAccessNotAllowedException;
+import jbse.mem.exc.HeapMemoryExhaustedException;
 import jbse.rewr.CalculatorRewriting;
 import jbse.rewr.RewriterExpressionOrConversionOnSimplex;
 import jbse.rewr.RewriterFunctionApplicationOnSimplex;
@@ -99,6 +100,48 @@ public class ArrayTest {
 		assertThat(nine, is(equalTo(this.calc.valInt(9))));
 	}
 
+	@Test
+	public void arrayConcreteCloneValueStringTest() throws InvalidInputException, InvalidTypeException, ClassFileNotFoundException, 
+	ClassFileIllFormedException, ClassFileNotAccessibleException, IncompatibleClassFileException, BadClassFileVersionException, 
+	RenameUnsupportedException, WrongClassNameException, FastArrayAccessNotAllowedException {
+		final ClassFile cfArray = this.hier.loadCreateClass("[C");
+		final ArrayImpl a = new ArrayImpl(this.calc, false, false, null, this.calc.valInt(2), cfArray, null, this.hp, false, 10);
+		a.setFast(this.calc.valInt(0), this.calc.valChar('h'));
+		a.setFast(this.calc.valInt(1), this.calc.valChar('i'));
+		final ArrayImpl aClone = a.clone();
+		aClone.setFast(this.calc.valInt(0), this.calc.valChar('x'));
+		assertThat(a.isSimple(), is(equalTo(true)));
+		assertThat(a.valueString(), is(equalTo("hi")));
+		assertThat(aClone.valueString(), is(equalTo("xi")));
+	}
+
+	@Test
+	public void arrayConcreteSymbolicGetTest() throws InvalidInputException, InvalidTypeException, ClassFileNotFoundException, 
+	ClassFileIllFormedException, ClassFileNotAccessibleException, IncompatibleClassFileException, BadClassFileVersionException, 
+	RenameUnsupportedException, WrongClassNameException, FastArrayAccessNotAllowedException {
+		final ClassFile cfArray = this.hier.loadCreateClass("[I");
+		final ArrayImpl a = new ArrayImpl(this.calc, false, false, null, this.calc.valInt(2), cfArray, null, this.hp, false, 10);
+		a.setFast(this.calc.valInt(1), this.calc.valInt(9));
+		final Collection<AccessOutcome> getOutcomes = a.get(this.calc, this.calc.valTerm('I', "I"));
+		assertThat(getOutcomes.size(), is(equalTo(3))); //{I}==0 -> 0, {I}==1 -> 9, ({I}<0 || {I}>=2) -> out_of_range
+		int outcomeZero = 0;
+		int outcomeNine = 0;
+		for (AccessOutcome getOutcome : getOutcomes) {
+			if (getOutcome instanceof AccessOutcomeInValue) {
+				final Value value = ((AccessOutcomeInValue) getOutcome).getValue();
+				if (value.equals(this.calc.valInt(0))) {
+					++outcomeZero;
+				} else if (value.equals(this.calc.valInt(9))) {
+					++outcomeNine;
+				}
+			}
+		}
+		assertThat(outcomeZero, is(equalTo(1)));
+		assertThat(outcomeNine, is(equalTo(1)));
+		final Value nine = ((AccessOutcomeInValue) a.getFast(this.calc, this.calc.valInt(1))).getValue();
+		assertThat(nine, is(equalTo(this.calc.valInt(9))));
+	}
+
 	@Test
 	public void arraySymbolicLengthAccessAffectedEntries() throws InvalidInputException, InvalidTypeException, ClassFileNotFoundException, 
 	ClassFileIllFormedException, ClassFileNotAccessibleException, IncompatibleClassFileException, BadClassFileVersionException, 
@@ -149,4 +192,64 @@ public class ArrayTest {
 		assertThat(outcomeIn, is(equalTo(1))); //(0<={I}<A && {I}==1) -> 10
 		assertThat(outcomeOut, is(equalTo(1))); //({I}<0 || {I}>=A) -> out_of_range
 	}
+
+	@Test
+	public void arrayConcreteSymbolicGetKeepsDenseTest() throws InvalidInputException, InvalidTypeException, ClassFileNotFoundException, 
+	ClassFileIllFormedException, ClassFileNotAccessibleException, IncompatibleClassFileException, BadClassFileVersionException, 
+	RenameUnsupportedException, WrongClassNameException, FastArrayAccessNotAllowedException {
+		final ClassFile cfArray = this.hier.loadCreateClass("[I");
+		final ArrayImpl a = new ArrayImpl(this.calc, false, false, null, this.calc.valInt(2), cfArray, null, this.hp, false, 10);
+		a.setFast(this.calc.valInt(1), this.calc.valInt(9));
+		final Collection<AccessOutcome> getOutcomes = a.get(this.calc, this.calc.valTerm('I', "I"));
+		assertThat(getOutcomes.size(), is(equalTo(3))); //{I}==0 -> 0, {I}==1 -> 9, ({I}<0 || {I}>=2) -> out_of_range
+		assertThat(a.isDense(), is(equalTo(true))); //reading does not modify the (possibly shared) array
+		a.setFast(this.calc.valInt(0), this.calc.valInt(7));
+		final Value seven = ((AccessOutcomeInValue) a.getFast(this.calc, this.calc.valInt(0))).getValue();
+		assertThat(seven, is(equalTo(this.calc.valInt(7))));
+	}
+
+	@Test
+	public void arrayConcreteSourceArraycopyKeepsDenseTest() throws InvalidInputException, InvalidTypeException, ClassFileNotFoundException, 
+	ClassFileIllFormedException, ClassFileNotAccessibleException, IncompatibleClassFileException, BadClassFileVersionException, 
+	RenameUnsupportedException, WrongClassNameException, FastArrayAccessNotAllowedException {
+		final ClassFile cfArray = this.hier.loadCreateClass("[I");
+		final ArrayImpl src = new ArrayImpl(this.calc, false, false, null, this.calc.valInt(2), cfArray, null, this.hp, false, 10);
+		src.setFast(this.calc.valInt(1), this.calc.valInt(9));
+		final ArrayImpl dest = new ArrayImpl(this.calc, false, false, null, this.calc.valTerm('I', "A"), cfArray, null, this.hp, false, 10);
+		dest.arraycopy(this.calc, src, this.calc.valInt(0), this.calc.valInt(0), this.calc.valInt(2), null);
+		assertThat(src.isDense(), is(equalTo(true))); //reading does not modify the (possibly shared) array
+		int outcomeNine = 0;
+		for (AccessOutcome getOutcome : dest.get(this.calc, this.calc.valInt(1))) {
+			if (getOutcome instanceof AccessOutcomeInValue && ((AccessOutcomeInValue) getOutcome).getValue().equals(this.calc.valInt(9))) {
+				++outcomeNine;
+			}
+		}
+		assertThat(outcomeNine, is(equalTo(1)));
+	}
+
+	@Test
+	public void arrayConcreteSourceCloneEntriesKeepsDenseTest() throws InvalidInputException, InvalidTypeException, ClassFileNotFoundException, 
+	ClassFileIllFormedException, ClassFileNotAccessibleException, IncompatibleClassFileException, BadClassFileVersionException, 
+	RenameUnsupportedException, WrongClassNameException, FastArrayAccessNotAllowedException {
+		final ClassFile cfArray = this.hier.loadCreateClass("[I");
+		final ArrayImpl src = new ArrayImpl(this.calc, false, false, null, this.calc.valInt(2), cfArray, null, this.hp, false, 10);
+		src.setFast(this.calc.valInt(1), this.calc.valInt(9));
+		final ArrayImpl dest = new ArrayImpl(this.calc, false, false, null, this.calc.valTerm('I', "A"), cfArray, null, this.hp, false, 10);
+		dest.cloneEntries(src, this.calc);
+		assertThat(src.isDense(), is(equalTo(true))); //reading does not modify the (possibly shared) array
+		assertThat(dest.entries().size(), is(equalTo(2))); //{I}==0 -> 0, {I}==1 -> 9
+	}
+
+	@Test
+	public void arrayLazyCloneSymbolicGetKeepsDelegateDenseTest() throws InvalidInputException, InvalidTypeException, ClassFileNotFoundException, 
+	ClassFileIllFormedException, ClassFileNotAccessibleException, IncompatibleClassFileException, BadClassFileVersionException, 
+	RenameUnsupportedException, WrongClassNameException, FastArrayAccessNotAllowedException, HeapMemoryExhaustedException {
+		final ClassFile cfArray = this.hier.loadCreateClass("[I");
+		final ArrayImpl a = new ArrayImpl(this.calc, false, false, null, this.calc.valInt(2), cfArray, null, this.hp, false, 10);
+		final Heap h = new Heap(10);
+		final long pos = h.addNew(a);
+		final Heap hClone = h.lazyClone();
+		((Array) hClone.getObject(pos)).get(this.calc, this.calc.valTerm('I', "I"));
+		assertThat(a.isDense(), is(equalTo(true))); //the delegate shared by the wrappers is not modified
+	}
 }
@@ -0,0 +1,136 @@
+package jbse.mem;
+
+import static jbse.bc.ClassLoaders.*;
+import static org.junit.Assert.*;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.TreeSet;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import jbse.bc.ClassFile;
+import jbse.bc.ClassFileFactoryJavassist;
+import jbse.bc.ClassHierarchy;
+import jbse.bc.Classpath;
+import jbse.bc.Signature;
+import jbse.bc.exc.BadClassFileVersionException;
+import jbse.bc.exc.ClassFileIllFormedException;
+import jbse.bc.exc.ClassFileNotAccessibleException;
+import jbse.bc.exc.ClassFileNotFoundException;
+import jbse.bc.exc.IncompatibleClassFileException;
+import jbse.bc.exc.InvalidClassFileFactoryClassException;
+import jbse.bc.exc.PleaseLoadClassException;
+import jbse.bc.exc.RenameUnsupportedException;
+import jbse.bc.exc.WrongClassNameException;
+import jbse.common.exc.InvalidInputException;
+import jbse.mem.exc.HeapMemoryExhaustedException;
+import jbse.rewr.CalculatorRewriting;
+import jbse.val.exc.InvalidTypeException;
+
+public class HeapTest {
+    private static final String CLASS_NAME = "tsafe/main/SimpleCalculator";
+    private static final Signature SIG_MIN_LAT = new Signature(CLASS_NAME, "D", "minLat");
+
+    private CalculatorRewriting calc;
+    private ClassFile classFile;
+
+    @Before
+    public void setUp() throws InvalidClassFileFactoryClassException, IOException, InvalidInputException, 
+    ClassFileNotFoundException, ClassFileIllFormedException, BadClassFileVersionException, RenameUnsupportedException, 
+    WrongClassNameException, IncompatibleClassFileException, ClassFileNotAccessibleException, PleaseLoadClassException {
+        //environment
+        final ArrayList<Path> userPath = new ArrayList<>();
+        userPath.add(Paths.get("src/test/resources/jbse/bc/testdata"));
+        final Classpath env = new Classpath(Paths.get("."), Paths.get(System.getProperty("java.home", "")), Collections.emptyList(), userPath);
+
+        //class hierarchy
+        final ClassHierarchy hier = new ClassHierarchy(env, ClassFileFactoryJavassist.class, Collections.emptyMap(), Collections.emptyMap());
+        this.classFile = hier.loadCreateClass(CLASSLOADER_APP, CLASS_NAME, true);
+        
+        //calculator
+        this.calc = new CalculatorRewriting();
+    }
+    
+    private InstanceImpl_DEFAULT makeInstance() throws InvalidTypeException {
+        return new InstanceImpl_DEFAULT(this.calc, false, this.classFile, null, null, this.classFile.numOfStaticFields(), this.classFile.getObjectFields());
+    }
+
+    @Test
+    public void testLazyCloneWriteIsolation() throws HeapMemoryExhaustedException, InvalidTypeException {
+        final Heap h = new Heap(10);
+        final long pos = h.addNew(makeInstance());
+        h.getObject(pos).setFieldValue(SIG_MIN_LAT, this.calc.valDouble(1));
+        final Heap hClone = h.lazyClone();
+        
+        //writing the clone does not affect the original
+        hClone.getObject(pos).setFieldValue(SIG_MIN_LAT, this.calc.valDouble(2));
+        assertEquals(this.calc.valDouble(1), h.getObject(pos).getFieldValue(SIG_MIN_LAT));
+        assertEquals(this.calc.valDouble(2), hClone.getObject(pos).getFieldValue(SIG_MIN_LAT));
+        
+        //writing the original does not affect the clone
+        h.getObject(pos).setFieldValue(SIG_MIN_LAT, this.calc.valDouble(3));
+        assertEquals(this.calc.valDouble(3), h.getObject(pos).getFieldValue(SIG_MIN_LAT));
+        assertEquals(this.calc.valDouble(2), hClone.getObject(pos).getFieldValue(SIG_MIN_LAT));
+    }
+
+    @Test
+    public void testLazyCloneWriteOriginalFirst() throws HeapMemoryExhaustedException, InvalidTypeException {
+        final Heap h = new Heap(10);
+        final long pos = h.addNew(makeInstance());
+        final Heap hClone = h.lazyClone();
+        h.getObject(pos).setFieldValue(SIG_MIN_LAT, this.calc.valDouble(1));
+        assertEquals(this.calc.valDouble(1), h.getObject(pos).getFieldValue(SIG_MIN_LAT));
+        assertEquals(this.calc.valDouble(0), hClone.getObject(pos).getFieldValue(SIG_MIN_LAT));
+    }
+
+    @Test
+    public void testLazyCloneOfLazyClone() throws HeapMemoryExhaustedException, InvalidTypeException {
+        final Heap h = new Heap(10);
+        final long pos = h.addNew(makeInstance());
+        final Heap hClone = h.lazyClone();
+        hClone.getObject(pos).setFieldValue(SIG_MIN_LAT, this.calc.valDouble(1));
+        final Heap hCloneClone = hClone.lazyClone();
+        hCloneClone.getObject(pos).setFieldValue(SIG_MIN_LAT, this.calc.valDouble(2));
+        assertEquals(this.calc.valDouble(0), h.getObject(pos).getFieldValue(SIG_MIN_LAT));
+        assertEquals(this.calc.valDouble(1), hClone.getObject(pos).getFieldValue(SIG_MIN_LAT));
+        assertEquals(this.calc.valDouble(2), hCloneClone.getObject(pos).getFieldValue(SIG_MIN_LAT));
+    }
+
+    @Test
+    public void testLazyCloneAddDisposeIsolation() throws HeapMemoryExhaustedException, InvalidTypeException {
+        final Heap h = new Heap(10);
+        final long pos0 = h.addNew(makeInstance());
+        final long pos1 = h.addNew(makeInstance());
+        final Heap hClone = h.lazyClone();
+        
+        //objects added to the clone are not in the original
+        final long pos2 = hClone.addNew(makeInstance());
+        assertTrue(hClone.existsAt(pos2));
+        assertFalse(h.existsAt(pos2));
+        assertEquals(2, h.getSize());
+        assertEquals(3, hClone.getSize());
+        
+        //objects disposed in the clone are still in the original
+        hClone.disposeExcept(Collections.singleton(pos2));
+        assertFalse(hClone.existsAt(pos0));
+        assertFalse(hClone.existsAt(pos1));
+        assertTrue(h.existsAt(pos0));
+        assertTrue(h.existsAt(pos1));
+        assertEquals(1, hClone.getSize());
+        assertEquals(2, h.getSize());
+        assertEquals(new TreeSet<>(Arrays.asList(pos0, pos1)), h.getObjects().keySet());
+    }
+
+    @Test(expected = HeapMemoryExhaustedException.class)
+    public void testMaxHeapSize() throws HeapMemoryExhaustedException, InvalidTypeException {
+        final Heap h = new Heap(1);
+        h.addNew(makeInstance());
+        h.lazyClone().addNew(makeInstance());
+    }
+}
@@ -0,0 +1,80 @@
+package jbse.mem;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.Arrays;
+import java.util.TreeSet;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import jbse.bc.LocalVariableTable;
+import jbse.mem.exc.InvalidSlotException;
+import jbse.rewr.CalculatorRewriting;
+import jbse.val.Value;
+
+public class LocalVariablesAreaTest {
+    private CalculatorRewriting calc;
+
+    @Before
+    public void setUp() {
+        this.calc = new CalculatorRewriting();
+    }
+
+    @Test
+    public void testSetArgsCat2() throws InvalidSlotException {
+        final LocalVariablesArea a = new LocalVariablesArea(new LocalVariableTable(4));
+        a.setArgs(new Value[] { this.calc.valLong(1L), this.calc.valInt(2) });
+        assertEquals(this.calc.valLong(1L), a.get(0));
+        assertEquals(this.calc.valInt(2), a.get(2));
+        assertEquals(new TreeSet<>(Arrays.asList(0, 2, 3)), a.slots());
+    }
+
+    @Test(expected = InvalidSlotException.class)
+    public void testSecondSlotOfCat2NotReadable() throws InvalidSlotException {
+        final LocalVariablesArea a = new LocalVariablesArea(new LocalVariableTable(2));
+        a.set(0, 0, this.calc.valDouble(1.0));
+        a.get(1);
+    }
+
+    @Test(expected = InvalidSlotException.class)
+    public void testCat2OverwritesNextSlot() throws InvalidSlotException {
+        final LocalVariablesArea a = new LocalVariablesArea(new LocalVariableTable(2));
+        a.set(1, 0, this.calc.valInt(1));
+        a.set(0, 0, this.calc.valLong(2L));
+        a.get(1);
+    }
+
+    @Test(expected = InvalidSlotException.class)
+    public void testCat2OutOfRange() throws InvalidSlotException {
+        final LocalVariablesArea a = new LocalVariablesArea(new LocalVariableTable(2));
+        a.set(1, 0, this.calc.valLong(1L));
+    }
+
+    @Test(expected = InvalidSlotException.class)
+    public void testOutOfRange() throws InvalidSlotException {
+        final LocalVariablesArea a = new LocalVariablesArea(new LocalVariableTable(2));
+        a.get(2);
+    }
+
+    @Test(expected = InvalidSlotException.class)
+    public void testWrongType() throws InvalidSlotException {
+        final LocalVariableTable lvt = new LocalVariableTable(2);
+        lvt.addRow(0, "I", "x", 0, 10);
+        final LocalVariablesArea a = new LocalVariablesArea(lvt);
+        a.set(0, 0, this.calc.valDouble(1.0));
+    }
+
+    @Test
+    public void testCloneIsolation() throws InvalidSlotException {
+        final LocalVariablesArea a = new LocalVariablesArea(new LocalVariableTable(2));
+        a.set(0, 0, this.calc.valInt(1));
+        final LocalVariablesArea aClone = a.clone();
+        aClone.set(0, 0, this.calc.valInt(2));
+        aClone.set(1, 0, this.calc.valInt(3));
+        assertEquals(this.calc.valInt(1), a.get(0));
+        assertEquals(new TreeSet<>(Arrays.asList(0)), a.slots());
+        assertEquals(this.calc.valInt(2), aClone.get(0));
+        assertEquals(this.calc.valInt(3), aClone.get(1));
+    }
+}
@@ -15,6 +15,7 @@ import org.junit.Test;
 import jbse.bc.ClassFile;
 import jbse.bc.ClassFileFactoryJavassist;
 import jbse.bc.ClassHierarchy;
+import jbse.bc.LineNumberTable;
 import jbse.bc.Classpath;
 import jbse.bc.Signature;
 import jbse.bc.exc.BadClassFileVersionException;
@@ -29,6 +30,7 @@ import jbse.bc.exc.PleaseLoadClassException;
 import jbse.bc.exc.RenameUnsupportedException;
 import jbse.bc.exc.WrongClassNameException;
 import jbse.common.exc.InvalidInputException;
+import jbse.mem.exc.InvalidProgramCounterException;
 import jbse.mem.exc.InvalidSlotException;
 import jbse.val.Null;
 import jbse.val.ReferenceConcrete;
@@ -103,4 +105,45 @@ public class MethodFrameTest {
         final Value valThisClone = fClone.getLocalVariableValue(0);
         assertEquals(valThisClone, Null.getInstance());
     }
+
+    private static int expectedSourceRow(LineNumberTable lnt, int programCounter) {
+        int retVal = Frame.UNKNOWN_SOURCE_ROW;
+        for (LineNumberTable.Row r : lnt) {
+            if (r.start > programCounter) {
+                break;
+            }
+            retVal = r.lineNumber;
+        }
+        return retVal;
+    }
+
+    @Test
+    public void testFrameSourceRow() throws ClassFileNotFoundException, ClassFileIllFormedException, 
+    InvalidInputException, BadClassFileVersionException, WrongClassNameException, IncompatibleClassFileException, 
+    ClassFileNotAccessibleException, PleaseLoadClassException, MethodNotFoundException, MethodCodeNotFoundException, 
+    InvalidProgramCounterException, RenameUnsupportedException {
+        final String className = "tsafe/engine/TsafeEngine";
+        final ClassFile cf = this.hier.loadCreateClass(CLASSLOADER_APP, className, true);
+        final Signature sigMethod = new Signature(className, "()V", "start");
+        final MethodFrame f = new MethodFrame(sigMethod, cf);
+        final LineNumberTable lnt = cf.getLineNumberTable(sigMethod);
+        final int codeLength = cf.getCodeLength(sigMethod);
+        
+        //forward, backward, and twice at the same program counter
+        for (int pc = 0; pc < codeLength; ++pc) {
+            f.setProgramCounter(pc);
+            assertEquals(expectedSourceRow(lnt, pc), f.getSourceRow());
+        }
+        for (int pc = codeLength - 1; pc >= 0; --pc) {
+            f.setProgramCounter(pc);
+            assertEquals(expectedSourceRow(lnt, pc), f.getSourceRow());
+            assertEquals(expectedSourceRow(lnt, pc), f.getSourceRow());
+        }
+        
+        //a clone does not see the program counter of the original
+        final MethodFrame fClone = f.clone();
+        f.setProgramCounter(codeLength - 1);
+        assertEquals(expectedSourceRow(lnt, codeLength - 1), f.getSourceRow());
+        assertEquals(expectedSourceRow(lnt, 0), fClone.getSourceRow());
+    }
 }
@@ -0,0 +1,96 @@
+package jbse.mem;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import jbse.mem.exc.InvalidNumberOfOperandsException;
+import jbse.rewr.CalculatorRewriting;
+import jbse.val.Value;
+
+public class OperandStackTest {
+    private CalculatorRewriting calc;
+
+    @Before
+    public void setUp() {
+        this.calc = new CalculatorRewriting();
+    }
+
+    @Test
+    public void testOrder() throws InvalidNumberOfOperandsException {
+        final OperandStack s = new OperandStack();
+        s.push(this.calc.valInt(1));
+        s.push(this.calc.valInt(2));
+        s.push(this.calc.valInt(3));
+        assertEquals(this.calc.valInt(3), s.top());
+        assertArrayEquals(new Value[] { this.calc.valInt(2), this.calc.valInt(3) }, s.operands(2));
+        assertEquals(Arrays.asList(this.calc.valInt(3), this.calc.valInt(2), this.calc.valInt(1)), Arrays.asList(s.values().toArray()));
+        assertEquals(this.calc.valInt(3), s.pop());
+        assertEquals(this.calc.valInt(2), s.pop());
+        assertEquals(this.calc.valInt(1), s.top());
+    }
+
+    @Test
+    public void testGrow() throws InvalidNumberOfOperandsException {
+        final OperandStack s = new OperandStack(1);
+        for (int i = 0; i < 20; ++i) {
+            s.push(this.calc.valInt(i));
+        }
+        assertEquals(20, s.values().size());
+        for (int i = 19; i >= 0; --i) {
+            assertEquals(this.calc.valInt(i), s.pop());
+        }
+    }
+
+    @Test
+    public void testPopMany() throws InvalidNumberOfOperandsException {
+        final OperandStack s = new OperandStack(4);
+        s.push(this.calc.valInt(1));
+        s.push(this.calc.valInt(2));
+        s.push(this.calc.valInt(3));
+        s.pop(2);
+        assertEquals(Collections.singletonList(this.calc.valInt(1)), Arrays.asList(s.values().toArray()));
+        s.clear();
+        assertEquals(0, s.values().size());
+    }
+
+    @Test
+    public void testCloneIsolation() throws InvalidNumberOfOperandsException {
+        final OperandStack s = new OperandStack(2);
+        s.push(this.calc.valInt(1));
+        s.push(this.calc.valInt(2));
+        final OperandStack sClone = s.clone();
+        sClone.pop();
+        sClone.push(this.calc.valInt(3));
+        sClone.push(this.calc.valInt(4));
+        assertEquals(this.calc.valInt(2), s.pop());
+        assertEquals(this.calc.valInt(1), s.pop());
+        assertEquals(this.calc.valInt(4), sClone.pop());
+        assertEquals(this.calc.valInt(3), sClone.pop());
+        assertEquals(this.calc.valInt(1), sClone.pop());
+    }
+
+    @Test(expected = InvalidNumberOfOperandsException.class)
+    public void testPopEmpty() throws InvalidNumberOfOperandsException {
+        new OperandStack().pop();
+    }
+
+    @Test(expected = InvalidNumberOfOperandsException.class)
+    public void testOperandsTooMany() throws InvalidNumberOfOperandsException {
+        final OperandStack s = new OperandStack();
+        s.push(this.calc.valInt(1));
+        s.operands(2);
+    }
+
+    @Test(expected = InvalidNumberOfOperandsException.class)
+    public void testPopManyNegative() throws InvalidNumberOfOperandsException {
+        final OperandStack s = new OperandStack();
+        s.push(this.calc.valInt(1));
+        s.pop(-1);
+    }
+}
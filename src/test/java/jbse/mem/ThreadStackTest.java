@@ -0,0 +1,73 @@
+package jbse.mem;
+
+import static jbse.bc.ClassLoaders.CLASSLOADER_APP;
+import static org.junit.Assert.*;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collections;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import jbse.bc.ClassFile;
+import jbse.bc.ClassFileFactoryJavassist;
+import jbse.bc.ClassHierarchy;
+import jbse.bc.Classpath;
+import jbse.bc.Signature;
+import jbse.bc.exc.BadClassFileVersionException;
+import jbse.bc.exc.ClassFileIllFormedException;
+import jbse.bc.exc.ClassFileNotAccessibleException;
+import jbse.bc.exc.ClassFileNotFoundException;
+import jbse.bc.exc.IncompatibleClassFileException;
+import jbse.bc.exc.InvalidClassFileFactoryClassException;
+import jbse.bc.exc.MethodCodeNotFoundException;
+import jbse.bc.exc.MethodNotFoundException;
+import jbse.bc.exc.PleaseLoadClassException;
+import jbse.bc.exc.RenameUnsupportedException;
+import jbse.bc.exc.WrongClassNameException;
+import jbse.common.exc.InvalidInputException;
+import jbse.mem.exc.ThreadStackEmptyException;
+import jbse.val.Null;
+
+public class ThreadStackTest {
+    private ClassHierarchy hier;
+
+    @Before
+    public void setUp() throws InvalidClassFileFactoryClassException, IOException, InvalidInputException {
+        //environment
+        final ArrayList<Path> userPath = new ArrayList<>();
+        userPath.add(Paths.get("src/test/resources/jbse/bc/testdata"));
+        final Classpath env = new Classpath(Paths.get("."), Paths.get(System.getProperty("java.home", "")), Collections.emptyList(), userPath);
+
+        //class hierarchy
+        this.hier = new ClassHierarchy(env, ClassFileFactoryJavassist.class, Collections.emptyMap(), Collections.emptyMap());
+    }
+
+    @Test
+    public void testCloneIsolatesFrames() throws ClassFileNotFoundException, ClassFileIllFormedException,
+    InvalidInputException, BadClassFileVersionException, WrongClassNameException, IncompatibleClassFileException,
+    ClassFileNotAccessibleException, PleaseLoadClassException, MethodNotFoundException, MethodCodeNotFoundException,
+    RenameUnsupportedException, ThreadStackEmptyException {
+        final String className = "tsafe/engine/TsafeEngine";
+        final ClassFile cf = this.hier.loadCreateClass(CLASSLOADER_APP, className, true);
+        final Signature sigMethod = new Signature(className, "()V", "start");
+        final ThreadStack stack = new ThreadStack();
+        stack.push(new MethodFrame(sigMethod, cf));
+        stack.push(new MethodFrame(sigMethod, cf));
+        final ThreadStack stackClone = stack.clone();
+
+        //the current frames are distinct
+        stackClone.currentFrame().push(Null.getInstance());
+        assertEquals(0, stack.currentFrame().operands().size());
+
+        //the other frames are copied upon access
+        stackClone.pop();
+        stackClone.currentFrame().push(Null.getInstance());
+        stack.pop();
+        assertEquals(0, stack.currentFrame().operands().size());
+        assertEquals(1, stackClone.currentFrame().operands().size());
+    }
+}
@@ -3,6 +3,7 @@ package jbse.rewr;
 import static org.junit.Assert.assertEquals;
 
 import jbse.common.Type;
+import jbse.common.exc.InvalidInputException;
 import jbse.val.Primitive;
 import jbse.val.Term;
 import jbse.val.exc.InvalidOperandException;
@@ -39,5 +40,12 @@ public final class RewriterOperationOnSimplexTest {
 		assertEquals(threeEqThreeL, p_post);
 	}
 	
-	
+	@Test
+	public void test3() throws InvalidInputException, InvalidOperandException, InvalidTypeException {
+		//1 + 3 * (int) (A > 0) [A := 5] -> 4, [A := -5] -> 1 (merged branches of if*)
+		final Term A = this.calc.valTerm(Type.INT, "A");
+		final Primitive merged = this.calc.push(this.calc.push(A).gt(this.calc.valInt(0)).pop()).widen(Type.INT).mul(this.calc.valInt(3)).add(this.calc.valInt(1)).pop();
+		assertEquals(this.calc.valInt(4), this.calc.push(merged).replace(A, this.calc.valInt(5)).pop());
+		assertEquals(this.calc.valInt(1), this.calc.push(merged).replace(A, this.calc.valInt(-5)).pop());
+	}
 }
@@ -209,4 +209,13 @@ public class RewriterPolynomialsTest {
 		final Primitive p_post = this.calc.pushFloat(2.5f).mul(A).add(this.calc.pushFloat(3.5f).mul(B).pop()).div(this.calc.valFloat(0.2f)).pop();
 		assertEquals(this.calc.pushFloat(2.5f / 0.2f).mul(A).add(this.calc.pushFloat(3.5f / 0.2f).mul(B).pop()).pop(), p_post);
 	}
+	
+	@Test
+	public void testMerged1() throws InvalidOperandException, InvalidTypeException {
+		//(1 + 3 * (int) (A > 0)) - (3 * (int) (A > 0) + 1) -> 0 (merged branches of if*)
+		final Term A = this.calc.valTerm(Type.INT, "A");
+		final Primitive merged1 = this.calc.push(this.calc.push(A).gt(this.calc.valInt(0)).pop()).widen(Type.INT).mul(this.calc.valInt(3)).add(this.calc.valInt(1)).pop();
+		final Primitive merged2 = this.calc.pushInt(1).add(this.calc.pushInt(3).mul(this.calc.push(this.calc.push(A).gt(this.calc.valInt(0)).pop()).widen(Type.INT).pop()).pop()).pop();
+		assertEquals(this.calc.valInt(0), this.calc.push(merged1).sub(merged2).pop());
+	}
 }
@@ -0,0 +1,41 @@
+package jbse.rules;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+public class ClassInitRulesRepoTest {
+	@Test
+	public void testContainsSameAnswerTwice() {
+		final ClassInitRulesRepo r = new ClassInitRulesRepo();
+		r.addNotInitializedClassPattern("foo/.*");
+		assertTrue(r.notInitializedClassesContains("foo/A"));
+		assertTrue(r.notInitializedClassesContains("foo/A"));
+		assertFalse(r.notInitializedClassesContains("bar/A"));
+		assertFalse(r.notInitializedClassesContains("bar/A"));
+	}
+	
+	@Test
+	public void testContainsAfterAddingPattern() {
+		final ClassInitRulesRepo r = new ClassInitRulesRepo();
+		r.addNotInitializedClassPattern("foo/.*");
+		assertFalse(r.notInitializedClassesContains("bar/A"));
+		r.addNotInitializedClassPattern("bar/.*");
+		assertTrue(r.notInitializedClassesContains("bar/A"));
+	}
+	
+	@Test
+	public void testContainsCloneIndependent() {
+		final ClassInitRulesRepo r = new ClassInitRulesRepo();
+		r.addNotInitializedClassPattern("foo/.*");
+		assertFalse(r.notInitializedClassesContains("bar/A"));
+		final ClassInitRulesRepo rClone = r.clone();
+		rClone.addNotInitializedClassPattern("bar/.*");
+		assertTrue(rClone.notInitializedClassesContains("bar/A"));
+		assertFalse(r.notInitializedClassesContains("bar/A"));
+		r.addNotInitializedClassPattern("baz/.*");
+		assertTrue(r.notInitializedClassesContains("baz/A"));
+		assertFalse(rClone.notInitializedClassesContains("baz/A"));
+	}
+}
@@ -0,0 +1,128 @@
+package jbse.rules;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Pattern;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import jbse.bc.Signature;
+import jbse.common.exc.InvalidInputException;
+import jbse.val.HistoryPoint;
+import jbse.val.ReferenceSymbolic;
+import jbse.val.SymbolFactory;
+import jbse.val.exc.InvalidTypeException;
+
+public class RuleTest {
+	private SymbolFactory symbolFactory;
+	private HistoryPoint hist;
+	
+	@Before
+	public void before() {
+		this.symbolFactory = new SymbolFactory();
+		this.hist = HistoryPoint.unknown();
+	}
+	
+	private ReferenceSymbolic root(String name) throws InvalidTypeException, InvalidInputException {
+		return this.symbolFactory.createSymbolLocalVariableReference(this.hist, "LNode;", "LNode;", name);
+	}
+	
+	private ReferenceSymbolic next(ReferenceSymbolic container) throws InvalidTypeException, InvalidInputException {
+		return this.symbolFactory.createSymbolMemberFieldReference("LNode;", "LNode;", container, "next", "Node");
+	}
+	
+	/** Makes more distinct roots than fit a memo, so the memo is flushed at least once. */
+	private List<ReferenceSymbolic> manyRoots() throws InvalidTypeException, InvalidInputException {
+		final List<ReferenceSymbolic> retVal = new ArrayList<>();
+		for (int i = 0; i < 2 * Rule.MEMO_MAX_SIZE + 1; ++i) {
+			retVal.add(root("x" + i));
+		}
+		return retVal;
+	}
+	
+	@Test
+	public void testMatchesSameOriginSameResult() throws InvalidTypeException, InvalidInputException {
+		final Rule r = new LICSRuleNotNull("{ROOT}:x.Node:next");
+		final ReferenceSymbolic x = root("x");
+		final ReferenceSymbolic xNext = next(x);
+		final ReferenceSymbolic xNextOther = next(root("x")); //a different symbol with the same origin
+		assertFalse(r.matches(x));
+		assertTrue(r.matches(xNext));
+		assertFalse(r.matches(x));
+		assertTrue(r.matches(xNext));
+		assertTrue(r.matches(xNextOther));
+	}
+	
+	@Test
+	public void testMatchesAfterMemoFlush() throws InvalidTypeException, InvalidInputException {
+		final Rule r = new LICSRuleNotNull("{ROOT}:x1{R_ANY}");
+		final List<ReferenceSymbolic> roots = manyRoots();
+		for (int pass = 0; pass < 2; ++pass) {
+			for (ReferenceSymbolic ref : roots) {
+				final boolean expected = ref.asOriginString().startsWith("{ROOT}:x1");
+				assertEquals(ref.asOriginString(), expected, r.matches(ref));
+			}
+		}
+	}
+	
+	@Test
+	public void testOriginPatternRelativeSameTargetSamePattern() throws InvalidTypeException, InvalidInputException {
+		final Rule r = new LICSRuleAliasesTarget("{R_ANY}.Node:next", "{$REF}.{UP}");
+		final ReferenceSymbolic x = root("x");
+		final Pattern p = r.originPatternRelative("{$REF}.{UP}", next(x));
+		assertSame(p, r.originPatternRelative("{$REF}.{UP}", next(root("x"))));
+		assertTrue(p.matcher(x.asOriginString()).matches());
+	}
+	
+	@Test
+	public void testOriginPatternRelativeDistinguishesExpressions() throws InvalidTypeException, InvalidInputException {
+		final Rule r = new LICSRuleAliasesTarget("{R_ANY}.Node:next", "{$REF}.{UP}");
+		final ReferenceSymbolic x = root("x");
+		final ReferenceSymbolic xNext = next(x);
+		final Pattern up = r.originPatternRelative("{$REF}.{UP}", xNext);
+		final Pattern self = r.originPatternRelative("{$REF}", xNext);
+		assertTrue(up.matcher(x.asOriginString()).matches());
+		assertFalse(up.matcher(xNext.asOriginString()).matches());
+		assertTrue(self.matcher(xNext.asOriginString()).matches());
+		assertFalse(self.matcher(x.asOriginString()).matches());
+	}
+	
+	@Test
+	public void testOriginPatternRelativeAfterMemoFlush() throws InvalidTypeException, InvalidInputException {
+		final Rule r = new LICSRuleAliasesTarget("{R_ANY}.Node:next", "{$REF}.{UP}");
+		final List<ReferenceSymbolic> roots = manyRoots();
+		final List<ReferenceSymbolic> nexts = new ArrayList<>();
+		for (ReferenceSymbolic root : roots) {
+			nexts.add(next(root));
+		}
+		for (int pass = 0; pass < 2; ++pass) {
+			for (int i = 0; i < roots.size(); ++i) {
+				final Pattern p = r.originPatternRelative("{$REF}.{UP}", nexts.get(i));
+				assertTrue(p.matcher(roots.get(i).asOriginString()).matches());
+				assertFalse(p.matcher(roots.get((i + 1) % roots.size()).asOriginString()).matches());
+			}
+		}
+	}
+	
+	@Test
+	public void testTriggerMethodParameterAfterMemoFlush() throws InvalidTypeException, InvalidInputException {
+		final TriggerRule r = new TriggerRuleExpandsTo("{R_ANY}.Node:next", "Node", new Signature("Node", "(LNode;)V", "trigger"), "{$REF}.{UP}");
+		final List<ReferenceSymbolic> roots = manyRoots();
+		final List<ReferenceSymbolic> nexts = new ArrayList<>();
+		for (ReferenceSymbolic root : roots) {
+			nexts.add(next(root));
+		}
+		for (int pass = 0; pass < 2; ++pass) {
+			for (int i = 0; i < roots.size(); ++i) {
+				assertTrue(r.isTriggerMethodParameterObject(nexts.get(i), roots.get(i)));
+				assertFalse(r.isTriggerMethodParameterObject(nexts.get(i), roots.get((i + 1) % roots.size())));
+			}
+		}
+	}
+}
@@ -1,6 +1,8 @@
 package jbse.tree;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 
@@ -124,4 +126,111 @@ public class StateTreeTest {
 		final State statePicked = tree.getStateAtBranch(bp_1_2, 1);
 		assertSame(_1_2_6, statePicked);
 	}
+	
+	@Test
+	public void testStealState() throws InvalidClassFileFactoryClassException, IOException, InvalidInputException {
+		final StateTree tree = new StateTree(StateIdentificationMode.COMPACT, BreadthMode.MORE_THAN_ONE);
+		final State _1_1 = new State(true, tree.getPreInitialHistoryPoint().startingInitial(), 100, 100, new Classpath(Paths.get("."), Paths.get("."), Collections.emptyList(), Collections.emptyList()), ClassFileFactoryJavassist.class, Collections.emptyMap(), Collections.emptyMap(), new SymbolFactory());
+		_1_1.setPhasePostInitial();
+		final State _1_2 = _1_1.clone();
+		final State _1_3 = _1_1.clone();
+		tree.possiblyAddBranchPoint(true, false, false, false);
+		tree.addState(_1_3, 0, null);
+		tree.addState(_1_2, 0, null);
+		tree.addState(_1_1, 0, null);
+		assertSame(_1_1, tree.nextState());
+		final State _1_1_1 = _1_1.clone();
+		final State _1_1_2 = _1_1.clone();
+		tree.possiblyAddBranchPoint(true, false, false, false);
+		tree.addState(_1_1_2, 0, null);
+		tree.addState(_1_1_1, 0, null);
+		assertSame(_1_3, tree.stealState());
+		assertSame(_1_2, tree.stealState());
+		assertSame(_1_1_2, tree.stealState());
+		assertSame(_1_1_1, tree.nextState());
+		assertFalse(tree.hasStates());
+		assertNull(tree.stealState());
+		assertEquals(".1.3", _1_3.getBranchIdentifier().toString());
+		assertEquals(".1.2", _1_2.getBranchIdentifier().toString());
+		assertEquals(".1.1.2", _1_1_2.getBranchIdentifier().toString());
+		assertEquals(".1.1.1", _1_1_1.getBranchIdentifier().toString());
+	}
+	
+	@Test
+	public void testNextBranchScopeDepth() throws InvalidClassFileFactoryClassException, IOException, InvalidInputException {
+		final StateTree tree = new StateTree(StateIdentificationMode.COMPACT, BreadthMode.MORE_THAN_ONE);
+		final State _1_1 = new State(true, tree.getPreInitialHistoryPoint().startingInitial(), 100, 100, new Classpath(Paths.get("."), Paths.get("."), Collections.emptyList(), Collections.emptyList()), ClassFileFactoryJavassist.class, Collections.emptyMap(), Collections.emptyMap(), new SymbolFactory());
+		_1_1.setPhasePostInitial();
+		final State _1_2 = _1_1.clone();
+		assertEquals(-1, tree.nextBranchScopeDepth());
+		tree.possiblyAddBranchPoint(true, false, false, false, 3);
+		tree.addState(_1_2, 0, null);
+		tree.addState(_1_1, 0, null);
+		assertEquals(3, tree.nextBranchScopeDepth());
+		assertSame(_1_1, tree.nextState());
+		final State _1_1_1 = _1_1.clone();
+		final State _1_1_2 = _1_1.clone();
+		tree.possiblyAddBranchPoint(true, false, false, false, 5);
+		tree.addState(_1_1_2, 0, null);
+		tree.addState(_1_1_1, 0, null);
+		assertEquals(5, tree.nextBranchScopeDepth());
+		assertSame(_1_1_1, tree.nextState());
+		assertSame(_1_1_2, tree.nextState());
+		assertEquals(3, tree.nextBranchScopeDepth());
+		assertSame(_1_2, tree.nextState());
+		assertEquals(-1, tree.nextBranchScopeDepth());
+	}
+
+	@Test
+	public void testSetFrontierBFS() throws InvalidClassFileFactoryClassException, IOException, InvalidInputException {
+		final StateTree tree = new StateTree(StateIdentificationMode.COMPACT, BreadthMode.MORE_THAN_ONE);
+		tree.setFrontier(new StateFrontierBFS());
+		final State _1_1 = new State(true, tree.getPreInitialHistoryPoint().startingInitial(), 100, 100, new Classpath(Paths.get("."), Paths.get("."), Collections.emptyList(), Collections.emptyList()), ClassFileFactoryJavassist.class, Collections.emptyMap(), Collections.emptyMap(), new SymbolFactory());
+		_1_1.setPhasePostInitial();
+		final State _1_2 = _1_1.clone();
+		final State _1_3 = _1_1.clone();
+		tree.possiblyAddBranchPoint(true, false, false, false);
+		tree.addState(_1_3, 0, null);
+		tree.addState(_1_2, 0, null);
+		tree.addState(_1_1, 0, null);
+		assertSame(_1_1, tree.nextState());
+		final State _1_1_1 = _1_1.clone();
+		final State _1_1_2 = _1_1.clone();
+		tree.possiblyAddBranchPoint(true, false, false, false);
+		final BranchPoint bp_1_1 = tree.nextBranch();
+		tree.addState(_1_1_2, 0, null);
+		tree.addState(_1_1_1, 0, null);
+		assertSame(_1_1_1, tree.nextState());
+		assertSame(_1_1_2, tree.getStateAtBranch(bp_1_1, 0));
+		assertSame(_1_3, tree.nextState());
+		assertSame(_1_2, tree.nextState());
+		assertSame(_1_1_2, tree.nextState());
+		assertFalse(tree.hasStates());
+		assertEquals(".1.1", _1_1.getBranchIdentifier().toString());
+		assertEquals(".1.2", _1_3.getBranchIdentifier().toString());
+		assertEquals(".1.3", _1_2.getBranchIdentifier().toString());
+		assertEquals(".1.1.1", _1_1_1.getBranchIdentifier().toString());
+		assertEquals(".1.1.2", _1_1_2.getBranchIdentifier().toString());
+	}
+
+	@Test
+	public void testSetFrontierBounded() throws InvalidClassFileFactoryClassException, IOException, InvalidInputException {
+		final StateTree tree = new StateTree(StateIdentificationMode.COMPACT, BreadthMode.MORE_THAN_ONE);
+		tree.setFrontier(new StateFrontierBounded(new StateFrontierBFS(), 1));
+		final State _1_1 = new State(true, tree.getPreInitialHistoryPoint().startingInitial(), 100, 100, new Classpath(Paths.get("."), Paths.get("."), Collections.emptyList(), Collections.emptyList()), ClassFileFactoryJavassist.class, Collections.emptyMap(), Collections.emptyMap(), new SymbolFactory());
+		_1_1.setPhasePostInitial();
+		final State _1_2 = _1_1.clone();
+		final State _1_3 = _1_1.clone();
+		final State _1_4 = _1_1.clone();
+		tree.possiblyAddBranchPoint(true, false, false, false);
+		tree.addState(_1_4, 0, null);
+		tree.addState(_1_3, 0, null);
+		tree.addState(_1_2, 0, null);
+		tree.addState(_1_1, 0, null);
+		assertSame(_1_1, tree.nextState());
+		assertSame(_1_2, tree.nextState());
+		assertSame(_1_3, tree.nextState());
+		assertSame(_1_4, tree.nextState());
+		assertFalse(tree.hasStates());
+	}
 }
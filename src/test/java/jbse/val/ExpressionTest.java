@@ -0,0 +1,54 @@
+package jbse.val;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+
+import org.junit.Test;
+
+import jbse.common.Type;
+import jbse.val.exc.InvalidOperandException;
+import jbse.val.exc.InvalidOperatorException;
+import jbse.val.exc.InvalidTypeException;
+
+public class ExpressionTest {
+    @Test
+    public void testOperandsNotShared() throws InvalidOperandException, InvalidOperatorException, InvalidTypeException {
+        final Term A1 = new Term(Type.INT, "A");
+        final Term A2 = new Term(Type.INT, "A");
+        final Expression e1 = Expression.makeExpressionBinary(A1, Operator.ADD, A1);
+        final Expression e2 = Expression.makeExpressionBinary(A2, Operator.ADD, A2);
+        assertNotSame(e1, e2);
+        assertEquals(e1, e2);
+        assertEquals(e1.hashCode(), e2.hashCode());
+        assertSame(A1, e1.getFirstOperand());
+        assertSame(A2, e2.getFirstOperand());
+        final WideningConversion w1 = WideningConversion.make(Type.LONG, e1);
+        final WideningConversion w2 = WideningConversion.make(Type.LONG, e2);
+        assertNotSame(w1, w2);
+        assertEquals(w1, w2);
+        assertSame(e1, w1.getArg());
+    }
+
+    @Test
+    public void testDifferentOperandsDistinguished() throws InvalidOperandException, InvalidOperatorException, InvalidTypeException {
+        final Term A = new Term(Type.INT, "A");
+        final Term B = new Term(Type.INT, "B");
+        final Expression e1 = Expression.makeExpressionBinary(A, Operator.ADD, B);
+        final Expression e2 = Expression.makeExpressionBinary(B, Operator.ADD, A);
+        assertFalse(e1.equals(e2));
+        assertFalse(Expression.makeExpressionUnary(Operator.NEG, e1).equals(Expression.makeExpressionUnary(Operator.NEG, e2)));
+        assertFalse(WideningConversion.make(Type.LONG, e1).equals(WideningConversion.make(Type.DOUBLE, e1)));
+    }
+
+    @Test
+    public void testStrings() throws InvalidOperandException, InvalidOperatorException, InvalidTypeException {
+        final Term A = new Term(Type.INT, "A");
+        final Expression e = Expression.makeExpressionBinary(A, Operator.ADD, A);
+        assertEquals("(A) + (A)", e.toString());
+        assertEquals(e.toString(), e.toString());
+        assertEquals("WIDEN-J((A) + (A))", WideningConversion.make(Type.LONG, e).toString());
+        assertEquals("NARROW-B((A) + (A))", NarrowingConversion.make(Type.BYTE, e).toString());
+    }
+}